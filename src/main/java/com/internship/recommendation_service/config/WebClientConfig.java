@@ -1,19 +1,113 @@
 package com.internship.recommendation_service.config;
 
+import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
+import com.internship.recommendation_service.config.property.service.HttpClientConfig;
+import com.internship.recommendation_service.config.property.service.JobServiceConfig;
+import com.internship.recommendation_service.config.property.service.ReportServiceConfig;
+import com.internship.recommendation_service.config.property.service.ReservationServiceConfig;
+import com.internship.recommendation_service.config.property.service.ReviewServiceConfig;
+import com.internship.recommendation_service.config.property.service.ServiceUrlsConfig;
+import com.internship.recommendation_service.config.property.service.UserServiceConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import com.internship.recommendation_service.service.client.DownstreamWebClients;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
+    private final ServiceUrlsConfig serviceUrlsConfig;
+    private final UserServiceConfig userServiceConfig;
+    private final JobServiceConfig jobServiceConfig;
+    private final ReservationServiceConfig reservationServiceConfig;
+    private final ReviewServiceConfig reviewServiceConfig;
+    private final ReportServiceConfig reportServiceConfig;
+    private final GeolocationServiceConfig geolocationServiceConfig;
+
     /**
-     * Create a default web client that can be used for making HTTP requests
-     * to other services.
+     * Create one web client per downstream service, each with its own connection pool, so a slow
+     * service cannot starve the connections of the others.
+     * <p>
+     * The pools publish the Reactor Netty connection provider gauges (active, idle, pending and
+     * total connections), tagged with the name of the service.
      *
-     * @return a web client
+     * @return the web clients of all downstream services
      */
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    @Bean(destroyMethod = "dispose")
+    public DownstreamWebClients downstreamWebClients() {
+        Map<Downstream, WebClient> webClients = new EnumMap<>(Downstream.class);
+        List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+        for (Downstream downstream : Downstream.values()) {
+            HttpClientConfig httpConfig = httpConfig(downstream);
+            ConnectionProvider connectionProvider = ConnectionProvider.builder(downstream.serviceName())
+                    .maxConnections(httpConfig.getMaxConnections())
+                    .pendingAcquireMaxCount(httpConfig.getPendingAcquireMaxCount())
+                    .pendingAcquireTimeout(httpConfig.getPendingAcquireTimeout())
+                    .maxIdleTime(httpConfig.getMaxIdleTime())
+                    .evictInBackground(httpConfig.getEvictionInterval())
+                    .metrics(true)
+                    .build();
+            connectionProviders.add(connectionProvider);
+
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(httpConfig.getConnectTimeout().toMillis()))
+                    .responseTimeout(httpConfig.getResponseTimeout())
+                    .compress(httpConfig.isCompressionEnabled())
+                    .protocol(protocols(httpConfig, baseUrl(downstream)));
+
+            webClients.put(downstream, WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build());
+        }
+
+        return new DownstreamWebClients(webClients, connectionProviders);
+    }
+
+    private HttpClientConfig httpConfig(Downstream downstream) {
+        return switch (downstream) {
+            case USER_SERVICE -> userServiceConfig.getHttp();
+            case JOB_SERVICE -> jobServiceConfig.getHttp();
+            case RESERVATION_SERVICE -> reservationServiceConfig.getHttp();
+            case REVIEW_SERVICE -> reviewServiceConfig.getHttp();
+            case REPORT_SERVICE -> reportServiceConfig.getHttp();
+            case GEOLOCATION_SERVICE -> geolocationServiceConfig.getHttp();
+        };
+    }
+
+    private String baseUrl(Downstream downstream) {
+        return switch (downstream) {
+            case USER_SERVICE -> serviceUrlsConfig.getUserService();
+            case JOB_SERVICE -> serviceUrlsConfig.getJobService();
+            case RESERVATION_SERVICE -> serviceUrlsConfig.getReservationService();
+            case REVIEW_SERVICE -> serviceUrlsConfig.getReviewService();
+            case REPORT_SERVICE -> serviceUrlsConfig.getReportService();
+            case GEOLOCATION_SERVICE -> geolocationServiceConfig.getBaseUrl();
+        };
+    }
+
+    /**
+     * HTTP/2 is negotiated with ALPN over TLS and with an upgrade from HTTP/1.1 over cleartext,
+     * so HTTP/1.1 stays available for services that do not support HTTP/2.
+     */
+    private static HttpProtocol[] protocols(HttpClientConfig httpConfig, String baseUrl) {
+        if (!httpConfig.isHttp2Enabled()) {
+            return new HttpProtocol[]{HttpProtocol.HTTP11};
+        }
+
+        boolean secure = baseUrl != null && baseUrl.startsWith("https:");
+        return new HttpProtocol[]{secure ? HttpProtocol.H2 : HttpProtocol.H2C, HttpProtocol.HTTP11};
     }
 }
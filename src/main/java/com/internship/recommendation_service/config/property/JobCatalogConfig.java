@@ -0,0 +1,18 @@
+package com.internship.recommendation_service.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "recommendation.catalog")
+public class JobCatalogConfig {
+    private boolean enabled;
+    private Duration refreshInterval;
+    private Duration fullReloadInterval;
+}
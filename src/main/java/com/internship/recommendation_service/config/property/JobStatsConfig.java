@@ -0,0 +1,22 @@
+package com.internship.recommendation_service.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "recommendation.job-stats")
+public class JobStatsConfig {
+    private boolean enabled;
+    private Duration refreshInterval;
+    private Duration ttl;
+    private Duration maxAge;
+    private int chunkSize;
+    private int refreshConcurrency;
+    private Duration redisTimeout;
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -13,4 +15,6 @@ public class RecommendationDefaultsConfig {
     private int limit;
     private double maxDistance;
     private int minExperience;
+    private Duration timeout;
+    private Duration maxTimeout;
 }
@@ -0,0 +1,18 @@
+package com.internship.recommendation_service.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "recommendation.pipeline")
+public class RecommendationPipelineConfig {
+    private int batchSize;
+    private int batchConcurrency;
+    private boolean radiusPrefilterEnabled;
+    private boolean upperBoundPruningEnabled;
+    private double jobDetailLogSampleRate;
+}
@@ -0,0 +1,17 @@
+package com.internship.recommendation_service.config.property.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "web.client.batching")
+public class BatchingConfig {
+    private boolean enabled;
+    private Duration window;
+}
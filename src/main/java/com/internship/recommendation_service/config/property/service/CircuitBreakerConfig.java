@@ -0,0 +1,23 @@
+package com.internship.recommendation_service.config.property.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "web.client.circuit-breaker")
+public class CircuitBreakerConfig {
+    private boolean enabled;
+    private int slidingWindowSize;
+    private int minimumCalls;
+    private double failureRateThreshold;
+    private double slowCallRateThreshold;
+    private Duration slowCallDuration;
+    private Duration openDuration;
+    private int halfOpenCalls;
+}
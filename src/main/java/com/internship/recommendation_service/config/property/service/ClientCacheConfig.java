@@ -0,0 +1,19 @@
+package com.internship.recommendation_service.config.property.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "web.client.cache")
+public class ClientCacheConfig {
+    private boolean enabled;
+    private int localMaxSize;
+    private Duration localTtl;
+    private Duration redisTimeout;
+}
@@ -0,0 +1,23 @@
+package com.internship.recommendation_service.config.property.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "web.client.concurrency-limit")
+public class ConcurrencyLimitConfig {
+    private boolean enabled;
+    private int initialLimit;
+    private int minLimit;
+    private int maxLimit;
+    private double backoffRatio;
+    private double latencyTolerance;
+    private int maxQueueSize;
+    private Duration maxQueueWait;
+}
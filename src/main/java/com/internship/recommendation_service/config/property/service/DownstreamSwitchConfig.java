@@ -0,0 +1,24 @@
+package com.internship.recommendation_service.config.property.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security")
+public class DownstreamSwitchConfig {
+    // Keyed by service name, e.g. review-service; services without an entry are enabled
+    private Map<String, Switch> feign = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Switch {
+        private boolean enabled = true;
+    }
+}
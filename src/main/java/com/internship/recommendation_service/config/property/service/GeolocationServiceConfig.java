@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -12,4 +14,21 @@ import org.springframework.context.annotation.Configuration;
 public class GeolocationServiceConfig {
     private String baseUrl;
     private String apiSearch;
+    private boolean cacheEnabled;
+    private int cacheLocalMaxSize;
+    private Duration cacheLocalTtl;
+    private Duration cacheTtl;
+    private Duration cacheNegativeTtl;
+    private Duration cacheRedisTimeout;
+    private boolean rateLimitEnabled;
+    private double rateLimitPerSecond;
+    private int rateLimitBurst;
+    private Duration rateLimitRedisTimeout;
+    private int queueMaxSize;
+    private Duration queueMaxWait;
+    private boolean gazetteerEnabled;
+    private String gazetteerSource;
+    private String gazetteerIndex;
+    private boolean gazetteerRemoteFallback;
+    private HttpClientConfig http = new HttpClientConfig();
 }
@@ -0,0 +1,26 @@
+package com.internship.recommendation_service.config.property.service;
+
+import com.internship.recommendation_service.service.client.Downstream;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "web.client.hedging")
+public class HedgingConfig {
+    private boolean enabled;
+    private Set<Downstream> downstreams = EnumSet.noneOf(Downstream.class);
+    private double percentile;
+    private Duration minDelay;
+    private double maxHedgeRate;
+    private int maxBurst;
+    private int windowSize;
+    private int minSamples;
+}
@@ -0,0 +1,24 @@
+package com.internship.recommendation_service.config.property.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and HTTP settings of the web client of one downstream service, bound from the
+ * {@code http} block of the service's {@code web.client.<service>} configuration.
+ */
+@Getter
+@Setter
+public class HttpClientConfig {
+    private int maxConnections = 50;
+    private int pendingAcquireMaxCount = 500;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration evictionInterval = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    private boolean compressionEnabled = true;
+    private boolean http2Enabled;
+}
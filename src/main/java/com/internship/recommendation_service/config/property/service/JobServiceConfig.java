@@ -11,4 +11,8 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "web.client.job-service")
 public class JobServiceConfig {
     private String baseUrl;
+    private boolean pagingEnabled;
+    private int pageSize;
+    private int prefetchPages;
+    private HttpClientConfig http = new HttpClientConfig();
 }
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -13,4 +15,10 @@ public class ReportServiceConfig {
     private String baseUrl;
     private String apiUserReportInfo;
     private String apiJobReportInfo;
+    private String apiUserReportInfoBulk;
+    private String apiJobReportInfoBulk;
+    private boolean bulkEnabled;
+    private int bulkChunkSize;
+    private Duration cacheTtl;
+    private HttpClientConfig http = new HttpClientConfig();
 }
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -12,4 +14,9 @@ import org.springframework.context.annotation.Configuration;
 public class ReservationServiceConfig {
     private String baseUrl;
     private String apiJobReservationCount;
+    private String apiJobReservationCountBulk;
+    private boolean bulkEnabled;
+    private int bulkChunkSize;
+    private Duration cacheTtl;
+    private HttpClientConfig http = new HttpClientConfig();
 }
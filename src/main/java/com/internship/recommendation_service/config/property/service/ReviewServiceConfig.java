@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -13,4 +15,10 @@ public class ReviewServiceConfig {
     private String baseUrl;
     private String apiUserRating;
     private String apiJobRating;
-}
\ No newline at end of file
+    private String apiUserRatingBulk;
+    private String apiJobRatingBulk;
+    private boolean bulkEnabled;
+    private int bulkChunkSize;
+    private Duration cacheTtl;
+    private HttpClientConfig http = new HttpClientConfig();
+}
@@ -14,4 +14,5 @@ public class UserServiceConfig {
     private String baseUrlFavorites;
     private String baseUrlBlocks;
     private String baseUrlPreferences;
+    private HttpClientConfig http = new HttpClientConfig();
 }
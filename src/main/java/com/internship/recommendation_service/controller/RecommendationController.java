@@ -3,10 +3,13 @@ package com.internship.recommendation_service.controller;
 import com.internship.recommendation_service.config.property.RecommendationDefaultsConfig;
 import com.internship.recommendation_service.dto.response.JobScoreResponse;
 import com.internship.recommendation_service.service.RecommendationService;
+import com.internship.recommendation_service.util.RequestDeadline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("v1/recommendations")
@@ -17,14 +20,22 @@ public class RecommendationController {
     /**
      * Endpoint to retrieve job recommendations for a specific user.
      *
-     * @param limit  optional parameter to specify the maximum number of recommendations to return;
-     *               defaults to a pre-configured limit if not provided or invalid
+     * @param limit     optional parameter to specify the maximum number of recommendations to return;
+     *                  defaults to a pre-configured limit if not provided or invalid
+     * @param timeoutMs optional time budget of the request in milliseconds, capped at a pre-configured
+     *                  maximum; defaults to a pre-configured timeout if not provided or invalid. Jobs whose
+     *                  data does not arrive in time are scored with default stats and marked as partial
      * @return a Flux stream of job score responses containing job recommendations
      */
     @GetMapping("/jobs")
     public Flux<JobScoreResponse> getJobRecommendations(
-            @RequestParam(required = false) Integer limit) {
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long timeoutMs) {
         int effectiveLimit = (limit != null && limit > 0) ? limit : defaults.getLimit();
-        return recommendationService.getJobRecommendations(effectiveLimit);
+        Duration effectiveTimeout = (timeoutMs != null && timeoutMs > 0)
+                ? Duration.ofMillis(Math.min(timeoutMs, defaults.getMaxTimeout().toMillis()))
+                : defaults.getTimeout();
+        return recommendationService.getJobRecommendations(effectiveLimit)
+                .contextWrite(RequestDeadline.withTimeout(effectiveTimeout));
     }
 }
@@ -0,0 +1,12 @@
+package com.internship.recommendation_service.dto.external;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record ReservationCountDTO(
+        @NotNull(message = "Job ID must not be null") Long jobId,
+        @NotNull(message = "Reservation count must not be null")
+        @PositiveOrZero(message = "Reservation count must be non-negative")
+        Long count
+) {
+}
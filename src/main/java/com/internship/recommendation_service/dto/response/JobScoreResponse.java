@@ -9,6 +9,16 @@ import lombok.Builder;
 public record JobScoreResponse(
         @NotNull(message = "Job ID must not be null") Long jobId,
         @NotNull(message = "Worker ID must not be null") Long workerId,
-        @NotNull(message = "Score must not be null") Double score
+        @NotNull(message = "Score must not be null") Double score,
+        Boolean partial
 ) {
+    /**
+     * Returns a copy of this response marked as partial, i.e. scored with default stats for data
+     * that did not arrive before the request deadline.
+     *
+     * @return the partial response
+     */
+    public JobScoreResponse asPartial() {
+        return new JobScoreResponse(jobId, workerId, score, true);
+    }
 }
@@ -0,0 +1,11 @@
+package com.internship.recommendation_service.exception;
+
+/**
+ * Thrown when a call to a downstream service is rejected without being sent, so callers can fall
+ * back to their defaults without caching them.
+ */
+public class CallRejectedException extends ServiceUnavailableException {
+    public CallRejectedException(String message) {
+        super(message);
+    }
+}
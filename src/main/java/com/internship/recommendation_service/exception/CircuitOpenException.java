@@ -0,0 +1,7 @@
+package com.internship.recommendation_service.exception;
+
+public class CircuitOpenException extends CallRejectedException {
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.internship.recommendation_service.exception;
+
+public class ConcurrencyLimitExceededException extends CallRejectedException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
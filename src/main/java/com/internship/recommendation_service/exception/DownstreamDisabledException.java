@@ -0,0 +1,7 @@
+package com.internship.recommendation_service.exception;
+
+public class DownstreamDisabledException extends CallRejectedException {
+    public DownstreamDisabledException(String message) {
+        super(message);
+    }
+}
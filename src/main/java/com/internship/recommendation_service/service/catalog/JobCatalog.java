@@ -0,0 +1,176 @@
+package com.internship.recommendation_service.service.catalog;
+
+import com.internship.recommendation_service.config.property.JobCatalogConfig;
+import com.internship.recommendation_service.dto.external.JobDTO;
+import com.internship.recommendation_service.service.client.JobServiceClient;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Local copy of the job catalog that is kept in sync with the job service in the background.
+ * <p>
+ * The catalog is loaded once at startup and then refreshed on a fixed interval with the jobs
+ * modified since the previous sync. A full reload runs periodically as well, so jobs removed from
+ * the job service eventually disappear from the catalog. Every sync builds a new immutable
+ * {@link JobCatalogSnapshot} and swaps it in atomically, so readers never block and always see a
+ * consistent catalog.
+ * <p>
+ * Until the first snapshot is available, or when the catalog is disabled, jobs are read from the
+ * job service directly.
+ */
+@Service
+public class JobCatalog {
+    private static final String METRIC_PREFIX = "recommendation.job.catalog";
+
+    private final JobServiceClient jobServiceClient;
+    private final JobCatalogConfig jobCatalogConfig;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final AtomicReference<JobCatalogSnapshot> snapshot = new AtomicReference<>();
+    private Disposable refreshLoop;
+
+    @Autowired
+    public JobCatalog(JobServiceClient jobServiceClient, JobCatalogConfig jobCatalogConfig, MeterRegistry meterRegistry) {
+        this(jobServiceClient, jobCatalogConfig, meterRegistry, Clock.systemUTC());
+    }
+
+    JobCatalog(JobServiceClient jobServiceClient, JobCatalogConfig jobCatalogConfig, MeterRegistry meterRegistry, Clock clock) {
+        this.jobServiceClient = jobServiceClient;
+        this.jobCatalogConfig = jobCatalogConfig;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+
+        Gauge.builder(METRIC_PREFIX + ".size", this, JobCatalog::size)
+                .description("Number of jobs in the current catalog snapshot")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".staleness", this, JobCatalog::stalenessSeconds)
+                .description("Time since the sync of the current catalog snapshot was started")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the background sync. The first sync runs immediately and loads the whole catalog.
+     */
+    @PostConstruct
+    void start() {
+        if (!jobCatalogConfig.isEnabled()) {
+            LogUtil.info("Job catalog is disabled, jobs are read from the job service on every request");
+            return;
+        }
+
+        // Ticks arriving while a sync is still running are dropped, so syncs never overlap
+        refreshLoop = Flux.interval(Duration.ZERO, jobCatalogConfig.getRefreshInterval(), Schedulers.parallel())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refreshLoop != null) {
+            refreshLoop.dispose();
+        }
+    }
+
+    /**
+     * Returns the scoring features of all jobs of the current catalog snapshot.
+     *
+     * @return a Mono that emits the features of all jobs of the catalog
+     */
+    public Mono<JobFeatureStore> getJobFeatures() {
+        JobCatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return loadJobFeatures(jobServiceClient.getAllJobs());
+        }
+
+        return Mono.just(current.jobFeatures());
+    }
+
+    /**
+     * Synchronizes the catalog with the job service. Loads the whole catalog if there is no
+     * snapshot yet or the full reload interval has elapsed, and applies the jobs modified since
+     * the previous sync otherwise. A failed sync keeps the current snapshot.
+     *
+     * @return a Mono that completes when the sync has finished
+     */
+    Mono<Void> refresh() {
+        JobCatalogSnapshot current = snapshot.get();
+        Instant startedAt = clock.instant();
+        boolean fullReload = current == null ||
+                             !startedAt.isBefore(current.fullyReloadedAt().plus(jobCatalogConfig.getFullReloadInterval()));
+
+        Mono<JobCatalogSnapshot> nextSnapshot = fullReload
+                ? loadJobFeatures(jobServiceClient.getAllJobs())
+                        .map(jobFeatures -> JobCatalogSnapshot.of(jobFeatures, startedAt))
+                : jobServiceClient.getJobsModifiedSince(current.syncedAt())
+                        .collectList()
+                        .map(changedJobs -> current.withChanges(changedJobs, startedAt));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String syncType = fullReload ? "full" : "delta";
+
+        return nextSnapshot
+                .doOnNext(next -> {
+                    snapshot.set(next);
+                    sample.stop(refreshTimer(syncType, "success"));
+                    LogUtil.info("Job catalog {} sync finished with {} jobs", syncType, next.size());
+                })
+                .doOnError(e -> {
+                    sample.stop(refreshTimer(syncType, "failure"));
+                    LogUtil.error("Job catalog {} sync failed, keeping the current snapshot", syncType, e);
+                })
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Collects the given jobs directly into a feature store, so the jobs themselves are never
+     * held in memory all at once.
+     *
+     * @param jobs the jobs to collect
+     * @return a Mono that emits the feature store of the jobs
+     */
+    private static Mono<JobFeatureStore> loadJobFeatures(Flux<JobDTO> jobs) {
+        return jobs.collect(JobFeatureStore::builder, JobFeatureStore.Builder::add)
+                .map(JobFeatureStore.Builder::build);
+    }
+
+    private Timer refreshTimer(String syncType, String outcome) {
+        return Timer.builder(METRIC_PREFIX + ".refresh")
+                .description("Duration of job catalog syncs")
+                .tag("type", syncType)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private double size() {
+        JobCatalogSnapshot current = snapshot.get();
+        return current != null ? current.size() : 0;
+    }
+
+    private double stalenessSeconds() {
+        JobCatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return Double.NaN;
+        }
+
+        return Duration.between(current.syncedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+}
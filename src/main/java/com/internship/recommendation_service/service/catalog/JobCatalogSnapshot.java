@@ -0,0 +1,43 @@
+package com.internship.recommendation_service.service.catalog;
+
+import com.internship.recommendation_service.dto.external.JobDTO;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Immutable view of the job catalog at the time of a sync.
+ *
+ * @param jobFeatures     the scoring features of the jobs of the catalog
+ * @param syncedAt        the instant the last sync contributing to this snapshot was started
+ * @param fullyReloadedAt the instant the last full reload contributing to this snapshot was started
+ */
+public record JobCatalogSnapshot(JobFeatureStore jobFeatures, Instant syncedAt, Instant fullyReloadedAt) {
+
+    /**
+     * Creates a snapshot containing exactly the given jobs.
+     *
+     * @param jobFeatures the scoring features of the jobs of the catalog
+     * @param syncedAt    the instant the full reload was started
+     * @return the new snapshot
+     */
+    public static JobCatalogSnapshot of(JobFeatureStore jobFeatures, Instant syncedAt) {
+        return new JobCatalogSnapshot(jobFeatures, syncedAt, syncedAt);
+    }
+
+    /**
+     * Creates a new snapshot with the given changed jobs applied on top of this one. Changed jobs
+     * replace the jobs with the same ID; all other jobs are kept.
+     *
+     * @param changedJobs the jobs created or modified since the previous sync
+     * @param syncedAt    the instant the delta sync was started
+     * @return the new snapshot
+     */
+    public JobCatalogSnapshot withChanges(Collection<JobDTO> changedJobs, Instant syncedAt) {
+        return new JobCatalogSnapshot(jobFeatures.withChanges(changedJobs), syncedAt, fullyReloadedAt);
+    }
+
+    public int size() {
+        return jobFeatures.size();
+    }
+}
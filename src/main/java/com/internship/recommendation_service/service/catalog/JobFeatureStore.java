@@ -0,0 +1,313 @@
+package com.internship.recommendation_service.service.catalog;
+
+import com.internship.recommendation_service.dto.external.JobDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, columnar store of the job fields used for scoring.
+ * <p>
+ * Every job occupies one row across a set of primitive arrays, and the categorical fields are
+ * dictionary-encoded as {@code short} codes. Compared to keeping {@link JobDTO} instances, this
+ * avoids the boxed fields and the title and description strings, and lets scoring loops walk
+ * contiguous memory. Rows are stable: applying changes keeps every existing job in its row and
+ * appends new jobs at the end.
+ * <p>
+ * Every store carries a {@link JobSpatialIndex} over the job coordinates.
+ * <p>
+ * Missing values are stored as {@link Double#NaN} for coordinates, {@link #MISSING_INT} for
+ * integer fields and {@link #MISSING_CODE} for categorical fields. Jobs without an ID or worker ID
+ * are not stored.
+ */
+public final class JobFeatureStore {
+    public static final int MISSING_INT = Integer.MIN_VALUE;
+    public static final short MISSING_CODE = -1;
+
+    private final int size;
+    private final long[] ids;
+    private final long[] workerIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] experiences;
+    private final int[] hourlyRates;
+    private final short[] categoryCodes;
+    private final short[] statusCodes;
+    private final List<String> categories;
+    private final List<String> statuses;
+    private final JobSpatialIndex spatialIndex;
+
+    private JobFeatureStore(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, builder.size);
+        this.workerIds = Arrays.copyOf(builder.workerIds, builder.size);
+        this.latitudes = Arrays.copyOf(builder.latitudes, builder.size);
+        this.longitudes = Arrays.copyOf(builder.longitudes, builder.size);
+        this.experiences = Arrays.copyOf(builder.experiences, builder.size);
+        this.hourlyRates = Arrays.copyOf(builder.hourlyRates, builder.size);
+        this.categoryCodes = Arrays.copyOf(builder.categoryCodes, builder.size);
+        this.statusCodes = Arrays.copyOf(builder.statusCodes, builder.size);
+        this.categories = List.copyOf(builder.categories);
+        this.statuses = List.copyOf(builder.statuses);
+
+        // Derived stores only re-index the cells of the rows that moved
+        this.spatialIndex = builder.base != null
+                ? builder.base.spatialIndex.withChanges(builder.base, this)
+                : JobSpatialIndex.build(this);
+    }
+
+    /**
+     * Creates a store containing the given jobs. If several jobs share an ID, the last one wins.
+     *
+     * @param jobs the jobs to store
+     * @return the new store
+     */
+    public static JobFeatureStore of(Collection<JobDTO> jobs) {
+        Builder builder = builder();
+        jobs.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new store with the given changed jobs applied on top of this one. Changed jobs
+     * replace the jobs with the same ID in place; jobs with a new ID are appended.
+     *
+     * @param changedJobs the jobs created or modified since this store was built
+     * @return the new store
+     */
+    public JobFeatureStore withChanges(Collection<JobDTO> changedJobs) {
+        Builder builder = new Builder(this);
+        changedJobs.forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public long workerId(int row) {
+        return workerIds[row];
+    }
+
+    public double latitude(int row) {
+        return latitudes[row];
+    }
+
+    public double longitude(int row) {
+        return longitudes[row];
+    }
+
+    public int experience(int row) {
+        return experiences[row];
+    }
+
+    public int hourlyRate(int row) {
+        return hourlyRates[row];
+    }
+
+    /**
+     * Returns the spatial index over the coordinates of the stored jobs.
+     *
+     * @return the spatial index of this store
+     */
+    public JobSpatialIndex spatialIndex() {
+        return spatialIndex;
+    }
+
+    public short categoryCode(int row) {
+        return categoryCodes[row];
+    }
+
+    public short statusCode(int row) {
+        return statusCodes[row];
+    }
+
+    /**
+     * Returns the category of the job in the given row.
+     *
+     * @param row the row of the job
+     * @return the category, or null if the job has none
+     */
+    public String category(int row) {
+        return decode(categories, categoryCodes[row]);
+    }
+
+    /**
+     * Returns the status of the job in the given row.
+     *
+     * @param row the row of the job
+     * @return the status, or null if the job has none
+     */
+    public String status(int row) {
+        return decode(statuses, statusCodes[row]);
+    }
+
+    /**
+     * Returns the code of the given category, which can be compared with {@link #categoryCode(int)}.
+     *
+     * @param category the category to look up
+     * @return the code of the category, or {@link #MISSING_CODE} if no stored job has it
+     */
+    public short categoryCodeOf(String category) {
+        return encode(categories, category);
+    }
+
+    /**
+     * Returns the code of the given status, which can be compared with {@link #statusCode(int)}.
+     *
+     * @param status the status to look up
+     * @return the code of the status, or {@link #MISSING_CODE} if no stored job has it
+     */
+    public short statusCodeOf(String status) {
+        return encode(statuses, status);
+    }
+
+    private static String decode(List<String> dictionary, short code) {
+        return code == MISSING_CODE ? null : dictionary.get(code);
+    }
+
+    private static short encode(List<String> dictionary, String value) {
+        int index = value == null ? -1 : dictionary.indexOf(value);
+        return index < 0 ? MISSING_CODE : (short) index;
+    }
+
+    /**
+     * Collects jobs into a {@link JobFeatureStore}. Builders are not thread-safe.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 256;
+
+        private int size;
+        private long[] ids;
+        private long[] workerIds;
+        private double[] latitudes;
+        private double[] longitudes;
+        private int[] experiences;
+        private int[] hourlyRates;
+        private short[] categoryCodes;
+        private short[] statusCodes;
+
+        private final List<String> categories;
+        private final List<String> statuses;
+        private final Map<String, Short> categoryIndex = new HashMap<>();
+        private final Map<String, Short> statusIndex = new HashMap<>();
+        private final Map<Long, Integer> rowById = new HashMap<>();
+        private final JobFeatureStore base;
+
+        private Builder() {
+            base = null;
+            ids = new long[INITIAL_CAPACITY];
+            workerIds = new long[INITIAL_CAPACITY];
+            latitudes = new double[INITIAL_CAPACITY];
+            longitudes = new double[INITIAL_CAPACITY];
+            experiences = new int[INITIAL_CAPACITY];
+            hourlyRates = new int[INITIAL_CAPACITY];
+            categoryCodes = new short[INITIAL_CAPACITY];
+            statusCodes = new short[INITIAL_CAPACITY];
+            categories = new ArrayList<>();
+            statuses = new ArrayList<>();
+        }
+
+        private Builder(JobFeatureStore store) {
+            base = store;
+            int capacity = Math.max(INITIAL_CAPACITY, store.size);
+            size = store.size;
+            ids = Arrays.copyOf(store.ids, capacity);
+            workerIds = Arrays.copyOf(store.workerIds, capacity);
+            latitudes = Arrays.copyOf(store.latitudes, capacity);
+            longitudes = Arrays.copyOf(store.longitudes, capacity);
+            experiences = Arrays.copyOf(store.experiences, capacity);
+            hourlyRates = Arrays.copyOf(store.hourlyRates, capacity);
+            categoryCodes = Arrays.copyOf(store.categoryCodes, capacity);
+            statusCodes = Arrays.copyOf(store.statusCodes, capacity);
+            categories = new ArrayList<>(store.categories);
+            statuses = new ArrayList<>(store.statuses);
+
+            for (short code = 0; code < categories.size(); code++) {
+                categoryIndex.put(categories.get(code), code);
+            }
+            for (short code = 0; code < statuses.size(); code++) {
+                statusIndex.put(statuses.get(code), code);
+            }
+            for (int row = 0; row < size; row++) {
+                rowById.put(ids[row], row);
+            }
+        }
+
+        /**
+         * Adds the given job, replacing the job with the same ID if there is one.
+         *
+         * @param job the job to add
+         * @return this builder
+         */
+        public Builder add(JobDTO job) {
+            if (job == null || job.id() == null || job.userId() == null) {
+                return this;
+            }
+
+            Integer existingRow = rowById.get(job.id());
+            int row = existingRow != null ? existingRow : appendRow(job.id());
+
+            workerIds[row] = job.userId();
+            latitudes[row] = job.lat() != null ? job.lat() : Double.NaN;
+            longitudes[row] = job.lon() != null ? job.lon() : Double.NaN;
+            experiences[row] = job.experience() != null ? job.experience() : MISSING_INT;
+            hourlyRates[row] = job.hourlyRate() != null ? job.hourlyRate() : MISSING_INT;
+            categoryCodes[row] = encode(categories, categoryIndex, job.category());
+            statusCodes[row] = encode(statuses, statusIndex, job.status());
+            return this;
+        }
+
+        public JobFeatureStore build() {
+            return new JobFeatureStore(this);
+        }
+
+        private int appendRow(long id) {
+            if (size == ids.length) {
+                grow();
+            }
+
+            ids[size] = id;
+            rowById.put(id, size);
+            return size++;
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            workerIds = Arrays.copyOf(workerIds, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            experiences = Arrays.copyOf(experiences, capacity);
+            hourlyRates = Arrays.copyOf(hourlyRates, capacity);
+            categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+            statusCodes = Arrays.copyOf(statusCodes, capacity);
+        }
+
+        private static short encode(List<String> dictionary, Map<String, Short> index, String value) {
+            if (value == null) {
+                return MISSING_CODE;
+            }
+
+            return index.computeIfAbsent(value, key -> {
+                if (dictionary.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct values to dictionary-encode: " + key);
+                }
+                dictionary.add(key);
+                return (short) (dictionary.size() - 1);
+            });
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.internship.recommendation_service.service.catalog;
+
+import com.internship.recommendation_service.util.GeoLocationCalculator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable grid index over the coordinates of the jobs of a {@link JobFeatureStore}.
+ * <p>
+ * The globe is divided into cells of {@value #CELL_SIZE_DEGREES} degrees of latitude and longitude,
+ * and every cell lists the rows of the jobs located in it. A radius query only visits the cells
+ * overlapping the bounding box of the circle and checks the exact distance of the jobs in them.
+ * Jobs without coordinates are kept apart and never match a radius query.
+ */
+public final class JobSpatialIndex {
+    static final double CELL_SIZE_DEGREES = 0.5;
+
+    private static final int LATITUDE_CELLS = (int) Math.ceil(180.0 / CELL_SIZE_DEGREES);
+    private static final int LONGITUDE_CELLS = (int) Math.ceil(360.0 / CELL_SIZE_DEGREES);
+    private static final int UNLOCATED = -1;
+    private static final int[] NO_ROWS = new int[0];
+
+    // Cell key to the sorted rows of the jobs located in the cell
+    private final Map<Integer, int[]> cells;
+
+    private JobSpatialIndex(Map<Integer, int[]> cells) {
+        this.cells = cells;
+    }
+
+    /**
+     * Builds the index of all rows of the given store.
+     *
+     * @param jobFeatures the store to index
+     * @return the new index
+     */
+    static JobSpatialIndex build(JobFeatureStore jobFeatures) {
+        // Sort the rows by cell by packing the cell key into the upper half of the row
+        long[] keyedRows = new long[jobFeatures.size()];
+        for (int row = 0; row < keyedRows.length; row++) {
+            long key = cellKey(jobFeatures.latitude(row), jobFeatures.longitude(row));
+            keyedRows[row] = ((key - UNLOCATED) << 32) | row;
+        }
+        Arrays.sort(keyedRows);
+
+        Map<Integer, int[]> cells = new HashMap<>();
+        int cellStart = 0;
+        while (cellStart < keyedRows.length) {
+            long packedKey = keyedRows[cellStart] >>> 32;
+            int cellEnd = cellStart;
+            while (cellEnd < keyedRows.length && keyedRows[cellEnd] >>> 32 == packedKey) {
+                cellEnd++;
+            }
+
+            int[] rows = new int[cellEnd - cellStart];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = (int) keyedRows[cellStart + i];
+            }
+            cells.put((int) packedKey + UNLOCATED, rows);
+            cellStart = cellEnd;
+        }
+
+        return new JobSpatialIndex(cells);
+    }
+
+    /**
+     * Creates the index of an updated store from the index of the store it was derived from.
+     * Only the cells that gained or lost rows are rebuilt; all other cells are shared with this index.
+     *
+     * @param previous the store this index was built for
+     * @param updated  the store derived from {@code previous} by changing or appending rows
+     * @return the index of the updated store
+     */
+    JobSpatialIndex withChanges(JobFeatureStore previous, JobFeatureStore updated) {
+        Map<Integer, Set<Integer>> addedRows = new HashMap<>();
+        Set<Integer> touchedKeys = new HashSet<>();
+
+        for (int row = 0; row < updated.size(); row++) {
+            int key = cellKey(updated.latitude(row), updated.longitude(row));
+            if (row < previous.size()) {
+                int previousKey = cellKey(previous.latitude(row), previous.longitude(row));
+                if (previousKey == key) {
+                    continue;
+                }
+                touchedKeys.add(previousKey);
+            }
+            touchedKeys.add(key);
+            addedRows.computeIfAbsent(key, k -> new HashSet<>()).add(row);
+        }
+
+        if (touchedKeys.isEmpty()) {
+            return this;
+        }
+
+        Map<Integer, int[]> updatedCells = new HashMap<>(cells);
+        for (int key : touchedKeys) {
+            Set<Integer> added = addedRows.getOrDefault(key, Set.of());
+            int[] rows = IntStream.concat(
+                            Arrays.stream(cells.getOrDefault(key, NO_ROWS))
+                                    .filter(row -> cellKey(updated.latitude(row), updated.longitude(row)) == key),
+                            added.stream().mapToInt(Integer::intValue))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+
+            if (rows.length == 0) {
+                updatedCells.remove(key);
+            } else {
+                updatedCells.put(key, rows);
+            }
+        }
+
+        return new JobSpatialIndex(updatedCells);
+    }
+
+    /**
+     * Returns the rows of the jobs located within the given distance of the given point.
+     *
+     * @param jobFeatures the store this index was built for
+     * @param latitude    the latitude of the point in degrees
+     * @param longitude   the longitude of the point in degrees
+     * @param radiusKm    the maximum distance in kilometers
+     * @return the rows of the jobs within the radius, in ascending order
+     */
+    public int[] rowsWithin(JobFeatureStore jobFeatures, double latitude, double longitude, double radiusKm) {
+        if (Double.isNaN(latitude) || Double.isNaN(longitude) || !(radiusKm >= 0)) {
+            return NO_ROWS;
+        }
+
+        // Bounding box of the circle, widened to all longitudes when it covers a pole
+        double angularRadius = radiusKm / GeoLocationCalculator.EARTH_RADIUS_KM;
+        double latitudeDelta = Math.toDegrees(angularRadius);
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+
+        int firstLongitudeCell = 0;
+        int lastLongitudeCell = LONGITUDE_CELLS - 1;
+        if (minLatitude > -90.0 && maxLatitude < 90.0) {
+            double ratio = Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude));
+            if (angularRadius < Math.PI / 2 && ratio < 1.0) {
+                double longitudeDelta = Math.toDegrees(Math.asin(ratio));
+                int first = longitudeCellIndex(longitude - longitudeDelta);
+                int last = longitudeCellIndex(longitude + longitudeDelta);
+                if (last - first + 1 < LONGITUDE_CELLS) {
+                    firstLongitudeCell = first;
+                    lastLongitudeCell = last;
+                }
+            }
+        }
+
+        int firstLatitudeCell = latitudeCell(Math.max(minLatitude, -90.0));
+        int lastLatitudeCell = latitudeCell(Math.min(maxLatitude, 90.0));
+
+        int[] matches = new int[16];
+        int matchCount = 0;
+        for (int latitudeCell = firstLatitudeCell; latitudeCell <= lastLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = firstLongitudeCell; longitudeCell <= lastLongitudeCell; longitudeCell++) {
+                int[] rows = cells.get(latitudeCell * LONGITUDE_CELLS + Math.floorMod(longitudeCell, LONGITUDE_CELLS));
+                if (rows == null) {
+                    continue;
+                }
+
+                for (int row : rows) {
+                    double distance = GeoLocationCalculator.calculateDistance(latitude,
+                            longitude,
+                            jobFeatures.latitude(row),
+                            jobFeatures.longitude(row));
+                    if (distance <= radiusKm) {
+                        if (matchCount == matches.length) {
+                            matches = Arrays.copyOf(matches, matchCount * 2);
+                        }
+                        matches[matchCount++] = row;
+                    }
+                }
+            }
+        }
+
+        int[] result = Arrays.copyOf(matches, matchCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the number of non-empty cells, including the cell of the jobs without coordinates.
+     *
+     * @return the number of non-empty cells
+     */
+    public int cellCount() {
+        return cells.size();
+    }
+
+    private static int cellKey(double latitude, double longitude) {
+        if (Double.isNaN(latitude) || Double.isNaN(longitude) ||
+            latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0) {
+            return UNLOCATED;
+        }
+
+        return latitudeCell(latitude) * LONGITUDE_CELLS + Math.floorMod(longitudeCellIndex(longitude), LONGITUDE_CELLS);
+    }
+
+    private static int latitudeCell(double latitude) {
+        return Math.min(LATITUDE_CELLS - 1, (int) Math.floor((latitude + 90.0) / CELL_SIZE_DEGREES));
+    }
+
+    /**
+     * Returns the unwrapped index of the longitude cell of the given longitude, which may lie
+     * outside [-180, 180] for points of a bounding box crossing the antimeridian.
+     */
+    private static int longitudeCellIndex(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / CELL_SIZE_DEGREES);
+    }
+}
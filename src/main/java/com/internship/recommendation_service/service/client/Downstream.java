@@ -0,0 +1,43 @@
+package com.internship.recommendation_service.service.client;
+
+/**
+ * The downstream services called by the {@link ServiceClient}. Every downstream has its own
+ * connection pool, so a slow service can only exhaust its own connections.
+ */
+public enum Downstream {
+    USER_SERVICE("user-service"),
+    JOB_SERVICE("job-service"),
+    RESERVATION_SERVICE("reservation-service"),
+    REVIEW_SERVICE("review-service"),
+    REPORT_SERVICE("report-service"),
+    GEOLOCATION_SERVICE("geolocation-service");
+
+    private final String serviceName;
+
+    Downstream(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * Returns the name of the service, as used in its {@code web.client} configuration and as name
+     * of its connection pool.
+     */
+    public String serviceName() {
+        return serviceName;
+    }
+
+    /**
+     * Returns the downstream service with the given name.
+     *
+     * @param serviceName the name of the service, e.g. review-service
+     * @return the downstream service, or null if there is none with that name
+     */
+    public static Downstream fromServiceName(String serviceName) {
+        for (Downstream downstream : values()) {
+            if (downstream.serviceName.equals(serviceName)) {
+                return downstream;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.internship.recommendation_service.service.client;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The web clients of all downstream services, each backed by its own connection pool.
+ */
+public class DownstreamWebClients {
+    private final Map<Downstream, WebClient> webClients;
+    private final Collection<ConnectionProvider> connectionProviders;
+
+    /**
+     * @param webClients          the web client of every downstream service
+     * @param connectionProviders the connection pools used by the web clients, disposed with this
+     *                            instance
+     */
+    public DownstreamWebClients(Map<Downstream, WebClient> webClients, Collection<ConnectionProvider> connectionProviders) {
+        this.webClients = new EnumMap<>(webClients);
+        this.connectionProviders = List.copyOf(connectionProviders);
+    }
+
+    /**
+     * Returns the web client of the given downstream service.
+     *
+     * @param downstream the downstream service
+     * @return the web client of the service
+     * @throws IllegalArgumentException if no web client is configured for the service
+     */
+    public WebClient get(Downstream downstream) {
+        WebClient webClient = webClients.get(downstream);
+        if (webClient == null) {
+            throw new IllegalArgumentException("No web client configured for " + downstream.serviceName());
+        }
+        return webClient;
+    }
+
+    /**
+     * Closes the connection pools of all downstream services.
+     */
+    public void dispose() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+}
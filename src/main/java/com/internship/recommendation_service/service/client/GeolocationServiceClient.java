@@ -3,55 +3,109 @@ package com.internship.recommendation_service.service.client;
 import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
 import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
 import com.internship.recommendation_service.dto.external.UserDTO;
-import com.internship.recommendation_service.exception.ServiceUnavailableException;
+import com.internship.recommendation_service.service.client.cache.GeocodingCache;
+import com.internship.recommendation_service.service.client.gazetteer.OfflineGeocoder;
+import com.internship.recommendation_service.service.client.throttle.GeocodingRequestQueue;
 import com.internship.recommendation_service.util.LogUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class GeolocationServiceClient {
     private final ServiceClient serviceClient;
     private final GeolocationServiceConfig geolocationConfig;
+    private final GeocodingCache geocodingCache;
+    private final GeocodingRequestQueue geocodingRequestQueue;
+    private final OfflineGeocoder offlineGeocoder;
 
     /**
      * Returns a Mono of the user's coordinates based on the given {@link UserDTO}.
      * <p>
+     * When the gazetteer is enabled, the user's zip code or city is resolved with the
+     * {@link OfflineGeocoder} first, and the geolocation service is only called for addresses
+     * missing from the gazetteer, if at all.
+     * <p>
      * The coordinates are retrieved by making a GET call to the geolocation service
      * with the user's city, zip, and country as the query. If the response is empty or null,
-     * the method returns an error with a {@link ServiceUnavailableException}. If the call
-     * fails, the method returns an error with a {@link ServiceUnavailableException}.
+     * the method returns {@link GeoCoordinatesDTO#DEFAULT_VALUE}. If the call fails, the
+     * method returns an empty Mono.
+     * <p>
+     * When caching is enabled, the results of previous calls, including failed ones, are served
+     * from the {@link GeocodingCache} without calling the geolocation service.
      * <p>
-     * The coordinates are logged when successfully retrieved.
+     * Calls to the geolocation service go through the {@link GeocodingRequestQueue}, which keeps
+     * all replicas within the rate limit of the service. If the lookup cannot be sent within the
+     * maximum queue wait, the method returns an empty Mono.
      *
      * @param userDTO the user to get the coordinates for
      * @return a Mono of the user's coordinates
      */
     public Mono<GeoCoordinatesDTO> getCoordinates(UserDTO userDTO) {
+        if (geolocationConfig.isGazetteerEnabled()) {
+            Optional<GeoCoordinatesDTO> coordinates = offlineGeocoder.find(userDTO);
+            if (coordinates.isPresent()) {
+                LogUtil.info("Resolved coordinates of user {} from the gazetteer: {}", userDTO.id(), coordinates.get());
+                return Mono.just(coordinates.get());
+            }
+            if (!geolocationConfig.isGazetteerRemoteFallback()) {
+                LogUtil.warn("No gazetteer entry for user {}", userDTO.id());
+                return Mono.just(GeoCoordinatesDTO.DEFAULT_VALUE);
+            }
+        }
+
         String query = buildSearchQuery(userDTO);
+
+        if (!geolocationConfig.isCacheEnabled()) {
+            return geocodingRequestQueue.submit(query, () -> fetchCoordinates(userDTO, query))
+                    .flatMap(Mono::justOrEmpty);
+        }
+
+        return geocodingCache.get(query)
+                .doOnNext(coordinates -> LogUtil.info("Serving cached coordinates for query '{}': {}", query, coordinates))
+                .switchIfEmpty(Mono.defer(() -> geocodingRequestQueue.submit(query, () -> fetchCoordinates(userDTO, query)
+                        .doOnNext(coordinates -> coordinates.ifPresentOrElse(
+                                value -> geocodingCache.put(query, value),
+                                () -> geocodingCache.putFailure(query))))))
+                // A lookup dropped by the queue may have been completed by another replica meanwhile
+                .switchIfEmpty(Mono.defer(() -> geocodingCache.get(query)))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Calls the geolocation service for the given query.
+     *
+     * @param userDTO the user the query was built for
+     * @param query   the search query
+     * @return a Mono emitting the coordinates found, {@link GeoCoordinatesDTO#DEFAULT_VALUE}
+     * if there are none, or an empty Optional if the call failed
+     */
+    private Mono<Optional<GeoCoordinatesDTO>> fetchCoordinates(UserDTO userDTO, String query) {
         String url = buildSearchUrl(query);
 
         LogUtil.info("Getting coordinates for query: {}", query);
 
         return serviceClient
-                .getMonoList(url, GeoCoordinatesDTO.class, "")
+                .getMonoList(Downstream.GEOLOCATION_SERVICE, url, GeoCoordinatesDTO.class, "")
                 .map(response -> {
                     if (response.isEmpty()) {
                         LogUtil.error("No coordinates found for query '{}'", query);
-                        return GeoCoordinatesDTO.DEFAULT_VALUE;
+                        return Optional.of(GeoCoordinatesDTO.DEFAULT_VALUE);
                     }
-                    return response.get(0);
+                    return Optional.of(response.get(0));
                 })
                 .doOnSuccess(coordinates -> {
                     if (coordinates != null) {
-                        LogUtil.info("Successfully retrieved coordinates for query '{}': {}", query, coordinates);
+                        LogUtil.info("Successfully retrieved coordinates for query '{}': {}", query, coordinates.get());
                     }
                 })
                 .onErrorResume(error -> {
                     LogUtil.error("Error retrieving coordinates for user {} with query '{}': {}", userDTO.id(), query, error.getMessage(), error);
-                    return Mono.empty();
+                    return Mono.just(Optional.empty());
                 });
     }
 
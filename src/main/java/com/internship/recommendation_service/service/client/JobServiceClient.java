@@ -9,6 +9,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -23,16 +27,77 @@ public class JobServiceClient {
     /**
      * Returns a Flux that emits a stream of JobDTO objects, representing all jobs
      * in the job service.
+     * <p>
+     * When paging is enabled, the jobs are requested page by page with bounded prefetch, see
+     * {@link #getJobsPaged(String)}.
      *
      * @return a Flux that emits a stream of JobDTO objects, representing all jobs
      * in the job service
      */
     public Flux<JobDTO> getAllJobs() {
         String baseUrl = serviceUrlsConfig.getJobService() + jobServiceConfig.getBaseUrl();
-        String url = buildUrlToFetchAllJobs(baseUrl);
 
-        LogUtil.info("Getting all jobs");
-        return serviceClient.getFluxList(url, JobDTO.class, jobApiKey);
+        if (!jobServiceConfig.isPagingEnabled()) {
+            LogUtil.info("Getting all jobs");
+            return serviceClient.getFluxList(Downstream.JOB_SERVICE, buildUrlToFetchAllJobs(baseUrl), JobDTO.class, jobApiKey);
+        }
+
+        LogUtil.info("Getting all jobs in pages of {}", jobServiceConfig.getPageSize());
+        return getJobsPaged(baseUrl);
+    }
+
+    /**
+     * Returns a Flux that emits the jobs that were created or modified since the given instant.
+     * <p>
+     * The jobs are requested page by page in the same way as {@link #getAllJobs()}.
+     *
+     * @param modifiedSince the instant after which the jobs must have been modified
+     * @return a Flux that emits the jobs modified since the given instant
+     */
+    public Flux<JobDTO> getJobsModifiedSince(Instant modifiedSince) {
+        String baseUrl = UriComponentsBuilder
+                .fromUriString(serviceUrlsConfig.getJobService() + jobServiceConfig.getBaseUrl())
+                .queryParam("modifiedSince", modifiedSince.toString())
+                .toUriString();
+
+        LogUtil.info("Getting jobs modified since {}", modifiedSince);
+        return getJobsPaged(baseUrl);
+    }
+
+    /**
+     * Walks the pages of the given jobs URL until the first page that is not full.
+     * <p>
+     * Jobs are emitted as soon as their page arrives, so downstream operators can process the
+     * first pages while later pages are still being downloaded. At most the configured number of
+     * pages is downloaded ahead of downstream demand, which keeps memory usage independent of the
+     * size of the catalog.
+     *
+     * @param baseUrl the URL of the jobs to page through
+     * @return a Flux that emits the jobs of every page in order
+     */
+    private Flux<JobDTO> getJobsPaged(String baseUrl) {
+        int pageSize = Math.max(1, jobServiceConfig.getPageSize());
+        int prefetchPages = Math.max(1, jobServiceConfig.getPrefetchPages());
+
+        return Flux.range(0, Integer.MAX_VALUE)
+                .flatMapSequential(page -> getJobsPage(baseUrl, page, pageSize), prefetchPages, 1)
+                .takeUntil(jobs -> jobs.size() < pageSize)
+                .concatMapIterable(jobs -> jobs);
+    }
+
+    /**
+     * Retrieves a single page of jobs from the job service.
+     *
+     * @param baseUrl  the base URL of the job service
+     * @param page     the zero-based index of the page
+     * @param pageSize the number of jobs per page
+     * @return a Mono that emits the jobs of the page, which is empty past the last page
+     */
+    private Mono<List<JobDTO>> getJobsPage(String baseUrl, int page, int pageSize) {
+        String url = buildUrlToFetchJobsPage(baseUrl, page, pageSize);
+
+        return serviceClient.getFluxList(Downstream.JOB_SERVICE, url, JobDTO.class, jobApiKey)
+                .collectList();
     }
 
     /**
@@ -49,9 +114,21 @@ public class JobServiceClient {
      * @return a URL that can be used to fetch all jobs in the job service
      */
     private String buildUrlToFetchAllJobs(String baseUrl) {
+        return buildUrlToFetchJobsPage(baseUrl, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a URL that can be used to fetch a single page of jobs in the job service.
+     *
+     * @param baseUrl  the base URL of the job service
+     * @param page     the zero-based index of the page
+     * @param pageSize the number of jobs per page
+     * @return a URL that can be used to fetch the given page of jobs
+     */
+    private String buildUrlToFetchJobsPage(String baseUrl, int page, int pageSize) {
         return UriComponentsBuilder.fromUriString(baseUrl)
-                .queryParam("page", 0)
-                .queryParam("size", Integer.MAX_VALUE)
+                .queryParam("page", page)
+                .queryParam("size", pageSize)
                 .encode()
                 .toUriString();
     }
@@ -3,22 +3,62 @@ package com.internship.recommendation_service.service.client;
 import com.internship.recommendation_service.config.property.service.ReportServiceConfig;
 import com.internship.recommendation_service.config.property.service.ServiceUrlsConfig;
 import com.internship.recommendation_service.dto.external.ReportStatsDTO;
+import com.internship.recommendation_service.exception.CallRejectedException;
+import com.internship.recommendation_service.service.client.batch.BatchLoader;
+import com.internship.recommendation_service.service.client.batch.BatchLoaderFactory;
+import com.internship.recommendation_service.service.client.cache.ReactiveCache;
+import com.internship.recommendation_service.service.client.cache.ReactiveCacheFactory;
+import com.internship.recommendation_service.util.BulkFetchUtil;
 import com.internship.recommendation_service.util.LogUtil;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 @Service
 @RequiredArgsConstructor
 public class ReportServiceClient {
     private final ServiceClient serviceClient;
     private final ServiceUrlsConfig serviceUrlsConfig;
     private final ReportServiceConfig reportServiceConfig;
+    private final BatchLoaderFactory batchLoaderFactory;
+    private final ReactiveCacheFactory reactiveCacheFactory;
 
     @Value("${security.feign.report-service.api-key}")
     private String reportApiKey;
 
+    private BatchLoader<ReportStatsDTO> userReportStatsLoader;
+    private BatchLoader<ReportStatsDTO> jobReportStatsLoader;
+    private ReactiveCache<ReportStatsDTO> userReportStatsCache;
+    private ReactiveCache<ReportStatsDTO> jobReportStatsCache;
+
+    /**
+     * Creates the loaders that batch report lookups of concurrent requests into bulk calls, and the
+     * caches in front of them.
+     */
+    @PostConstruct
+    void initLoaders() {
+        userReportStatsLoader = batchLoaderFactory.create("report-service.user-report-info",
+                reportServiceConfig.getBulkChunkSize(),
+                ids -> fetchReportStats(ids, reportServiceConfig.getApiUserReportInfoBulk(), "USER", this::fetchUserReportStats));
+        jobReportStatsLoader = batchLoaderFactory.create("report-service.job-report-info",
+                reportServiceConfig.getBulkChunkSize(),
+                ids -> fetchReportStats(ids, reportServiceConfig.getApiJobReportInfoBulk(), "JOB", this::fetchJobReportStats));
+        userReportStatsCache = reactiveCacheFactory.create("report-service.user-report-info",
+                ReportStatsDTO.class,
+                reportServiceConfig.getCacheTtl());
+        jobReportStatsCache = reactiveCacheFactory.create("report-service.job-report-info",
+                ReportStatsDTO.class,
+                reportServiceConfig.getCacheTtl());
+    }
+
     /**
      * Retrieves report information for a specific user by their ID.
      *
@@ -26,36 +66,193 @@ public class ReportServiceClient {
      * @return a Mono that emits a ReportStatsDTO containing the report data for the specified user
      */
     public Mono<ReportStatsDTO> getUserReportStats(Long userId) {
+        return userReportStatsCache.get(userId, userReportStatsLoader::load)
+                .defaultIfEmpty(ReportStatsDTO.defaultValue(userId, "USER"));
+    }
+
+    /**
+     * Retrieves report information for a specific job by its ID.
+     *
+     * @param jobId the ID of the job for which the report information is being retrieved
+     * @return a Mono that emits a ReportStatsDTO containing the report data for the specified job
+     */
+    public Mono<ReportStatsDTO> getJobReportStats(Long jobId) {
+        return jobReportStatsCache.get(jobId, jobReportStatsLoader::load)
+                .defaultIfEmpty(ReportStatsDTO.defaultValue(jobId, "JOB"));
+    }
+
+    /**
+     * Retrieves report information for the users with the given IDs, keyed by user ID.
+     * <p>
+     * Cached report information is served from the cache; the other IDs are requested in chunks
+     * from the bulk endpoint of the report service, together with lookups of concurrent requests.
+     * Users without reports are mapped to default report information. Users whose chunk could not
+     * be retrieved are left out, so callers use their default without caching it.
+     *
+     * @param userIds the IDs of the users for whom the report information is being retrieved
+     * @return a Mono that emits a map of user ID to ReportStatsDTO
+     */
+    public Mono<Map<Long, ReportStatsDTO>> getUsersReportStats(Collection<Long> userIds) {
+        LogUtil.debug("Getting report info for {} users", userIds.size());
+        return userReportStatsCache.getAll(userIds, userReportStatsLoader::loadMany);
+    }
+
+    /**
+     * Retrieves report information for the jobs with the given IDs, keyed by job ID.
+     * <p>
+     * Cached report information is served from the cache; the other IDs are requested in chunks
+     * from the bulk endpoint of the report service, together with lookups of concurrent requests.
+     * Jobs without reports are mapped to default report information. Jobs whose chunk could not
+     * be retrieved are left out, so callers use their default without caching it.
+     *
+     * @param jobIds the IDs of the jobs for which the report information is being retrieved
+     * @return a Mono that emits a map of job ID to ReportStatsDTO
+     */
+    public Mono<Map<Long, ReportStatsDTO>> getJobsReportStats(Collection<Long> jobIds) {
+        LogUtil.debug("Getting report info for {} jobs", jobIds.size());
+        return jobReportStatsCache.getAll(jobIds, jobReportStatsLoader::loadMany);
+    }
+
+    /**
+     * Fetches report information for the users with the given IDs from the report service,
+     * bypassing the cache and the batching of concurrent lookups.
+     * <p>
+     * Used to precompute stats: users without reports are mapped to default report information,
+     * but the Mono fails if any chunk could not be retrieved, so a fallback is never taken for
+     * real report information.
+     *
+     * @param userIds the IDs of the users for whom the report information is being retrieved
+     * @return a Mono that emits a map of user ID to ReportStatsDTO for every given user
+     */
+    public Mono<Map<Long, ReportStatsDTO>> fetchUsersReportStatsUncached(Collection<Long> userIds) {
+        return BulkFetchUtil.fetchInChunks(userIds,
+                reportServiceConfig.getBulkChunkSize(),
+                ids -> requireReportStats(ids, reportServiceConfig.getApiUserReportInfoBulk(), "USER", this::requestUserReportStats));
+    }
+
+    /**
+     * Fetches report information for the jobs with the given IDs from the report service,
+     * bypassing the cache and the batching of concurrent lookups.
+     * <p>
+     * Used to precompute stats: jobs without reports are mapped to default report information,
+     * but the Mono fails if any chunk could not be retrieved, so a fallback is never taken for
+     * real report information.
+     *
+     * @param jobIds the IDs of the jobs for which the report information is being retrieved
+     * @return a Mono that emits a map of job ID to ReportStatsDTO for every given job
+     */
+    public Mono<Map<Long, ReportStatsDTO>> fetchJobsReportStatsUncached(Collection<Long> jobIds) {
+        return BulkFetchUtil.fetchInChunks(jobIds,
+                reportServiceConfig.getBulkChunkSize(),
+                ids -> requireReportStats(ids, reportServiceConfig.getApiJobReportInfoBulk(), "JOB", this::requestJobReportStats));
+    }
+
+    /**
+     * Fetches report information for a single user from the report service.
+     *
+     * @param userId the ID of the user for whom the report information is being retrieved
+     * @return a Mono that emits the report information, or completing empty if the call fails
+     */
+    private Mono<ReportStatsDTO> fetchUserReportStats(Long userId) {
+        return requestUserReportStats(userId)
+                // Completes empty so callers use the default without caching it
+                .onErrorResume(CallRejectedException.class, error -> Mono.empty())
+                .onErrorResume(e -> {
+                    LogUtil.error("Error retrieving report info for user {}", userId, e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<ReportStatsDTO> requestUserReportStats(Long userId) {
         String url = serviceUrlsConfig.getReportService() +
                      reportServiceConfig.getBaseUrl() +
                      reportServiceConfig.getApiUserReportInfo() +
                      "/" + userId;
 
-        return serviceClient
-                .getMonoObject(url, ReportStatsDTO.class, reportApiKey)
-                .onErrorResume(e -> {
-                    LogUtil.error("Error retrieving report info for user {}", userId, e);
-                    return Mono.just(ReportStatsDTO.defaultValue(userId, "USER"));
-                });
+        return serviceClient.getMonoObject(Downstream.REPORT_SERVICE, url, ReportStatsDTO.class, reportApiKey);
     }
 
     /**
-     * Retrieves report information for a specific job by its ID.
+     * Fetches report information for a single job from the report service.
      *
      * @param jobId the ID of the job for which the report information is being retrieved
-     * @return a Mono that emits a ReportStatsDTO containing the report data for the specified job
+     * @return a Mono that emits the report information, or completing empty if the call fails
      */
-    public Mono<ReportStatsDTO> getJobReportStats(Long jobId) {
+    private Mono<ReportStatsDTO> fetchJobReportStats(Long jobId) {
+        return requestJobReportStats(jobId)
+                // Completes empty so callers use the default without caching it
+                .onErrorResume(CallRejectedException.class, error -> Mono.empty())
+                .onErrorResume(e -> {
+                    LogUtil.error("Error retrieving report info for job {}", jobId, e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<ReportStatsDTO> requestJobReportStats(Long jobId) {
         String url = serviceUrlsConfig.getReportService() +
                      reportServiceConfig.getBaseUrl() +
                      reportServiceConfig.getApiJobReportInfo() +
                      "/" + jobId;
 
+        return serviceClient.getMonoObject(Downstream.REPORT_SERVICE, url, ReportStatsDTO.class, reportApiKey);
+    }
+
+    /**
+     * Fetches the report information of a batch of IDs, either from the bulk endpoint or, when bulk
+     * requests are disabled, with one call per ID.
+     *
+     * @param ids           the IDs to retrieve
+     * @param bulkApi       the path of the bulk endpoint
+     * @param reportType    the report type used for default values
+     * @param singleFetcher the function that fetches the report information of a single ID
+     * @return a Mono that emits a map of ID to ReportStatsDTO
+     */
+    private Mono<Map<Long, ReportStatsDTO>> fetchReportStats(List<Long> ids,
+                                                             String bulkApi,
+                                                             String reportType,
+                                                             Function<Long, Mono<ReportStatsDTO>> singleFetcher) {
+        if (!reportServiceConfig.isBulkEnabled()) {
+            return BulkFetchUtil.fetchEach(ids, singleFetcher);
+        }
+
+        String bulkEndpoint = bulkReportStatsEndpoint(bulkApi);
+        return BulkFetchUtil.resolveChunk(ids,
+                bulkEndpoint,
+                fetchBulkReportStats(bulkEndpoint, ids),
+                singleFetcher,
+                id -> ReportStatsDTO.defaultValue(id, reportType));
+    }
+
+    /**
+     * Fetches the report information of a batch of IDs like {@link #fetchReportStats}, but fails
+     * instead of leaving out the IDs that could not be retrieved.
+     */
+    private Mono<Map<Long, ReportStatsDTO>> requireReportStats(List<Long> ids,
+                                                               String bulkApi,
+                                                               String reportType,
+                                                               Function<Long, Mono<ReportStatsDTO>> singleRequester) {
+        if (!reportServiceConfig.isBulkEnabled()) {
+            return BulkFetchUtil.fetchEach(ids, singleRequester);
+        }
+
+        String bulkEndpoint = bulkReportStatsEndpoint(bulkApi);
+        return BulkFetchUtil.requireChunk(ids,
+                bulkEndpoint,
+                fetchBulkReportStats(bulkEndpoint, ids),
+                singleRequester,
+                id -> ReportStatsDTO.defaultValue(id, reportType));
+    }
+
+    private String bulkReportStatsEndpoint(String bulkApi) {
+        return serviceUrlsConfig.getReportService() + reportServiceConfig.getBaseUrl() + bulkApi;
+    }
+
+    private Flux<Map.Entry<Long, ReportStatsDTO>> fetchBulkReportStats(String bulkEndpoint, List<Long> ids) {
+        String url = BulkFetchUtil.buildBulkUrl(bulkEndpoint, ids);
+
         return serviceClient
-                .getMonoObject(url, ReportStatsDTO.class, reportApiKey)
-                .onErrorResume(e -> {
-                    LogUtil.error("Error retrieving report info for job {}", jobId, e);
-                    return Mono.just(ReportStatsDTO.defaultValue(jobId, "JOB"));
-                });
+                .getFluxList(Downstream.REPORT_SERVICE, url, ReportStatsDTO.class, reportApiKey)
+                .filter(stats -> stats.reportedEntityId() != null)
+                .map(stats -> Map.entry(stats.reportedEntityId(), stats));
     }
 }
@@ -2,12 +2,25 @@ package com.internship.recommendation_service.service.client;
 
 import com.internship.recommendation_service.config.property.service.ReservationServiceConfig;
 import com.internship.recommendation_service.config.property.service.ServiceUrlsConfig;
+import com.internship.recommendation_service.dto.external.ReservationCountDTO;
+import com.internship.recommendation_service.exception.CallRejectedException;
+import com.internship.recommendation_service.service.client.batch.BatchLoader;
+import com.internship.recommendation_service.service.client.batch.BatchLoaderFactory;
+import com.internship.recommendation_service.service.client.cache.ReactiveCache;
+import com.internship.recommendation_service.service.client.cache.ReactiveCacheFactory;
+import com.internship.recommendation_service.util.BulkFetchUtil;
 import com.internship.recommendation_service.util.LogUtil;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class ReservationServiceClient {
@@ -18,18 +31,117 @@ public class ReservationServiceClient {
     private final ServiceClient serviceClient;
     private final ServiceUrlsConfig serviceUrlsConfig;
     private final ReservationServiceConfig reservationServiceConfig;
+    private final BatchLoaderFactory batchLoaderFactory;
+    private final ReactiveCacheFactory reactiveCacheFactory;
+
+    private BatchLoader<Long> jobCountLoader;
+    private ReactiveCache<Long> jobCountCache;
+
+    /**
+     * Creates the loader that batches reservation count lookups of concurrent requests into bulk calls,
+     * and the cache in front of it.
+     */
+    @PostConstruct
+    void initLoaders() {
+        jobCountLoader = batchLoaderFactory.create("reservation-service.job-reservation-count",
+                reservationServiceConfig.getBulkChunkSize(),
+                this::fetchJobCounts);
+        jobCountCache = reactiveCacheFactory.create("reservation-service.job-reservation-count",
+                Long.class,
+                reservationServiceConfig.getCacheTtl());
+    }
 
     public Mono<Long> getJobCount(Long jobId) {
+        return jobCountCache.get(jobId, jobCountLoader::load)
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * Retrieves the number of finished reservations for the jobs with the given IDs, keyed by job ID.
+     * <p>
+     * Cached counts are served from the cache; the other IDs are requested in chunks from the bulk
+     * endpoint of the reservation service, together with lookups of concurrent requests. Jobs
+     * without reservations are mapped to zero. Jobs whose chunk could not be retrieved are left
+     * out, so callers use their default without caching it.
+     *
+     * @param jobIds the IDs of the jobs to retrieve the reservation count for
+     * @return a Mono that emits a map of job ID to finished reservation count
+     */
+    public Mono<Map<Long, Long>> getJobCounts(Collection<Long> jobIds) {
+        LogUtil.debug("Getting reservation counts for {} jobs", jobIds.size());
+        return jobCountCache.getAll(jobIds, jobCountLoader::loadMany);
+    }
+
+    /**
+     * Retrieves the number of finished reservations for the jobs with the given IDs from the
+     * reservation service, bypassing the cache and the batching of concurrent lookups.
+     * <p>
+     * Used to precompute stats: jobs without reservations are mapped to zero, but the Mono fails
+     * if any chunk could not be retrieved, so a fallback is never taken for a real count.
+     *
+     * @param jobIds the IDs of the jobs to retrieve the reservation count for
+     * @return a Mono that emits a map of job ID to finished reservation count for every given job
+     */
+    public Mono<Map<Long, Long>> fetchJobCountsUncached(Collection<Long> jobIds) {
+        return BulkFetchUtil.fetchInChunks(jobIds, reservationServiceConfig.getBulkChunkSize(), this::requireJobCounts);
+    }
+
+    private Mono<Long> fetchJobCount(Long jobId) {
+        return requestJobCount(jobId)
+                // Completes empty so callers use the default without caching it
+                .onErrorResume(CallRejectedException.class, error -> Mono.empty())
+                .onErrorResume(e -> {
+                    LogUtil.error("Error retrieving reservation count for job {}", jobId, e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Long> requestJobCount(Long jobId) {
         String url = serviceUrlsConfig.getReservationService() +
                 reservationServiceConfig.getBaseUrl() +
                 reservationServiceConfig.getApiJobReservationCount() +
                 "/" + jobId + "/FINISHED";
 
+        return serviceClient.getMonoObject(Downstream.RESERVATION_SERVICE, url, Long.class, reservationApiKey);
+    }
+
+    private Mono<Map<Long, Long>> fetchJobCounts(List<Long> jobIds) {
+        if (!reservationServiceConfig.isBulkEnabled()) {
+            return BulkFetchUtil.fetchEach(jobIds, this::fetchJobCount);
+        }
+
+        return BulkFetchUtil.resolveChunk(jobIds,
+                bulkJobCountsEndpoint(),
+                fetchBulkJobCounts(jobIds),
+                this::fetchJobCount,
+                id -> 0L);
+    }
+
+    private Mono<Map<Long, Long>> requireJobCounts(List<Long> jobIds) {
+        if (!reservationServiceConfig.isBulkEnabled()) {
+            return BulkFetchUtil.fetchEach(jobIds, this::requestJobCount);
+        }
+
+        return BulkFetchUtil.requireChunk(jobIds,
+                bulkJobCountsEndpoint(),
+                fetchBulkJobCounts(jobIds),
+                this::requestJobCount,
+                id -> 0L);
+    }
+
+    private String bulkJobCountsEndpoint() {
+        return serviceUrlsConfig.getReservationService() +
+               reservationServiceConfig.getBaseUrl() +
+               reservationServiceConfig.getApiJobReservationCountBulk() +
+               "/FINISHED";
+    }
+
+    private Flux<Map.Entry<Long, Long>> fetchBulkJobCounts(List<Long> jobIds) {
+        String url = BulkFetchUtil.buildBulkUrl(bulkJobCountsEndpoint(), jobIds);
+
         return serviceClient
-                .getMonoObject(url, Long.class, reservationApiKey)
-                .onErrorResume(e -> {
-                    LogUtil.error("Error retrieving reservation count for job {}", jobId, e);
-                    return Mono.just(0L);
-                });
+                .getFluxList(Downstream.RESERVATION_SERVICE, url, ReservationCountDTO.class, reservationApiKey)
+                .filter(reservationCount -> reservationCount.jobId() != null && reservationCount.count() != null)
+                .map(reservationCount -> Map.entry(reservationCount.jobId(), reservationCount.count()));
     }
 }
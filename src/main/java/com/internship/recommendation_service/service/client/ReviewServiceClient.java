@@ -3,22 +3,62 @@ package com.internship.recommendation_service.service.client;
 import com.internship.recommendation_service.config.property.service.ReviewServiceConfig;
 import com.internship.recommendation_service.config.property.service.ServiceUrlsConfig;
 import com.internship.recommendation_service.dto.external.ReviewStatsDTO;
+import com.internship.recommendation_service.exception.CallRejectedException;
+import com.internship.recommendation_service.service.client.batch.BatchLoader;
+import com.internship.recommendation_service.service.client.batch.BatchLoaderFactory;
+import com.internship.recommendation_service.service.client.cache.ReactiveCache;
+import com.internship.recommendation_service.service.client.cache.ReactiveCacheFactory;
+import com.internship.recommendation_service.util.BulkFetchUtil;
 import com.internship.recommendation_service.util.LogUtil;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceClient {
     private final ServiceClient serviceClient;
     private final ServiceUrlsConfig serviceUrlsConfig;
     private final ReviewServiceConfig reviewServiceConfig;
+    private final BatchLoaderFactory batchLoaderFactory;
+    private final ReactiveCacheFactory reactiveCacheFactory;
 
     @Value("${security.feign.review-service.api-key}")
     private String reviewApiKey;
 
+    private BatchLoader<ReviewStatsDTO> userRatingLoader;
+    private BatchLoader<ReviewStatsDTO> jobRatingLoader;
+    private ReactiveCache<ReviewStatsDTO> userRatingCache;
+    private ReactiveCache<ReviewStatsDTO> jobRatingCache;
+
+    /**
+     * Creates the loaders that batch rating lookups of concurrent requests into bulk calls, and the
+     * caches in front of them.
+     */
+    @PostConstruct
+    void initLoaders() {
+        userRatingLoader = batchLoaderFactory.create("review-service.user-rating",
+                reviewServiceConfig.getBulkChunkSize(),
+                ids -> fetchRatings(ids, reviewServiceConfig.getApiUserRatingBulk(), "USER", this::fetchUserRating));
+        jobRatingLoader = batchLoaderFactory.create("review-service.job-rating",
+                reviewServiceConfig.getBulkChunkSize(),
+                ids -> fetchRatings(ids, reviewServiceConfig.getApiJobRatingBulk(), "JOB", this::fetchJobRating));
+        userRatingCache = reactiveCacheFactory.create("review-service.user-rating",
+                ReviewStatsDTO.class,
+                reviewServiceConfig.getCacheTtl());
+        jobRatingCache = reactiveCacheFactory.create("review-service.job-rating",
+                ReviewStatsDTO.class,
+                reviewServiceConfig.getCacheTtl());
+    }
+
     /**
      * Returns a Mono that emits a ReviewStatsDTO representing the rating of the user with the given ID.
      *
@@ -26,38 +66,193 @@ public class ReviewServiceClient {
      * @return a Mono that emits a ReviewStatsDTO representing the rating of the user with the given ID
      */
     public Mono<ReviewStatsDTO> getUserRating(Long userId) {
+        LogUtil.debug("Getting user rating for user {}", userId);
+        return userRatingCache.get(userId, userRatingLoader::load)
+                .defaultIfEmpty(ReviewStatsDTO.defaultValue(userId, "USER"));
+    }
+
+    /**
+     * Returns a Mono that emits a ReviewStatsDTO representing the rating of the job with the given ID.
+     *
+     * @param jobId the ID of the job to retrieve
+     * @return a Mono that emits a ReviewStatsDTO representing the rating of the job with the given ID
+     */
+    public Mono<ReviewStatsDTO> getJobRating(Long jobId) {
+        LogUtil.debug("Getting job rating for job {}", jobId);
+        return jobRatingCache.get(jobId, jobRatingLoader::load)
+                .defaultIfEmpty(ReviewStatsDTO.defaultValue(jobId, "JOB"));
+    }
+
+    /**
+     * Returns a Mono that emits the ratings of the users with the given IDs, keyed by user ID.
+     * <p>
+     * Cached ratings are served from the cache; the other IDs are requested in chunks from the bulk
+     * endpoint of the review service, together with lookups of concurrent requests. Users without a
+     * rating are mapped to a default rating. Users whose chunk could not be retrieved are left out,
+     * so callers use their default without caching it.
+     *
+     * @param userIds the IDs of the users to retrieve
+     * @return a Mono that emits a map of user ID to ReviewStatsDTO
+     */
+    public Mono<Map<Long, ReviewStatsDTO>> getUserRatings(Collection<Long> userIds) {
+        LogUtil.debug("Getting user ratings for {} users", userIds.size());
+        return userRatingCache.getAll(userIds, userRatingLoader::loadMany);
+    }
+
+    /**
+     * Returns a Mono that emits the ratings of the jobs with the given IDs, keyed by job ID.
+     * <p>
+     * Cached ratings are served from the cache; the other IDs are requested in chunks from the bulk
+     * endpoint of the review service, together with lookups of concurrent requests. Jobs without a
+     * rating are mapped to a default rating. Jobs whose chunk could not be retrieved are left out,
+     * so callers use their default without caching it.
+     *
+     * @param jobIds the IDs of the jobs to retrieve
+     * @return a Mono that emits a map of job ID to ReviewStatsDTO
+     */
+    public Mono<Map<Long, ReviewStatsDTO>> getJobRatings(Collection<Long> jobIds) {
+        LogUtil.debug("Getting job ratings for {} jobs", jobIds.size());
+        return jobRatingCache.getAll(jobIds, jobRatingLoader::loadMany);
+    }
+
+    /**
+     * Fetches the ratings of the users with the given IDs from the review service, bypassing the
+     * cache and the batching of concurrent lookups.
+     * <p>
+     * Used to precompute stats: users without a rating are mapped to a default rating, but the
+     * Mono fails if any chunk could not be retrieved, so a fallback is never taken for a rating.
+     *
+     * @param userIds the IDs of the users to retrieve
+     * @return a Mono that emits a map of user ID to ReviewStatsDTO for every given user
+     */
+    public Mono<Map<Long, ReviewStatsDTO>> fetchUserRatingsUncached(Collection<Long> userIds) {
+        return BulkFetchUtil.fetchInChunks(userIds,
+                reviewServiceConfig.getBulkChunkSize(),
+                ids -> requireRatings(ids, reviewServiceConfig.getApiUserRatingBulk(), "USER", this::requestUserRating));
+    }
+
+    /**
+     * Fetches the ratings of the jobs with the given IDs from the review service, bypassing the
+     * cache and the batching of concurrent lookups.
+     * <p>
+     * Used to precompute stats: jobs without a rating are mapped to a default rating, but the
+     * Mono fails if any chunk could not be retrieved, so a fallback is never taken for a rating.
+     *
+     * @param jobIds the IDs of the jobs to retrieve
+     * @return a Mono that emits a map of job ID to ReviewStatsDTO for every given job
+     */
+    public Mono<Map<Long, ReviewStatsDTO>> fetchJobRatingsUncached(Collection<Long> jobIds) {
+        return BulkFetchUtil.fetchInChunks(jobIds,
+                reviewServiceConfig.getBulkChunkSize(),
+                ids -> requireRatings(ids, reviewServiceConfig.getApiJobRatingBulk(), "JOB", this::requestJobRating));
+    }
+
+    /**
+     * Fetches the rating of a single user from the review service.
+     *
+     * @param userId the ID of the user to retrieve
+     * @return a Mono that emits the rating of the user, or completing empty if the call fails
+     */
+    private Mono<ReviewStatsDTO> fetchUserRating(Long userId) {
+        return requestUserRating(userId)
+                // Completes empty so callers use the default without caching it
+                .onErrorResume(CallRejectedException.class, error -> Mono.empty())
+                .onErrorResume(error -> {
+                    LogUtil.error("Error retrieving rating for user {}", userId, error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<ReviewStatsDTO> requestUserRating(Long userId) {
         String url = serviceUrlsConfig.getReviewService() +
                      reviewServiceConfig.getBaseUrl() +
                      reviewServiceConfig.getApiUserRating() +
                      "/" + userId;
 
-        LogUtil.info("Getting user rating for user {}", userId);
-        return serviceClient
-                .getMonoObject(url, ReviewStatsDTO.class, reviewApiKey)
-                .onErrorResume(error -> {
-                    LogUtil.error("Error retrieving rating for user {}", userId, error);
-                    return Mono.just(ReviewStatsDTO.defaultValue(userId, "USER"));
-                });
+        return serviceClient.getMonoObject(Downstream.REVIEW_SERVICE, url, ReviewStatsDTO.class, reviewApiKey);
     }
 
     /**
-     * Returns a Mono that emits a ReviewStatsDTO representing the rating of the job with the given ID.
+     * Fetches the rating of a single job from the review service.
      *
      * @param jobId the ID of the job to retrieve
-     * @return a Mono that emits a ReviewStatsDTO representing the rating of the job with the given ID
+     * @return a Mono that emits the rating of the job, or completing empty if the call fails
      */
-    public Mono<ReviewStatsDTO> getJobRating(Long jobId) {
+    private Mono<ReviewStatsDTO> fetchJobRating(Long jobId) {
+        return requestJobRating(jobId)
+                // Completes empty so callers use the default without caching it
+                .onErrorResume(CallRejectedException.class, error -> Mono.empty())
+                .onErrorResume(error -> {
+                    LogUtil.error("Error retrieving rating for job {}", jobId, error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<ReviewStatsDTO> requestJobRating(Long jobId) {
         String url = serviceUrlsConfig.getReviewService() +
                      reviewServiceConfig.getBaseUrl() +
                      reviewServiceConfig.getApiJobRating() +
                      "/" + jobId;
 
-        LogUtil.info("Getting job rating for job {}", jobId);
+        return serviceClient.getMonoObject(Downstream.REVIEW_SERVICE, url, ReviewStatsDTO.class, reviewApiKey);
+    }
+
+    /**
+     * Fetches the ratings of a batch of IDs, either from the bulk endpoint or, when bulk requests
+     * are disabled, with one call per ID.
+     *
+     * @param ids           the IDs to retrieve
+     * @param bulkApi       the path of the bulk endpoint
+     * @param reviewType    the review type used for default values
+     * @param singleFetcher the function that fetches the rating of a single ID
+     * @return a Mono that emits a map of ID to ReviewStatsDTO
+     */
+    private Mono<Map<Long, ReviewStatsDTO>> fetchRatings(List<Long> ids,
+                                                         String bulkApi,
+                                                         String reviewType,
+                                                         Function<Long, Mono<ReviewStatsDTO>> singleFetcher) {
+        if (!reviewServiceConfig.isBulkEnabled()) {
+            return BulkFetchUtil.fetchEach(ids, singleFetcher);
+        }
+
+        String bulkEndpoint = bulkRatingsEndpoint(bulkApi);
+        return BulkFetchUtil.resolveChunk(ids,
+                bulkEndpoint,
+                fetchBulkRatings(bulkEndpoint, ids),
+                singleFetcher,
+                id -> ReviewStatsDTO.defaultValue(id, reviewType));
+    }
+
+    /**
+     * Fetches the ratings of a batch of IDs like {@link #fetchRatings}, but fails instead of leaving
+     * out the IDs that could not be retrieved.
+     */
+    private Mono<Map<Long, ReviewStatsDTO>> requireRatings(List<Long> ids,
+                                                           String bulkApi,
+                                                           String reviewType,
+                                                           Function<Long, Mono<ReviewStatsDTO>> singleRequester) {
+        if (!reviewServiceConfig.isBulkEnabled()) {
+            return BulkFetchUtil.fetchEach(ids, singleRequester);
+        }
+
+        String bulkEndpoint = bulkRatingsEndpoint(bulkApi);
+        return BulkFetchUtil.requireChunk(ids,
+                bulkEndpoint,
+                fetchBulkRatings(bulkEndpoint, ids),
+                singleRequester,
+                id -> ReviewStatsDTO.defaultValue(id, reviewType));
+    }
+
+    private String bulkRatingsEndpoint(String bulkApi) {
+        return serviceUrlsConfig.getReviewService() + reviewServiceConfig.getBaseUrl() + bulkApi;
+    }
+
+    private Flux<Map.Entry<Long, ReviewStatsDTO>> fetchBulkRatings(String bulkEndpoint, List<Long> ids) {
+        String url = BulkFetchUtil.buildBulkUrl(bulkEndpoint, ids);
+
         return serviceClient
-                .getMonoObject(url, ReviewStatsDTO.class, reviewApiKey)
-                .onErrorResume(error -> {
-                    LogUtil.error("Error retrieving rating for job {}", jobId, error);
-                    return Mono.just(ReviewStatsDTO.defaultValue(jobId, "JOB"));
-                });
+                .getFluxList(Downstream.REVIEW_SERVICE, url, ReviewStatsDTO.class, reviewApiKey)
+                .filter(stats -> stats.reviewedId() != null)
+                .map(stats -> Map.entry(stats.reviewedId(), stats));
     }
 }
@@ -1,78 +1,226 @@
 package com.internship.recommendation_service.service.client;
 
+import com.internship.recommendation_service.config.property.service.SingleFlightConfig;
+import com.internship.recommendation_service.exception.CircuitOpenException;
+import com.internship.recommendation_service.exception.DownstreamDisabledException;
+import com.internship.recommendation_service.service.client.circuit.CircuitBreakerRegistry;
+import com.internship.recommendation_service.service.client.hedge.RequestHedger;
+import com.internship.recommendation_service.service.client.limit.ConcurrencyLimiterRegistry;
+import com.internship.recommendation_service.service.client.toggle.DownstreamSwitches;
 import com.internship.recommendation_service.util.LogUtil;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 public class ServiceClient {
-    private final WebClient webClient;
+    private final DownstreamWebClients webClients;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final ConcurrencyLimiterRegistry concurrencyLimiters;
+    private final RequestHedger requestHedger;
+    private final DownstreamSwitches downstreamSwitches;
+    private final SingleFlightConfig singleFlightConfig;
+    private final Counter sharedRequestCounter;
+
+    private final Map<String, Mono<?>> inFlightMonos = new ConcurrentHashMap<>();
+    private final Map<String, Flux<?>> inFlightFluxes = new ConcurrentHashMap<>();
+
+    public ServiceClient(DownstreamWebClients webClients,
+                         CircuitBreakerRegistry circuitBreakers,
+                         ConcurrencyLimiterRegistry concurrencyLimiters,
+                         RequestHedger requestHedger,
+                         DownstreamSwitches downstreamSwitches,
+                         SingleFlightConfig singleFlightConfig,
+                         MeterRegistry meterRegistry) {
+        this.webClients = webClients;
+        this.circuitBreakers = circuitBreakers;
+        this.concurrencyLimiters = concurrencyLimiters;
+        this.requestHedger = requestHedger;
+        this.downstreamSwitches = downstreamSwitches;
+        this.singleFlightConfig = singleFlightConfig;
+        this.sharedRequestCounter = Counter.builder("recommendation.client.single.flight.shared")
+                .description("Number of GET requests served by an identical request that was already in flight")
+                .register(meterRegistry);
+    }
 
     /**
      * Sends a GET request to the specified URL and retrieves a single object of the specified response type.
+     * <p>
+     * When single-flight is enabled, concurrent calls with the same URL, response type and API key
+     * share one in-flight request and its decoded result.
+     * <p>
+     * The request waits for a free slot of the adaptive concurrency limit of the downstream
+     * service, which is shared by all requests, and is guarded by the circuit breaker of the
+     * service: it fails with a {@link CircuitOpenException} without being sent while the circuit is
+     * open. If hedging is enabled for the service, a slow request is hedged with a second attempt,
+     * which also passes the limit and the circuit breaker.
+     * <p>
+     * Requests to a downstream service that is switched off fail with a
+     * {@link DownstreamDisabledException} without being sent.
      *
+     * @param downstream   the downstream service the URL belongs to, whose connection pool is used
      * @param url          the URL to send the GET request to
      * @param responseType the class type of the response expected from the URL
      * @param <T>          the type of the response object
      * @return a Mono that emits the response object of type T
      */
-    public <T> Mono<T> getMonoObject(String url, Class<T> responseType, String apiKey) {
-        LogUtil.info("GET request to URL: {}", url);
-
-        return webClient.get()
-                .uri(url)
-                .header("X-API-KEY", apiKey)
-                .retrieve()
-                .bodyToMono(responseType)
-                .doOnEach(signal -> {
-                    if (signal.isOnNext()) {
-                        LogUtil.info("Response: {} for URL: {}", signal.get(), url);
-                    }
-                })
-                .doOnError(e -> LogUtil.error("GET request to {} failed", url, e));
+    public <T> Mono<T> getMonoObject(Downstream downstream, String url, Class<T> responseType, String apiKey) {
+        if (!downstreamSwitches.isEnabled(downstream)) {
+            return Mono.error(() -> disabled(downstream));
+        }
+
+        return shareInFlightMono(requestKey(url, responseType, apiKey), () -> {
+            if (LogUtil.isDebugEnabled()) {
+                LogUtil.debug("GET request to URL: {}", url);
+            }
+
+            Mono<T> request = webClients.get(downstream).get()
+                    .uri(url)
+                    .header("X-API-KEY", apiKey)
+                    .retrieve()
+                    .bodyToMono(responseType)
+                    .doOnEach(signal -> {
+                        // Response bodies are large, so they are only rendered at DEBUG
+                        if (signal.isOnNext() && LogUtil.isDebugEnabled()) {
+                            LogUtil.debug("Response: {} for URL: {}", signal.get(), url);
+                        }
+                    })
+                    .doOnError(e -> LogUtil.error("GET request to {} failed", url, e));
+            return requestHedger.hedge(downstream, () -> concurrencyLimiters.limit(downstream, circuitBreakers.protect(downstream, request)));
+        });
     }
 
     /**
      * Sends a GET request to the specified URL and retrieves a Flux of objects of the specified response type.
+     * <p>
+     * When single-flight is enabled, concurrent calls with the same URL, response type and API key
+     * share one in-flight request and replay its decoded elements.
+     * <p>
+     * The request is rejected while the downstream service is switched off, limited, guarded by the
+     * circuit breaker of the service and may be hedged, as in {@link #getMonoObject(Downstream, String, Class, String)}.
      *
+     * @param downstream   the downstream service the URL belongs to, whose connection pool is used
      * @param url          the URL to send the GET request to
      * @param responseType the class type of the response expected from the URL
      * @param <T>          the type of the response objects
      * @return a Flux that emits the response objects of type T
      */
-    public <T> Flux<T> getFluxList(String url, Class<T> responseType, String apiKey) {
-        LogUtil.info("GET request to URL: {}", url);
-
-        return webClient.get()
-                .uri(url)
-                .header("X-API-KEY", apiKey)
-                .retrieve()
-                .bodyToFlux(responseType)
-                .doOnEach(signal -> {
-                    if (signal.isOnNext()) {
-                        LogUtil.info("Response: {} for URL: {}", signal.get(), url);
-                    }
-                })
-                .doOnError(e -> LogUtil.error("GET request to {} failed", url, e));
+    public <T> Flux<T> getFluxList(Downstream downstream, String url, Class<T> responseType, String apiKey) {
+        if (!downstreamSwitches.isEnabled(downstream)) {
+            return Flux.error(() -> disabled(downstream));
+        }
+
+        return shareInFlightFlux(requestKey(url, responseType, apiKey), () -> {
+            if (LogUtil.isDebugEnabled()) {
+                LogUtil.debug("GET request to URL: {}", url);
+            }
+
+            Flux<T> request = webClients.get(downstream).get()
+                    .uri(url)
+                    .header("X-API-KEY", apiKey)
+                    .retrieve()
+                    .bodyToFlux(responseType)
+                    .doOnEach(signal -> {
+                        // Response bodies are large, so they are only rendered at DEBUG
+                        if (signal.isOnNext() && LogUtil.isDebugEnabled()) {
+                            LogUtil.debug("Response: {} for URL: {}", signal.get(), url);
+                        }
+                    })
+                    .doOnError(e -> LogUtil.error("GET request to {} failed", url, e));
+            return requestHedger.hedgeMany(downstream, () -> concurrencyLimiters.limit(downstream, circuitBreakers.protect(downstream, request)));
+        });
     }
 
     /**
      * Sends a GET request to the specified URL and retrieves a Mono that emits a list of objects of the specified response type.
      *
+     * @param downstream   the downstream service the URL belongs to, whose connection pool is used
      * @param url          the URL to send the GET request to
      * @param responseType the class type of the response expected from the URL
      * @param <T>          the type of the response objects
      * @return a Mono that emits the response objects of type T
      */
-    public <T> Mono<List<T>> getMonoList(String url, Class<T> responseType, String apiKey) {
-        return getFluxList(url, responseType, apiKey)
+    public <T> Mono<List<T>> getMonoList(Downstream downstream, String url, Class<T> responseType, String apiKey) {
+        return getFluxList(downstream, url, responseType, apiKey)
                 .collectList()
                 .onErrorReturn(List.of());
     }
+
+    /**
+     * Returns the in-flight request registered under the given key, or starts a new one with the
+     * given exchange. The entry is released as soon as the exchange terminates, so completed
+     * results are never reused by later calls.
+     *
+     * @param key      the key identifying identical requests
+     * @param exchange the supplier of the actual request
+     * @param <T>      the type of the response object
+     * @return a Mono that emits the shared response
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> shareInFlightMono(String key, Supplier<Mono<T>> exchange) {
+        if (!singleFlightConfig.isEnabled()) {
+            return exchange.get();
+        }
+
+        return Mono.defer(() -> {
+            boolean[] started = {false};
+            Mono<?> shared = inFlightMonos.computeIfAbsent(key, k -> {
+                started[0] = true;
+                return exchange.get()
+                        .doFinally(signal -> inFlightMonos.remove(k))
+                        .cache();
+            });
+
+            if (!started[0]) {
+                sharedRequestCounter.increment();
+            }
+            return (Mono<T>) shared;
+        });
+    }
+
+    /**
+     * Flux variant of {@link #shareInFlightMono(String, Supplier)}. Subscribers joining an in-flight
+     * request receive every element emitted so far followed by the remaining ones.
+     *
+     * @param key      the key identifying identical requests
+     * @param exchange the supplier of the actual request
+     * @param <T>      the type of the response objects
+     * @return a Flux that emits the shared response objects
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Flux<T> shareInFlightFlux(String key, Supplier<Flux<T>> exchange) {
+        if (!singleFlightConfig.isEnabled()) {
+            return exchange.get();
+        }
+
+        return Flux.defer(() -> {
+            boolean[] started = {false};
+            Flux<?> shared = inFlightFluxes.computeIfAbsent(key, k -> {
+                started[0] = true;
+                return exchange.get()
+                        .doFinally(signal -> inFlightFluxes.remove(k))
+                        .cache();
+            });
+
+            if (!started[0]) {
+                sharedRequestCounter.increment();
+            }
+            return (Flux<T>) shared;
+        });
+    }
+
+    private static DownstreamDisabledException disabled(Downstream downstream) {
+        return new DownstreamDisabledException("Calls to " + downstream.serviceName() + " are disabled");
+    }
+
+    private static String requestKey(String url, Class<?> responseType, String apiKey) {
+        return url + '|' + responseType.getName() + '|' + apiKey;
+    }
 }
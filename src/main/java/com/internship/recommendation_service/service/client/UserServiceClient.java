@@ -39,7 +39,7 @@ public class UserServiceClient {
 
         LogUtil.info("Getting user details for user {}", userId);
 
-        return serviceClient.getMonoObject(url, UserDTO.class, userApiKey);
+        return serviceClient.getMonoObject(Downstream.USER_SERVICE, url, UserDTO.class, userApiKey);
     }
 
     /**
@@ -55,7 +55,7 @@ public class UserServiceClient {
 
         LogUtil.info("Getting user preferences for user {}", userId);
         return serviceClient
-                .getMonoObject(url, UserPreferencesDTO.class, userApiKey)
+                .getMonoObject(Downstream.USER_SERVICE, url, UserPreferencesDTO.class, userApiKey)
                 .onErrorResume(e -> {
                     LogUtil.warn("Failed to get user preferences for user {}: {}", userId, e.getMessage());
                     return Mono.just(UserPreferencesDTO.defaultValue(userId, defaults.getMaxDistance(), defaults.getMinExperience()));
@@ -74,7 +74,7 @@ public class UserServiceClient {
                      "?userId=" + userId;
 
         LogUtil.info("Getting favorite users for user {}", userId);
-        return serviceClient.getMonoList(url, Long.class, userApiKey);
+        return serviceClient.getMonoList(Downstream.USER_SERVICE, url, Long.class, userApiKey);
     }
 
     /**
@@ -89,6 +89,6 @@ public class UserServiceClient {
                      "/" + userId;
 
         LogUtil.info("Getting blocked users for user {}", userId);
-        return serviceClient.getMonoList(url, Long.class, userApiKey);
+        return serviceClient.getMonoList(Downstream.USER_SERVICE, url, Long.class, userApiKey);
     }
 }
@@ -0,0 +1,237 @@
+package com.internship.recommendation_service.service.client.batch;
+
+import com.internship.recommendation_service.util.BulkFetchUtil;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects single-ID lookups issued by concurrent callers and dispatches them as one batched call.
+ * <p>
+ * Lookups are held for at most {@code window} after the first lookup of a batch, or until
+ * {@code maxBatchSize} distinct IDs are pending, whichever comes first. Lookups for an ID that is
+ * already pending share the same result. Every caller receives its own value from the batch result;
+ * an ID missing from the result completes empty and a failed batch fails every waiting caller.
+ * <p>
+ * When batching is disabled, lookups are passed to the batch function directly.
+ *
+ * @param <V> the type of the loaded values
+ */
+public class BatchLoader<V> {
+    private static final String METRIC_PREFIX = "recommendation.batch.loader";
+
+    private final String name;
+    private final Function<List<Long>, Mono<Map<Long, V>>> batchFunction;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+
+    private final Counter lookupCounter;
+    private final Counter deduplicatedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final DistributionSummary batchFillSummary;
+
+    private final Object lock = new Object();
+    private Map<Long, Sinks.One<V>> pending = new LinkedHashMap<>();
+    private Disposable scheduledFlush;
+
+    /**
+     * Creates a batch loader and registers its metrics, tagged with the loader name.
+     *
+     * @param name          the name of the loader, used as metric tag
+     * @param batchFunction the function that loads a batch of IDs
+     * @param enabled       whether lookups are batched at all
+     * @param window        the maximum time a lookup waits for other lookups
+     * @param maxBatchSize  the number of distinct pending IDs that triggers an immediate dispatch
+     * @param scheduler     the scheduler used to dispatch batches when the window elapses
+     * @param meterRegistry the registry the metrics are registered with
+     */
+    public BatchLoader(String name,
+                       Function<List<Long>, Mono<Map<Long, V>>> batchFunction,
+                       boolean enabled,
+                       Duration window,
+                       int maxBatchSize,
+                       Scheduler scheduler,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.enabled = enabled;
+        this.window = window != null ? window : Duration.ZERO;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.scheduler = scheduler;
+
+        this.lookupCounter = Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("Number of single-ID lookups requested from the loader")
+                .tag("loader", name)
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder(METRIC_PREFIX + ".deduplicated")
+                .description("Number of lookups served by an already pending lookup of the same ID")
+                .tag("loader", name)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("Number of distinct IDs per dispatched batch")
+                .tag("loader", name)
+                .register(meterRegistry);
+        this.batchFillSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.fill")
+                .description("Dispatched batch size as a fraction of the maximum batch size")
+                .tag("loader", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".window", this.window, Duration::toMillis)
+                .description("Configured batching window")
+                .baseUnit("milliseconds")
+                .tag("loader", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".max.batch.size", this, loader -> loader.maxBatchSize)
+                .description("Configured maximum batch size")
+                .tag("loader", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the value of a single ID.
+     *
+     * @param id the ID to load
+     * @return a Mono emitting the value of the ID, or completing empty if the batch had no value for it
+     */
+    public Mono<V> load(Long id) {
+        if (!enabled) {
+            return batchFunction.apply(List.of(id)).mapNotNull(values -> values.get(id));
+        }
+        return Mono.defer(() -> enqueue(id));
+    }
+
+    /**
+     * Loads the values of the given IDs. All IDs are enqueued at once, so they are dispatched in as
+     * few batches as the maximum batch size allows, together with lookups of concurrent callers.
+     *
+     * @param ids the IDs to load
+     * @return a Mono emitting a map of ID to value for every ID that has a value
+     */
+    public Mono<Map<Long, V>> loadMany(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        if (!enabled) {
+            return BulkFetchUtil.fetchInChunks(ids, maxBatchSize, batchFunction);
+        }
+
+        return Mono.defer(() -> {
+            List<Mono<Map.Entry<Long, V>>> lookups = new ArrayList<>();
+            for (Long id : new LinkedHashSet<>(ids)) {
+                if (id != null) {
+                    lookups.add(enqueue(id).map(value -> Map.entry(id, value)));
+                }
+            }
+            return Flux.merge(lookups).collectMap(Map.Entry::getKey, Map.Entry::getValue);
+        });
+    }
+
+    /**
+     * Registers a lookup for the given ID and dispatches the pending batch if it is full.
+     *
+     * @param id the ID to look up
+     * @return a Mono emitting the value of the ID once its batch completes
+     */
+    private Mono<V> enqueue(Long id) {
+        lookupCounter.increment();
+
+        Sinks.One<V> sink;
+        Map<Long, Sinks.One<V>> fullBatch = null;
+        synchronized (lock) {
+            sink = pending.get(id);
+            if (sink != null) {
+                deduplicatedCounter.increment();
+                return sink.asMono();
+            }
+
+            sink = Sinks.one();
+            pending.put(id, sink);
+            if (pending.size() >= maxBatchSize) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.dispose();
+                }
+                fullBatch = takePending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return sink.asMono();
+    }
+
+    /**
+     * Dispatches the pending batch once its window has elapsed.
+     */
+    private void flush() {
+        Map<Long, Sinks.One<V>> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Detaches the pending batch so that subsequent lookups start a new one. Must be called while holding the lock.
+     *
+     * @return the detached batch
+     */
+    private Map<Long, Sinks.One<V>> takePending() {
+        Map<Long, Sinks.One<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        scheduledFlush = null;
+        return batch;
+    }
+
+    /**
+     * Loads the given batch and fans the result out to every waiting lookup.
+     *
+     * @param batch the batch of IDs and the sinks of their waiting lookups
+     */
+    private void dispatch(Map<Long, Sinks.One<V>> batch) {
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        batchSizeSummary.record(ids.size());
+        batchFillSummary.record((double) ids.size() / maxBatchSize);
+        LogUtil.debug("Dispatching batch of {} IDs for loader {}", ids.size(), name);
+
+        Mono.defer(() -> batchFunction.apply(ids))
+                .subscribe(
+                        values -> batch.forEach((id, sink) -> {
+                            V value = values.get(id);
+                            if (Objects.nonNull(value)) {
+                                sink.tryEmitValue(value);
+                            } else {
+                                sink.tryEmitEmpty();
+                            }
+                        }),
+                        error -> {
+                            LogUtil.error("Batch of {} IDs for loader {} failed", ids.size(), name, error);
+                            batch.values().forEach(sink -> sink.tryEmitError(error));
+                        },
+                        () -> batch.values().forEach(Sinks.One::tryEmitEmpty));
+    }
+}
@@ -0,0 +1,40 @@
+package com.internship.recommendation_service.service.client.batch;
+
+import com.internship.recommendation_service.config.property.service.BatchingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class BatchLoaderFactory {
+    private final BatchingConfig batchingConfig;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a {@link BatchLoader} that uses the configured batching window.
+     *
+     * @param name          the name of the loader, used as metric tag
+     * @param maxBatchSize  the maximum number of IDs per batch
+     * @param batchFunction the function that loads a batch of IDs
+     * @param <V>           the type of the loaded values
+     * @return a new batch loader
+     */
+    public <V> BatchLoader<V> create(String name,
+                                     int maxBatchSize,
+                                     Function<List<Long>, Mono<Map<Long, V>>> batchFunction) {
+        return new BatchLoader<>(name,
+                batchFunction,
+                batchingConfig.isEnabled(),
+                batchingConfig.getWindow(),
+                maxBatchSize,
+                Schedulers.parallel(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,181 @@
+package com.internship.recommendation_service.service.client.cache;
+
+import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import com.internship.recommendation_service.util.ExpiringLruCache;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Two-tier cache of geocoded search queries.
+ * <p>
+ * Lookups are served from a bounded in-memory tier first and from Redis second; Redis hits are
+ * copied into the in-memory tier. Coordinates are kept for a long time, while failed lookups and
+ * {@link GeoCoordinatesDTO#DEFAULT_VALUE} results are kept for the shorter negative TTL so that
+ * a fixed address or a recovered geolocation service is picked up quickly.
+ * <p>
+ * Redis is optional: reads that fail or exceed the configured timeout are treated as misses and
+ * failed writes are only logged.
+ */
+@Component
+public class GeocodingCache {
+    private static final String KEY_PREFIX = "recommendation:geocoding:";
+    private static final String FAILED_LOOKUP = "-";
+    private static final String METRIC_NAME = "recommendation.geocoding.cache";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final GeolocationServiceConfig geolocationConfig;
+    private final ExpiringLruCache<String, Optional<GeoCoordinatesDTO>> localCache;
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public GeocodingCache(ReactiveStringRedisTemplate redisTemplate,
+                          GeolocationServiceConfig geolocationConfig,
+                          MeterRegistry meterRegistry) {
+        this(redisTemplate, geolocationConfig, meterRegistry, Clock.systemUTC());
+    }
+
+    GeocodingCache(ReactiveStringRedisTemplate redisTemplate,
+                   GeolocationServiceConfig geolocationConfig,
+                   MeterRegistry meterRegistry,
+                   Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.geolocationConfig = geolocationConfig;
+        this.localCache = new ExpiringLruCache<>(geolocationConfig.getCacheLocalMaxSize(), clock);
+        this.localHitCounter = lookupCounter("local", meterRegistry);
+        this.redisHitCounter = lookupCounter("redis", meterRegistry);
+        this.missCounter = lookupCounter("miss", meterRegistry);
+    }
+
+    private static Counter lookupCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_NAME)
+                .description("Number of geocoding lookups by the cache tier that served them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result of the given search query.
+     *
+     * @param query the search query
+     * @return a Mono emitting the cached coordinates, or an empty Optional for a cached failed
+     * lookup; completes empty if the query is not cached
+     */
+    public Mono<Optional<GeoCoordinatesDTO>> get(String query) {
+        String key = cacheKey(query);
+
+        return Mono.defer(() -> {
+            Optional<GeoCoordinatesDTO> localValue = localCache.get(key);
+            if (localValue != null) {
+                localHitCounter.increment();
+                return Mono.just(localValue);
+            }
+
+            return redisTemplate.opsForValue()
+                    .get(key)
+                    .timeout(geolocationConfig.getCacheRedisTimeout())
+                    .onErrorResume(error -> {
+                        LogUtil.warn("Failed to read geocoding cache entry '{}': {}", key, error.getMessage());
+                        return Mono.empty();
+                    })
+                    .flatMap(redisValue -> {
+                        Optional<GeoCoordinatesDTO> coordinates;
+                        try {
+                            coordinates = decode(redisValue);
+                        } catch (IllegalArgumentException e) {
+                            LogUtil.warn("Ignoring malformed geocoding cache entry '{}': {}", key, redisValue);
+                            return Mono.empty();
+                        }
+
+                        redisHitCounter.increment();
+                        localCache.put(key, coordinates, localTtl(coordinates));
+                        return Mono.just(coordinates);
+                    })
+                    .switchIfEmpty(Mono.fromRunnable(missCounter::increment));
+        });
+    }
+
+    /**
+     * Caches the coordinates found for the given search query.
+     * {@link GeoCoordinatesDTO#DEFAULT_VALUE} is cached with the negative TTL.
+     *
+     * @param query       the search query
+     * @param coordinates the coordinates found for the query
+     */
+    public void put(String query, GeoCoordinatesDTO coordinates) {
+        store(cacheKey(query), Optional.of(coordinates));
+    }
+
+    /**
+     * Caches a failed lookup of the given search query with the negative TTL.
+     *
+     * @param query the search query
+     */
+    public void putFailure(String query) {
+        store(cacheKey(query), Optional.empty());
+    }
+
+    private void store(String key, Optional<GeoCoordinatesDTO> coordinates) {
+        localCache.put(key, coordinates, localTtl(coordinates));
+
+        Duration redisTtl = isNegative(coordinates)
+                ? geolocationConfig.getCacheNegativeTtl()
+                : geolocationConfig.getCacheTtl();
+        redisTemplate.opsForValue()
+                .set(key, encode(coordinates), redisTtl)
+                .subscribe(null, error -> LogUtil.warn("Failed to write geocoding cache entry '{}': {}", key, error.getMessage()));
+    }
+
+    private Duration localTtl(Optional<GeoCoordinatesDTO> coordinates) {
+        return isNegative(coordinates)
+                ? geolocationConfig.getCacheNegativeTtl()
+                : geolocationConfig.getCacheLocalTtl();
+    }
+
+    private static boolean isNegative(Optional<GeoCoordinatesDTO> coordinates) {
+        return coordinates.map(GeoCoordinatesDTO.DEFAULT_VALUE::equals).orElse(true);
+    }
+
+    /**
+     * Normalizes the search query into a cache key, so queries differing only in case or
+     * surrounding whitespace share one entry.
+     */
+    private static String cacheKey(String query) {
+        return KEY_PREFIX + query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String encode(Optional<GeoCoordinatesDTO> coordinates) {
+        return coordinates
+                .map(value -> value.latitude() + "," + value.longitude())
+                .orElse(FAILED_LOOKUP);
+    }
+
+    /**
+     * Decodes a value written by {@link #encode(Optional)}.
+     *
+     * @throws IllegalArgumentException if the value is malformed
+     */
+    private static Optional<GeoCoordinatesDTO> decode(String value) {
+        if (FAILED_LOOKUP.equals(value)) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected latitude and longitude: " + value);
+        }
+        return Optional.of(new GeoCoordinatesDTO(Double.parseDouble(parts[0]), Double.parseDouble(parts[1])));
+    }
+}
@@ -0,0 +1,253 @@
+package com.internship.recommendation_service.service.client.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.internship.recommendation_service.util.ExpiringLruCache;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache of values loaded by ID from one downstream endpoint.
+ * <p>
+ * Lookups are served from a bounded in-memory tier first and from Redis second, where all missing
+ * IDs are read with a single {@code MGET}. Only the IDs found in neither tier are passed to the
+ * loader, so bulk loaders request just the IDs that are not cached. Loaded values are written to
+ * both tiers with the TTL of the endpoint. Values read from Redis are kept in memory for at most
+ * the local TTL, since their remaining time in Redis is unknown. Loaders leave out the IDs whose
+ * load failed, so fallback values are never cached.
+ * <p>
+ * Redis is optional: reads that fail or exceed the configured timeout are treated as misses and
+ * failed writes are only logged. Values are stored in Redis as JSON.
+ *
+ * @param <V> the type of the cached values
+ */
+public class ReactiveCache<V> {
+    private static final String KEY_PREFIX = "recommendation:client:";
+    private static final String METRIC_PREFIX = "recommendation.client.cache";
+
+    private final String endpoint;
+    private final Class<V> valueType;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration promotedTtl;
+    private final Duration redisTimeout;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ExpiringLruCache<Long, V> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+    private final Timer loadTimer;
+
+    /**
+     * Creates a cache and registers its metrics, tagged with the endpoint name.
+     *
+     * @param endpoint      the name of the endpoint, used in Redis keys and as metric tag
+     * @param valueType     the class of the cached values
+     * @param enabled       whether values are cached at all
+     * @param ttl           the time after which cached values expire
+     * @param localTtl      the maximum time a value read from Redis is kept in memory
+     * @param localMaxSize  the maximum number of values kept in memory
+     * @param redisTimeout  the maximum time to wait for Redis
+     * @param redisTemplate the template used to access Redis
+     * @param objectMapper  the mapper used to serialize values for Redis
+     * @param clock         the clock used to expire in-memory values
+     * @param meterRegistry the registry the metrics are registered with
+     */
+    public ReactiveCache(String endpoint,
+                         Class<V> valueType,
+                         boolean enabled,
+                         Duration ttl,
+                         Duration localTtl,
+                         int localMaxSize,
+                         Duration redisTimeout,
+                         ReactiveStringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         Clock clock,
+                         MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.valueType = valueType;
+        this.enabled = enabled && ttl != null && ttl.isPositive();
+        this.ttl = ttl;
+        this.promotedTtl = localTtl != null && localTtl.isPositive() && ttl != null && localTtl.compareTo(ttl) < 0
+                ? localTtl
+                : ttl;
+        this.redisTimeout = redisTimeout;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localCache = new ExpiringLruCache<>(localMaxSize, clock);
+
+        this.localHitCounter = lookupCounter("local");
+        this.redisHitCounter = lookupCounter("redis");
+        this.missCounter = lookupCounter("miss");
+        this.loadTimer = Timer.builder(METRIC_PREFIX + ".load")
+                .description("Time taken to load the values missing from the cache")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("Number of cached lookups by the cache tier that served them")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the value of a single ID, loading it if it is not cached.
+     *
+     * @param id     the ID to look up
+     * @param loader the function that loads the value of the ID
+     * @return a Mono emitting the value, or completing empty if the loader has no value for the ID
+     */
+    public Mono<V> get(Long id, Function<Long, Mono<V>> loader) {
+        return getAll(List.of(id), ids -> loader.apply(id).map(value -> Map.of(id, value)))
+                .mapNotNull(values -> values.get(id));
+    }
+
+    /**
+     * Returns the values of the given IDs, loading the ones that are not cached with a single call
+     * of the given loader.
+     *
+     * @param ids    the IDs to look up
+     * @param loader the function that loads the values of IDs not cached
+     * @return a Mono emitting a map of ID to value for every ID that has a value
+     */
+    public Mono<Map<Long, V>> getAll(Collection<Long> ids, Function<Collection<Long>, Mono<Map<Long, V>>> loader) {
+        if (!enabled) {
+            return loader.apply(ids);
+        }
+
+        return Mono.defer(() -> {
+            Map<Long, V> values = new HashMap<>();
+            List<Long> notInMemory = new ArrayList<>();
+            for (Long id : new LinkedHashSet<>(ids)) {
+                if (id == null) {
+                    continue;
+                }
+
+                V value = localCache.get(id);
+                if (value != null) {
+                    values.put(id, value);
+                } else {
+                    notInMemory.add(id);
+                }
+            }
+
+            localHitCounter.increment(values.size());
+            if (notInMemory.isEmpty()) {
+                return Mono.just(values);
+            }
+
+            return readFromRedis(notInMemory).flatMap(redisValues -> {
+                redisHitCounter.increment(redisValues.size());
+                redisValues.forEach((id, value) -> localCache.put(id, value, promotedTtl));
+                values.putAll(redisValues);
+
+                List<Long> missing = notInMemory.stream()
+                        .filter(id -> !redisValues.containsKey(id))
+                        .toList();
+                missCounter.increment(missing.size());
+                if (missing.isEmpty()) {
+                    return Mono.just(values);
+                }
+
+                Timer.Sample loadSample = Timer.start(meterRegistry);
+                return loader.apply(missing)
+                        .doOnNext(this::store)
+                        .doFinally(signal -> loadSample.stop(loadTimer))
+                        .map(loaded -> {
+                            values.putAll(loaded);
+                            return values;
+                        })
+                        .defaultIfEmpty(values);
+            });
+        });
+    }
+
+    /**
+     * Reads the given IDs from Redis.
+     *
+     * @return a Mono emitting the values found, which is empty if Redis is unavailable
+     */
+    private Mono<Map<Long, V>> readFromRedis(List<Long> ids) {
+        List<String> keys = ids.stream().map(this::cacheKey).toList();
+
+        return redisTemplate.opsForValue()
+                .multiGet(keys)
+                .timeout(redisTimeout)
+                .map(jsonValues -> {
+                    Map<Long, V> values = new HashMap<>();
+                    for (int i = 0; i < ids.size() && i < jsonValues.size(); i++) {
+                        V value = deserialize(keys.get(i), jsonValues.get(i));
+                        if (value != null) {
+                            values.put(ids.get(i), value);
+                        }
+                    }
+                    return values;
+                })
+                .onErrorResume(error -> {
+                    LogUtil.warn("Failed to read {} cache entries of {}: {}", keys.size(), endpoint, error.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .defaultIfEmpty(Map.of());
+    }
+
+    private void store(Map<Long, V> loaded) {
+        loaded.forEach((id, value) -> localCache.put(id, value, ttl));
+
+        // Lettuce pipelines the writes over the shared connection
+        Flux.fromIterable(loaded.entrySet())
+                .flatMap(entry -> {
+                    String key = cacheKey(entry.getKey());
+                    String json = serialize(key, entry.getValue());
+                    return json != null ? redisTemplate.opsForValue().set(key, json, ttl) : Mono.empty();
+                })
+                .subscribe(null, error -> LogUtil.warn("Failed to write cache entries of {}: {}", endpoint, error.getMessage()));
+    }
+
+    private String cacheKey(Long id) {
+        return KEY_PREFIX + endpoint + ":" + id;
+    }
+
+    private String serialize(String key, V value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            LogUtil.warn("Failed to serialize cache entry '{}': {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private V deserialize(String key, String json) {
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, valueType);
+        } catch (JsonProcessingException e) {
+            LogUtil.warn("Ignoring malformed cache entry '{}': {}", key, e.getMessage());
+            return null;
+        }
+    }
+}
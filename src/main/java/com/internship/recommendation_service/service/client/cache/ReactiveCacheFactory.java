@@ -0,0 +1,44 @@
+package com.internship.recommendation_service.service.client.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.internship.recommendation_service.config.property.service.ClientCacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class ReactiveCacheFactory {
+    private final ClientCacheConfig clientCacheConfig;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a {@link ReactiveCache} for the given endpoint that uses the configured local tier
+     * size and TTL, and Redis timeout.
+     *
+     * @param endpoint  the name of the endpoint, used in Redis keys and as metric tag
+     * @param valueType the class of the cached values
+     * @param ttl       the time after which cached values expire; caching is disabled if not positive
+     * @param <V>       the type of the cached values
+     * @return a new cache
+     */
+    public <V> ReactiveCache<V> create(String endpoint, Class<V> valueType, Duration ttl) {
+        return new ReactiveCache<>(endpoint,
+                valueType,
+                clientCacheConfig.isEnabled(),
+                ttl,
+                clientCacheConfig.getLocalTtl(),
+                clientCacheConfig.getLocalMaxSize(),
+                clientCacheConfig.getRedisTimeout(),
+                redisTemplate,
+                objectMapper,
+                Clock.systemUTC(),
+                meterRegistry);
+    }
+}
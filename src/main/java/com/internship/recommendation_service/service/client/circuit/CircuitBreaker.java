@@ -0,0 +1,239 @@
+package com.internship.recommendation_service.service.client.circuit;
+
+import com.internship.recommendation_service.config.property.service.CircuitBreakerConfig;
+import com.internship.recommendation_service.exception.CircuitOpenException;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker guarding the calls to one downstream service.
+ * <p>
+ * While closed, the outcome of the most recent calls is kept in a sliding window. Once the window
+ * holds at least the minimum number of calls and the rate of failed or slow calls reaches its
+ * threshold, the circuit opens: calls fail immediately with a {@link CircuitOpenException}
+ * without being subscribed, so callers fall back to their defaults at once. After the open
+ * duration, a limited number of trial calls is let through. The circuit closes when all of them
+ * succeed in time and opens again as soon as one of them fails or is slow.
+ * <p>
+ * Client errors (4xx responses) are answers of a healthy service and count as successful calls.
+ * <p>
+ * Instances are thread-safe.
+ */
+public class CircuitBreaker {
+    private static final String METRIC_PREFIX = "recommendation.client.circuit.breaker";
+    private static final long REJECTED = -1;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final Clock clock;
+    private final Counter rejectedCounter;
+
+    // Outcomes of the most recent calls while closed, as a ring buffer
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int recordedCalls;
+    private int nextSlot;
+    private int failedCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private Instant openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * Creates a closed circuit breaker and registers its metrics, tagged with the name of the
+     * downstream service.
+     *
+     * @param name          the name of the downstream service
+     * @param config        the thresholds and durations of the circuit breaker
+     * @param clock         the clock used to measure calls and the open duration
+     * @param meterRegistry the registry the metrics are registered with
+     */
+    public CircuitBreaker(String name, CircuitBreakerConfig config, Clock clock, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.config = config;
+        this.clock = clock;
+
+        int windowSize = Math.max(config.getSlidingWindowSize(), 1);
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Number of calls failed fast because the circuit of the downstream service was open")
+                .tag("downstream", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".state", this, breaker -> breaker.getState().ordinal())
+                .description("State of the circuit of the downstream service: 0 closed, 1 open, 2 half-open")
+                .tag("downstream", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Guards the given call. The call is only subscribed if the circuit permits it.
+     *
+     * @param call the call to the downstream service
+     * @param <T>  the type of the response
+     * @return a Mono emitting the response of the call, or failing with a
+     * {@link CircuitOpenException} if the circuit does not permit the call
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            long permit = tryAcquirePermission();
+            if (permit == REJECTED) {
+                rejectedCounter.increment();
+                return Mono.error(new CircuitOpenException("Circuit of " + name + " is open"));
+            }
+
+            Instant startedAt = clock.instant();
+            return call
+                    .doOnSuccess(value -> onResult(permit, false, startedAt))
+                    .doOnError(error -> onResult(permit, isFailure(error), startedAt))
+                    .doOnCancel(() -> onCancel(permit));
+        });
+    }
+
+    /**
+     * Flux variant of {@link #protect(Mono)}. The call is measured until the Flux terminates.
+     *
+     * @param call the call to the downstream service
+     * @param <T>  the type of the response elements
+     * @return a Flux emitting the response elements of the call, or failing with a
+     * {@link CircuitOpenException} if the circuit does not permit the call
+     */
+    public <T> Flux<T> protect(Flux<T> call) {
+        return Flux.defer(() -> {
+            long permit = tryAcquirePermission();
+            if (permit == REJECTED) {
+                rejectedCounter.increment();
+                return Flux.error(new CircuitOpenException("Circuit of " + name + " is open"));
+            }
+
+            Instant startedAt = clock.instant();
+            return call
+                    .doOnComplete(() -> onResult(permit, false, startedAt))
+                    .doOnError(error -> onResult(permit, isFailure(error), startedAt))
+                    .doOnCancel(() -> onCancel(permit));
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether a call may be sent, moving an open circuit to half-open once the open
+     * duration has elapsed.
+     *
+     * @return the generation of the state the call was permitted in, or {@link #REJECTED}
+     */
+    private synchronized long tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(config.getOpenDuration()))) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return REJECTED;
+            }
+            halfOpenPermits--;
+        }
+        return generation;
+    }
+
+    /**
+     * Records the outcome of a call. Outcomes of calls permitted before the last state transition
+     * are ignored, so calls that were in flight when the circuit opened cannot close it.
+     */
+    private synchronized void onResult(long permit, boolean failed, Instant startedAt) {
+        if (permit != generation) {
+            return;
+        }
+
+        boolean slow = Duration.between(startedAt, clock.instant()).compareTo(config.getSlowCallDuration()) >= 0;
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        record(failed, slow);
+        if (recordedCalls >= config.getMinimumCalls() &&
+            (rate(failedCount) >= config.getFailureRateThreshold() || rate(slowCount) >= config.getSlowCallRateThreshold())) {
+            LogUtil.warn("Opening circuit of {}: {}% of the last {} calls failed and {}% were slow",
+                    name, rate(failedCount), recordedCalls, rate(slowCount));
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Returns the permit of a cancelled trial call, since its outcome will never be recorded.
+     */
+    private synchronized void onCancel(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (recordedCalls == failedCalls.length) {
+            failedCount -= failedCalls[nextSlot] ? 1 : 0;
+            slowCount -= slowCalls[nextSlot] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+
+        failedCalls[nextSlot] = failed;
+        slowCalls[nextSlot] = slow;
+        failedCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        nextSlot = (nextSlot + 1) % failedCalls.length;
+    }
+
+    private double rate(int count) {
+        return recordedCalls == 0 ? 0 : count * 100.0 / recordedCalls;
+    }
+
+    private void transitionTo(State next) {
+        LogUtil.info("Circuit of {} changed from {} to {}", name, state, next);
+        state = next;
+        generation++;
+
+        recordedCalls = 0;
+        nextSlot = 0;
+        failedCount = 0;
+        slowCount = 0;
+        openedAt = next == State.OPEN ? clock.instant() : null;
+        halfOpenPermits = next == State.HALF_OPEN ? Math.max(config.getHalfOpenCalls(), 1) : 0;
+        halfOpenSuccesses = 0;
+    }
+
+    /**
+     * Returns whether the given error counts against the downstream service. Client errors are
+     * answers of a healthy service.
+     */
+    private static boolean isFailure(Throwable error) {
+        return !(error instanceof WebClientResponseException responseException &&
+                 responseException.getStatusCode().is4xxClientError());
+    }
+}
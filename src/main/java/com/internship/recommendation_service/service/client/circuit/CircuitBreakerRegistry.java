@@ -0,0 +1,65 @@
+package com.internship.recommendation_service.service.client.circuit;
+
+import com.internship.recommendation_service.config.property.service.CircuitBreakerConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds one {@link CircuitBreaker} per downstream service, so a failing service only short-circuits
+ * its own calls. When circuit breaking is disabled, calls pass through unguarded.
+ */
+@Component
+public class CircuitBreakerRegistry {
+    private final CircuitBreakerConfig circuitBreakerConfig;
+    private final Map<Downstream, CircuitBreaker> circuitBreakers = new EnumMap<>(Downstream.class);
+
+    @Autowired
+    public CircuitBreakerRegistry(CircuitBreakerConfig circuitBreakerConfig, MeterRegistry meterRegistry) {
+        this(circuitBreakerConfig, meterRegistry, Clock.systemUTC());
+    }
+
+    CircuitBreakerRegistry(CircuitBreakerConfig circuitBreakerConfig, MeterRegistry meterRegistry, Clock clock) {
+        this.circuitBreakerConfig = circuitBreakerConfig;
+        for (Downstream downstream : Downstream.values()) {
+            circuitBreakers.put(downstream,
+                    new CircuitBreaker(downstream.serviceName(), circuitBreakerConfig, clock, meterRegistry));
+        }
+    }
+
+    /**
+     * Guards the given call with the circuit breaker of the given downstream service.
+     *
+     * @param downstream the downstream service called
+     * @param call       the call to the service
+     * @param <T>        the type of the response
+     * @return the guarded call
+     * @see CircuitBreaker#protect(Mono)
+     */
+    public <T> Mono<T> protect(Downstream downstream, Mono<T> call) {
+        return circuitBreakerConfig.isEnabled() ? circuitBreakers.get(downstream).protect(call) : call;
+    }
+
+    /**
+     * Flux variant of {@link #protect(Downstream, Mono)}.
+     *
+     * @param downstream the downstream service called
+     * @param call       the call to the service
+     * @param <T>        the type of the response elements
+     * @return the guarded call
+     */
+    public <T> Flux<T> protect(Downstream downstream, Flux<T> call) {
+        return circuitBreakerConfig.isEnabled() ? circuitBreakers.get(downstream).protect(call) : call;
+    }
+
+    public CircuitBreaker.State getState(Downstream downstream) {
+        return circuitBreakers.get(downstream).getState();
+    }
+}
@@ -0,0 +1,133 @@
+package com.internship.recommendation_service.service.client.gazetteer;
+
+import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import com.internship.recommendation_service.dto.external.UserDTO;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves user addresses to coordinates with a local {@link PostalCodeIndex}, without any network
+ * call.
+ * <p>
+ * At startup, the GeoNames dump configured as gazetteer source is compiled into the configured index
+ * file unless that file is already up to date, and the index is memory-mapped. Addresses are looked
+ * up by postal code first and by city second; the country may be given as ISO 3166-1 alpha-2 or
+ * alpha-3 code or as English name.
+ * <p>
+ * If the gazetteer is disabled or cannot be loaded, every lookup misses.
+ */
+@Component
+public class OfflineGeocoder {
+    private static final String METRIC_NAME = "recommendation.geocoding.gazetteer";
+
+    private final GeolocationServiceConfig geolocationConfig;
+    private final Map<String, String> countryCodes = countryCodesByName();
+    private final Counter postalCodeHitCounter;
+    private final Counter placeHitCounter;
+    private final Counter missCounter;
+
+    private volatile PostalCodeIndex index;
+
+    public OfflineGeocoder(GeolocationServiceConfig geolocationConfig, MeterRegistry meterRegistry) {
+        this.geolocationConfig = geolocationConfig;
+        this.postalCodeHitCounter = lookupCounter("postal_code", meterRegistry);
+        this.placeHitCounter = lookupCounter("place", meterRegistry);
+        this.missCounter = lookupCounter("miss", meterRegistry);
+    }
+
+    private static Counter lookupCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_NAME)
+                .description("Number of offline geocoding lookups by the gazetteer entry that resolved them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Compiles the gazetteer if needed and maps it into memory.
+     */
+    @PostConstruct
+    void load() {
+        if (!geolocationConfig.isGazetteerEnabled()) {
+            return;
+        }
+
+        Path source = Path.of(geolocationConfig.getGazetteerSource());
+        Path indexFile = Path.of(geolocationConfig.getGazetteerIndex());
+        try {
+            if (isStale(source, indexFile) || !PostalCodeIndex.isCurrentVersion(indexFile)) {
+                LogUtil.info("Compiling gazetteer {} into {}", source, indexFile);
+                int records = PostalCodeIndex.compile(source, indexFile);
+                LogUtil.info("Compiled {} gazetteer records", records);
+            }
+
+            index = PostalCodeIndex.open(indexFile);
+            LogUtil.info("Loaded gazetteer {} with {} records", indexFile, index.size());
+        } catch (IOException e) {
+            LogUtil.error("Failed to load gazetteer {}, geocoding falls back to the geolocation service: {}",
+                    indexFile, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the coordinates of the given user's address.
+     *
+     * @param userDTO the user whose address to resolve
+     * @return the coordinates of the user's postal code or city, or an empty Optional if neither is
+     * in the gazetteer
+     */
+    public Optional<GeoCoordinatesDTO> find(UserDTO userDTO) {
+        PostalCodeIndex current = index;
+        String countryCode = userDTO.country() != null
+                ? countryCodes.get(userDTO.country().trim().toUpperCase(Locale.ROOT))
+                : null;
+        if (current == null || countryCode == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        Optional<GeoCoordinatesDTO> coordinates = current.findByPostalCode(countryCode, userDTO.zipCode());
+        if (coordinates.isPresent()) {
+            postalCodeHitCounter.increment();
+            return coordinates;
+        }
+
+        coordinates = current.findByPlace(countryCode, userDTO.city());
+        (coordinates.isPresent() ? placeHitCounter : missCounter).increment();
+        return coordinates;
+    }
+
+    private static boolean isStale(Path source, Path indexFile) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return true;
+        }
+        return Files.exists(source) &&
+               Files.getLastModifiedTime(source).compareTo(Files.getLastModifiedTime(indexFile)) > 0;
+    }
+
+    /**
+     * Maps the upper-cased alpha-2 code, alpha-3 code and English name of every ISO country to its
+     * alpha-2 code.
+     */
+    private static Map<String, String> countryCodesByName() {
+        Map<String, String> codes = new HashMap<>();
+        for (String code : Locale.getISOCountries()) {
+            Locale country = new Locale("", code);
+            codes.put(code, code);
+            codes.put(country.getISO3Country(), code);
+            codes.put(country.getDisplayCountry(Locale.ENGLISH).toUpperCase(Locale.ROOT), code);
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,384 @@
+package com.internship.recommendation_service.service.client.gazetteer;
+
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import com.internship.recommendation_service.util.GeoLocationCalculator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only index of postal codes and place names to coordinates, memory-mapped from a file.
+ * <p>
+ * The index file is compiled from a GeoNames postal code dump with {@link #compile(Path, Path)}.
+ * It holds fixed-size records sorted by key, where a key combines the record type, the ISO country
+ * code and the normalized postal code or place name. Lookups binary-search the mapped file and
+ * compare keys byte by byte in place, so they neither read the file into the heap nor allocate
+ * per probe. Entries sharing a key, such as the localities of one postal code, are merged into the
+ * average of their coordinates. Place names whose entries lie too far apart to share a point, such
+ * as distinct towns with one name, are stored as ambiguous and not found.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class PostalCodeIndex {
+    private static final int MAGIC = 0x475A4958; // "GZIX"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+    private static final int KEY_SIZE = 48;
+    private static final int RECORD_SIZE = KEY_SIZE + 2 * Float.BYTES;
+
+    private static final byte POSTAL_CODE = 'P';
+    private static final byte PLACE = 'C';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // Diagonal of the bounding box above which the entries of a place name are not one place
+    private static final double MAX_PLACE_SPREAD_KM = 50.0;
+
+    // GeoNames postal code dump columns
+    private static final int COUNTRY_COLUMN = 0;
+    private static final int POSTAL_CODE_COLUMN = 1;
+    private static final int PLACE_COLUMN = 2;
+    private static final int LATITUDE_COLUMN = 9;
+    private static final int LONGITUDE_COLUMN = 10;
+
+    private final MappedByteBuffer records;
+    private final int size;
+
+    private PostalCodeIndex(MappedByteBuffer records, int size) {
+        this.records = records;
+        this.size = size;
+    }
+
+    /**
+     * Maps the given index file into memory.
+     *
+     * @param indexFile the file written by {@link #compile(Path, Path)}
+     * @return the index
+     * @throws IOException if the file cannot be read or is not a valid index
+     */
+    public static PostalCodeIndex open(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Invalid postal code index size " + fileSize + ": " + indexFile);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            int size = buffer.getInt(8);
+            if (buffer.getInt(0) != MAGIC ||
+                buffer.getInt(4) != VERSION ||
+                buffer.getInt(12) != KEY_SIZE ||
+                size < 0 ||
+                HEADER_SIZE + (long) size * RECORD_SIZE != fileSize) {
+                throw new IOException("Not a valid postal code index: " + indexFile);
+            }
+            return new PostalCodeIndex(buffer, size);
+        }
+    }
+
+    /**
+     * Returns whether the given file is an index in the format this class writes, so that indexes
+     * compiled by an older version can be compiled again.
+     *
+     * @param indexFile the index file to check
+     * @return true if the file exists and has the current format
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isCurrentVersion(Path indexFile) throws IOException {
+        if (!Files.exists(indexFile) || Files.size(indexFile) < HEADER_SIZE) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            return header.getInt(0) == MAGIC && header.getInt(4) == VERSION;
+        }
+    }
+
+    /**
+     * Compiles a GeoNames postal code dump, a tab-separated file with the country code, postal
+     * code and place name in the first three columns and the latitude and longitude in the
+     * tenth and eleventh, into an index file. Malformed lines are skipped. The index is written
+     * to a temporary file first and moved into place, so readers never see a partial index.
+     *
+     * @param geoNamesFile the GeoNames dump to compile
+     * @param indexFile    the index file to write
+     * @return the number of records written
+     * @throws IOException if the dump cannot be read or the index cannot be written
+     */
+    public static int compile(Path geoNamesFile, Path indexFile) throws IOException {
+        Map<String, Extent> extents = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(geoNamesFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t", -1);
+                if (columns.length <= LONGITUDE_COLUMN) {
+                    continue;
+                }
+
+                double latitude;
+                double longitude;
+                try {
+                    latitude = Double.parseDouble(columns[LATITUDE_COLUMN]);
+                    longitude = Double.parseDouble(columns[LONGITUDE_COLUMN]);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+
+                String country = columns[COUNTRY_COLUMN];
+                addToExtent(extents, POSTAL_CODE, country, columns[POSTAL_CODE_COLUMN], latitude, longitude);
+                addToExtent(extents, PLACE, country, columns[PLACE_COLUMN], latitude, longitude);
+            }
+        }
+
+        List<Record> sorted = mergeTruncatedKeys(extents);
+
+        Path parent = indexFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporaryFile = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(sorted.size())
+                    .putInt(KEY_SIZE)
+                    .flip();
+            writeFully(channel, header);
+
+            ByteBuffer block = ByteBuffer.allocate(RECORD_SIZE * 1024);
+            for (Record record : sorted) {
+                if (block.remaining() < RECORD_SIZE) {
+                    writeFully(channel, block.flip());
+                    block.clear();
+                }
+                block.put(record.key()).putFloat(record.latitude()).putFloat(record.longitude());
+            }
+            writeFully(channel, block.flip());
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+
+        Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return sorted.size();
+    }
+
+    /**
+     * Returns the coordinates of the given postal code.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 code of the country
+     * @param postalCode  the postal code, in any case and with any spacing
+     * @return the coordinates of the postal code, or an empty Optional if it is not indexed
+     */
+    public Optional<GeoCoordinatesDTO> findByPostalCode(String countryCode, String postalCode) {
+        return find(key(POSTAL_CODE, countryCode, postalCode));
+    }
+
+    /**
+     * Returns the coordinates of the given place. Entries sharing a name within a country, such as
+     * the postal codes of a city, resolve to the average of their coordinates, unless they lie
+     * more than 50 km apart and the name is ambiguous.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 code of the country
+     * @param placeName   the name of the place, in any case and with or without diacritics
+     * @return the coordinates of the place, or an empty Optional if it is not indexed or ambiguous
+     */
+    public Optional<GeoCoordinatesDTO> findByPlace(String countryCode, String placeName) {
+        return find(key(PLACE, countryCode, placeName));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Optional<GeoCoordinatesDTO> find(byte[] key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = HEADER_SIZE + middle * RECORD_SIZE;
+            int comparison = compareKeyAt(offset, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                float latitude = records.getFloat(offset + KEY_SIZE);
+                if (Float.isNaN(latitude)) {
+                    // Ambiguous place names are stored without coordinates
+                    return Optional.empty();
+                }
+                return Optional.of(new GeoCoordinatesDTO(
+                        (double) latitude,
+                        (double) records.getFloat(offset + KEY_SIZE + Float.BYTES)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Compares the key of the record at the given offset with the given key as unsigned bytes,
+     * which is the order the records were sorted in.
+     */
+    private int compareKeyAt(int offset, byte[] key) {
+        for (int i = 0; i < KEY_SIZE; i++) {
+            int difference = (records.get(offset + i) & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private static void addToExtent(Map<String, Extent> extents,
+                                    byte type,
+                                    String country,
+                                    String value,
+                                    double latitude,
+                                    double longitude) {
+        String normalizedCountry = normalize(country);
+        String normalizedValue = normalize(value);
+        if (normalizedCountry.length() != 2 || normalizedValue.isEmpty()) {
+            return;
+        }
+
+        extents.computeIfAbsent((char) type + normalizedCountry + normalizedValue, k -> new Extent())
+                .add(latitude, longitude);
+    }
+
+    /**
+     * Converts the extents into records sorted by key, merging entries whose keys only differ
+     * beyond the key size. Place names spread over more than {@link #MAX_PLACE_SPREAD_KM} are
+     * written with NaN coordinates, which marks them as ambiguous.
+     */
+    private static List<Record> mergeTruncatedKeys(Map<String, Extent> extents) {
+        List<Map.Entry<byte[], Extent>> entries = new ArrayList<>(extents.size());
+        extents.forEach((key, extent) -> entries.add(Map.entry(toKeyBytes(key), extent)));
+        entries.sort((first, second) -> Arrays.compareUnsigned(first.getKey(), second.getKey()));
+
+        List<Record> records = new ArrayList<>(entries.size());
+        int start = 0;
+        while (start < entries.size()) {
+            byte[] key = entries.get(start).getKey();
+            Extent total = new Extent();
+            int end = start;
+            while (end < entries.size() && Arrays.equals(entries.get(end).getKey(), key)) {
+                total.merge(entries.get(end).getValue());
+                end++;
+            }
+
+            if (key[0] == PLACE && total.spreadKm() > MAX_PLACE_SPREAD_KM) {
+                records.add(new Record(key, Float.NaN, Float.NaN));
+            } else {
+                records.add(new Record(key, (float) total.averageLatitude(), (float) total.averageLongitude()));
+            }
+            start = end;
+        }
+        return records;
+    }
+
+    private static byte[] key(byte type, String countryCode, String value) {
+        if (countryCode == null || value == null) {
+            return null;
+        }
+
+        String normalizedCountry = normalize(countryCode);
+        String normalizedValue = normalize(value);
+        if (normalizedCountry.length() != 2 || normalizedValue.isEmpty()) {
+            return null;
+        }
+        return toKeyBytes((char) type + normalizedCountry + normalizedValue);
+    }
+
+    private static byte[] toKeyBytes(String key) {
+        return Arrays.copyOf(key.getBytes(StandardCharsets.UTF_8), KEY_SIZE);
+    }
+
+    /**
+     * Normalizes a value for use in a key: strips diacritics, upper-cases it and removes everything
+     * but letters and digits, so that "Novi Sad", "NOVI-SAD" and "novi sad" share one key.
+     */
+    private static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutDiacritics.toUpperCase(Locale.ROOT)).replaceAll("");
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private record Record(byte[] key, float latitude, float longitude) {
+    }
+
+    /**
+     * Sum and bounding box of the coordinates of the entries sharing a key.
+     */
+    private static final class Extent {
+        private double latitudeSum;
+        private double longitudeSum;
+        private int count;
+        private double minLatitude = Double.POSITIVE_INFINITY;
+        private double maxLatitude = Double.NEGATIVE_INFINITY;
+        private double minLongitude = Double.POSITIVE_INFINITY;
+        private double maxLongitude = Double.NEGATIVE_INFINITY;
+
+        void add(double latitude, double longitude) {
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+            count++;
+            minLatitude = Math.min(minLatitude, latitude);
+            maxLatitude = Math.max(maxLatitude, latitude);
+            minLongitude = Math.min(minLongitude, longitude);
+            maxLongitude = Math.max(maxLongitude, longitude);
+        }
+
+        void merge(Extent other) {
+            latitudeSum += other.latitudeSum;
+            longitudeSum += other.longitudeSum;
+            count += other.count;
+            minLatitude = Math.min(minLatitude, other.minLatitude);
+            maxLatitude = Math.max(maxLatitude, other.maxLatitude);
+            minLongitude = Math.min(minLongitude, other.minLongitude);
+            maxLongitude = Math.max(maxLongitude, other.maxLongitude);
+        }
+
+        double averageLatitude() {
+            return latitudeSum / count;
+        }
+
+        double averageLongitude() {
+            return longitudeSum / count;
+        }
+
+        /**
+         * Returns the length of the diagonal of the bounding box in kilometers.
+         */
+        double spreadKm() {
+            return GeoLocationCalculator.calculateDistance(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        }
+    }
+}
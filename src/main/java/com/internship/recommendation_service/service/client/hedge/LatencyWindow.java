@@ -0,0 +1,62 @@
+package com.internship.recommendation_service.service.client.hedge;
+
+import java.util.Arrays;
+
+/**
+ * Sliding window of the most recent latencies of one downstream service, from which a latency
+ * percentile is derived.
+ * <p>
+ * The percentile is recomputed from a sorted copy of the window after every
+ * {@link #RECOMPUTE_INTERVAL} recorded latencies rather than on every read, so reads are a
+ * volatile load.
+ * <p>
+ * Instances are thread-safe.
+ */
+final class LatencyWindow {
+    static final int RECOMPUTE_INTERVAL = 50;
+
+    private final long[] latencies;
+    private final double percentile;
+    private final int minSamples;
+
+    private int count;
+    private int nextSlot;
+    private int recordedSinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param size       the number of recent latencies kept
+     * @param percentile the percentile to compute, between 0 and 1
+     * @param minSamples the number of latencies needed before a percentile is available
+     */
+    LatencyWindow(int size, double percentile, int minSamples) {
+        this.latencies = new long[Math.max(size, 1)];
+        this.percentile = Math.min(Math.max(percentile, 0.0), 1.0);
+        this.minSamples = Math.max(Math.min(minSamples, latencies.length), 1);
+    }
+
+    synchronized void record(long latencyNanos) {
+        latencies[nextSlot] = latencyNanos;
+        nextSlot = (nextSlot + 1) % latencies.length;
+        count = Math.min(count + 1, latencies.length);
+
+        recordedSinceRecompute++;
+        if (count >= minSamples && (percentileNanos < 0 || recordedSinceRecompute >= RECOMPUTE_INTERVAL)) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            percentileNanos = sorted[Math.min(Math.max(index, 0), count - 1)];
+            recordedSinceRecompute = 0;
+        }
+    }
+
+    /**
+     * Returns the latency percentile of the window.
+     *
+     * @return the percentile in nanoseconds, or -1 if fewer than the minimum number of latencies
+     * have been recorded
+     */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+}
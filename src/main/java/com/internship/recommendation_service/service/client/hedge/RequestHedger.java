@@ -0,0 +1,267 @@
+package com.internship.recommendation_service.service.client.hedge;
+
+import com.internship.recommendation_service.config.property.service.HedgingConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Hedges idempotent calls to downstream services to cut their tail latency.
+ * <p>
+ * The latency of every attempt sent to a service is recorded in a sliding window. When a call has
+ * not answered within the configured latency percentile of its service, a second attempt is sent
+ * over a new pooled connection, which the service's load balancer may route to another instance.
+ * The first attempt to answer wins and the other one is cancelled. A first attempt that loses is
+ * recorded with the time it had waited when it was cancelled, which is at least the hedge delay,
+ * so the window does not lose the slow calls that hedging cuts short.
+ * <p>
+ * Hedges are paid for from a per-service budget that grows by the maximum hedge rate with every
+ * call, so at most that share of calls is hedged even while a service is slow across the board.
+ * Errors of a hedge are ignored, so a hedge can only make a call faster.
+ * <p>
+ * Calls to services that are not configured for hedging, or whose window holds too few latencies,
+ * are sent once.
+ */
+@Component
+public class RequestHedger {
+    private static final String METRIC_PREFIX = "recommendation.client.hedge";
+
+    private final HedgingConfig hedgingConfig;
+    private final Scheduler scheduler;
+    private final Map<Downstream, DownstreamHedging> hedgingByDownstream = new EnumMap<>(Downstream.class);
+
+    @Autowired
+    public RequestHedger(HedgingConfig hedgingConfig, MeterRegistry meterRegistry) {
+        this(hedgingConfig, meterRegistry, Schedulers.parallel());
+    }
+
+    RequestHedger(HedgingConfig hedgingConfig, MeterRegistry meterRegistry, Scheduler scheduler) {
+        this.hedgingConfig = hedgingConfig;
+        this.scheduler = scheduler;
+        for (Downstream downstream : Downstream.values()) {
+            hedgingByDownstream.put(downstream, new DownstreamHedging(downstream, hedgingConfig, meterRegistry));
+        }
+    }
+
+    /**
+     * Sends the given call, hedging it with a second attempt if it is slow.
+     *
+     * @param downstream the downstream service called
+     * @param attempt    the supplier of an attempt of the call, invoked once per attempt
+     * @param <T>        the type of the response
+     * @return a Mono emitting the response of the attempt that answered first
+     */
+    public <T> Mono<T> hedge(Downstream downstream, Supplier<Mono<T>> attempt) {
+        if (!isHedged(downstream)) {
+            return Mono.defer(attempt);
+        }
+
+        DownstreamHedging hedging = hedgingByDownstream.get(downstream);
+        return Mono.defer(() -> {
+            hedging.budget.earn();
+            long delayNanos = hedging.delayNanos();
+            Mono<T> primary = timed(Mono.defer(attempt), hedging.latencies, true);
+            if (delayNanos < 0) {
+                return primary;
+            }
+
+            Mono<T> secondary = Mono.delay(Duration.ofNanos(delayNanos), scheduler)
+                    .flatMap(tick -> {
+                        if (!hedging.budget.trySpend()) {
+                            hedging.skippedCounter.increment();
+                            return Mono.never();
+                        }
+
+                        hedging.firedCounter.increment();
+                        return timed(Mono.defer(attempt), hedging.latencies, false)
+                                .doOnNext(value -> hedging.wonCounter.increment())
+                                .onErrorResume(error -> Mono.never());
+                    });
+            return Mono.firstWithSignal(primary, secondary);
+        });
+    }
+
+    /**
+     * Flux variant of {@link #hedge(Downstream, Supplier)}. The attempt whose first element or
+     * completion arrives first wins.
+     *
+     * @param downstream the downstream service called
+     * @param attempt    the supplier of an attempt of the call, invoked once per attempt
+     * @param <T>        the type of the response elements
+     * @return a Flux emitting the response elements of the attempt that answered first
+     */
+    public <T> Flux<T> hedgeMany(Downstream downstream, Supplier<Flux<T>> attempt) {
+        if (!isHedged(downstream)) {
+            return Flux.defer(attempt);
+        }
+
+        DownstreamHedging hedging = hedgingByDownstream.get(downstream);
+        return Flux.defer(() -> {
+            hedging.budget.earn();
+            long delayNanos = hedging.delayNanos();
+            Flux<T> primary = timed(Flux.defer(attempt), hedging.latencies, true);
+            if (delayNanos < 0) {
+                return primary;
+            }
+
+            Flux<T> secondary = Mono.delay(Duration.ofNanos(delayNanos), scheduler)
+                    .flatMapMany(tick -> {
+                        if (!hedging.budget.trySpend()) {
+                            hedging.skippedCounter.increment();
+                            return Flux.never();
+                        }
+
+                        hedging.firedCounter.increment();
+                        AtomicBoolean answered = new AtomicBoolean();
+                        return timed(Flux.defer(attempt), hedging.latencies, false)
+                                .doOnEach(signal -> {
+                                    if ((signal.isOnNext() || signal.isOnComplete()) && answered.compareAndSet(false, true)) {
+                                        hedging.wonCounter.increment();
+                                    }
+                                })
+                                .onErrorResume(error -> Flux.never());
+                    });
+            return Flux.firstWithSignal(primary, secondary);
+        });
+    }
+
+    private boolean isHedged(Downstream downstream) {
+        return hedgingConfig.isEnabled() && hedgingConfig.getDownstreams().contains(downstream);
+    }
+
+    /**
+     * Records the time until the first answer of a successful attempt and, if
+     * {@code recordCancelled} is set, the time an attempt had waited when it was cancelled.
+     * Cancelled hedges are not recorded, since they were cut short by a first attempt that
+     * answered soon after they were sent.
+     */
+    private <T> Mono<T> timed(Mono<T> attempt, LatencyWindow latencies, boolean recordCancelled) {
+        return Mono.defer(() -> {
+            LatencyRecorder recorder = new LatencyRecorder(latencies);
+            Mono<T> timedAttempt = attempt.doOnSuccess(value -> recorder.record());
+            return recordCancelled ? timedAttempt.doOnCancel(recorder::record) : timedAttempt;
+        });
+    }
+
+    private <T> Flux<T> timed(Flux<T> attempt, LatencyWindow latencies, boolean recordCancelled) {
+        return Flux.defer(() -> {
+            LatencyRecorder recorder = new LatencyRecorder(latencies);
+            Flux<T> timedAttempt = attempt.doOnEach(signal -> {
+                if (signal.isOnNext() || signal.isOnComplete()) {
+                    recorder.record();
+                }
+            });
+            return recordCancelled ? timedAttempt.doOnCancel(recorder::record) : timedAttempt;
+        });
+    }
+
+    /**
+     * Records the time since its creation into a latency window, once.
+     */
+    private final class LatencyRecorder {
+        private final LatencyWindow latencies;
+        private final long startedAt = scheduler.now(TimeUnit.NANOSECONDS);
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private LatencyRecorder(LatencyWindow latencies) {
+            this.latencies = latencies;
+        }
+
+        private void record() {
+            if (recorded.compareAndSet(false, true)) {
+                latencies.record(scheduler.now(TimeUnit.NANOSECONDS) - startedAt);
+            }
+        }
+    }
+
+    /**
+     * The latency window, hedge budget and metrics of one downstream service.
+     */
+    private static final class DownstreamHedging {
+        private final HedgingConfig hedgingConfig;
+        private final LatencyWindow latencies;
+        private final HedgeBudget budget;
+        private final Counter firedCounter;
+        private final Counter wonCounter;
+        private final Counter skippedCounter;
+
+        private DownstreamHedging(Downstream downstream, HedgingConfig hedgingConfig, MeterRegistry meterRegistry) {
+            this.hedgingConfig = hedgingConfig;
+            this.latencies = new LatencyWindow(hedgingConfig.getWindowSize(),
+                    hedgingConfig.getPercentile(),
+                    hedgingConfig.getMinSamples());
+            this.budget = new HedgeBudget(hedgingConfig.getMaxHedgeRate(), hedgingConfig.getMaxBurst());
+
+            String service = downstream.serviceName();
+            this.firedCounter = Counter.builder(METRIC_PREFIX + ".fired")
+                    .description("Number of calls for which a second attempt was sent")
+                    .tag("downstream", service)
+                    .register(meterRegistry);
+            this.wonCounter = Counter.builder(METRIC_PREFIX + ".won")
+                    .description("Number of calls answered by the second attempt")
+                    .tag("downstream", service)
+                    .register(meterRegistry);
+            this.skippedCounter = Counter.builder(METRIC_PREFIX + ".skipped")
+                    .description("Number of slow calls not hedged because the hedge budget was spent")
+                    .tag("downstream", service)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".delay", this, hedging -> Math.max(hedging.delayNanos(), 0) / 1e9)
+                    .description("Time after which a call is hedged")
+                    .tag("downstream", service)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Returns the hedge delay, or -1 if there are not enough latencies to derive it yet.
+         */
+        private long delayNanos() {
+            long percentileNanos = latencies.percentileNanos();
+            if (percentileNanos < 0) {
+                return -1;
+            }
+            return Math.max(percentileNanos, hedgingConfig.getMinDelay().toNanos());
+        }
+    }
+
+    /**
+     * Budget of hedges that grows by the maximum hedge rate with every call, up to the maximum
+     * burst, and shrinks by one with every hedge.
+     */
+    private static final class HedgeBudget {
+        private final double ratePerCall;
+        private final double maxTokens;
+        private double tokens;
+
+        private HedgeBudget(double ratePerCall, int maxBurst) {
+            this.ratePerCall = Math.max(ratePerCall, 0.0);
+            this.maxTokens = Math.max(maxBurst, 1);
+        }
+
+        private synchronized void earn() {
+            tokens = Math.min(tokens + ratePerCall, maxTokens);
+        }
+
+        private synchronized boolean trySpend() {
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.internship.recommendation_service.service.client.limit;
+
+import com.internship.recommendation_service.config.property.service.ConcurrencyLimitConfig;
+import com.internship.recommendation_service.exception.CallRejectedException;
+import com.internship.recommendation_service.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of concurrent calls to one downstream service, adapting the limit to the
+ * observed latency with an AIMD (additive increase, multiplicative decrease) algorithm.
+ * <p>
+ * The usual latency of the service is a slowly moving average over about the last
+ * {@value #LATENCY_SMOOTHING_CALLS} successful calls. A call that fails or takes longer than the
+ * latency tolerance times the usual latency signals overload and multiplies the limit by the backoff ratio, at most once per generation of
+ * calls, so calls that were already in flight when the limit dropped cannot drop it again. Every
+ * other successful call made while at least half of the limit was in use raises the limit by
+ * {@code 1 / limit}, i.e. by about one per limit of calls.
+ * <p>
+ * Calls above the limit wait in a bounded FIFO queue. Calls that find the queue full or wait
+ * longer than the maximum queue wait fail with a {@link ConcurrencyLimitExceededException} without
+ * being subscribed.
+ * <p>
+ * Client errors (4xx responses), rejected and cancelled calls do not change the limit.
+ * <p>
+ * Instances are thread-safe.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final String METRIC_PREFIX = "recommendation.client.concurrency";
+    private static final int LATENCY_SMOOTHING_CALLS = 100;
+
+    private enum Outcome {
+        SUCCESS, OVERLOAD, IGNORED
+    }
+
+    private final String name;
+    private final ConcurrencyLimitConfig config;
+    private final Clock clock;
+    private final Counter rejectedCounter;
+    private final Timer queueWaitTimer;
+
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long generation;
+
+    // Exponentially weighted moving average of the latency of successful calls, or -1 before the first one
+    private double averageLatencyNanos = -1;
+
+    /**
+     * Creates a limiter starting at the initial limit and registers its metrics, tagged with the
+     * name of the downstream service.
+     *
+     * @param name          the name of the downstream service
+     * @param config        the bounds and parameters of the limit
+     * @param clock         the clock used to measure calls and queue waits
+     * @param meterRegistry the registry the metrics are registered with
+     */
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitConfig config, Clock clock, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.config = config;
+        this.clock = clock;
+        this.limit = clamp(config.getInitialLimit());
+
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Number of calls rejected because the queue of the downstream service was full or the wait timed out")
+                .tag("downstream", name)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .description("Time calls waited for a free slot of the downstream service")
+                .tag("downstream", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current limit of concurrent calls to the downstream service")
+                .tag("downstream", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in.flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Number of calls in flight to the downstream service")
+                .tag("downstream", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queued", this, AdaptiveConcurrencyLimiter::getQueued)
+                .description("Number of calls waiting for a free slot of the downstream service")
+                .tag("downstream", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Limits the given call. The call is only subscribed once a slot is free.
+     *
+     * @param call the call to the downstream service
+     * @param <T>  the type of the response
+     * @return a Mono emitting the response of the call, or failing with a
+     * {@link ConcurrencyLimitExceededException} if no slot became free in time
+     */
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.usingWhen(acquire(),
+                permit -> call,
+                permit -> release(permit, Outcome.SUCCESS),
+                (permit, error) -> release(permit, outcomeOf(error)),
+                permit -> release(permit, Outcome.IGNORED));
+    }
+
+    /**
+     * Flux variant of {@link #limit(Mono)}. The slot is held until the Flux terminates.
+     *
+     * @param call the call to the downstream service
+     * @param <T>  the type of the response elements
+     * @return a Flux emitting the response elements of the call, or failing with a
+     * {@link ConcurrencyLimitExceededException} if no slot became free in time
+     */
+    public <T> Flux<T> limit(Flux<T> call) {
+        return Flux.usingWhen(acquire(),
+                permit -> call,
+                permit -> release(permit, Outcome.SUCCESS),
+                (permit, error) -> release(permit, outcomeOf(error)),
+                permit -> release(permit, Outcome.IGNORED));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Takes a free slot, or waits in the queue for one.
+     */
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    Instant queuedAt = clock.instant();
+                    Waiter waiter = new Waiter(sink, queuedAt);
+                    Permit permit = null;
+                    boolean queued = false;
+                    synchronized (this) {
+                        if (inFlight < (int) limit && queue.isEmpty()) {
+                            permit = grant(queuedAt);
+                        } else if (queue.size() < config.getMaxQueueSize()) {
+                            queue.addLast(waiter);
+                            queued = true;
+                        }
+                    }
+
+                    if (permit != null) {
+                        queueWaitTimer.record(Duration.ZERO);
+                        sink.success(permit);
+                        return;
+                    }
+                    if (!queued) {
+                        rejectedCounter.increment();
+                        sink.error(new ConcurrencyLimitExceededException("Queue of " + name + " is full"));
+                        return;
+                    }
+                    sink.onCancel(() -> cancel(waiter));
+                })
+                // A permit granted to a waiter that was cancelled meanwhile is returned at once
+                .doOnDiscard(Permit.class, permit -> release(permit, Outcome.IGNORED).subscribe())
+                .timeout(config.getMaxQueueWait())
+                .onErrorMap(TimeoutException.class, error -> {
+                    rejectedCounter.increment();
+                    return new ConcurrencyLimitExceededException("Timed out waiting for a free slot of " + name);
+                });
+    }
+
+    /**
+     * Returns the slot of a finished call, adapts the limit to its outcome and hands the freed
+     * slots to the longest waiting calls.
+     */
+    private Mono<Void> release(Permit permit, Outcome outcome) {
+        return Mono.fromRunnable(() -> {
+            if (!permit.released.compareAndSet(false, true)) {
+                return;
+            }
+
+            long latencyNanos = Duration.between(permit.startedAt, clock.instant()).toNanos();
+            List<Waiter> granted = new ArrayList<>();
+            synchronized (this) {
+                inFlight--;
+                if (outcome == Outcome.SUCCESS) {
+                    onSuccess(permit, latencyNanos);
+                } else if (outcome == Outcome.OVERLOAD) {
+                    decrease(permit);
+                }
+
+                while (inFlight < (int) limit && !queue.isEmpty()) {
+                    Waiter waiter = queue.pollFirst();
+                    waiter.permit = grant(clock.instant());
+                    granted.add(waiter);
+                }
+            }
+
+            for (Waiter waiter : granted) {
+                queueWaitTimer.record(Duration.between(waiter.queuedAt, waiter.permit.startedAt));
+                waiter.sink.success(waiter.permit);
+            }
+        });
+    }
+
+    private synchronized void cancel(Waiter waiter) {
+        queue.remove(waiter);
+    }
+
+    private Permit grant(Instant startedAt) {
+        inFlight++;
+        return new Permit(startedAt, generation, inFlight * 2 >= (int) limit);
+    }
+
+    private void onSuccess(Permit permit, long latencyNanos) {
+        boolean slow = averageLatencyNanos >= 0 && latencyNanos > averageLatencyNanos * config.getLatencyTolerance();
+        averageLatencyNanos = averageLatencyNanos < 0
+                ? latencyNanos
+                : averageLatencyNanos + (latencyNanos - averageLatencyNanos) / LATENCY_SMOOTHING_CALLS;
+
+        if (slow) {
+            decrease(permit);
+        } else if (permit.utilized) {
+            limit = clamp(limit + 1.0 / limit);
+        }
+    }
+
+    private void decrease(Permit permit) {
+        if (permit.generation != generation) {
+            return;
+        }
+
+        limit = clamp(limit * config.getBackoffRatio());
+        generation++;
+    }
+
+    private double clamp(double value) {
+        int minLimit = Math.max(config.getMinLimit(), 1);
+        return Math.min(Math.max(value, minLimit), Math.max(config.getMaxLimit(), minLimit));
+    }
+
+    /**
+     * Returns whether the given error signals an overloaded service. Client errors are answers of
+     * a healthy service, and rejected calls never reached it.
+     */
+    private static Outcome outcomeOf(Throwable error) {
+        if (error instanceof CallRejectedException ||
+            (error instanceof WebClientResponseException responseException && responseException.getStatusCode().is4xxClientError())) {
+            return Outcome.IGNORED;
+        }
+        return Outcome.OVERLOAD;
+    }
+
+    /**
+     * A slot taken by a call, with the state of the limiter when it was taken.
+     */
+    private static final class Permit {
+        private final Instant startedAt;
+        private final long generation;
+        private final boolean utilized;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Instant startedAt, long generation, boolean utilized) {
+            this.startedAt = startedAt;
+            this.generation = generation;
+            this.utilized = utilized;
+        }
+    }
+
+    /**
+     * A call waiting in the queue for a free slot.
+     */
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final Instant queuedAt;
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink, Instant queuedAt) {
+            this.sink = sink;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.internship.recommendation_service.service.client.limit;
+
+import com.internship.recommendation_service.config.property.service.ConcurrencyLimitConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds one {@link AdaptiveConcurrencyLimiter} per downstream service, shared by all in-flight
+ * recommendation requests, so the total load on every service is bounded. When concurrency
+ * limiting is disabled, calls pass through unlimited.
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+    private final ConcurrencyLimitConfig concurrencyLimitConfig;
+    private final Map<Downstream, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Downstream.class);
+
+    @Autowired
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitConfig concurrencyLimitConfig, MeterRegistry meterRegistry) {
+        this(concurrencyLimitConfig, meterRegistry, Clock.systemUTC());
+    }
+
+    ConcurrencyLimiterRegistry(ConcurrencyLimitConfig concurrencyLimitConfig, MeterRegistry meterRegistry, Clock clock) {
+        this.concurrencyLimitConfig = concurrencyLimitConfig;
+        for (Downstream downstream : Downstream.values()) {
+            limiters.put(downstream,
+                    new AdaptiveConcurrencyLimiter(downstream.serviceName(), concurrencyLimitConfig, clock, meterRegistry));
+        }
+    }
+
+    /**
+     * Limits the given call with the limiter of the given downstream service.
+     *
+     * @param downstream the downstream service called
+     * @param call       the call to the service
+     * @param <T>        the type of the response
+     * @return the limited call
+     * @see AdaptiveConcurrencyLimiter#limit(Mono)
+     */
+    public <T> Mono<T> limit(Downstream downstream, Mono<T> call) {
+        return concurrencyLimitConfig.isEnabled() ? limiters.get(downstream).limit(call) : call;
+    }
+
+    /**
+     * Flux variant of {@link #limit(Downstream, Mono)}.
+     *
+     * @param downstream the downstream service called
+     * @param call       the call to the service
+     * @param <T>        the type of the response elements
+     * @return the limited call
+     */
+    public <T> Flux<T> limit(Downstream downstream, Flux<T> call) {
+        return concurrencyLimitConfig.isEnabled() ? limiters.get(downstream).limit(call) : call;
+    }
+}
@@ -0,0 +1,110 @@
+package com.internship.recommendation_service.service.client.throttle;
+
+import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Token-bucket rate limiter for calls to the geolocation service, shared by all replicas.
+ * <p>
+ * The bucket lives in Redis and is updated atomically by a Lua script using the Redis clock, so
+ * replicas never need synchronized clocks. When Redis is unavailable, every replica falls back
+ * to a local bucket with the same rate, which keeps the service throttled without depending on
+ * Redis.
+ */
+@Component
+public class GeocodingRateLimiter {
+    private static final String BUCKET_KEY = "recommendation:rate-limit:geocoding";
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final GeolocationServiceConfig geolocationConfig;
+    private final LocalTokenBucket localBucket;
+    private final Counter fallbackCounter;
+
+    public GeocodingRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                GeolocationServiceConfig geolocationConfig,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.geolocationConfig = geolocationConfig;
+        this.localBucket = new LocalTokenBucket(geolocationConfig.getRateLimitPerSecond(), geolocationConfig.getRateLimitBurst());
+        this.fallbackCounter = Counter.builder("recommendation.geocoding.rate.limit.fallback")
+                .description("Number of tokens taken from the local bucket because Redis was unavailable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits until a token is available and takes it.
+     *
+     * @return a Mono completing once the caller may call the geolocation service
+     */
+    public Mono<Void> acquire() {
+        if (!geolocationConfig.isRateLimitEnabled()) {
+            return Mono.empty();
+        }
+
+        return tryAcquire().flatMap(wait -> wait.isZero()
+                ? Mono.empty()
+                : Mono.delay(wait).then(acquire()));
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return a Mono emitting zero if a token was taken, or the time until the next token otherwise
+     */
+    private Mono<Duration> tryAcquire() {
+        List<String> args = List.of(
+                String.valueOf(geolocationConfig.getRateLimitPerSecond()),
+                String.valueOf(geolocationConfig.getRateLimitBurst()));
+
+        return redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(BUCKET_KEY), args)
+                .next()
+                .map(Duration::ofMillis)
+                .timeout(geolocationConfig.getRateLimitRedisTimeout())
+                .onErrorResume(error -> {
+                    LogUtil.warn("Failed to take a geocoding token from Redis, using the local bucket: {}", error.getMessage());
+                    fallbackCounter.increment();
+                    return Mono.fromSupplier(localBucket::tryAcquire);
+                });
+    }
+
+    /**
+     * In-memory variant of the token bucket script, used while Redis is unavailable.
+     */
+    private static final class LocalTokenBucket {
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long updatedNanos;
+
+        private LocalTokenBucket(double ratePerSecond, int capacity) {
+            this.ratePerNano = ratePerSecond / 1_000_000_000.0;
+            this.capacity = Math.max(capacity, 1);
+            this.tokens = this.capacity;
+            this.updatedNanos = System.nanoTime();
+        }
+
+        private synchronized Duration tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - updatedNanos) * ratePerNano);
+            updatedNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) Math.ceil((1 - tokens) / ratePerNano));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.internship.recommendation_service.service.client.throttle;
+
+import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Bounded queue of geocoding lookups, dispatched one at a time as the {@link GeocodingRateLimiter}
+ * hands out tokens.
+ * <p>
+ * Lookups are dispatched earliest deadline first. A lookup for a query that is already queued or
+ * in flight shares the result of the pending lookup instead of taking another token. Lookups still
+ * queued when their deadline passes are dropped without calling the geolocation service, and
+ * callers that wait longer than the configured maximum wait, or find the queue full, complete empty
+ * so they can fall back to the cache or to scoring without distance.
+ * <p>
+ * When rate limiting is disabled, lookups bypass the queue.
+ */
+@Component
+public class GeocodingRequestQueue {
+    private static final String METRIC_PREFIX = "recommendation.geocoding.queue";
+
+    private final GeocodingRateLimiter rateLimiter;
+    private final GeolocationServiceConfig geolocationConfig;
+    private final Clock clock;
+    private final Scheduler scheduler;
+
+    private final Timer waitTimer;
+    private final Counter deduplicatedCounter;
+    private final Counter fullCounter;
+    private final Counter expiredCounter;
+
+    private final Object lock = new Object();
+    private final PriorityQueue<PendingLookup> queue = new PriorityQueue<>(
+            Comparator.comparing(PendingLookup::deadline).thenComparingLong(PendingLookup::sequence));
+    private final Map<String, PendingLookup> pendingByQuery = new HashMap<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private long nextSequence;
+
+    @Autowired
+    public GeocodingRequestQueue(GeocodingRateLimiter rateLimiter,
+                                 GeolocationServiceConfig geolocationConfig,
+                                 MeterRegistry meterRegistry) {
+        this(rateLimiter, geolocationConfig, meterRegistry, Clock.systemUTC(), Schedulers.parallel());
+    }
+
+    GeocodingRequestQueue(GeocodingRateLimiter rateLimiter,
+                          GeolocationServiceConfig geolocationConfig,
+                          MeterRegistry meterRegistry,
+                          Clock clock,
+                          Scheduler scheduler) {
+        this.rateLimiter = rateLimiter;
+        this.geolocationConfig = geolocationConfig;
+        this.clock = clock;
+        this.scheduler = scheduler;
+
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("Time geocoding lookups spend queued before calling the geolocation service")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder(METRIC_PREFIX + ".deduplicated")
+                .description("Number of lookups served by a pending lookup of the same query")
+                .register(meterRegistry);
+        this.fullCounter = droppedCounter("full", meterRegistry);
+        this.expiredCounter = droppedCounter("expired", meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".depth", this, GeocodingRequestQueue::depth)
+                .description("Number of geocoding lookups waiting for a rate limit token")
+                .register(meterRegistry);
+    }
+
+    private static Counter droppedCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Number of lookups completed without calling the geolocation service")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a lookup of the given query.
+     *
+     * @param query  the search query, used to deduplicate lookups
+     * @param lookup the call to the geolocation service, subscribed once a token is available
+     * @return a Mono emitting the result of the lookup, or completing empty if the queue is full or
+     * the lookup did not complete within the maximum wait
+     */
+    public Mono<Optional<GeoCoordinatesDTO>> submit(String query, Supplier<Mono<Optional<GeoCoordinatesDTO>>> lookup) {
+        if (!geolocationConfig.isRateLimitEnabled()) {
+            return Mono.defer(lookup);
+        }
+
+        return Mono.defer(() -> {
+            Duration maxWait = geolocationConfig.getQueueMaxWait();
+            PendingLookup pending;
+
+            synchronized (lock) {
+                pending = pendingByQuery.get(query);
+                if (pending != null) {
+                    deduplicatedCounter.increment();
+                } else if (queue.size() >= geolocationConfig.getQueueMaxSize()) {
+                    fullCounter.increment();
+                    LogUtil.warn("Geocoding queue is full, skipping lookup of query '{}'", query);
+                    return Mono.empty();
+                } else {
+                    Instant now = clock.instant();
+                    pending = new PendingLookup(query, lookup, now, now.plus(maxWait), nextSequence++, Sinks.one());
+                    pendingByQuery.put(query, pending);
+                    queue.add(pending);
+                }
+            }
+
+            scheduler.schedule(this::dispatchNext);
+            return pending.result().asMono()
+                    .timeout(maxWait)
+                    .onErrorResume(TimeoutException.class, error -> {
+                        expiredCounter.increment();
+                        LogUtil.warn("Geocoding lookup of query '{}' did not complete within {}", query, maxWait);
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    /**
+     * Dispatches the next live lookup unless one is already being dispatched. Runs again once the
+     * dispatched lookup terminates, so lookups are sent strictly one after another.
+     */
+    private void dispatchNext() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+
+        PendingLookup next = pollLive();
+        if (next == null) {
+            dispatching.set(false);
+            // A lookup queued after the poll but before the flag was cleared must not be stranded
+            if (depth() > 0) {
+                scheduler.schedule(this::dispatchNext);
+            }
+            return;
+        }
+
+        rateLimiter.acquire()
+                .then(Mono.defer(() -> {
+                    waitTimer.record(Duration.between(next.enqueuedAt(), clock.instant()));
+                    return next.lookup().get();
+                }))
+                .doOnNext(value -> next.result().tryEmitValue(value))
+                .doOnError(error -> next.result().tryEmitError(error))
+                .doFinally(signal -> {
+                    next.result().tryEmitEmpty();
+                    synchronized (lock) {
+                        pendingByQuery.remove(next.query(), next);
+                    }
+                    dispatching.set(false);
+                    scheduler.schedule(this::dispatchNext);
+                })
+                .subscribe(null, error -> LogUtil.error("Geocoding lookup of query '{}' failed: {}", next.query(), error.getMessage()));
+    }
+
+    /**
+     * Removes and returns the queued lookup with the earliest deadline that has not passed yet.
+     * Lookups whose deadline has passed are dropped on the way, since their callers gave up.
+     */
+    private PendingLookup pollLive() {
+        Instant now = clock.instant();
+        synchronized (lock) {
+            PendingLookup next;
+            while ((next = queue.poll()) != null) {
+                if (next.deadline().isAfter(now)) {
+                    return next;
+                }
+
+                pendingByQuery.remove(next.query(), next);
+                next.result().tryEmitEmpty();
+            }
+            return null;
+        }
+    }
+
+    private int depth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    private record PendingLookup(String query,
+                                 Supplier<Mono<Optional<GeoCoordinatesDTO>>> lookup,
+                                 Instant enqueuedAt,
+                                 Instant deadline,
+                                 long sequence,
+                                 Sinks.One<Optional<GeoCoordinatesDTO>> result) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.internship.recommendation_service.service.client.toggle;
+
+import com.internship.recommendation_service.config.property.service.DownstreamSwitchConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the switch of every downstream service. A disabled service is not called at all: its calls
+ * fail with a {@link com.internship.recommendation_service.exception.DownstreamDisabledException}
+ * without being sent, and recommendations are scored with the neutral defaults of its data.
+ * <p>
+ * The switches start from the {@code security.feign.<service>.enabled} flags and can be flipped at
+ * runtime through the {@link DownstreamSwitchesEndpoint}, e.g. to cut the fan-out of requests while
+ * a service struggles. Runtime changes are lost on restart.
+ */
+@Component
+public class DownstreamSwitches {
+    private final Map<Downstream, AtomicBoolean> switches = new EnumMap<>(Downstream.class);
+
+    public DownstreamSwitches(DownstreamSwitchConfig downstreamSwitchConfig, MeterRegistry meterRegistry) {
+        for (Downstream downstream : Downstream.values()) {
+            DownstreamSwitchConfig.Switch configured = downstreamSwitchConfig.getFeign().get(downstream.serviceName());
+            AtomicBoolean enabled = new AtomicBoolean(configured == null || configured.isEnabled());
+            switches.put(downstream, enabled);
+
+            Gauge.builder("recommendation.client.downstream.enabled", enabled, value -> value.get() ? 1 : 0)
+                    .description("Whether calls to the downstream service are enabled")
+                    .tag("downstream", downstream.serviceName())
+                    .register(meterRegistry);
+            if (!enabled.get()) {
+                LogUtil.warn("Calls to {} are disabled by configuration", downstream.serviceName());
+            }
+        }
+    }
+
+    /**
+     * Returns whether calls to the given downstream service are enabled.
+     *
+     * @param downstream the downstream service
+     * @return true if the service may be called
+     */
+    public boolean isEnabled(Downstream downstream) {
+        return switches.get(downstream).get();
+    }
+
+    /**
+     * Enables or disables calls to the given downstream service.
+     *
+     * @param downstream the downstream service
+     * @param enabled    whether the service may be called
+     */
+    public void setEnabled(Downstream downstream, boolean enabled) {
+        if (switches.get(downstream).getAndSet(enabled) != enabled) {
+            LogUtil.warn("Calls to {} are now {}", downstream.serviceName(), enabled ? "enabled" : "disabled");
+        }
+    }
+
+    /**
+     * Returns the switch of every downstream service, keyed by service name.
+     *
+     * @return whether each service may be called
+     */
+    public Map<String, Boolean> getStates() {
+        Map<String, Boolean> states = new LinkedHashMap<>();
+        switches.forEach((downstream, enabled) -> states.put(downstream.serviceName(), enabled.get()));
+        return states;
+    }
+}
@@ -0,0 +1,49 @@
+package com.internship.recommendation_service.service.client.toggle;
+
+import com.internship.recommendation_service.service.client.Downstream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint to read and flip the {@link DownstreamSwitches} at runtime.
+ * <ul>
+ *     <li>{@code GET /actuator/downstreams} lists whether each downstream service is enabled</li>
+ *     <li>{@code POST /actuator/downstreams/{service}} with {@code {"enabled": false}} disables a service</li>
+ * </ul>
+ * Flipping a switch is restricted to super admins by {@code security.paths}.
+ */
+@Component
+@Endpoint(id = "downstreams")
+@RequiredArgsConstructor
+public class DownstreamSwitchesEndpoint {
+    private final DownstreamSwitches downstreamSwitches;
+
+    @ReadOperation
+    public Map<String, Boolean> states() {
+        return downstreamSwitches.getStates();
+    }
+
+    @ReadOperation
+    public Boolean state(@Selector String service) {
+        Downstream downstream = Downstream.fromServiceName(service);
+        return downstream != null ? downstreamSwitches.isEnabled(downstream) : null;
+    }
+
+    @WriteOperation
+    public Map<String, Boolean> toggle(@Selector String service, boolean enabled) {
+        Downstream downstream = Downstream.fromServiceName(service);
+        if (downstream == null) {
+            throw new InvalidEndpointRequestException("Unknown downstream service: " + service, "Unknown downstream service");
+        }
+
+        downstreamSwitches.setEnabled(downstream, enabled);
+        return downstreamSwitches.getStates();
+    }
+}
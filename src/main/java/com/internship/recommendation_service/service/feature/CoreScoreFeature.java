@@ -0,0 +1,52 @@
+package com.internship.recommendation_service.service.feature;
+
+import com.internship.recommendation_service.config.property.RecommendationWeightsConfig;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The components of the score calculated by the
+ * {@link com.internship.recommendation_service.util.RecommendationEngine}, with the weights they
+ * are scaled by.
+ * <p>
+ * Worker reports are scaled by the job report weights and job reports by the user report weights,
+ * as in the engine.
+ */
+public enum CoreScoreFeature implements ScoreFeature {
+    DISTANCE(weights -> weights.getDistance() != 0, ScoreData.USER_COORDINATES, ScoreData.USER_PREFERENCES),
+    EXPERIENCE_MATCH(weights -> weights.getExperienceMatch() != 0, ScoreData.USER_PREFERENCES),
+    CATEGORY_MATCH(weights -> weights.getCategoryMatch() != 0, ScoreData.USER_PREFERENCES),
+    HOURLY_RATE(weights -> weights.getHourlyRate() != 0),
+    FAVORITE(weights -> weights.getFavorite() != 0, ScoreData.FAVORITE_WORKERS),
+    WORKER_RATING(weights -> weights.getWorkerRating() != 0, ScoreData.WORKER_REVIEW_STATS),
+    JOB_RATING(weights -> weights.getJobRating() != 0, ScoreData.JOB_REVIEW_STATS),
+    WORKER_REPORTS(weights -> weights.getJobReportsLow() != 0
+                              || weights.getJobReportsMedium() != 0
+                              || weights.getJobReportsHigh() != 0, ScoreData.WORKER_REPORT_STATS),
+    JOB_REPORTS(weights -> weights.getUserReportsLow() != 0
+                           || weights.getUserReportsMedium() != 0
+                           || weights.getUserReportsHigh() != 0, ScoreData.JOB_REPORT_STATS),
+    RESERVATIONS(weights -> weights.getJobReservationsCount() != 0, ScoreData.JOB_RESERVATION_COUNTS);
+
+    private final Predicate<RecommendationWeightsConfig> enabled;
+    private final Set<ScoreData> dependencies;
+
+    CoreScoreFeature(Predicate<RecommendationWeightsConfig> enabled, ScoreData... dependencies) {
+        this.enabled = enabled;
+        this.dependencies = dependencies.length == 0
+                ? EnumSet.noneOf(ScoreData.class)
+                : EnumSet.of(dependencies[0], dependencies);
+    }
+
+    @Override
+    public boolean isEnabled(RecommendationWeightsConfig weights) {
+        return enabled.test(weights);
+    }
+
+    @Override
+    public Set<ScoreData> dependencies() {
+        return dependencies;
+    }
+}
@@ -0,0 +1,21 @@
+package com.internship.recommendation_service.service.feature;
+
+import java.util.Set;
+
+/**
+ * The downstream data a recommendation request fetches, planned by the {@link FetchPlanner}.
+ *
+ * @param requiredData the data at least one enabled score feature depends on
+ */
+public record FetchPlan(Set<ScoreData> requiredData) {
+    /**
+     * Returns whether the given data is fetched. Data that is not fetched is replaced by its
+     * default value, which no enabled feature is calculated from.
+     *
+     * @param data the downstream data
+     * @return true if an enabled score feature depends on the data
+     */
+    public boolean requires(ScoreData data) {
+        return requiredData.contains(data);
+    }
+}
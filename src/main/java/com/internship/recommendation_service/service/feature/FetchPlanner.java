@@ -0,0 +1,77 @@
+package com.internship.recommendation_service.service.feature;
+
+import com.internship.recommendation_service.config.property.RecommendationWeightsConfig;
+import com.internship.recommendation_service.service.client.toggle.DownstreamSwitches;
+import com.internship.recommendation_service.util.LogUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plans the downstream data fetched by a recommendation request from the current weights of the
+ * score features. Data that only features with zero weights depend on is left out, so an expensive
+ * signal can be turned off by setting its weights to zero. Data of downstream services that are
+ * switched off in the {@link DownstreamSwitches} is left out as well.
+ * <p>
+ * The plan is derived from the weights and switches on every request, so a refreshed weights
+ * configuration or a flipped switch applies to the next request. {@link ScoreFeature} beans are
+ * planned next to the core features; they can only add data to the plan.
+ */
+@Component
+public class FetchPlanner {
+    private final RecommendationWeightsConfig weights;
+    private final DownstreamSwitches downstreamSwitches;
+    private final List<ScoreFeature> features;
+
+    private volatile Set<ScoreData> lastSkippedData = EnumSet.noneOf(ScoreData.class);
+
+    @Autowired
+    public FetchPlanner(RecommendationWeightsConfig weights,
+                        DownstreamSwitches downstreamSwitches,
+                        ObjectProvider<ScoreFeature> additionalFeatures) {
+        this(weights, downstreamSwitches, concat(List.of(CoreScoreFeature.values()), additionalFeatures.orderedStream().toList()));
+    }
+
+    FetchPlanner(RecommendationWeightsConfig weights,
+                 DownstreamSwitches downstreamSwitches,
+                 List<? extends ScoreFeature> features) {
+        this.weights = weights;
+        this.downstreamSwitches = downstreamSwitches;
+        this.features = List.copyOf(features);
+    }
+
+    /**
+     * Plans the data of a recommendation request.
+     *
+     * @return the plan with the data at least one enabled score feature depends on, from services
+     * that are switched on
+     */
+    public FetchPlan plan() {
+        EnumSet<ScoreData> requiredData = EnumSet.noneOf(ScoreData.class);
+        for (ScoreFeature feature : features) {
+            if (feature.isEnabled(weights)) {
+                requiredData.addAll(feature.dependencies());
+            }
+        }
+        requiredData.removeIf(data -> !data.downstreams().stream().allMatch(downstreamSwitches::isEnabled));
+
+        Set<ScoreData> skippedData = EnumSet.complementOf(requiredData);
+        if (!skippedData.equals(lastSkippedData)) {
+            lastSkippedData = skippedData;
+            LogUtil.info("Fetch plan changed. Skipping data of disabled score features or services: {}", skippedData);
+        }
+        return new FetchPlan(Collections.unmodifiableSet(requiredData));
+    }
+
+    private static List<ScoreFeature> concat(List<? extends ScoreFeature> first, List<? extends ScoreFeature> second) {
+        List<ScoreFeature> features = new ArrayList<>(first);
+        features.addAll(second);
+        return features;
+    }
+}
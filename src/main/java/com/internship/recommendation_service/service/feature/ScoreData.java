@@ -0,0 +1,36 @@
+package com.internship.recommendation_service.service.feature;
+
+import com.internship.recommendation_service.service.client.Downstream;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The data fetched from downstream services per recommendation request that score features
+ * depend on. Data that no enabled feature depends on, or whose downstream service is switched off,
+ * is not fetched.
+ */
+public enum ScoreData {
+    USER_COORDINATES(Downstream.USER_SERVICE, Downstream.GEOLOCATION_SERVICE),
+    USER_PREFERENCES(Downstream.USER_SERVICE),
+    FAVORITE_WORKERS(Downstream.USER_SERVICE),
+    WORKER_REVIEW_STATS(Downstream.REVIEW_SERVICE),
+    JOB_REVIEW_STATS(Downstream.REVIEW_SERVICE),
+    WORKER_REPORT_STATS(Downstream.REPORT_SERVICE),
+    JOB_REPORT_STATS(Downstream.REPORT_SERVICE),
+    JOB_RESERVATION_COUNTS(Downstream.RESERVATION_SERVICE);
+
+    private final Set<Downstream> downstreams;
+
+    ScoreData(Downstream downstream, Downstream... otherDownstreams) {
+        this.downstreams = EnumSet.of(downstream, otherDownstreams);
+    }
+
+    /**
+     * Returns the downstream services the data is fetched from. The coordinates of the user are
+     * looked up from the address in the user details, so they need two services.
+     */
+    public Set<Downstream> downstreams() {
+        return downstreams;
+    }
+}
@@ -0,0 +1,33 @@
+package com.internship.recommendation_service.service.feature;
+
+import com.internship.recommendation_service.config.property.RecommendationWeightsConfig;
+
+import java.util.Set;
+
+/**
+ * A component of the recommendation score. Every feature declares whether its weights let it
+ * contribute to the score and which downstream data it is calculated from, so the
+ * {@link FetchPlanner} can leave out the data of features that cannot contribute.
+ * <p>
+ * The features of the {@link com.internship.recommendation_service.util.RecommendationEngine} are
+ * the {@link CoreScoreFeature}s. Additional features can be declared as beans, but they only add
+ * their dependencies to the fetch plan: the engine scores the core features alone, so such a bean
+ * keeps data fetched, for example for a feature that is calculated elsewhere, without changing the
+ * score.
+ */
+public interface ScoreFeature {
+    /**
+     * Returns whether the feature can contribute to the score with the given weights.
+     *
+     * @param weights the weights of the recommendation score
+     * @return false if all weights of the feature are zero
+     */
+    boolean isEnabled(RecommendationWeightsConfig weights);
+
+    /**
+     * Returns the downstream data the feature is calculated from.
+     *
+     * @return the data the feature depends on
+     */
+    Set<ScoreData> dependencies();
+}
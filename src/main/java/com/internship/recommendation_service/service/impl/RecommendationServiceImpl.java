@@ -1,12 +1,29 @@
 package com.internship.recommendation_service.service.impl;
 
+import com.internship.recommendation_service.config.property.RecommendationDefaultsConfig;
+import com.internship.recommendation_service.config.property.RecommendationPipelineConfig;
 import com.internship.recommendation_service.dto.external.*;
 import com.internship.recommendation_service.dto.response.JobScoreResponse;
+import com.internship.recommendation_service.exception.DownstreamDisabledException;
 import com.internship.recommendation_service.exception.ServiceUnavailableException;
 import com.internship.recommendation_service.service.RecommendationService;
+import com.internship.recommendation_service.service.catalog.JobCatalog;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
 import com.internship.recommendation_service.service.client.*;
+import com.internship.recommendation_service.service.feature.FetchPlan;
+import com.internship.recommendation_service.service.feature.FetchPlanner;
+import com.internship.recommendation_service.service.feature.ScoreData;
+import com.internship.recommendation_service.service.stats.JobStats;
+import com.internship.recommendation_service.service.stats.JobStatsStore;
+import com.internship.recommendation_service.util.BoundedTopK;
 import com.internship.recommendation_service.util.LogUtil;
 import com.internship.recommendation_service.util.RecommendationEngine;
+import com.internship.recommendation_service.util.RecommendationMetrics;
+import com.internship.recommendation_service.util.RequestDeadline;
+import com.internship.recommendation_service.util.RequestLogSummary;
+import com.internship.recommendation_service.util.RequestScopedMemo;
+import com.internship.recommendation_service.util.TopScoreThreshold;
+import com.internship.recommendation_service.util.UserScoringContext;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,69 +34,145 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 @Service
 @Validated
 @Slf4j
 @RequiredArgsConstructor
 public class RecommendationServiceImpl implements RecommendationService {
-    private final JobServiceClient jobServiceClient;
+    private static final Comparator<JobScoreResponse> SCORE_ORDER = Comparator.comparing(JobScoreResponse::score);
+    private static final String ACTIVE_JOB_STATUS = "ACCEPTED";
+
+    private final JobCatalog jobCatalog;
     private final UserServiceClient userServiceClient;
     private final ReviewServiceClient reviewServiceClient;
     private final ReportServiceClient reportServiceClient;
     private final ReservationServiceClient reservationServiceClient;
+    private final JobStatsStore jobStatsStore;
 
     private final GeolocationServiceClient geoLocationServiceClient;
     private final RecommendationEngine recommendationEngine;
+    private final FetchPlanner fetchPlanner;
+    private final RecommendationPipelineConfig pipelineConfig;
+    private final RecommendationDefaultsConfig defaultsConfig;
+    private final RecommendationMetrics recommendationMetrics;
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The request is bounded by the {@link RequestDeadline} carried in the Reactor context, or by the
+     * default timeout if there is none. Jobs whose data misses the deadline are scored with default
+     * stats and marked as partial.
+     */
     @Override
     public Flux<JobScoreResponse> getJobRecommendations(int limit) {
         Long userId = Long.parseLong((String) SecurityContextHolder.getContext().getAuthentication().getPrincipal());
 
+        return Flux.deferContextual(context ->
+                getJobRecommendations(userId, limit, RequestDeadline.from(context, defaultsConfig.getTimeout())));
+    }
+
+    private Flux<JobScoreResponse> getJobRecommendations(Long userId, int limit, RequestDeadline deadline) {
         LogUtil.info("Getting job recommendations for user {}", userId);
 
-        // Fetch user-specific data concurrently
-        Mono<UserDTO> userDetailsMono = userServiceClient.getUserDetails(userId).cache();
-        Mono<GeoCoordinatesDTO> userCoordinatesMono = getUserCoordinates(userId, userDetailsMono);
-        Mono<UserPreferencesDTO> userPreferencesMono = userServiceClient.getUserPreferences(userId).cache();
-        Mono<List<Long>> favoriteWorkerIdsMono = userServiceClient.getFavoriteUserIds(userId).cache();
-        Mono<List<Long>> blockedWorkerIdsMono = userServiceClient.getBlockedUserIds(userId).cache();
-
-        // Get all active jobs
-        return jobServiceClient.getAllJobs()
-                .filter(this::isJobActive)
-                .filterWhen(job -> isNotBlockedByUser(job.userId(), blockedWorkerIdsMono))
-                .flatMap(job -> fetchDataAndScoreJob(job,
+        // Fetch user-specific data concurrently; data missing the deadline or left out of the fetch
+        // plan falls back to defaults
+        FetchPlan fetchPlan = fetchPlanner.plan();
+        Mono<GeoCoordinatesDTO> userCoordinatesMono = fetchPlan.requires(ScoreData.USER_COORDINATES)
+                ? deadline.bound(getUserCoordinates(userId, userServiceClient.getUserDetails(userId).cache()),
+                GeoCoordinatesDTO.DEFAULT_VALUE).cache()
+                : Mono.just(GeoCoordinatesDTO.DEFAULT_VALUE);
+        UserPreferencesDTO defaultPreferences = UserPreferencesDTO.defaultValue(userId,
+                defaultsConfig.getMaxDistance(),
+                defaultsConfig.getMinExperience());
+        Mono<UserPreferencesDTO> userPreferencesMono = fetchPlan.requires(ScoreData.USER_PREFERENCES)
+                ? deadline.bound(userServiceClient.getUserPreferences(userId), defaultPreferences).cache()
+                : Mono.just(defaultPreferences);
+        Mono<List<Long>> favoriteWorkerIdsMono = fetchPlan.requires(ScoreData.FAVORITE_WORKERS)
+                ? deadline.bound(userServiceClient.getFavoriteUserIds(userId), List.<Long>of()).cache()
+                : Mono.just(List.of());
+        Mono<List<Long>> blockedWorkerIdsMono = deadline.bound(userServiceClient.getBlockedUserIds(userId),
+                List.<Long>of()).cache();
+
+        // Worker-level stats are shared by all jobs of a worker, so fetch them once per request
+        RequestScopedMemo<ReviewStatsDTO> workerReviewStatsMemo = new RequestScopedMemo<>();
+        RequestScopedMemo<ReportStatsDTO> workerReportStatsMemo = new RequestScopedMemo<>();
+        TopScoreThreshold scoreThreshold = new TopScoreThreshold(limit);
+        RequestLogSummary requestSummary = new RequestLogSummary();
+
+        // Get all active jobs from the local catalog snapshot
+        int batchSize = Math.max(pipelineConfig.getBatchSize(), 1);
+        return jobCatalog.getJobFeatures()
+                .flatMapMany(jobFeatures -> compileUserContext(jobFeatures,
                         userCoordinatesMono,
                         userPreferencesMono,
-                        favoriteWorkerIdsMono))
-                .sort(Comparator.comparing(JobScoreResponse::score).reversed())
-                .take(limit)
-                .doOnComplete(() -> LogUtil.info("Finished generating recommendations for user {}", userId))
+                        favoriteWorkerIdsMono,
+                        blockedWorkerIdsMono)
+                        .flatMapMany(userContext -> {
+                            int[] nearbyRows = findRowsWithinPreferredDistance(jobFeatures, userContext);
+                            Flux<int[]> candidateBatches = selectCandidateBatches(jobFeatures,
+                                    nearbyRows,
+                                    userContext,
+                                    batchSize,
+                                    requestSummary);
+                            return pipelineConfig.isUpperBoundPruningEnabled()
+                                    ? scoreJobsWithPruning(jobFeatures,
+                                            candidateBatches,
+                                            batchSize,
+                                            userContext,
+                                            workerReviewStatsMemo,
+                                            workerReportStatsMemo,
+                                            fetchPlan,
+                                            scoreThreshold,
+                                            deadline,
+                                            requestSummary)
+                                    : candidateBatches.flatMap(rows -> scoreJobs(jobFeatures,
+                                                    rows,
+                                                    userContext,
+                                                    workerReviewStatsMemo,
+                                                    workerReportStatsMemo,
+                                                    fetchPlan,
+                                                    scoreThreshold,
+                                                    deadline,
+                                                    requestSummary),
+                                            Math.max(pipelineConfig.getBatchConcurrency(), 1));
+                        }))
+                .doOnNext(scoreThreshold::offer)
+                // Keep only the best `limit` scores instead of sorting the whole catalog
+                .collect(() -> new BoundedTopK<JobScoreResponse>(limit, SCORE_ORDER), BoundedTopK::offer)
+                .flatMapIterable(BoundedTopK::toDescendingList)
+                .doOnComplete(() -> requestSummary.logFinished(userId,
+                        workerReviewStatsMemo.getSavedLookups() + workerReportStatsMemo.getSavedLookups()))
+                .doOnComplete(() -> {
+                    if (deadline.getPartialResults() > 0) {
+                        LogUtil.warn("Request deadline of user {} exceeded. Scored {} jobs with default stats.",
+                                userId,
+                                deadline.getPartialResults());
+                    }
+                })
+                .doFinally(signal -> {
+                    recommendationMetrics.recordSavedWorkerLookups(
+                            workerReviewStatsMemo.getSavedLookups() + workerReportStatsMemo.getSavedLookups());
+                    recommendationMetrics.recordPartialJobs(deadline.getPartialResults());
+                })
                 .doOnError(e -> LogUtil.error("Error generating recommendations for user {}: {}",
                         userId,
                         e != null && e.getMessage() != null ? e.getMessage() : "Unknown error")
                 );
     }
 
-    /**
-     * Returns true if the job is active, false otherwise.
-     * A job is considered active if its status is "ACCEPTED".
-     *
-     * @param job the job to check
-     * @return true if the job is active, false otherwise
-     */
-    private boolean isJobActive(@Valid JobDTO job) {
-        boolean isActive = job != null && "ACCEPTED".equals(job.status());
-        LogUtil.info("Job {} is {}active (Status: {}).",
-                job != null ? job.id() : "null",
-                isActive ? "" : "not ",
-                job != null ? job.status() : "N/A");
-        return isActive;
-    }
-
     /**
      * Retrieves the geographical coordinates of the specified user.
      *
@@ -93,137 +186,667 @@ public class RecommendationServiceImpl implements RecommendationService {
                     LogUtil.info("Getting user coordinates for user {}", userId);
                     return geoLocationServiceClient.getCoordinates(userDTO);
                 })
+                // While user-service is switched off, the distance is scored from the default coordinates
+                .onErrorResume(DownstreamDisabledException.class, e -> Mono.just(GeoCoordinatesDTO.DEFAULT_VALUE))
                 .doOnError(e -> LogUtil.warn("Failed to get coordinates for user {}: {}", userId, e.getMessage()))
                 .cache();
     }
 
     /**
-     * Checks if the specified worker is not blocked by the user.
+     * Compiles the data of the user that every job of the request is scored against, once all of
+     * it has arrived. Whether the per-job scoring detail of the request is logged is sampled here.
+     *
+     * @param jobFeatures           the features of all jobs of the catalog
+     * @param userCoordinatesMono   a Mono emitting the GeoCoordinatesDTO representing user's coordinates
+     * @param userPreferencesMono   a Mono emitting the UserPreferencesDTO containing user preferences
+     * @param favoriteWorkerIdsMono a Mono emitting a list of IDs of workers marked as favorite by the user
+     * @param blockedWorkerIdsMono  a Mono emitting a list of IDs of workers blocked by the user
+     * @return a Mono emitting the compiled user data
+     */
+    private Mono<UserScoringContext> compileUserContext(JobFeatureStore jobFeatures,
+                                                        Mono<GeoCoordinatesDTO> userCoordinatesMono,
+                                                        Mono<UserPreferencesDTO> userPreferencesMono,
+                                                        Mono<List<Long>> favoriteWorkerIdsMono,
+                                                        Mono<List<Long>> blockedWorkerIdsMono) {
+        return Mono.zip(userCoordinatesMono,
+                        userPreferencesMono,
+                        favoriteWorkerIdsMono,
+                        blockedWorkerIdsMono.defaultIfEmpty(List.of()))
+                .map(tuple -> UserScoringContext.compile(tuple.getT1(),
+                        tuple.getT2(),
+                        tuple.getT3(),
+                        tuple.getT4(),
+                        jobFeatures,
+                        defaultsConfig,
+                        LogUtil.isSampled(pipelineConfig.getJobDetailLogSampleRate())));
+    }
+
+    /**
+     * Finds the rows of the jobs within the preferred distance of the user with the spatial index
+     * of the catalog, so jobs that cannot score distance points are dropped before any of their
+     * stats are fetched.
+     *
+     * @param jobFeatures the features of all jobs of the catalog
+     * @param userContext the compiled data of the user
+     * @return the rows within the preferred distance in ascending order, or null if the radius
+     * prefilter is disabled or the user coordinates are unknown
+     */
+    private int[] findRowsWithinPreferredDistance(JobFeatureStore jobFeatures, UserScoringContext userContext) {
+        if (!pipelineConfig.isRadiusPrefilterEnabled() || !userContext.isDistanceScored()) {
+            return null;
+        }
+
+        int[] rows = jobFeatures.spatialIndex().rowsWithin(jobFeatures,
+                userContext.latitude(),
+                userContext.longitude(),
+                userContext.preferredDistance());
+        if (LogUtil.isDebugEnabled()) {
+            LogUtil.debug("Found {} of {} jobs within {}km", rows.length, jobFeatures.size(), userContext.preferredDistance());
+        }
+        return rows;
+    }
+
+    /**
+     * Splits the given rows of the active jobs of workers not blocked by the user into batches.
      * <p>
-     * This method logs the worker ID being checked, retrieves the list of blocked worker IDs,
-     * and determines whether the given worker ID is not present in that list.
+     * A job is considered active if its status is "ACCEPTED". The rows are scanned lazily, one
+     * batch per downstream request, so scoring of the first batches starts before all rows have
+     * been scanned.
      *
-     * @param workerId             The ID of the worker to check.
-     * @param blockedWorkerIdsMono A Mono emitting a list of blocked worker IDs.
-     * @return A Mono emitting true if the worker is not blocked, false if blocked, or true if the list is empty.
+     * @param jobFeatures    the features of all jobs of the catalog
+     * @param rows           the rows to select from in ascending order, or null to scan all rows
+     * @param userContext    the compiled data of the user
+     * @param batchSize      the maximum number of rows per batch
+     * @param requestSummary the counts of the request that are logged once it finishes
+     * @return a Flux emitting the rows of the candidate jobs in batches
      */
-    private Mono<Boolean> isNotBlockedByUser(Long workerId, Mono<List<Long>> blockedWorkerIdsMono) {
-        LogUtil.info("Checking if worker {} is NOT blocked by user", workerId);
-        return blockedWorkerIdsMono
-                .map(blockedWorkers -> {
-                    boolean notBlocked = !blockedWorkers.contains(workerId);
-                    LogUtil.info("Checking if worker {} is blocked. Blocked list size: {}. Result: {}",
-                            workerId, blockedWorkers.size(), notBlocked ? "Not Blocked" : "Blocked");
-                    return notBlocked;
-                })
-                .defaultIfEmpty(true);
+    private Flux<int[]> selectCandidateBatches(JobFeatureStore jobFeatures,
+                                               int[] rows,
+                                               UserScoringContext userContext,
+                                               int batchSize,
+                                               RequestLogSummary requestSummary) {
+        short activeStatusCode = jobFeatures.statusCodeOf(ACTIVE_JOB_STATUS);
+        if (activeStatusCode == JobFeatureStore.MISSING_CODE) {
+            LogUtil.info("No active jobs among {} jobs", jobFeatures.size());
+            return Flux.empty();
+        }
+
+        int rowCount = rows != null ? rows.length : jobFeatures.size();
+
+        return Flux.<int[], Integer>generate(() -> 0, (nextPosition, sink) -> {
+            int[] batch = new int[batchSize];
+            int batchLength = 0;
+            int position = nextPosition;
+
+            while (position < rowCount && batchLength < batchSize) {
+                int row = rows != null ? rows[position] : position;
+                if (jobFeatures.statusCode(row) == activeStatusCode &&
+                    !userContext.isBlocked(jobFeatures.workerId(row))) {
+                    batch[batchLength++] = row;
+                }
+                position++;
+            }
+
+            if (batchLength > 0) {
+                requestSummary.addCandidateJobs(batchLength);
+                sink.next(batchLength == batchSize ? batch : Arrays.copyOf(batch, batchLength));
+            }
+            if (position >= rowCount) {
+                sink.complete();
+            }
+            return position;
+        });
     }
 
     /**
-     * Retrieves all relevant data for a job and calculates its recommendation score.
+     * Calculates the recommendation scores of a batch of jobs.
+     * <p>
+     * Jobs whose stats are precomputed in the {@link JobStatsStore} are scored from those stats;
+     * the stats of the other jobs are fetched live from the downstream services.
      *
-     * @param jobDetails            the job for which data is to be retrieved
-     * @param userCoordinatesMono   a Mono emitting the GeoCoordinatesDTO representing user's coordinates
-     * @param userPreferencesMono   a Mono emitting the UserPreferencesDTO containing user preferences
-     * @param favoriteWorkerIdsMono a Mono emitting a list of IDs of workers marked as favorite by the user
-     * @return a Mono emitting a JobScoreResponse containing the calculated score
+     * @param jobFeatures           the features of all jobs of the catalog
+     * @param rows                  the rows of the jobs to score
+     * @param userContext           the compiled data of the user
+     * @param workerReviewStatsMemo the request-scoped memo of worker review statistics
+     * @param workerReportStatsMemo the request-scoped memo of worker report statistics
+     * @param fetchPlan             the downstream data fetched by the request
+     * @param scoreThreshold        the lowest of the top scores of the request so far
+     * @param deadline              the deadline of the request
+     * @param requestSummary        the counts of the request that are logged once it finishes
+     * @return a Flux emitting a JobScoreResponse for every job of the batch that may enter the top scores
      */
-    @Valid
-    private Mono<JobScoreResponse> fetchDataAndScoreJob(
-            JobDTO jobDetails,
-            Mono<GeoCoordinatesDTO> userCoordinatesMono,
-            Mono<UserPreferencesDTO> userPreferencesMono,
-            Mono<List<Long>> favoriteWorkerIdsMono) {
-        LogUtil.info("Fetching data for job {}", jobDetails.id());
+    private Flux<JobScoreResponse> scoreJobs(
+            JobFeatureStore jobFeatures,
+            int[] rows,
+            UserScoringContext userContext,
+            RequestScopedMemo<ReviewStatsDTO> workerReviewStatsMemo,
+            RequestScopedMemo<ReportStatsDTO> workerReportStatsMemo,
+            FetchPlan fetchPlan,
+            TopScoreThreshold scoreThreshold,
+            RequestDeadline deadline,
+            RequestLogSummary requestSummary) {
+        return jobStatsStore.getAll(jobFeatures, rows)
+                .flatMapMany(precomputedStats -> {
+                    int[] missingRows = rowsWithoutPrecomputedStats(jobFeatures, rows, precomputedStats);
+                    Flux<JobScoreResponse> liveScores = missingRows.length == 0
+                            ? Flux.empty()
+                            : fetchDataAndScoreJobs(jobFeatures,
+                                    missingRows,
+                                    userContext,
+                                    workerReviewStatsMemo,
+                                    workerReportStatsMemo,
+                                    fetchPlan,
+                                    scoreThreshold,
+                                    deadline,
+                                    requestSummary);
+                    if (precomputedStats.isEmpty()) {
+                        return liveScores;
+                    }
+
+                    return Flux.merge(scorePrecomputedJobs(jobFeatures,
+                                    rows,
+                                    precomputedStats,
+                                    userContext,
+                                    fetchPlan,
+                                    deadline,
+                                    requestSummary),
+                            liveScores);
+                });
+    }
+
+    /**
+     * Calculates the recommendation scores of the candidate jobs in two phases, skipping the review
+     * and report stats of jobs that cannot reach the top {@code limit} scores.
+     * <p>
+     * First, jobs with precomputed stats are scored exactly, and an upper bound of the score of every
+     * other job is calculated from its local features and its reservation count. Then the other jobs
+     * are scored in batches in descending order of their upper bound, until the {@code limit}-th best
+     * score so far is at least the upper bound of the next job. No job left can then enter the top
+     * scores, so the stats of the remaining jobs are never fetched. The reservation counts fetched
+     * for the upper bounds are reused to score the jobs, so they are fetched once per job.
+     * <p>
+     * Up to the batch concurrency of batches are selected before their scores arrive, so the pruning
+     * trades a few fetched batches for keeping the batches concurrent.
+     *
+     * @param jobFeatures           the features of all jobs of the catalog
+     * @param candidateBatches      the rows of the candidate jobs in batches
+     * @param batchSize             the maximum number of rows per batch of the second phase
+     * @param userContext           the compiled data of the user
+     * @param workerReviewStatsMemo the request-scoped memo of worker review statistics
+     * @param workerReportStatsMemo the request-scoped memo of worker report statistics
+     * @param fetchPlan             the downstream data fetched by the request
+     * @param scoreThreshold        the lowest of the top scores of the request so far
+     * @param deadline              the deadline of the request
+     * @param requestSummary        the counts of the request that are logged once it finishes
+     * @return a Flux emitting a JobScoreResponse for every job that was not pruned
+     */
+    private Flux<JobScoreResponse> scoreJobsWithPruning(
+            JobFeatureStore jobFeatures,
+            Flux<int[]> candidateBatches,
+            int batchSize,
+            UserScoringContext userContext,
+            RequestScopedMemo<ReviewStatsDTO> workerReviewStatsMemo,
+            RequestScopedMemo<ReportStatsDTO> workerReportStatsMemo,
+            FetchPlan fetchPlan,
+            TopScoreThreshold scoreThreshold,
+            RequestDeadline deadline,
+            RequestLogSummary requestSummary) {
+        int batchConcurrency = Math.max(pipelineConfig.getBatchConcurrency(), 1);
+        Queue<RankedRow> rankedRows = new ConcurrentLinkedQueue<>();
 
-        // Get worker ID
-        Long workerId = jobDetails.userId();
+        Flux<JobScoreResponse> precomputedScores = candidateBatches
+                .flatMap(rows -> jobStatsStore.getAll(jobFeatures, rows)
+                        .flatMapMany(precomputedStats -> {
+                            int[] missingRows = rowsWithoutPrecomputedStats(jobFeatures, rows, precomputedStats);
+                            Mono<Void> ranking = missingRows.length == 0
+                                    ? Mono.empty()
+                                    : rankRows(jobFeatures,
+                                            missingRows,
+                                            userContext,
+                                            fetchPlan,
+                                            deadline)
+                                            .doOnNext(rankedRows::addAll)
+                                            .then();
+                            return ranking.thenMany(scorePrecomputedJobs(jobFeatures,
+                                    rows,
+                                    precomputedStats,
+                                    userContext,
+                                    fetchPlan,
+                                    deadline,
+                                    requestSummary));
+                        }), batchConcurrency);
 
-        // Fetch worker and job specific data concurrently
-        Mono<ReviewStatsDTO> workerReviewStatsMono = reviewServiceClient.getUserRating(workerId);
-        Mono<ReviewStatsDTO> jobReviewStatsMono = reviewServiceClient.getJobRating(jobDetails.id());
+        Flux<JobScoreResponse> liveScores = Flux.defer(() -> selectRankedBatches(rankedRows, scoreThreshold, batchSize, requestSummary))
+                .flatMap(batch -> fetchDataAndScoreJobs(jobFeatures,
+                                Arrays.stream(batch).mapToInt(RankedRow::row).toArray(),
+                                Mono.fromSupplier(() -> reservationCountsOf(jobFeatures, batch)),
+                                new AtomicBoolean(Arrays.stream(batch).anyMatch(RankedRow::reservationCountMissed)),
+                                userContext,
+                                workerReviewStatsMemo,
+                                workerReportStatsMemo,
+                                fetchPlan,
+                                scoreThreshold,
+                                deadline,
+                                requestSummary),
+                        batchConcurrency);
 
-        Mono<ReportStatsDTO> workerReportStatsMono = reportServiceClient.getUserReportStats(workerId);
-        Mono<ReportStatsDTO> jobReportStatsMono = reportServiceClient.getJobReportStats(jobDetails.id());
+        return Flux.concat(precomputedScores, liveScores);
+    }
 
-        Mono<Long> jobReservationCountMono = reservationServiceClient.getJobCount(jobDetails.id());
-        // Combine when all data is ready
-        return Mono.zip(userCoordinatesMono,
-                        userPreferencesMono,
-                        workerReviewStatsMono,
+    /**
+     * Calculates the upper bound of the score of every given job from its local features and its
+     * reservation count. Jobs whose reservation count misses the deadline cannot be bounded.
+     *
+     * @return a Mono emitting the given rows with their upper bound and reservation count
+     */
+    private Mono<List<RankedRow>> rankRows(JobFeatureStore jobFeatures,
+                                           int[] rows,
+                                           UserScoringContext userContext,
+                                           FetchPlan fetchPlan,
+                                           RequestDeadline deadline) {
+        List<Long> jobIds = Arrays.stream(rows).mapToObj(jobFeatures::id).toList();
+        AtomicBoolean countsMissed = new AtomicBoolean();
+
+        return fetchReservationCounts(jobIds, fetchPlan, deadline, countsMissed)
+                .map(reservationCounts -> {
+                    List<RankedRow> ranked = new ArrayList<>(rows.length);
+                    for (int row : rows) {
+                        long reservationCount = reservationCounts.getOrDefault(jobFeatures.id(row), 0L);
+                        double upperBound = countsMissed.get()
+                                ? Double.POSITIVE_INFINITY
+                                : recommendationEngine.calculateScoreUpperBound(jobFeatures.workerId(row),
+                                        userContext,
+                                        jobFeatures,
+                                        row,
+                                        reservationCount);
+                        ranked.add(new RankedRow(row, upperBound, reservationCount, countsMissed.get()));
+                    }
+                    return ranked;
+                });
+    }
+
+    /**
+     * Splits the ranked rows into batches in descending order of their upper bound. Every batch is
+     * only selected once the previous ones were requested, and selection stops at the first row
+     * whose upper bound does not exceed the worst of the top scores so far.
+     *
+     * @param rankedRows     the rows with their upper bound
+     * @param scoreThreshold the lowest of the top scores of the request so far
+     * @param batchSize      the maximum number of rows per batch
+     * @param requestSummary the counts of the request that are logged once it finishes
+     * @return a Flux emitting the ranked rows of the jobs that may still enter the top scores in batches
+     */
+    private Flux<RankedRow[]> selectRankedBatches(Collection<RankedRow> rankedRows,
+                                            TopScoreThreshold scoreThreshold,
+                                            int batchSize,
+                                            RequestLogSummary requestSummary) {
+        RankedRow[] ranked = rankedRows.toArray(RankedRow[]::new);
+        Arrays.sort(ranked, Comparator.comparingDouble(RankedRow::upperBound).reversed());
+
+        return Flux.<RankedRow[], Integer>generate(() -> 0, (nextPosition, sink) -> {
+            double threshold = scoreThreshold.get();
+
+            int position = nextPosition;
+            while (position < ranked.length && position - nextPosition < batchSize && ranked[position].upperBound() > threshold) {
+                position++;
+            }
+
+            if (position > nextPosition) {
+                sink.next(Arrays.copyOfRange(ranked, nextPosition, position));
+            }
+            if (position >= ranked.length || ranked[position].upperBound() <= threshold) {
+                int prunedJobs = ranked.length - position;
+                requestSummary.addPrunedJobs(prunedJobs);
+                recommendationMetrics.recordPrunedJobs(prunedJobs);
+                sink.complete();
+            }
+            return position;
+        });
+    }
+
+    /**
+     * Calculates the recommendation scores of the jobs of a batch that have precomputed stats.
+     * Stats left out of the fetch plan are replaced by their defaults, so a job scores the same
+     * whether its stats were precomputed or fetched live.
+     *
+     * @return a Flux emitting a JobScoreResponse for every job with precomputed stats
+     */
+    private Flux<JobScoreResponse> scorePrecomputedJobs(JobFeatureStore jobFeatures,
+                                                        int[] rows,
+                                                        Map<Long, JobStats> precomputedStats,
+                                                        UserScoringContext userContext,
+                                                        FetchPlan fetchPlan,
+                                                        RequestDeadline deadline,
+                                                        RequestLogSummary requestSummary) {
+        if (precomputedStats.isEmpty()) {
+            return Flux.empty();
+        }
+
+        requestSummary.addPrecomputedJobs(precomputedStats.size());
+        return Flux.defer(() -> {
+            List<JobScoreResponse> scores = new ArrayList<>(precomputedStats.size());
+            for (int row : rows) {
+                long workerId = jobFeatures.workerId(row);
+                long jobId = jobFeatures.id(row);
+                JobStats stats = precomputedStats.get(jobId);
+                if (stats != null) {
+                    scores.add(markPartialIfMissed(buildJobScoreResponse(
+                            jobFeatures,
+                            row,
+                            userContext,
+                            fetchPlan.requires(ScoreData.WORKER_REVIEW_STATS)
+                                    ? stats.workerReviewStats()
+                                    : ReviewStatsDTO.defaultValue(workerId, "USER"),
+                            fetchPlan.requires(ScoreData.JOB_REVIEW_STATS)
+                                    ? stats.jobReviewStats()
+                                    : ReviewStatsDTO.defaultValue(jobId, "JOB"),
+                            fetchPlan.requires(ScoreData.WORKER_REPORT_STATS)
+                                    ? stats.workerReportStats()
+                                    : ReportStatsDTO.defaultValue(workerId, "USER"),
+                            fetchPlan.requires(ScoreData.JOB_REPORT_STATS)
+                                    ? stats.jobReportStats()
+                                    : ReportStatsDTO.defaultValue(jobId, "JOB"),
+                            fetchPlan.requires(ScoreData.JOB_RESERVATION_COUNTS)
+                                    ? stats.reservationCount()
+                                    : 0L), deadline, false));
+                }
+            }
+            return Flux.fromIterable(scores);
+        });
+    }
+
+    private static Map<Long, Long> reservationCountsOf(JobFeatureStore jobFeatures, RankedRow[] batch) {
+        Map<Long, Long> reservationCounts = new HashMap<>(batch.length * 2);
+        for (RankedRow rankedRow : batch) {
+            reservationCounts.put(jobFeatures.id(rankedRow.row()), rankedRow.reservationCount());
+        }
+        return reservationCounts;
+    }
+
+    private static int[] rowsWithoutPrecomputedStats(JobFeatureStore jobFeatures, int[] rows, Map<Long, JobStats> precomputedStats) {
+        return precomputedStats.isEmpty()
+                ? rows
+                : Arrays.stream(rows).filter(row -> !precomputedStats.containsKey(jobFeatures.id(row))).toArray();
+    }
+
+    /**
+     * Retrieves all relevant data for a batch of jobs and calculates their recommendation scores.
+     * <p>
+     * Worker and job statistics are fetched with one bulk stage per downstream service for the whole
+     * batch instead of one call per job and statistic. Every stage is bounded by the remaining budget
+     * of the request; the jobs of a batch with a stage that missed the deadline are scored with the
+     * default stats of that stage and marked as partial. Stats that no enabled score feature
+     * depends on according to the fetch plan are not fetched at all.
+     * <p>
+     * Report stats are fetched in a second stage, and only for the jobs whose score they can change.
+     * Reports only lower positive scores, so jobs whose score before penalties is not positive, or
+     * whose upper bound cannot exceed the top scores so far, are settled without them. The latter
+     * cannot enter the top scores and are dropped.
+     *
+     * @param jobFeatures           the features of all jobs of the catalog
+     * @param rows                  the rows of the jobs for which data is to be retrieved
+     * @param userContext           the compiled data of the user
+     * @param workerReviewStatsMemo the request-scoped memo of worker review statistics
+     * @param workerReportStatsMemo the request-scoped memo of worker report statistics
+     * @param fetchPlan             the downstream data fetched by the request
+     * @param scoreThreshold        the lowest of the top scores of the request so far
+     * @param deadline              the deadline of the request
+     * @param requestSummary        the counts of the request that are logged once it finishes
+     * @return a Flux emitting a JobScoreResponse for every job of the batch that may enter the top scores
+     */
+    private Flux<JobScoreResponse> fetchDataAndScoreJobs(
+            JobFeatureStore jobFeatures,
+            int[] rows,
+            UserScoringContext userContext,
+            RequestScopedMemo<ReviewStatsDTO> workerReviewStatsMemo,
+            RequestScopedMemo<ReportStatsDTO> workerReportStatsMemo,
+            FetchPlan fetchPlan,
+            TopScoreThreshold scoreThreshold,
+            RequestDeadline deadline,
+            RequestLogSummary requestSummary) {
+        List<Long> jobIds = Arrays.stream(rows).mapToObj(jobFeatures::id).toList();
+        AtomicBoolean statsMissed = new AtomicBoolean();
+        return fetchDataAndScoreJobs(jobFeatures,
+                rows,
+                fetchReservationCounts(jobIds, fetchPlan, deadline, statsMissed),
+                statsMissed,
+                userContext,
+                workerReviewStatsMemo,
+                workerReportStatsMemo,
+                fetchPlan,
+                scoreThreshold,
+                deadline,
+                requestSummary);
+    }
+
+    /**
+     * Retrieves the remaining data for a batch of jobs whose reservation counts are already known
+     * or being fetched, and calculates their recommendation scores like the variant above.
+     *
+     * @param reservationCountsMono the reservation counts of the jobs, keyed by job ID
+     * @param statsMissed           whether a stats stage of the batch missed the deadline, set by
+     *                              the stages of the batch
+     */
+    private Flux<JobScoreResponse> fetchDataAndScoreJobs(
+            JobFeatureStore jobFeatures,
+            int[] rows,
+            Mono<Map<Long, Long>> reservationCountsMono,
+            AtomicBoolean statsMissed,
+            UserScoringContext userContext,
+            RequestScopedMemo<ReviewStatsDTO> workerReviewStatsMemo,
+            RequestScopedMemo<ReportStatsDTO> workerReportStatsMemo,
+            FetchPlan fetchPlan,
+            TopScoreThreshold scoreThreshold,
+            RequestDeadline deadline,
+            RequestLogSummary requestSummary) {
+        requestSummary.addFetchedJobs(rows.length);
+
+        Set<Long> workerIds = Arrays.stream(rows).mapToObj(jobFeatures::workerId).collect(Collectors.toSet());
+        List<Long> jobIds = Arrays.stream(rows).mapToObj(jobFeatures::id).toList();
+
+        // Fetch worker and job specific data for the whole batch concurrently
+        Mono<Map<Long, ReviewStatsDTO>> workerReviewStatsMono = fetchPlan.requires(ScoreData.WORKER_REVIEW_STATS)
+                ? deadline.bound(workerReviewStatsMemo.getAll(workerIds, reviewServiceClient::getUserRatings), Map.of(), statsMissed)
+                : Mono.just(Map.of());
+        Mono<Map<Long, ReviewStatsDTO>> jobReviewStatsMono = fetchPlan.requires(ScoreData.JOB_REVIEW_STATS)
+                ? deadline.bound(reviewServiceClient.getJobRatings(jobIds), Map.of(), statsMissed)
+                : Mono.just(Map.of());
+
+        // Combine when all data but the report stats is ready
+        return Mono.zip(workerReviewStatsMono,
                         jobReviewStatsMono,
-                        workerReportStatsMono,
-                        jobReportStatsMono,
-                        favoriteWorkerIdsMono,
-                        jobReservationCountMono)
-                .map(tuple -> buildJobScoreResponse(
-                        jobDetails,
-                        workerId,
-                        tuple.getT1(),
-                        tuple.getT2(),
-                        tuple.getT3(),
-                        tuple.getT4(),
-                        tuple.getT5(),
-                        tuple.getT6(),
-                        tuple.getT7(),
-                        tuple.getT8()))
+                        reservationCountsMono)
+                .flatMapMany(tuple -> {
+                    double threshold = scoreThreshold.get();
+                    List<JobScoreResponse> scores = new ArrayList<>(rows.length);
+                    List<ReportedJob> reportedJobs = new ArrayList<>();
+                    int droppedJobs = 0;
+                    for (int row : rows) {
+                        long workerId = jobFeatures.workerId(row);
+                        long jobId = jobFeatures.id(row);
+                        ReportedJob job = new ReportedJob(row,
+                                tuple.getT1().getOrDefault(workerId, ReviewStatsDTO.defaultValue(workerId, "USER")),
+                                tuple.getT2().getOrDefault(jobId, ReviewStatsDTO.defaultValue(jobId, "JOB")),
+                                tuple.getT3().getOrDefault(jobId, 0L));
+
+                        double positiveScore = recommendationEngine.calculatePositiveScore(workerId,
+                                userContext,
+                                job.workerReviewStats(),
+                                job.jobReviewStats(),
+                                jobFeatures,
+                                row,
+                                job.reservationCount());
+                        if (!recommendationEngine.areReportsApplied(positiveScore)) {
+                            scores.add(scoreReportedJob(jobFeatures, job, userContext, Map.of(), Map.of(), deadline, statsMissed));
+                        } else if (recommendationEngine.calculateScoreUpperBound(positiveScore, jobFeatures, row, workerId) <= threshold) {
+                            droppedJobs++;
+                        } else {
+                            reportedJobs.add(job);
+                        }
+                    }
+
+                    int skippedReportLookups = rows.length - reportedJobs.size();
+                    if (skippedReportLookups > 0) {
+                        if (LogUtil.isDebugEnabled()) {
+                            LogUtil.debug("Skipped report stats of {} of {} jobs, {} of which cannot reach the top scores",
+                                    skippedReportLookups, rows.length, droppedJobs);
+                        }
+                        requestSummary.addSkippedReportLookups(skippedReportLookups);
+                        recommendationMetrics.recordSkippedReportLookups(skippedReportLookups);
+                    }
+                    if (reportedJobs.isEmpty()) {
+                        return Flux.fromIterable(scores);
+                    }
+
+                    return Flux.concat(Flux.fromIterable(scores), fetchReportsAndScoreJobs(jobFeatures,
+                            reportedJobs,
+                            userContext,
+                            workerReportStatsMemo,
+                            fetchPlan,
+                            deadline,
+                            statsMissed));
+                })
                 .subscribeOn(Schedulers.boundedElastic()); // Perform blocking calls or CPU-intensive work off the event loop
     }
 
+    /**
+     * Fetches the report stats of the given jobs and calculates their recommendation scores.
+     *
+     * @return a Flux emitting a JobScoreResponse for every given job
+     */
+    private Flux<JobScoreResponse> fetchReportsAndScoreJobs(JobFeatureStore jobFeatures,
+                                                            List<ReportedJob> jobs,
+                                                            UserScoringContext userContext,
+                                                            RequestScopedMemo<ReportStatsDTO> workerReportStatsMemo,
+                                                            FetchPlan fetchPlan,
+                                                            RequestDeadline deadline,
+                                                            AtomicBoolean statsMissed) {
+        Set<Long> workerIds = jobs.stream().map(job -> jobFeatures.workerId(job.row())).collect(Collectors.toSet());
+        List<Long> jobIds = jobs.stream().map(job -> jobFeatures.id(job.row())).toList();
+
+        Mono<Map<Long, ReportStatsDTO>> workerReportStatsMono = fetchPlan.requires(ScoreData.WORKER_REPORT_STATS)
+                ? deadline.bound(workerReportStatsMemo.getAll(workerIds, reportServiceClient::getUsersReportStats), Map.of(), statsMissed)
+                : Mono.just(Map.of());
+        Mono<Map<Long, ReportStatsDTO>> jobReportStatsMono = fetchPlan.requires(ScoreData.JOB_REPORT_STATS)
+                ? deadline.bound(reportServiceClient.getJobsReportStats(jobIds), Map.of(), statsMissed)
+                : Mono.just(Map.of());
+
+        return Mono.zip(workerReportStatsMono, jobReportStatsMono)
+                .flatMapIterable(tuple -> {
+                    List<JobScoreResponse> scores = new ArrayList<>(jobs.size());
+                    for (ReportedJob job : jobs) {
+                        scores.add(scoreReportedJob(jobFeatures, job, userContext, tuple.getT1(), tuple.getT2(), deadline, statsMissed));
+                    }
+                    return scores;
+                });
+    }
+
+    /**
+     * Fetches the reservation counts of the given jobs, unless no enabled score feature depends on
+     * them.
+     */
+    private Mono<Map<Long, Long>> fetchReservationCounts(List<Long> jobIds,
+                                                         FetchPlan fetchPlan,
+                                                         RequestDeadline deadline,
+                                                         AtomicBoolean missed) {
+        if (!fetchPlan.requires(ScoreData.JOB_RESERVATION_COUNTS)) {
+            return Mono.just(Map.of());
+        }
+        return deadline.bound(reservationServiceClient.getJobCounts(jobIds), Map.of(), missed);
+    }
+
+    private JobScoreResponse scoreReportedJob(JobFeatureStore jobFeatures,
+                                              ReportedJob job,
+                                              UserScoringContext userContext,
+                                              Map<Long, ReportStatsDTO> workerReportStats,
+                                              Map<Long, ReportStatsDTO> jobReportStats,
+                                              RequestDeadline deadline,
+                                              AtomicBoolean statsMissed) {
+        long workerId = jobFeatures.workerId(job.row());
+        long jobId = jobFeatures.id(job.row());
+        return markPartialIfMissed(buildJobScoreResponse(
+                jobFeatures,
+                job.row(),
+                userContext,
+                job.workerReviewStats(),
+                job.jobReviewStats(),
+                workerReportStats.getOrDefault(workerId, ReportStatsDTO.defaultValue(workerId, "USER")),
+                jobReportStats.getOrDefault(jobId, ReportStatsDTO.defaultValue(jobId, "JOB")),
+                job.reservationCount()), deadline, statsMissed.get());
+    }
+
+    /**
+     * Marks the given score as partial if a stage it was built from missed the request deadline,
+     * and records it with the deadline.
+     *
+     * @param response    the score of a job
+     * @param deadline    the deadline of the request
+     * @param statsMissed whether a stats stage of the batch of the job missed the deadline
+     * @return the score, marked as partial if data was missing
+     */
+    private JobScoreResponse markPartialIfMissed(JobScoreResponse response, RequestDeadline deadline, boolean statsMissed) {
+        if (response == null || !(statsMissed || deadline.isRequestDataMissed())) {
+            return response;
+        }
+
+        deadline.recordPartialResult();
+        return response.asPartial();
+    }
+
     /**
      * Builds a JobScoreResponse by calculating the recommendation score for a given job
      * and worker using the provided data.
      *
-     * @param jobDetails        the details of the job for which the score is to be calculated
-     * @param workerId          the ID of the worker being considered
-     * @param userCoordinates   the geographical coordinates of the user
-     * @param userPreferences   the preferences of the user
-     * @param workerReviewStats review statistics of the worker
-     * @param jobReviewStats    review statistics of the job
-     * @param workerReportStats report information for the worker
-     * @param jobReportStats    report information for the job
-     * @param favoriteWorkerIds list of favorite worker IDs
+     * @param jobFeatures         the features of all jobs of the catalog
+     * @param row                 the row of the job for which the score is to be calculated
+     * @param userContext         the compiled data of the user
+     * @param workerReviewStats   review statistics of the worker
+     * @param jobReviewStats      review statistics of the job
+     * @param workerReportStats   report information for the worker
+     * @param jobReportStats      report information for the job
+     * @param jobReservationCount the number of finished reservations of the job
      * @return a JobScoreResponse containing the calculated score, or null if validation fails
      */
     @Valid
     private JobScoreResponse buildJobScoreResponse(
-            JobDTO jobDetails,
-            Long workerId,
-            GeoCoordinatesDTO userCoordinates,
-            UserPreferencesDTO userPreferences,
+            JobFeatureStore jobFeatures,
+            int row,
+            UserScoringContext userContext,
             ReviewStatsDTO workerReviewStats,
             ReviewStatsDTO jobReviewStats,
             ReportStatsDTO workerReportStats,
             ReportStatsDTO jobReportStats,
-            List<Long> favoriteWorkerIds,
-            Long jobReservationCount) {
-        LogUtil.info("Fetched all data. Calculating recommendation score for job {} for worker {}",
-                jobDetails.id(),
-                workerId);
+            long jobReservationCount) {
+        long workerId = jobFeatures.workerId(row);
+        long jobId = jobFeatures.id(row);
+        if (userContext.isJobDetailLogged()) {
+            LogUtil.debug("Fetched all data. Calculating recommendation score for job {} for worker {}",
+                    jobId,
+                    workerId);
+        }
 
         // Check if review types are valid
         if (!isValidReviewType(workerReviewStats, "USER", "Worker", workerId) ||
-            !isValidReviewType(jobReviewStats, "JOB", "Job", jobDetails.id())) {
+            !isValidReviewType(jobReviewStats, "JOB", "Job", jobId)) {
             throw new ServiceUnavailableException("Review types are invalid.");
         }
 
         // Check if report types are valid
         if (!isValidReportType(workerReportStats, "USER", "Worker", workerId) ||
-            !isValidReportType(jobReportStats, "JOB", "Job", jobDetails.id())) {
+            !isValidReportType(jobReportStats, "JOB", "Job", jobId)) {
             throw new ServiceUnavailableException("Report types are invalid.");
         }
 
         // Call the recommendation engine with all fetched data
         return recommendationEngine.calculateJobScore(
                 workerId,
-                userCoordinates,
-                userPreferences,
+                userContext,
                 workerReviewStats,
                 jobReviewStats,
                 workerReportStats,
                 jobReportStats,
-                jobDetails,
-                favoriteWorkerIds,
+                jobFeatures,
+                row,
                 jobReservationCount);
     }
 
@@ -236,7 +859,7 @@ public class RecommendationServiceImpl implements RecommendationService {
      * @param entityId     the ID of the entity for logging
      * @return true if the review type matches the expected type, false otherwise
      */
-    private boolean isValidReviewType(ReviewStatsDTO stats, String expectedType, String entityLabel, Long entityId) {
+    private boolean isValidReviewType(ReviewStatsDTO stats, String expectedType, String entityLabel, long entityId) {
         if (!expectedType.equals(stats.reviewType())) {
             LogUtil.error("{} {} has no {} review", entityLabel, entityId, expectedType.toLowerCase());
             return false;
@@ -253,11 +876,27 @@ public class RecommendationServiceImpl implements RecommendationService {
      * @param entityId     the ID of the entity for logging
      * @return true if the report type matches the expected type, false otherwise
      */
-    private boolean isValidReportType(ReportStatsDTO stats, String expectedType, String entityLabel, Long entityId) {
+    private boolean isValidReportType(ReportStatsDTO stats, String expectedType, String entityLabel, long entityId) {
         if (!expectedType.equals(stats.reportType())) {
             LogUtil.error("{} {} has no {} report", entityLabel, entityId, expectedType.toLowerCase());
             return false;
         }
         return true;
     }
+
+    /**
+     * A candidate job row with the upper bound of its score and the reservation count the bound was
+     * calculated from, which is the default if fetching it missed the deadline.
+     */
+    private record RankedRow(int row, double upperBound, long reservationCount, boolean reservationCountMissed) {
+    }
+
+    /**
+     * A job of a batch with the stats fetched before its report stats.
+     */
+    private record ReportedJob(int row,
+                               ReviewStatsDTO workerReviewStats,
+                               ReviewStatsDTO jobReviewStats,
+                               long reservationCount) {
+    }
 }
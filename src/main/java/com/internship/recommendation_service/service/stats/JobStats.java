@@ -0,0 +1,16 @@
+package com.internship.recommendation_service.service.stats;
+
+import com.internship.recommendation_service.dto.external.ReportStatsDTO;
+import com.internship.recommendation_service.dto.external.ReviewStatsDTO;
+
+/**
+ * The precomputed statistics of a job and of its worker, as read from the {@link JobStatsStore}.
+ */
+public record JobStats(
+        ReviewStatsDTO workerReviewStats,
+        ReviewStatsDTO jobReviewStats,
+        ReportStatsDTO workerReportStats,
+        ReportStatsDTO jobReportStats,
+        long reservationCount
+) {
+}
@@ -0,0 +1,36 @@
+package com.internship.recommendation_service.service.stats;
+
+/**
+ * The user-independent statistics precomputed per job by the {@link JobStatsRefresher}.
+ * <p>
+ * Every feature is stored in its own field of the Redis hash of a job, next to a field holding the
+ * time it was last refreshed, so a feature whose refresh failed keeps its previous value and
+ * timestamp while the others move on.
+ */
+public enum JobStatsFeature {
+    WORKER_RATING("workerRating"),
+    JOB_RATING("jobRating"),
+    WORKER_REPORTS("workerReports"),
+    JOB_REPORTS("jobReports"),
+    RESERVATIONS("reservations");
+
+    private final String field;
+
+    JobStatsFeature(String field) {
+        this.field = field;
+    }
+
+    /**
+     * Returns the name of the hash field holding the value of the feature.
+     */
+    public String field() {
+        return field;
+    }
+
+    /**
+     * Returns the name of the hash field holding the epoch millis the feature was last refreshed at.
+     */
+    public String refreshedAtField() {
+        return field + "RefreshedAt";
+    }
+}
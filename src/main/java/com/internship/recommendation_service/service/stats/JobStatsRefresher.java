@@ -0,0 +1,286 @@
+package com.internship.recommendation_service.service.stats;
+
+import com.internship.recommendation_service.config.property.JobStatsConfig;
+import com.internship.recommendation_service.service.catalog.JobCatalog;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
+import com.internship.recommendation_service.service.client.ReportServiceClient;
+import com.internship.recommendation_service.service.client.ReservationServiceClient;
+import com.internship.recommendation_service.service.client.ReviewServiceClient;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@link JobStatsStore} filled with the review, report and reservation stats of all
+ * active jobs of the catalog.
+ * <p>
+ * These stats do not depend on the user asking for recommendations, so they are fetched once per
+ * refresh interval with the bulk endpoints of the downstream services, in chunks of jobs, instead
+ * of once per request. The stats are fetched past the client caches, and a chunk that could not
+ * be retrieved fails instead of being filled with defaults. Each feature is fetched and written
+ * independently; a feature whose refresh failed keeps its previous values until they are older
+ * than the maximum age of the store.
+ * <p>
+ * Only the replica holding the refresh lease of the {@link JobStatsStore} refreshes the stats, so
+ * the downstream services see one refresh per interval however many replicas run. The time of the
+ * last complete refresh of every feature is exposed as a staleness gauge by that replica.
+ */
+@Service
+public class JobStatsRefresher {
+    private static final String METRIC_PREFIX = "recommendation.job.stats";
+    private static final String ACTIVE_JOB_STATUS = "ACCEPTED";
+
+    private final JobCatalog jobCatalog;
+    private final JobStatsStore jobStatsStore;
+    private final ReviewServiceClient reviewServiceClient;
+    private final ReportServiceClient reportServiceClient;
+    private final ReservationServiceClient reservationServiceClient;
+    private final JobStatsConfig jobStatsConfig;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final Map<JobStatsFeature, Instant> lastRefreshedAt = new ConcurrentHashMap<>();
+    private final String instanceId = UUID.randomUUID().toString();
+    private Disposable refreshLoop;
+
+    @Autowired
+    public JobStatsRefresher(JobCatalog jobCatalog,
+                             JobStatsStore jobStatsStore,
+                             ReviewServiceClient reviewServiceClient,
+                             ReportServiceClient reportServiceClient,
+                             ReservationServiceClient reservationServiceClient,
+                             JobStatsConfig jobStatsConfig,
+                             MeterRegistry meterRegistry) {
+        this(jobCatalog,
+                jobStatsStore,
+                reviewServiceClient,
+                reportServiceClient,
+                reservationServiceClient,
+                jobStatsConfig,
+                meterRegistry,
+                Clock.systemUTC());
+    }
+
+    JobStatsRefresher(JobCatalog jobCatalog,
+                      JobStatsStore jobStatsStore,
+                      ReviewServiceClient reviewServiceClient,
+                      ReportServiceClient reportServiceClient,
+                      ReservationServiceClient reservationServiceClient,
+                      JobStatsConfig jobStatsConfig,
+                      MeterRegistry meterRegistry,
+                      Clock clock) {
+        this.jobCatalog = jobCatalog;
+        this.jobStatsStore = jobStatsStore;
+        this.reviewServiceClient = reviewServiceClient;
+        this.reportServiceClient = reportServiceClient;
+        this.reservationServiceClient = reservationServiceClient;
+        this.jobStatsConfig = jobStatsConfig;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+
+        for (JobStatsFeature feature : JobStatsFeature.values()) {
+            Gauge.builder(METRIC_PREFIX + ".staleness", this, refresher -> refresher.stalenessSeconds(feature))
+                    .description("Time since the last complete refresh of a precomputed job stats feature was started")
+                    .tag("feature", feature.field())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Starts the background refresh. The first refresh runs immediately.
+     */
+    @PostConstruct
+    void start() {
+        if (!jobStatsConfig.isEnabled()) {
+            LogUtil.info("Precomputed job stats are disabled, stats are fetched on every request");
+            return;
+        }
+
+        // Ticks arriving while a refresh is still running are dropped, so refreshes never overlap
+        refreshLoop = Flux.interval(Duration.ZERO, jobStatsConfig.getRefreshInterval(), Schedulers.parallel())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refreshLoop != null) {
+            refreshLoop.dispose();
+        }
+    }
+
+    /**
+     * Returns the time the last complete refresh of the given feature was started.
+     *
+     * @param feature the feature
+     * @return the start time of the last refresh in which every chunk of the feature was written,
+     * or null if there was none yet
+     */
+    public Instant getLastRefreshedAt(JobStatsFeature feature) {
+        return lastRefreshedAt.get(feature);
+    }
+
+    /**
+     * Refreshes the stats of all active jobs of the catalog, chunk by chunk, if this replica holds
+     * the refresh lease.
+     *
+     * @return a Mono that completes when the refresh has finished or was left to another replica
+     */
+    Mono<Void> refresh() {
+        return jobStatsStore.acquireRefreshLease(instanceId, jobStatsConfig.getRefreshInterval())
+                .flatMap(leased -> {
+                    if (!leased) {
+                        LogUtil.debug("Job stats are refreshed by another replica");
+                        return Mono.<Void>empty();
+                    }
+                    return refreshAll();
+                });
+    }
+
+    private Mono<Void> refreshAll() {
+        Instant startedAt = clock.instant();
+        Set<JobStatsFeature> failedFeatures = ConcurrentHashMap.newKeySet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int chunkSize = Math.max(jobStatsConfig.getChunkSize(), 1);
+
+        return jobCatalog.getJobFeatures()
+                .flatMapMany(jobFeatures -> {
+                    int[] rows = activeRows(jobFeatures);
+                    LogUtil.info("Refreshing job stats of {} active jobs", rows.length);
+                    return Flux.range(0, (rows.length + chunkSize - 1) / chunkSize)
+                            .map(chunk -> Arrays.copyOfRange(rows, chunk * chunkSize, Math.min((chunk + 1) * chunkSize, rows.length)))
+                            .flatMap(chunkRows -> refreshChunk(jobFeatures, chunkRows, startedAt, failedFeatures),
+                                    Math.max(jobStatsConfig.getRefreshConcurrency(), 1));
+                })
+                .then(Mono.fromRunnable(() -> {
+                    for (JobStatsFeature feature : JobStatsFeature.values()) {
+                        if (!failedFeatures.contains(feature)) {
+                            lastRefreshedAt.put(feature, startedAt);
+                        }
+                    }
+
+                    String outcome = failedFeatures.isEmpty() ? "success" : "partial";
+                    sample.stop(refreshTimer(outcome));
+                    LogUtil.info("Job stats refresh finished, failed features: {}", failedFeatures);
+                }))
+                .onErrorResume(e -> {
+                    sample.stop(refreshTimer("failure"));
+                    LogUtil.error("Job stats refresh failed, keeping the current stats", e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> refreshChunk(JobFeatureStore jobFeatures,
+                                    int[] rows,
+                                    Instant refreshedAt,
+                                    Set<JobStatsFeature> failedFeatures) {
+        Set<Long> workerIds = Arrays.stream(rows).mapToObj(jobFeatures::workerId).collect(Collectors.toSet());
+        List<Long> jobIds = Arrays.stream(rows).mapToObj(jobFeatures::id).toList();
+
+        Mono<Map<Long, String>> workerRatings = reviewServiceClient.fetchUserRatingsUncached(workerIds)
+                .map(stats -> encodeRows(jobFeatures, rows, jobFeatures::workerId, stats, JobStatsStore::encode));
+        Mono<Map<Long, String>> jobRatings = reviewServiceClient.fetchJobRatingsUncached(jobIds)
+                .map(stats -> encodeRows(jobFeatures, rows, jobFeatures::id, stats, JobStatsStore::encode));
+        Mono<Map<Long, String>> workerReports = reportServiceClient.fetchUsersReportStatsUncached(workerIds)
+                .map(stats -> encodeRows(jobFeatures, rows, jobFeatures::workerId, stats, JobStatsStore::encode));
+        Mono<Map<Long, String>> jobReports = reportServiceClient.fetchJobsReportStatsUncached(jobIds)
+                .map(stats -> encodeRows(jobFeatures, rows, jobFeatures::id, stats, JobStatsStore::encode));
+        Mono<Map<Long, String>> reservations = reservationServiceClient.fetchJobCountsUncached(jobIds)
+                .map(counts -> encodeRows(jobFeatures, rows, jobFeatures::id, counts, count -> JobStatsStore.encode(count)));
+
+        Map<JobStatsFeature, Mono<Map<Long, String>>> featureValues = new EnumMap<>(JobStatsFeature.class);
+        featureValues.put(JobStatsFeature.WORKER_RATING, workerRatings);
+        featureValues.put(JobStatsFeature.JOB_RATING, jobRatings);
+        featureValues.put(JobStatsFeature.WORKER_REPORTS, workerReports);
+        featureValues.put(JobStatsFeature.JOB_REPORTS, jobReports);
+        featureValues.put(JobStatsFeature.RESERVATIONS, reservations);
+
+        return Flux.fromIterable(featureValues.entrySet())
+                .flatMap(entry -> entry.getValue()
+                        .flatMap(values -> jobStatsStore.put(entry.getKey(), values, refreshedAt))
+                        .onErrorResume(e -> {
+                            failedFeatures.add(entry.getKey());
+                            LogUtil.warn("Failed to refresh {} of {} jobs: {}", entry.getKey().field(), rows.length, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    private static int[] activeRows(JobFeatureStore jobFeatures) {
+        short activeStatusCode = jobFeatures.statusCodeOf(ACTIVE_JOB_STATUS);
+        if (activeStatusCode == JobFeatureStore.MISSING_CODE) {
+            return new int[0];
+        }
+
+        int[] rows = new int[jobFeatures.size()];
+        int count = 0;
+        for (int row = 0; row < jobFeatures.size(); row++) {
+            if (jobFeatures.statusCode(row) == activeStatusCode) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Encodes the value of every row, looked up by the job or worker ID of the row. Rows without a
+     * value are skipped so their previous value is kept.
+     */
+    private static <V> Map<Long, String> encodeRows(JobFeatureStore jobFeatures,
+                                                    int[] rows,
+                                                    IntToLongFunction key,
+                                                    Map<Long, V> values,
+                                                    Function<V, String> encoder) {
+        Map<Long, String> encoded = new HashMap<>(rows.length * 2);
+        for (int row : rows) {
+            V value = values.get(key.applyAsLong(row));
+            if (value != null) {
+                encoded.put(jobFeatures.id(row), encoder.apply(value));
+            }
+        }
+        return encoded;
+    }
+
+    private Timer refreshTimer(String outcome) {
+        return Timer.builder(METRIC_PREFIX + ".refresh")
+                .description("Duration of precomputed job stats refreshes")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private double stalenessSeconds(JobStatsFeature feature) {
+        Instant refreshedAt = lastRefreshedAt.get(feature);
+        if (refreshedAt == null) {
+            return Double.NaN;
+        }
+
+        return Duration.between(refreshedAt, clock.instant()).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,257 @@
+package com.internship.recommendation_service.service.stats;
+
+import com.internship.recommendation_service.config.property.JobStatsConfig;
+import com.internship.recommendation_service.dto.external.ReportStatsDTO;
+import com.internship.recommendation_service.dto.external.ReviewStatsDTO;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
+import com.internship.recommendation_service.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Redis store of the statistics precomputed per job by the {@link JobStatsRefresher}.
+ * <p>
+ * Every job has one hash holding the value and the refresh time of each {@link JobStatsFeature}.
+ * The hashes of a batch of jobs are read with one {@code HMGET} per job, all issued at once so
+ * Lettuce pipelines them over the shared connection. A job is only returned if all of its
+ * features are present and none was refreshed longer than the configured maximum age ago; the
+ * other jobs are left to the caller to fetch live. The hash of a job expires as a whole, so the
+ * age check keeps a feature whose refresh keeps failing from living on with the others.
+ * <p>
+ * The store also holds the lease that lets a single replica run the refresh of an interval.
+ * <p>
+ * Redis is optional: reads that fail or exceed the configured timeout return no stats.
+ */
+@Component
+public class JobStatsStore {
+    private static final String KEY_PREFIX = "recommendation:job-stats:";
+    private static final String REFRESH_LEASE_KEY = "recommendation:job-stats-refresh-lease";
+    private static final String METRIC_NAME = "recommendation.job.stats.lookups";
+    private static final List<String> VALUE_FIELDS = Arrays.stream(JobStatsFeature.values())
+            .map(JobStatsFeature::field)
+            .toList();
+    private static final List<String> FIELDS = Stream.concat(
+                    VALUE_FIELDS.stream(),
+                    Arrays.stream(JobStatsFeature.values()).map(JobStatsFeature::refreshedAtField))
+            .toList();
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final JobStatsConfig jobStatsConfig;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Clock clock;
+
+    @Autowired
+    public JobStatsStore(ReactiveStringRedisTemplate redisTemplate,
+                         JobStatsConfig jobStatsConfig,
+                         MeterRegistry meterRegistry) {
+        this(redisTemplate, jobStatsConfig, meterRegistry, Clock.systemUTC());
+    }
+
+    JobStatsStore(ReactiveStringRedisTemplate redisTemplate,
+                  JobStatsConfig jobStatsConfig,
+                  MeterRegistry meterRegistry,
+                  Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.jobStatsConfig = jobStatsConfig;
+        this.clock = clock;
+        this.hitCounter = lookupCounter("hit", meterRegistry);
+        this.missCounter = lookupCounter("miss", meterRegistry);
+    }
+
+    private static Counter lookupCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_NAME)
+                .description("Number of jobs looked up in the precomputed job stats by whether all stats were found")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the precomputed stats of the jobs at the given rows.
+     *
+     * @param jobFeatures the features of all jobs of the catalog
+     * @param rows        the rows of the jobs to look up
+     * @return a Mono emitting a map of job ID to stats for every job whose stats are complete and
+     * fresh, which is empty if the store is disabled or Redis is unavailable
+     */
+    public Mono<Map<Long, JobStats>> getAll(JobFeatureStore jobFeatures, int[] rows) {
+        if (!jobStatsConfig.isEnabled() || rows.length == 0) {
+            return Mono.just(Map.of());
+        }
+
+        ReactiveHashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        long refreshedSince = clock.instant().minus(jobStatsConfig.getMaxAge()).toEpochMilli();
+        return Flux.range(0, rows.length)
+                .flatMap(position -> {
+                    int row = rows[position];
+                    long jobId = jobFeatures.id(row);
+                    long workerId = jobFeatures.workerId(row);
+                    return hashOperations.multiGet(cacheKey(jobId), FIELDS)
+                            .mapNotNull(values -> decode(jobId, workerId, values, refreshedSince))
+                            .map(stats -> Map.entry(jobId, stats));
+                }, rows.length)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .timeout(jobStatsConfig.getRedisTimeout())
+                .doOnNext(found -> {
+                    hitCounter.increment(found.size());
+                    missCounter.increment(rows.length - found.size());
+                })
+                .onErrorResume(error -> {
+                    LogUtil.warn("Failed to read job stats of {} jobs: {}", rows.length, error.getMessage());
+                    missCounter.increment(rows.length);
+                    return Mono.just(Map.of());
+                });
+    }
+
+    /**
+     * Writes the encoded values of one feature, together with its refresh time, into the hashes
+     * of the given jobs and extends their expiry.
+     *
+     * @param feature     the feature the values belong to
+     * @param values      the encoded values keyed by job ID
+     * @param refreshedAt the time the values were fetched
+     * @return a Mono completing when all values have been written
+     */
+    Mono<Void> put(JobStatsFeature feature, Map<Long, String> values, Instant refreshedAt) {
+        ReactiveHashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        String refreshedAtValue = Long.toString(refreshedAt.toEpochMilli());
+
+        // Lettuce pipelines the writes over the shared connection
+        return Flux.fromIterable(values.entrySet())
+                .flatMap(entry -> {
+                    String key = cacheKey(entry.getKey());
+                    return hashOperations.putAll(key, Map.of(
+                                    feature.field(), entry.getValue(),
+                                    feature.refreshedAtField(), refreshedAtValue))
+                            .then(redisTemplate.expire(key, jobStatsConfig.getTtl()));
+                })
+                .then();
+    }
+
+    /**
+     * Takes or renews the lease on the refresh of the precomputed stats, so that only one replica
+     * refreshes them per interval. A lease is never released; it lapses after the given duration,
+     * and is renewed by its holder, so the refresh moves to another replica only when the holder
+     * stops refreshing.
+     *
+     * @param owner    the ID of the replica asking for the lease
+     * @param duration the time after which the lease lapses unless it is renewed
+     * @return a Mono emitting true if the given replica holds the lease, false if another replica
+     * holds it or Redis is unavailable
+     */
+    Mono<Boolean> acquireRefreshLease(String owner, Duration duration) {
+        ReactiveValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+
+        return valueOperations.setIfAbsent(REFRESH_LEASE_KEY, owner, duration)
+                .flatMap(acquired -> acquired
+                        ? Mono.just(true)
+                        // The holder renews its own lease; the check and the renewal are not atomic,
+                        // which at worst lets two replicas refresh the same interval
+                        : valueOperations.get(REFRESH_LEASE_KEY)
+                        .filter(owner::equals)
+                        .flatMap(holder -> valueOperations.set(REFRESH_LEASE_KEY, owner, duration))
+                        .defaultIfEmpty(false))
+                .timeout(jobStatsConfig.getRedisTimeout())
+                .onErrorResume(error -> {
+                    LogUtil.warn("Failed to acquire the job stats refresh lease: {}", error.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    private static String cacheKey(long jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    static String encode(ReviewStatsDTO stats) {
+        return encodeNullable(stats.averageRating()) + "," + encodeNullable(stats.reviewCount());
+    }
+
+    static String encode(ReportStatsDTO stats) {
+        return encodeNullable(stats.lowSeverityCount())
+               + "," + encodeNullable(stats.mediumSeverityCount())
+               + "," + encodeNullable(stats.highSeverityCount());
+    }
+
+    static String encode(long reservationCount) {
+        return Long.toString(reservationCount);
+    }
+
+    /**
+     * Encodes a field of a DTO, writing null as an empty field, e.g. the average rating of an entity
+     * without reviews.
+     */
+    private static String encodeNullable(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * Decodes the values of {@link #FIELDS}: the values written by the {@code encode} methods,
+     * followed by the refresh times of the features.
+     *
+     * @param refreshedSince the epoch millis every feature must have been refreshed at or after
+     * @return the stats of the job, or null if a value is missing, malformed or too old
+     */
+    private static JobStats decode(long jobId, long workerId, List<String> values, long refreshedSince) {
+        if (values.size() != FIELDS.size() || values.contains(null)) {
+            return null;
+        }
+
+        try {
+            for (int i = VALUE_FIELDS.size(); i < FIELDS.size(); i++) {
+                if (Long.parseLong(values.get(i)) < refreshedSince) {
+                    return null;
+                }
+            }
+
+            return new JobStats(
+                    decodeReviewStats(workerId, "USER", values.get(JobStatsFeature.WORKER_RATING.ordinal())),
+                    decodeReviewStats(jobId, "JOB", values.get(JobStatsFeature.JOB_RATING.ordinal())),
+                    decodeReportStats(workerId, "USER", values.get(JobStatsFeature.WORKER_REPORTS.ordinal())),
+                    decodeReportStats(jobId, "JOB", values.get(JobStatsFeature.JOB_REPORTS.ordinal())),
+                    Long.parseLong(values.get(JobStatsFeature.RESERVATIONS.ordinal())));
+        } catch (IllegalArgumentException e) {
+            LogUtil.warn("Ignoring malformed job stats of job {}: {}", jobId, values);
+            return null;
+        }
+    }
+
+    private static ReviewStatsDTO decodeReviewStats(long id, String type, String value) {
+        String[] parts = value.split(",", -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected rating and review count: " + value);
+        }
+        return new ReviewStatsDTO(id, type, decodeNullable(parts[0], Double::valueOf), decodeNullable(parts[1], Integer::valueOf));
+    }
+
+    private static ReportStatsDTO decodeReportStats(long id, String type, String value) {
+        String[] parts = value.split(",", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected low, medium and high severity counts: " + value);
+        }
+        return new ReportStatsDTO(id,
+                type,
+                decodeNullable(parts[0], Long::valueOf),
+                decodeNullable(parts[1], Long::valueOf),
+                decodeNullable(parts[2], Long::valueOf));
+    }
+
+    private static <T> T decodeNullable(String value, Function<String, T> parser) {
+        return value.isEmpty() ? null : parser.apply(value);
+    }
+}
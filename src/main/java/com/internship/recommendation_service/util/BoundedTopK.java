@@ -0,0 +1,100 @@
+package com.internship.recommendation_service.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the {@code capacity} greatest elements seen so far according to the given comparator.
+ * <p>
+ * Elements are retained in a min-heap whose head is the smallest retained element, so each
+ * {@link #offer(Object)} costs O(log capacity) and memory stays O(capacity) no matter how many
+ * elements are offered. When two elements compare as equal, the one offered first is kept.
+ * <p>
+ * Instances are not thread-safe and are meant to be used as a reduction container, e.g. with
+ * {@code Flux.collect(Supplier, BiConsumer)}.
+ *
+ * @param <T> the type of the retained elements
+ */
+public class BoundedTopK<T> {
+    private static final int MAX_INITIAL_CAPACITY = 256;
+
+    private final int capacity;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * Creates an empty top-K container.
+     *
+     * @param capacity   the maximum number of elements to retain; values below 1 retain nothing
+     * @param comparator the ordering used to rank elements, where greater elements are preferred
+     */
+    public BoundedTopK(int capacity, Comparator<? super T> comparator) {
+        this.capacity = Math.max(capacity, 0);
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(this.capacity, MAX_INITIAL_CAPACITY)), comparator);
+    }
+
+    /**
+     * Offers an element to the container. The element is retained if fewer than {@code capacity}
+     * elements are held, or if it is strictly greater than the smallest retained element, which is
+     * then evicted.
+     *
+     * @param element the element to offer
+     */
+    public void offer(T element) {
+        if (capacity == 0 || element == null) {
+            return;
+        }
+
+        if (heap.size() < capacity) {
+            heap.offer(element);
+            return;
+        }
+
+        if (comparator.compare(element, heap.peek()) > 0) {
+            heap.poll();
+            heap.offer(element);
+        }
+    }
+
+    /**
+     * Returns true if the container holds {@code capacity} elements, meaning that only elements
+     * greater than {@link #peekSmallest()} can still be retained.
+     *
+     * @return true if the container is full, false otherwise
+     */
+    public boolean isFull() {
+        return heap.size() >= capacity;
+    }
+
+    /**
+     * Returns the smallest retained element, or null if the container is empty.
+     *
+     * @return the smallest retained element
+     */
+    public T peekSmallest() {
+        return heap.peek();
+    }
+
+    /**
+     * Returns the number of retained elements.
+     *
+     * @return the number of retained elements
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the retained elements ordered from greatest to smallest.
+     *
+     * @return a new list of the retained elements in descending order
+     */
+    public List<T> toDescendingList() {
+        List<T> elements = new ArrayList<>(heap);
+        elements.sort(comparator.reversed());
+        return elements;
+    }
+}
@@ -0,0 +1,196 @@
+package com.internship.recommendation_service.util;
+
+import com.internship.recommendation_service.exception.CallRejectedException;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class BulkFetchUtil {
+    private static final int MAX_CONCURRENT_CHUNKS = 4;
+    private static final Duration BULK_ENDPOINT_RECHECK_INTERVAL = Duration.ofMinutes(10);
+
+    // Bulk endpoints found missing, keyed by URL, with the System.nanoTime() at which they are tried again
+    private static final Map<String, Long> missingBulkEndpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Splits the given IDs into chunks of at most {@code chunkSize} distinct IDs, fetches every chunk
+     * with the given function and merges the results into a single map.
+     *
+     * @param ids          the IDs to fetch
+     * @param chunkSize    the maximum number of IDs per chunk
+     * @param chunkFetcher the function that fetches a single chunk
+     * @param <V>          the type of the fetched values
+     * @return a Mono emitting a map of ID to fetched value
+     */
+    public <V> Mono<Map<Long, V>> fetchInChunks(Collection<Long> ids,
+                                                int chunkSize,
+                                                Function<List<Long>, Mono<Map<Long, V>>> chunkFetcher) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return Flux.fromIterable(ids)
+                .filter(Objects::nonNull)
+                .distinct()
+                .buffer(Math.max(chunkSize, 1))
+                .flatMap(chunkFetcher, MAX_CONCURRENT_CHUNKS)
+                .flatMapIterable(Map::entrySet)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Resolves a chunk of IDs from the response of a bulk endpoint.
+     * <p>
+     * IDs missing from the response are filled with the given default value. If the downstream
+     * does not expose the bulk endpoint, the chunk is resolved with one call per ID instead. Any
+     * other error, including calls rejected while the circuit of the downstream is open, resolves
+     * the chunk to no values, so callers fall back to their defaults without caching them.
+     *
+     * @param chunk         the IDs of the chunk
+     * @param bulkEndpoint  the URL of the bulk endpoint, without the IDs
+     * @param bulkResponse  the entries returned by the bulk endpoint
+     * @param singleFetcher the function that fetches a single ID, used when the bulk endpoint is missing
+     * @param defaultValue  the function that creates the default value for an ID
+     * @param <V>           the type of the fetched values
+     * @return a Mono emitting a map with a value for every ID of the chunk, or an empty map if the chunk failed
+     */
+    public <V> Mono<Map<Long, V>> resolveChunk(List<Long> chunk,
+                                               String bulkEndpoint,
+                                               Flux<Map.Entry<Long, V>> bulkResponse,
+                                               Function<Long, Mono<V>> singleFetcher,
+                                               Function<Long, V> defaultValue) {
+        return requireChunk(chunk, bulkEndpoint, bulkResponse, singleFetcher, defaultValue)
+                .onErrorResume(error -> {
+                    if (!(error instanceof CallRejectedException)) {
+                        LogUtil.error("Bulk request for {} IDs failed, leaving them uncached", chunk.size(), error);
+                    }
+                    return Mono.just(Map.of());
+                });
+    }
+
+    /**
+     * Resolves a chunk of IDs from the response of a bulk endpoint, failing if the chunk could not
+     * be retrieved.
+     * <p>
+     * IDs missing from the response are filled with the given default value. If the downstream
+     * does not expose the bulk endpoint, the chunk is resolved with one call per ID instead, and
+     * so are the chunks of that endpoint for the next 10 minutes, without calling it. Any other
+     * error is propagated, so callers can tell a failed chunk from one without stats.
+     *
+     * @param chunk         the IDs of the chunk
+     * @param bulkEndpoint  the URL of the bulk endpoint, without the IDs
+     * @param bulkResponse  the entries returned by the bulk endpoint, only subscribed if it is not known to be missing
+     * @param singleFetcher the function that fetches a single ID, used when the bulk endpoint is missing
+     * @param defaultValue  the function that creates the default value for an ID
+     * @param <V>           the type of the fetched values
+     * @return a Mono emitting a map with a value for every ID of the chunk
+     */
+    public <V> Mono<Map<Long, V>> requireChunk(List<Long> chunk,
+                                               String bulkEndpoint,
+                                               Flux<Map.Entry<Long, V>> bulkResponse,
+                                               Function<Long, Mono<V>> singleFetcher,
+                                               Function<Long, V> defaultValue) {
+        return requireChunk(chunk, bulkEndpoint, bulkResponse, singleFetcher, defaultValue, System::nanoTime);
+    }
+
+    <V> Mono<Map<Long, V>> requireChunk(List<Long> chunk,
+                                        String bulkEndpoint,
+                                        Flux<Map.Entry<Long, V>> bulkResponse,
+                                        Function<Long, Mono<V>> singleFetcher,
+                                        Function<Long, V> defaultValue,
+                                        LongSupplier nanoClock) {
+        return Mono.defer(() -> {
+            if (isKnownMissing(bulkEndpoint, nanoClock.getAsLong())) {
+                return fetchEach(chunk, singleFetcher);
+            }
+
+            return bulkResponse
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .map(found -> withDefaults(chunk, found, defaultValue))
+                    .onErrorResume(BulkFetchUtil::isBulkEndpointMissing, error -> {
+                        markMissing(bulkEndpoint, nanoClock.getAsLong());
+                        return fetchEach(chunk, singleFetcher);
+                    });
+        });
+    }
+
+    /**
+     * Fetches every ID of the given chunk with its own call.
+     *
+     * @param chunk         the IDs to fetch
+     * @param singleFetcher the function that fetches a single ID
+     * @param <V>           the type of the fetched values
+     * @return a Mono emitting a map of ID to fetched value
+     */
+    public <V> Mono<Map<Long, V>> fetchEach(List<Long> chunk, Function<Long, Mono<V>> singleFetcher) {
+        return Flux.fromIterable(chunk)
+                .flatMap(id -> singleFetcher.apply(id).map(value -> Map.entry(id, value)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Builds a bulk request URL by appending the given IDs as a comma separated {@code ids} query parameter.
+     *
+     * @param baseUrl the URL of the bulk endpoint
+     * @param ids     the IDs to request
+     * @return the bulk request URL
+     */
+    public String buildBulkUrl(String baseUrl, Collection<Long> ids) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("ids", ids.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .encode()
+                .toUriString();
+    }
+
+    /**
+     * Returns true if the error indicates that the downstream does not expose the requested endpoint.
+     *
+     * @param error the error to check
+     * @return true if the endpoint is missing, false otherwise
+     */
+    public boolean isBulkEndpointMissing(Throwable error) {
+        if (!(error instanceof WebClientResponseException responseException)) {
+            return false;
+        }
+
+        int status = responseException.getStatusCode().value();
+        return status == HttpStatus.NOT_FOUND.value()
+               || status == HttpStatus.METHOD_NOT_ALLOWED.value()
+               || status == HttpStatus.NOT_IMPLEMENTED.value();
+    }
+
+    private boolean isKnownMissing(String bulkEndpoint, long nowNanos) {
+        Long recheckAt = missingBulkEndpoints.get(bulkEndpoint);
+        return recheckAt != null && nowNanos - recheckAt < 0;
+    }
+
+    private void markMissing(String bulkEndpoint, long nowNanos) {
+        Long previousRecheckAt = missingBulkEndpoints.put(bulkEndpoint, nowNanos + BULK_ENDPOINT_RECHECK_INTERVAL.toNanos());
+        // Concurrent chunks of the same endpoint find it missing together, only the first one logs it
+        if (previousRecheckAt == null || nowNanos - previousRecheckAt >= 0) {
+            LogUtil.warn("Bulk endpoint {} is not available, using single calls for the next {}",
+                    bulkEndpoint, BULK_ENDPOINT_RECHECK_INTERVAL);
+        }
+    }
+
+    private <V> Map<Long, V> withDefaults(List<Long> ids, Map<Long, V> found, Function<Long, V> defaultValue) {
+        Map<Long, V> result = new HashMap<>(found);
+        ids.forEach(id -> result.computeIfAbsent(id, defaultValue));
+        return result;
+    }
+}
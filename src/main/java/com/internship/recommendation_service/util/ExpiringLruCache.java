@@ -0,0 +1,87 @@
+package com.internship.recommendation_service.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory cache with a maximum number of entries and a time to live per entry.
+ * <p>
+ * When the cache is full, adding an entry evicts the least recently used one. Expired entries are
+ * dropped when they are read or evicted. All operations run in O(1).
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ */
+public class ExpiringLruCache<K, V> {
+    private final int maxSize;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSize the maximum number of entries; values below 1 cache nothing
+     * @param clock   the clock used to expire entries
+     */
+    public ExpiringLruCache(int maxSize, Clock clock) {
+        this.maxSize = Math.max(maxSize, 0);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > ExpiringLruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached under the given key.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if there is none or it has expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Caches the given value under the given key, replacing any previous value.
+     *
+     * @param key   the key to cache the value under
+     * @param value the value to cache
+     * @param ttl   the time after which the value expires
+     */
+    public synchronized void put(K key, V value, Duration ttl) {
+        if (maxSize == 0 || value == null || ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Returns the number of cached entries, including expired entries that were not dropped yet.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class GeoLocationCalculator {
-    private static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double EARTH_RADIUS_KM = 6371.0;
 
     /**
      * Calculate the distance between two points on a sphere (such as the Earth)
@@ -18,24 +18,42 @@ public class GeoLocationCalculator {
      * @return the distance between the two points in kilometers
      */
     public Double calculateDistance(GeoCoordinatesDTO coordinates1, GeoCoordinatesDTO coordinates2) {
-        LogUtil.info("Calculating distance for user coords: {} and worker coords: {}", coordinates1, coordinates2);
+        double distance = calculateDistance(coordinates1.latitude(),
+                coordinates1.longitude(),
+                coordinates2.latitude(),
+                coordinates2.longitude());
+        if (LogUtil.isDebugEnabled()) {
+            LogUtil.debug("Calculated distance between {} and {}: {} km", coordinates1, coordinates2, distance);
+        }
+        return distance;
+    }
 
+    /**
+     * Calculate the distance between two points given as latitude and longitude in degrees, using
+     * the Haversine formula. Unlike {@link #calculateDistance(GeoCoordinatesDTO, GeoCoordinatesDTO)},
+     * this method does not log and can be used in tight loops.
+     *
+     * @param latitude1  the latitude of the first point
+     * @param longitude1 the longitude of the first point
+     * @param latitude2  the latitude of the second point
+     * @param longitude2 the longitude of the second point
+     * @return the distance between the two points in kilometers
+     */
+    public static double calculateDistance(double latitude1, double longitude1, double latitude2, double longitude2) {
         // User coordinates in radians
-        double userLatRad = Math.toRadians(coordinates1.latitude());
-        double userLonRad = Math.toRadians(coordinates1.longitude());
+        double userLatRad = Math.toRadians(latitude1);
+        double userLonRad = Math.toRadians(longitude1);
 
         // Worker coordinates in radians
-        double workerLatRad = Math.toRadians(coordinates2.latitude());
-        double workerLonRad = Math.toRadians(coordinates2.longitude());
+        double workerLatRad = Math.toRadians(latitude2);
+        double workerLonRad = Math.toRadians(longitude2);
 
         // Difference in coordinates
         double deltaLat = workerLatRad - userLatRad;
         double deltaLon = workerLonRad - userLonRad;
 
         // Calculate the distance in kilometers using the haversine formula
-        double distance = EARTH_RADIUS_KM * haversine(deltaLat, userLatRad, workerLatRad, deltaLon);
-        LogUtil.info("Calculated distance: {} km", distance);
-        return distance;
+        return EARTH_RADIUS_KM * haversine(deltaLat, userLatRad, workerLatRad, deltaLon);
     }
 
     /**
@@ -47,7 +65,7 @@ public class GeoLocationCalculator {
      * @param deltaLon     difference in longitude between the two coordinates in radians
      * @return the distance between the two coordinates in kilometers
      */
-    private double haversine(double deltaLat, double userLatRad, double workerLatRad, double deltaLon) {
+    private static double haversine(double deltaLat, double userLatRad, double workerLatRad, double deltaLon) {
         double a = Math.pow(Math.sin(deltaLat / 2.0), 2) +
                    Math.cos(userLatRad) * Math.cos(workerLatRad) *
                    Math.pow(Math.sin(deltaLon / 2.0), 2);
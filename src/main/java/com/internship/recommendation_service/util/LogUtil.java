@@ -3,9 +3,51 @@ package com.internship.recommendation_service.util;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs messages of the service.
+ * <p>
+ * Logging on hot paths, such as once per job, should be guarded by {@link #isDebugEnabled()} or
+ * {@link #isSampled(double)}, so that neither the varargs array nor boxed arguments are built
+ * while the messages are not logged.
+ */
 @Slf4j
 @UtilityClass
 public class LogUtil {
+    /**
+     * Returns whether DEBUG messages are logged.
+     *
+     * @return true if DEBUG is enabled
+     */
+    public boolean isDebugEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    /**
+     * Decides whether the DEBUG detail of a unit of work, such as a recommendation request, is
+     * logged. Decide once per unit of work and keep the result, so that its detail is logged
+     * completely or not at all.
+     *
+     * @param sampleRate the share of units of work whose detail is logged, in the range [0-1]
+     * @return true if DEBUG is enabled and the unit of work is sampled
+     */
+    public boolean isSampled(double sampleRate) {
+        return sampleRate > 0
+               && log.isDebugEnabled()
+               && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Logs a DEBUG message with the given format string and arguments.
+     *
+     * @param message the message to be logged
+     * @param args    the arguments to be used in the formatting
+     */
+    public void debug(String message, Object... args) {
+        log.debug(message, args);
+    }
+
     /**
      * Logs an INFO message with the given format string and arguments.
      *
@@ -0,0 +1,115 @@
+package com.internship.recommendation_service.util;
+
+import java.util.Collection;
+
+/**
+ * Immutable set of {@code long} values backed by an open-addressing hash table with linear
+ * probing.
+ * <p>
+ * Unlike a {@code Set<Long>} or a {@code List<Long>}, membership checks do not box the value and
+ * cost O(1) on average. The table is at most half full, so probe sequences stay short. Zero marks
+ * the free slots and is tracked separately.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class LongHashSet {
+    private static final LongHashSet EMPTY = new LongHashSet(new long[1], false, 0);
+    private static final long FREE = 0L;
+
+    private final long[] slots;
+    private final int mask;
+    private final boolean containsZero;
+    private final int size;
+
+    private LongHashSet(long[] slots, boolean containsZero, int size) {
+        this.slots = slots;
+        this.mask = slots.length - 1;
+        this.containsZero = containsZero;
+        this.size = size;
+    }
+
+    /**
+     * Creates a set of the given values. Null values are ignored.
+     *
+     * @param values the values of the set, or null for an empty set
+     * @return the new set
+     */
+    public static LongHashSet of(Collection<Long> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] slots = new long[tableSize(values.size())];
+        int mask = slots.length - 1;
+        boolean containsZero = false;
+        int size = 0;
+        for (Long boxedValue : values) {
+            if (boxedValue == null) {
+                continue;
+            }
+            long value = boxedValue;
+            if (value == FREE) {
+                if (!containsZero) {
+                    containsZero = true;
+                    size++;
+                }
+                continue;
+            }
+
+            int slot = indexOf(value, mask);
+            while (slots[slot] != FREE && slots[slot] != value) {
+                slot = (slot + 1) & mask;
+            }
+            if (slots[slot] == FREE) {
+                slots[slot] = value;
+                size++;
+            }
+        }
+        return new LongHashSet(slots, containsZero, size);
+    }
+
+    /**
+     * Returns whether the set contains the given value.
+     *
+     * @param value the value to look up
+     * @return true if the set contains the value
+     */
+    public boolean contains(long value) {
+        if (value == FREE) {
+            return containsZero;
+        }
+
+        int slot = indexOf(value, mask);
+        while (slots[slot] != FREE) {
+            if (slots[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the smallest power of two that keeps the given number of values at most half of the
+     * table, so every probe sequence ends at a free slot.
+     */
+    private static int tableSize(int valueCount) {
+        return Integer.highestOneBit(Math.max(valueCount, 1) * 2 - 1) << 1;
+    }
+
+    /**
+     * Spreads the bits of the value over the table, so sequential IDs do not cluster.
+     */
+    private static int indexOf(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
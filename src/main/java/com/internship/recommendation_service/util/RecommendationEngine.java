@@ -1,108 +1,216 @@
 package com.internship.recommendation_service.util;
 
-import com.internship.recommendation_service.config.property.RecommendationDefaultsConfig;
 import com.internship.recommendation_service.config.property.RecommendationWeightsConfig;
 import com.internship.recommendation_service.dto.external.*;
 import com.internship.recommendation_service.dto.response.JobScoreResponse;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
-import java.util.List;
-
 @Component
 @Validated
 @RequiredArgsConstructor
 public class RecommendationEngine {
     private final RecommendationWeightsConfig weights;
-    private final RecommendationDefaultsConfig defaults;
-    private final GeoLocationCalculator geoLocationCalculator;
 
+    /**
+     * Calculates the recommendation score of the job stored in the given row of a feature store
+     * against the compiled data of the user.
+     *
+     * @param userContext the user data compiled against {@code jobFeatures}
+     */
     @Valid
     public JobScoreResponse calculateJobScore(
-            Long workerId,
-            GeoCoordinatesDTO userCoordinates,
-            UserPreferencesDTO userPreferences,
+            long workerId,
+            UserScoringContext userContext,
             ReviewStatsDTO workerReviewStats,
             ReviewStatsDTO jobReviewStats,
             ReportStatsDTO workerReportStats,
             ReportStatsDTO jobReportStats,
-            JobDTO jobDetails,
-            List<Long> favoriteWorkerIds,
-            Long jobReservationCount
+            JobFeatureStore jobFeatures,
+            int row,
+            long jobReservationCount
     ) {
-        LogUtil.info("Calculating recommendation score for worker [{}] and job [{}]", workerId, jobDetails.id());
+        long jobId = jobFeatures.id(row);
+        boolean logged = userContext.isJobDetailLogged();
+        if (logged) {
+            LogUtil.debug("Calculating recommendation score for worker [{}] and job [{}]", workerId, jobId);
+        }
 
-        double totalScore = 0.0;
-        totalScore += calculateDistanceScore(userCoordinates, userPreferences, jobDetails);
-        totalScore += calculateExperienceMatchScore(userPreferences, jobDetails);
-        totalScore += calculateFavoriteScore(favoriteWorkerIds, workerId);
-        totalScore += calculateWorkerRatingScore(workerReviewStats, workerId);
-        totalScore += calculateJobRatingScore(jobReviewStats, workerId);
-        totalScore += calculateCategoryMatchScore(userPreferences, jobDetails);
-        totalScore += calculateFinishedReservationsScore(jobReservationCount, workerId);
+        double totalScore = calculatePositiveScore(workerId,
+                userContext,
+                workerReviewStats,
+                jobReviewStats,
+                jobFeatures,
+                row,
+                jobReservationCount);
 
         if (totalScore > 0) {
-            totalScore += calculateHourlyRatePenaltyScore(jobDetails, workerId);
-            totalScore += calculateWorkerReportsScore(workerReportStats);
-            totalScore += calculateJobReportsScore(jobReportStats);
+            totalScore += calculateHourlyRatePenaltyScore(jobFeatures.hourlyRate(row), workerId, logged);
+            totalScore += calculateWorkerReportsScore(workerReportStats, logged);
+            totalScore += calculateJobReportsScore(jobReportStats, logged);
         }
 
         // Calculate the final score and it can be negative
         totalScore = Math.round(totalScore * 100.0) / 100.0;
-        LogUtil.info("Final calculated score for worker {}: {}", workerId, totalScore);
+        if (logged) {
+            LogUtil.debug("Final calculated score for worker {}: {}", workerId, totalScore);
+        }
         return JobScoreResponse.builder()
-                .jobId(jobDetails.id())
+                .jobId(jobId)
                 .workerId(workerId)
                 .score(totalScore)
                 .build();
     }
 
-    private double calculateFinishedReservationsScore(Long jobReservationCount, Long workerId) {
-        LogUtil.info("Job reservations count: {} for worker {}.", jobReservationCount, workerId);
-        return jobReservationCount * weights.getJobReservationsCount();
+    /**
+     * Calculates an upper bound of the score {@link #calculateJobScore(long, UserScoringContext,
+     * ReviewStatsDTO, ReviewStatsDTO, ReportStatsDTO, ReportStatsDTO, JobFeatureStore, int, long)}
+     * can produce for the job stored in the given row, without its review and report stats.
+     * <p>
+     * The local components and the reservation score are exact. The rating scores are bounded by
+     * their weight, since average ratings are in the range [0-5], and the report penalties by zero.
+     * If a report weight is positive, the report scores are unbounded and so is the result.
+     *
+     * @return the upper bound of the score, or {@link Double#POSITIVE_INFINITY} if there is none
+     */
+    public double calculateScoreUpperBound(
+            long workerId,
+            UserScoringContext userContext,
+            JobFeatureStore jobFeatures,
+            int row,
+            long jobReservationCount
+    ) {
+        // Bounds are not scores, so their components are never logged
+        double positiveScore = 0.0;
+        positiveScore += calculateDistanceScore(userContext, jobFeatures.latitude(row), jobFeatures.longitude(row), workerId, false);
+        positiveScore += calculateExperienceMatchScore(userContext, jobFeatures.experience(row), workerId, false);
+        positiveScore += calculateFavoriteScore(userContext, workerId, false);
+        positiveScore += Math.max(weights.getWorkerRating(), 0.0);
+        positiveScore += Math.max(weights.getJobRating(), 0.0);
+        positiveScore += calculateCategoryMatchScore(userContext, jobFeatures.categoryCode(row), workerId, false);
+        positiveScore += calculateFinishedReservationsScore(jobReservationCount, workerId, false);
+
+        return calculateScoreUpperBound(positiveScore, jobFeatures, row, workerId);
     }
 
-    private double calculateDistanceScore(GeoCoordinatesDTO userCoordinates, UserPreferencesDTO userPreferences, JobDTO jobDetails) {
-        // If user or job data is missing, return 0.0
-        if (userCoordinates == null
-            || userPreferences == null
-            || jobDetails == null
-            || jobDetails.lat() == null
-            || jobDetails.lon() == null) {
-            LogUtil.warn("User data for distance score is missing. Returning 0.0.");
-            return 0.0;
+    /**
+     * Calculates the part of the score {@link #calculateJobScore(long, UserScoringContext,
+     * ReviewStatsDTO, ReviewStatsDTO, ReportStatsDTO, ReportStatsDTO, JobFeatureStore, int, long)}
+     * produces for the job stored in the given row before the hourly rate and report penalties,
+     * which only apply if this part is positive.
+     *
+     * @return the score of the job before penalties
+     */
+    public double calculatePositiveScore(
+            long workerId,
+            UserScoringContext userContext,
+            ReviewStatsDTO workerReviewStats,
+            ReviewStatsDTO jobReviewStats,
+            JobFeatureStore jobFeatures,
+            int row,
+            long jobReservationCount
+    ) {
+        boolean logged = userContext.isJobDetailLogged();
+        double positiveScore = 0.0;
+        positiveScore += calculateDistanceScore(userContext, jobFeatures.latitude(row), jobFeatures.longitude(row), workerId, logged);
+        positiveScore += calculateExperienceMatchScore(userContext, jobFeatures.experience(row), workerId, logged);
+        positiveScore += calculateFavoriteScore(userContext, workerId, logged);
+        positiveScore += calculateWorkerRatingScore(workerReviewStats, workerId, logged);
+        positiveScore += calculateJobRatingScore(jobReviewStats, workerId, logged);
+        positiveScore += calculateCategoryMatchScore(userContext, jobFeatures.categoryCode(row), workerId, logged);
+        positiveScore += calculateFinishedReservationsScore(jobReservationCount, workerId, logged);
+        return positiveScore;
+    }
+
+    /**
+     * Returns whether the report stats of a job can change its score, given the score of the job
+     * before penalties. Reports are only applied to positive scores, and only if a report weight
+     * is set.
+     *
+     * @param positiveScore the score of the job before penalties
+     * @return true if the report stats of the job are needed to calculate its score
+     */
+    public boolean areReportsApplied(double positiveScore) {
+        return positiveScore > 0 && hasReportWeight();
+    }
+
+    /**
+     * Calculates an upper bound of the score of the job stored in the given row from its score
+     * before penalties, without its report stats.
+     * <p>
+     * The hourly rate penalty is exact and the report penalties are bounded by zero. If a report
+     * weight is positive, the report scores are unbounded and so is the result.
+     *
+     * @param positiveScore the score of the job before penalties
+     * @return the upper bound of the score, or {@link Double#POSITIVE_INFINITY} if there is none
+     */
+    public double calculateScoreUpperBound(double positiveScore, JobFeatureStore jobFeatures, int row, long workerId) {
+        // Penalties only apply to positive scores, so a score that may stay non-positive is bounded by zero
+        if (positiveScore <= 0) {
+            return positiveScore;
+        }
+        if (hasPositiveReportWeight()) {
+            return Double.POSITIVE_INFINITY;
         }
+        return Math.max(positiveScore + calculateHourlyRatePenaltyScore(jobFeatures.hourlyRate(row), workerId, false), 0.0);
+    }
 
-        // Check if latitude and longitude are valid
-        if (userCoordinates.latitude() == null
-            || userCoordinates.latitude() < -90.0
-            || userCoordinates.latitude() > 90.0
-            || userCoordinates.longitude() == null
-            || userCoordinates.longitude() < -180.0
-            || userCoordinates.longitude() > 180.0) {
-            LogUtil.warn("User coordinates are invalid. Returning 0.0.");
-            return 0.0;
+    private boolean hasReportWeight() {
+        return weights.getUserReportsLow() != 0
+               || weights.getUserReportsMedium() != 0
+               || weights.getUserReportsHigh() != 0
+               || weights.getJobReportsLow() != 0
+               || weights.getJobReportsMedium() != 0
+               || weights.getJobReportsHigh() != 0;
+    }
+
+    private boolean hasPositiveReportWeight() {
+        return weights.getUserReportsLow() > 0
+               || weights.getUserReportsMedium() > 0
+               || weights.getUserReportsHigh() > 0
+               || weights.getJobReportsLow() > 0
+               || weights.getJobReportsMedium() > 0
+               || weights.getJobReportsHigh() > 0;
+    }
+
+    private double calculateFinishedReservationsScore(long jobReservationCount, long workerId, boolean logged) {
+        if (logged) {
+            LogUtil.debug("Job reservations count: {} for worker {}.", jobReservationCount, workerId);
         }
+        return jobReservationCount * weights.getJobReservationsCount();
+    }
 
-        // Preferred distance must be positive for calculation logic below
-        double preferredDistance = (userPreferences.preferredDistanceRadius() != null
-                                    && userPreferences.preferredDistanceRadius() > 0)
-                ? userPreferences.preferredDistanceRadius()
-                : defaults.getMaxDistance();
+    private double calculateDistanceScore(UserScoringContext userContext,
+                                          double jobLatitude,
+                                          double jobLongitude,
+                                          long workerId,
+                                          boolean logged) {
+        // If user or job data is missing, or the user coordinates are invalid, return 0.0
+        if (!userContext.isDistanceScored()
+            || Double.isNaN(jobLatitude)
+            || Double.isNaN(jobLongitude)) {
+            if (logged) {
+                LogUtil.debug("User data for distance score is missing or invalid. Returning 0.0.");
+            }
+            return 0.0;
+        }
 
-        // Call the distance calculation
-        GeoCoordinatesDTO workerCoordinates = GeoCoordinatesDTO.builder()
-                .latitude(jobDetails.lat())
-                .longitude(jobDetails.lon())
-                .build();
-        double distance = geoLocationCalculator.calculateDistance(userCoordinates, workerCoordinates);
+        // Preferred distance is positive for calculation logic below
+        double preferredDistance = userContext.preferredDistance();
+        double distance = GeoLocationCalculator.calculateDistance(userContext.latitude(),
+                userContext.longitude(),
+                jobLatitude,
+                jobLongitude);
 
         // Once distance is calculated, apply scoring logic
         if (distance > preferredDistance) {
-            LogUtil.info("Worker {} distance {}km > preferred {}km. Returning 0.0 distance score.",
-                    jobDetails.userId(), distance, preferredDistance);
+            if (logged) {
+                LogUtil.debug("Worker {} distance {}km > preferred {}km. Returning 0.0 distance score.",
+                        workerId, distance, preferredDistance);
+            }
             return 0.0;
         }
 
@@ -110,90 +218,110 @@ public class RecommendationEngine {
         double distanceScore = weights.getDistance() * (1.0 - (distance / preferredDistance));
         double scoreToReturn = Math.max(distanceScore, 0.0);
 
-        LogUtil.info("Worker {} distance {}km <= preferred {}km. Returning {} distance score.",
-                jobDetails.userId(), distance, preferredDistance, scoreToReturn);
+        if (logged) {
+            LogUtil.debug("Worker {} distance {}km <= preferred {}km. Returning {} distance score.",
+                    workerId, distance, preferredDistance, scoreToReturn);
+        }
         return scoreToReturn;
     }
 
-    private double calculateExperienceMatchScore(UserPreferencesDTO userPreferences, JobDTO jobDetails) {
-        if (userPreferences == null
-            || jobDetails == null
-            || jobDetails.experience() == null) {
-            LogUtil.warn("Missing data for experience score. Returning 0.0");
+    private double calculateExperienceMatchScore(UserScoringContext userContext, int jobExperience, long workerId, boolean logged) {
+        if (!userContext.isExperienceScored()
+            || jobExperience == JobFeatureStore.MISSING_INT) {
+            if (logged) {
+                LogUtil.debug("Missing data for experience score. Returning 0.0");
+            }
             return 0.0;
         }
 
-        int preferredExperience = (userPreferences.preferredYearsOfExperience() != null
-                                   && userPreferences.preferredYearsOfExperience() > 0)
-                ? userPreferences.preferredYearsOfExperience()
-                : defaults.getMinExperience();
-
-        if (jobDetails.experience() < preferredExperience) {
-            LogUtil.info("Worker {} experience {} < preferred {} experience. No points.",
-                    jobDetails.userId(),
-                    jobDetails.experience(),
-                    userPreferences.preferredYearsOfExperience());
+        if (jobExperience < userContext.preferredExperience()) {
+            if (logged) {
+                LogUtil.debug("Worker {} experience {} < preferred {} experience. No points.",
+                        workerId,
+                        jobExperience,
+                        userContext.preferredExperience());
+            }
             return 0.0;
         }
 
-        LogUtil.info("Worker {} experience {} >= preferred {} experience. Adding {} points.",
-                jobDetails.userId(),
-                jobDetails.experience(),
-                userPreferences.preferredYearsOfExperience(),
-                weights.getExperienceMatch());
+        if (logged) {
+            LogUtil.debug("Worker {} experience {} >= preferred {} experience. Adding {} points.",
+                    workerId,
+                    jobExperience,
+                    userContext.preferredExperience(),
+                    weights.getExperienceMatch());
+        }
         return weights.getExperienceMatch();
     }
 
-    private double calculateHourlyRatePenaltyScore(JobDTO jobDetails, Long workerId) {
-        if (jobDetails == null || jobDetails.hourlyRate() == null) {
-            LogUtil.info("Missing hourly rate for worker {}. Returning 0.0", workerId);
+    private double calculateHourlyRatePenaltyScore(int jobHourlyRate, long workerId, boolean logged) {
+        if (jobHourlyRate == JobFeatureStore.MISSING_INT) {
+            if (logged) {
+                LogUtil.debug("Missing hourly rate for worker {}. Returning 0.0", workerId);
+            }
             return 0.0;
         }
 
-        double score = weights.getHourlyRate() * jobDetails.hourlyRate();
-        LogUtil.info("Worker {} hourly rate {}. Adding {} points.", workerId, jobDetails.hourlyRate(), score);
+        double score = weights.getHourlyRate() * jobHourlyRate;
+        if (logged) {
+            LogUtil.debug("Worker {} hourly rate {}. Adding {} points.", workerId, jobHourlyRate, score);
+        }
         return score;
     }
 
-    private double calculateFavoriteScore(List<Long> favoriteWorkerIds, Long workerId) {
-        if (favoriteWorkerIds == null || !favoriteWorkerIds.contains(workerId)) {
-            LogUtil.info("Worker {} is not favorite. Returning 0.0.", workerId);
+    private double calculateFavoriteScore(UserScoringContext userContext, long workerId, boolean logged) {
+        if (!userContext.isFavorite(workerId)) {
+            if (logged) {
+                LogUtil.debug("Worker {} is not favorite. Returning 0.0.", workerId);
+            }
             return 0.0;
         }
 
-        LogUtil.info("Worker {} is a favorite worker. Adding {} points.", workerId, weights.getFavorite());
+        if (logged) {
+            LogUtil.debug("Worker {} is a favorite worker. Adding {} points.", workerId, weights.getFavorite());
+        }
         return weights.getFavorite();
     }
 
-    private double calculateWorkerRatingScore(ReviewStatsDTO workerReviewStats, Long workerId) {
+    private double calculateWorkerRatingScore(ReviewStatsDTO workerReviewStats, long workerId, boolean logged) {
         if (workerReviewStats == null || workerReviewStats.averageRating() == null) {
-            LogUtil.info("Worker {} rating missing. Returning 0.0.", workerId);
+            if (logged) {
+                LogUtil.debug("Worker {} rating missing. Returning 0.0.", workerId);
+            }
             return 0.0;
         }
 
         double score = workerReviewStats.averageRating() * (weights.getWorkerRating() / 5.0);
-        LogUtil.info("Worker {} average worker rating {}. Adding {} worker rating points.",
-                workerId,
-                workerReviewStats.averageRating(), score);
+        if (logged) {
+            LogUtil.debug("Worker {} average worker rating {}. Adding {} worker rating points.",
+                    workerId,
+                    workerReviewStats.averageRating(), score);
+        }
         return score;
     }
 
-    private double calculateJobRatingScore(ReviewStatsDTO jobReviewStats, Long workerId) {
+    private double calculateJobRatingScore(ReviewStatsDTO jobReviewStats, long workerId, boolean logged) {
         if (jobReviewStats == null || jobReviewStats.averageRating() == null) {
-            LogUtil.info("Job rating for worker {} missing. Returning 0.0", workerId);
+            if (logged) {
+                LogUtil.debug("Job rating for worker {} missing. Returning 0.0", workerId);
+            }
             return 0.0;
         }
 
         double score = jobReviewStats.averageRating() * (weights.getJobRating() / 5.0);
-        LogUtil.info("Worker {}'s job rating {}. Adding {} job rating points.",
-                workerId,
-                jobReviewStats.averageRating(), score);
+        if (logged) {
+            LogUtil.debug("Worker {}'s job rating {}. Adding {} job rating points.",
+                    workerId,
+                    jobReviewStats.averageRating(), score);
+        }
         return score;
     }
 
-    private double calculateWorkerReportsScore(ReportStatsDTO workerReportStats) {
+    private double calculateWorkerReportsScore(ReportStatsDTO workerReportStats, boolean logged) {
         if (workerReportStats == null || !"USER".equals(workerReportStats.reportType())) {
-            LogUtil.info("Invalid or missing worker report type. Returning 0.0");
+            if (logged) {
+                LogUtil.debug("Invalid or missing worker report type. Returning 0.0");
+            }
             return 0.0;
         }
 
@@ -201,18 +329,22 @@ public class RecommendationEngine {
                        + weights.getJobReportsMedium() * workerReportStats.mediumSeverityCount()
                        + weights.getJobReportsHigh() * workerReportStats.highSeverityCount();
 
-        LogUtil.info("Worker {} has {} low severity reports, {} medium severity reports, and {} high severity reports. " +
-                      "Adding {} points.",
-                workerReportStats.reportedEntityId(),
-                workerReportStats.lowSeverityCount(),
-                workerReportStats.mediumSeverityCount(),
-                workerReportStats.highSeverityCount(), total);
+        if (logged) {
+            LogUtil.debug("Worker {} has {} low severity reports, {} medium severity reports, and {} high severity reports. " +
+                          "Adding {} points.",
+                    workerReportStats.reportedEntityId(),
+                    workerReportStats.lowSeverityCount(),
+                    workerReportStats.mediumSeverityCount(),
+                    workerReportStats.highSeverityCount(), total);
+        }
         return total;
     }
 
-    private double calculateJobReportsScore(ReportStatsDTO jobReportStats) {
+    private double calculateJobReportsScore(ReportStatsDTO jobReportStats, boolean logged) {
         if (jobReportStats == null || !"JOB".equals(jobReportStats.reportType())) {
-            LogUtil.info("Invalid or missing job report type. Returning 0.0");
+            if (logged) {
+                LogUtil.debug("Invalid or missing job report type. Returning 0.0");
+            }
             return 0.0;
         }
 
@@ -220,23 +352,29 @@ public class RecommendationEngine {
                        + weights.getUserReportsMedium() * jobReportStats.mediumSeverityCount()
                        + weights.getUserReportsHigh() * jobReportStats.highSeverityCount();
 
-        LogUtil.info("Job {} has {} low severity reports, {} medium severity reports, and {} high severity reports. " +
-                      "Adding {} points.",
-                jobReportStats.reportedEntityId(),
-                jobReportStats.lowSeverityCount(),
-                jobReportStats.mediumSeverityCount(),
-                jobReportStats.highSeverityCount(), total);
+        if (logged) {
+            LogUtil.debug("Job {} has {} low severity reports, {} medium severity reports, and {} high severity reports. " +
+                          "Adding {} points.",
+                    jobReportStats.reportedEntityId(),
+                    jobReportStats.lowSeverityCount(),
+                    jobReportStats.mediumSeverityCount(),
+                    jobReportStats.highSeverityCount(), total);
+        }
         return total;
     }
 
-    private double calculateCategoryMatchScore(UserPreferencesDTO userPreferences, JobDTO jobDetails) {
-        if (userPreferences == null || jobDetails == null || userPreferences.wantedCategories() == null) {
-            LogUtil.info("Missing data for category match. Returning 0.0");
+    private double calculateCategoryMatchScore(UserScoringContext userContext, short jobCategoryCode, long workerId, boolean logged) {
+        if (!userContext.isCategoryScored()) {
+            if (logged) {
+                LogUtil.debug("Missing data for category match. Returning 0.0");
+            }
             return 0.0;
         }
 
-        boolean match = userPreferences.wantedCategories().contains(jobDetails.category());
-        LogUtil.info("Category match for worker {}: {}", jobDetails.userId(), match);
+        boolean match = userContext.isWantedCategory(jobCategoryCode);
+        if (logged) {
+            LogUtil.debug("Category match for worker {}: {}", workerId, match);
+        }
         return match ? weights.getCategoryMatch() : 0.0;
     }
 }
\ No newline at end of file
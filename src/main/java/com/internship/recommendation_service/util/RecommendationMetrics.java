@@ -0,0 +1,78 @@
+package com.internship.recommendation_service.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RecommendationMetrics {
+    private static final String METRIC_PREFIX = "recommendation.request";
+
+    private final DistributionSummary savedWorkerLookups;
+    private final DistributionSummary partialJobs;
+    private final Counter partialRequests;
+    private final DistributionSummary prunedJobs;
+    private final Counter skippedReportLookups;
+
+    public RecommendationMetrics(MeterRegistry meterRegistry) {
+        this.savedWorkerLookups = DistributionSummary.builder(METRIC_PREFIX + ".worker.stats.saved.lookups")
+                .description("Number of worker stats lookups per request served from the request-scoped memo")
+                .register(meterRegistry);
+        this.partialJobs = DistributionSummary.builder(METRIC_PREFIX + ".partial.jobs")
+                .description("Number of jobs per request scored with default stats because their data missed the request deadline")
+                .register(meterRegistry);
+        this.partialRequests = Counter.builder(METRIC_PREFIX + ".partial")
+                .description("Number of requests with at least one job scored with default stats because of the request deadline")
+                .register(meterRegistry);
+        this.prunedJobs = DistributionSummary.builder(METRIC_PREFIX + ".pruned.jobs")
+                .description("Number of jobs per request whose stats were not fetched because they could not reach the top scores")
+                .register(meterRegistry);
+        this.skippedReportLookups = Counter.builder(METRIC_PREFIX + ".report.stats.skipped.lookups")
+                .description("Number of jobs whose report stats were not fetched because they could not change the top scores")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the number of worker stats lookups that a recommendation request served from its
+     * request-scoped memo instead of calling a downstream service.
+     *
+     * @param savedLookups the number of saved lookups
+     */
+    public void recordSavedWorkerLookups(long savedLookups) {
+        savedWorkerLookups.record(savedLookups);
+    }
+
+    /**
+     * Records the number of jobs that a recommendation request scored with default stats because
+     * their data missed the request deadline.
+     *
+     * @param jobs the number of partially scored jobs
+     */
+    public void recordPartialJobs(long jobs) {
+        partialJobs.record(jobs);
+        if (jobs > 0) {
+            partialRequests.increment();
+        }
+    }
+
+    /**
+     * Records the number of jobs whose stats a recommendation request did not fetch because the
+     * upper bound of their score could not reach the top scores.
+     *
+     * @param jobs the number of pruned jobs
+     */
+    public void recordPrunedJobs(long jobs) {
+        prunedJobs.record(jobs);
+    }
+
+    /**
+     * Records the number of jobs whose report stats were not fetched because the reports could
+     * not change their score or move them into the top scores.
+     *
+     * @param jobs the number of jobs without report stats lookups
+     */
+    public void recordSkippedReportLookups(long jobs) {
+        skippedReportLookups.increment(jobs);
+    }
+}
@@ -0,0 +1,136 @@
+package com.internship.recommendation_service.util;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The time budget of a single recommendation request, carried in the Reactor context.
+ * <p>
+ * Every downstream stage of the request is bounded by the budget remaining when it starts. A stage
+ * that does not answer in time is cancelled and replaced by a fallback value, and the miss is
+ * recorded so the results built from the fallback can be marked as partial. The number of partial
+ * results is tracked so it can be reported once the request finishes.
+ * <p>
+ * Instances are thread-safe and must not be shared between requests.
+ */
+public class RequestDeadline {
+    private static final Class<RequestDeadline> CONTEXT_KEY = RequestDeadline.class;
+
+    private final long expiresAtNanos;
+    private final AtomicBoolean requestDataMissed = new AtomicBoolean();
+    private final AtomicLong partialResults = new AtomicLong();
+
+    private RequestDeadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Creates a deadline that expires after the given timeout, starting now.
+     *
+     * @param timeout the time budget of the request
+     * @return the deadline
+     */
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Returns a context modifier that starts a deadline with the given timeout when the request is
+     * subscribed to, for use with {@code contextWrite}.
+     *
+     * @param timeout the time budget of the request
+     * @return the context modifier
+     */
+    public static Function<Context, Context> withTimeout(Duration timeout) {
+        return context -> context.put(CONTEXT_KEY, after(timeout));
+    }
+
+    /**
+     * Returns the deadline carried in the given context, or a new one with the given timeout if
+     * the context carries none.
+     *
+     * @param context        the Reactor context of the request
+     * @param defaultTimeout the time budget of requests without a deadline
+     * @return the deadline of the request
+     */
+    public static RequestDeadline from(ContextView context, Duration defaultTimeout) {
+        return context.getOrEmpty(CONTEXT_KEY)
+                .map(CONTEXT_KEY::cast)
+                .orElseGet(() -> after(defaultTimeout));
+    }
+
+    /**
+     * Returns the time left until the deadline, or zero if it has passed.
+     *
+     * @return the remaining time budget
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(expiresAtNanos - System.nanoTime(), 0));
+    }
+
+    /**
+     * Bounds a stage whose result is shared by all results of the request. If it misses the
+     * deadline, every result of the request is partial.
+     *
+     * @param stage    the downstream stage
+     * @param fallback the value used if the stage misses the deadline
+     * @param <T>      the type of the stage result
+     * @return the bounded stage
+     */
+    public <T> Mono<T> bound(Mono<T> stage, T fallback) {
+        return bound(stage, fallback, requestDataMissed);
+    }
+
+    /**
+     * Bounds a stage by the remaining budget. The stage is not subscribed to at all if the
+     * deadline has already passed.
+     *
+     * @param stage    the downstream stage
+     * @param fallback the value used if the stage misses the deadline
+     * @param missed   the flag set if the stage misses the deadline
+     * @param <T>      the type of the stage result
+     * @return the bounded stage
+     */
+    public <T> Mono<T> bound(Mono<T> stage, T fallback, AtomicBoolean missed) {
+        return Mono.defer(() -> {
+            Mono<T> fallbackMono = Mono.fromSupplier(() -> {
+                missed.set(true);
+                return fallback;
+            });
+
+            Duration remaining = remaining();
+            return remaining.isZero() ? fallbackMono : stage.timeout(remaining, fallbackMono);
+        });
+    }
+
+    /**
+     * Returns whether a stage shared by all results of the request missed the deadline.
+     *
+     * @return true if all results of the request are partial
+     */
+    public boolean isRequestDataMissed() {
+        return requestDataMissed.get();
+    }
+
+    /**
+     * Records a result built from fallback values of stages that missed the deadline.
+     */
+    public void recordPartialResult() {
+        partialResults.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of results built from fallback values of stages that missed the deadline.
+     *
+     * @return the number of partial results
+     */
+    public long getPartialResults() {
+        return partialResults.get();
+    }
+}
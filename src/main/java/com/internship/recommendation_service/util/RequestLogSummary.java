@@ -0,0 +1,60 @@
+package com.internship.recommendation_service.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the work of a single recommendation request, so that it can be logged as one summary line
+ * once the request finishes instead of one line per batch or job.
+ * <p>
+ * Instances are thread-safe and must not be shared between requests.
+ */
+public class RequestLogSummary {
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong candidateJobs = new AtomicLong();
+    private final AtomicLong precomputedJobs = new AtomicLong();
+    private final AtomicLong fetchedJobs = new AtomicLong();
+    private final AtomicLong prunedJobs = new AtomicLong();
+    private final AtomicLong skippedReportLookups = new AtomicLong();
+
+    public void addCandidateJobs(int jobs) {
+        candidateJobs.addAndGet(jobs);
+    }
+
+    public void addPrecomputedJobs(int jobs) {
+        precomputedJobs.addAndGet(jobs);
+    }
+
+    public void addFetchedJobs(int jobs) {
+        fetchedJobs.addAndGet(jobs);
+    }
+
+    public void addPrunedJobs(int jobs) {
+        prunedJobs.addAndGet(jobs);
+    }
+
+    public void addSkippedReportLookups(int jobs) {
+        skippedReportLookups.addAndGet(jobs);
+    }
+
+    /**
+     * Logs the summary of the finished request at INFO, as key=value fields that log pipelines can
+     * parse without a custom pattern.
+     *
+     * @param userId             the ID of the user the recommendations were generated for
+     * @param savedWorkerLookups the number of worker stats lookups served from the request-scoped memos
+     */
+    public void logFinished(Long userId, long savedWorkerLookups) {
+        LogUtil.info("Finished generating recommendations userId={} durationMs={} candidateJobs={} "
+                     + "precomputedJobs={} fetchedJobs={} prunedJobs={} skippedReportLookups={} "
+                     + "savedWorkerLookups={}",
+                userId,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                candidateJobs.get(),
+                precomputedJobs.get(),
+                fetchedJobs.get(),
+                prunedJobs.get(),
+                skippedReportLookups.get(),
+                savedWorkerLookups);
+    }
+}
@@ -0,0 +1,86 @@
+package com.internship.recommendation_service.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Memoizes values keyed by ID for the lifetime of a single recommendation request.
+ * <p>
+ * Every ID is loaded at most once per instance: IDs requested again, including IDs whose load is
+ * still in flight for a concurrent batch of the same request, share the first result. The number
+ * of lookups served from the memo is tracked so it can be reported once the request finishes.
+ * <p>
+ * Instances are thread-safe and must not be shared between requests.
+ *
+ * @param <V> the type of the memoized values
+ */
+public class RequestScopedMemo<V> {
+    private final Map<Long, Mono<V>> values = new ConcurrentHashMap<>();
+    private final AtomicLong savedLookups = new AtomicLong();
+
+    /**
+     * Returns the values of the given IDs. IDs not memoized yet are loaded with a single call of
+     * the given loader; all other IDs are served from the memo.
+     *
+     * @param ids    the IDs to resolve
+     * @param loader the function that loads the values of IDs not memoized yet
+     * @return a Mono emitting a map of ID to value for every ID that has a value
+     */
+    public Mono<Map<Long, V>> getAll(Collection<Long> ids, Function<Collection<Long>, Mono<Map<Long, V>>> loader) {
+        return Mono.defer(() -> {
+            List<Long> missing = new ArrayList<>();
+            Map<Long, Mono<V>> pending = new HashMap<>();
+            Sinks.One<Map<Long, V>> loadedBatch = Sinks.one();
+
+            for (Long id : new LinkedHashSet<>(ids)) {
+                if (id == null) {
+                    continue;
+                }
+
+                Mono<V> loaded = loadedBatch.asMono().mapNotNull(loadedValues -> loadedValues.get(id));
+                Mono<V> memoized = values.putIfAbsent(id, loaded);
+                if (memoized == null) {
+                    missing.add(id);
+                    pending.put(id, loaded);
+                } else {
+                    savedLookups.incrementAndGet();
+                    pending.put(id, memoized);
+                }
+            }
+
+            // Load only after every missing ID is registered, so concurrent callers waiting on
+            // this batch always see the complete result
+            Mono<Void> load = missing.isEmpty()
+                    ? Mono.empty()
+                    : loader.apply(List.copyOf(missing))
+                            .doOnNext(loadedBatch::tryEmitValue)
+                            .doOnError(loadedBatch::tryEmitError)
+                            .doFinally(signal -> loadedBatch.tryEmitEmpty())
+                            .then();
+
+            return load.then(Flux.fromIterable(pending.entrySet())
+                    .flatMap(entry -> entry.getValue().map(value -> Map.entry(entry.getKey(), value)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue));
+        });
+    }
+
+    /**
+     * Returns the number of lookups that were served from the memo instead of the loader.
+     *
+     * @return the number of saved lookups
+     */
+    public long getSavedLookups() {
+        return savedLookups.get();
+    }
+}
@@ -0,0 +1,49 @@
+package com.internship.recommendation_service.util;
+
+import com.internship.recommendation_service.dto.response.JobScoreResponse;
+
+import java.util.Comparator;
+
+/**
+ * Tracks the lowest of the best {@code limit} scores calculated so far by a recommendation request.
+ * A job whose score cannot exceed the threshold cannot enter the top scores of the request, so its
+ * remaining data does not need to be fetched.
+ * <p>
+ * Instances are thread-safe and must not be shared between requests.
+ */
+public class TopScoreThreshold {
+    private final BoundedTopK<JobScoreResponse> topScores;
+
+    /**
+     * Creates a threshold that stays at negative infinity until {@code limit} scores are offered.
+     *
+     * @param limit the number of top scores requested
+     */
+    public TopScoreThreshold(int limit) {
+        this.topScores = new BoundedTopK<>(limit, Comparator.comparing(JobScoreResponse::score));
+    }
+
+    /**
+     * Offers a calculated score, raising the threshold if it enters the top scores.
+     *
+     * @param score the score of a job
+     */
+    public synchronized void offer(JobScoreResponse score) {
+        topScores.offer(score);
+    }
+
+    /**
+     * Returns the score a job must exceed to enter the top scores.
+     *
+     * @return the lowest top score, negative infinity while fewer than {@code limit} scores were
+     * offered, or positive infinity if no scores are requested
+     */
+    public synchronized double get() {
+        if (!topScores.isFull()) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        JobScoreResponse lowestScore = topScores.peekSmallest();
+        return lowestScore != null ? lowestScore.score() : Double.POSITIVE_INFINITY;
+    }
+}
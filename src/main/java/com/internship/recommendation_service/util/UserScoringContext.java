@@ -0,0 +1,240 @@
+package com.internship.recommendation_service.util;
+
+import com.internship.recommendation_service.config.property.RecommendationDefaultsConfig;
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import com.internship.recommendation_service.dto.external.UserPreferencesDTO;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The data of a user that every job of a recommendation request is scored against, compiled once
+ * per request into primitive form.
+ * <p>
+ * Favorite and blocked workers are held in {@link LongHashSet}s, the wanted categories as a bitmask
+ * over the category codes of a {@link JobFeatureStore}, and the coordinates, preferred distance
+ * radius and preferred years of experience as primitives with their defaults resolved. Scoring a
+ * job against the context therefore neither boxes values nor scans lists.
+ * <p>
+ * The category bitmask is only valid for the rows of the store the context was compiled against.
+ * <p>
+ * The context also carries whether the per-job scoring detail of the request is logged, which is
+ * decided once per request.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class UserScoringContext {
+    private final boolean distanceScored;
+    private final double latitude;
+    private final double longitude;
+    private final double preferredDistance;
+    private final boolean experienceScored;
+    private final int preferredExperience;
+    private final long[] wantedCategoryCodes;
+    private final LongHashSet favoriteWorkerIds;
+    private final LongHashSet blockedWorkerIds;
+    private final boolean jobDetailLogged;
+
+    private UserScoringContext(GeoCoordinatesDTO userCoordinates,
+                               UserPreferencesDTO userPreferences,
+                               long[] wantedCategoryCodes,
+                               LongHashSet favoriteWorkerIds,
+                               LongHashSet blockedWorkerIds,
+                               RecommendationDefaultsConfig defaults,
+                               boolean jobDetailLogged) {
+        this.distanceScored = userPreferences != null && hasValidCoordinates(userCoordinates);
+        this.latitude = distanceScored ? userCoordinates.latitude() : Double.NaN;
+        this.longitude = distanceScored ? userCoordinates.longitude() : Double.NaN;
+        this.preferredDistance = userPreferences != null
+                                 && userPreferences.preferredDistanceRadius() != null
+                                 && userPreferences.preferredDistanceRadius() > 0
+                ? userPreferences.preferredDistanceRadius()
+                : defaults.getMaxDistance();
+        this.experienceScored = userPreferences != null;
+        this.preferredExperience = userPreferences != null
+                                   && userPreferences.preferredYearsOfExperience() != null
+                                   && userPreferences.preferredYearsOfExperience() > 0
+                ? userPreferences.preferredYearsOfExperience()
+                : defaults.getMinExperience();
+        this.wantedCategoryCodes = wantedCategoryCodes;
+        this.favoriteWorkerIds = favoriteWorkerIds;
+        this.blockedWorkerIds = blockedWorkerIds;
+        this.jobDetailLogged = jobDetailLogged;
+    }
+
+    /**
+     * Compiles the scoring context of a user. The per-job scoring detail is logged if DEBUG is
+     * enabled.
+     *
+     * @see #compile(GeoCoordinatesDTO, UserPreferencesDTO, List, List, JobFeatureStore, RecommendationDefaultsConfig, boolean)
+     */
+    public static UserScoringContext compile(GeoCoordinatesDTO userCoordinates,
+                                             UserPreferencesDTO userPreferences,
+                                             List<Long> favoriteWorkerIds,
+                                             List<Long> blockedWorkerIds,
+                                             JobFeatureStore jobFeatures,
+                                             RecommendationDefaultsConfig defaults) {
+        return compile(userCoordinates,
+                userPreferences,
+                favoriteWorkerIds,
+                blockedWorkerIds,
+                jobFeatures,
+                defaults,
+                LogUtil.isDebugEnabled());
+    }
+
+    /**
+     * Compiles the scoring context of a user.
+     *
+     * @param userCoordinates   the geographical coordinates of the user, or null if unknown
+     * @param userPreferences   the preferences of the user, or null if unknown
+     * @param favoriteWorkerIds the IDs of the workers marked as favorite by the user, or null
+     * @param blockedWorkerIds  the IDs of the workers blocked by the user, or null
+     * @param jobFeatures       the store whose category codes the wanted categories are encoded with
+     * @param defaults          the defaults of preferences the user did not set
+     * @param jobDetailLogged   whether the scoring detail of every job is logged at DEBUG
+     * @return the compiled context
+     */
+    public static UserScoringContext compile(GeoCoordinatesDTO userCoordinates,
+                                             UserPreferencesDTO userPreferences,
+                                             List<Long> favoriteWorkerIds,
+                                             List<Long> blockedWorkerIds,
+                                             JobFeatureStore jobFeatures,
+                                             RecommendationDefaultsConfig defaults,
+                                             boolean jobDetailLogged) {
+        return new UserScoringContext(userCoordinates,
+                userPreferences,
+                encodeCategories(userPreferences, jobFeatures),
+                LongHashSet.of(favoriteWorkerIds),
+                LongHashSet.of(blockedWorkerIds),
+                defaults,
+                jobDetailLogged);
+    }
+
+    /**
+     * Returns whether distance points are scored, i.e. whether the user has preferences and valid
+     * coordinates.
+     *
+     * @return true if the distance to jobs is scored
+     */
+    public boolean isDistanceScored() {
+        return distanceScored;
+    }
+
+    public double latitude() {
+        return latitude;
+    }
+
+    public double longitude() {
+        return longitude;
+    }
+
+    /**
+     * Returns the preferred distance radius of the user, or the default radius if the user did not
+     * set a positive one.
+     *
+     * @return the preferred distance radius in kilometers
+     */
+    public double preferredDistance() {
+        return preferredDistance;
+    }
+
+    /**
+     * Returns whether experience points are scored, i.e. whether the user has preferences.
+     *
+     * @return true if the experience of jobs is scored
+     */
+    public boolean isExperienceScored() {
+        return experienceScored;
+    }
+
+    /**
+     * Returns the preferred years of experience of the user, or the default if the user did not set
+     * a positive number.
+     *
+     * @return the preferred years of experience
+     */
+    public int preferredExperience() {
+        return preferredExperience;
+    }
+
+    /**
+     * Returns whether category points are scored, i.e. whether the preferences of the user list
+     * wanted categories.
+     *
+     * @return true if the category of jobs is scored
+     */
+    public boolean isCategoryScored() {
+        return wantedCategoryCodes != null;
+    }
+
+    /**
+     * Returns whether the category with the given code is wanted by the user.
+     *
+     * @param categoryCode the category code of a row of the store the context was compiled against
+     * @return true if the category is wanted, false if not or if the code is missing
+     */
+    public boolean isWantedCategory(short categoryCode) {
+        if (categoryCode == JobFeatureStore.MISSING_CODE || wantedCategoryCodes == null) {
+            return false;
+        }
+
+        int index = categoryCode >>> 6;
+        return index < wantedCategoryCodes.length && (wantedCategoryCodes[index] & (1L << categoryCode)) != 0;
+    }
+
+    public boolean isFavorite(long workerId) {
+        return favoriteWorkerIds.contains(workerId);
+    }
+
+    public boolean isBlocked(long workerId) {
+        return blockedWorkerIds.contains(workerId);
+    }
+
+    /**
+     * Returns whether the scoring detail of every job of the request is logged at DEBUG.
+     *
+     * @return true if the per-job detail is logged
+     */
+    public boolean isJobDetailLogged() {
+        return jobDetailLogged;
+    }
+
+    private static boolean hasValidCoordinates(GeoCoordinatesDTO coordinates) {
+        return coordinates != null
+               && coordinates.latitude() != null
+               && coordinates.latitude() >= -90.0
+               && coordinates.latitude() <= 90.0
+               && coordinates.longitude() != null
+               && coordinates.longitude() >= -180.0
+               && coordinates.longitude() <= 180.0;
+    }
+
+    /**
+     * Encodes the wanted categories as a bitmask indexed by category code. Categories no job of
+     * the store has cannot match and are left out.
+     *
+     * @return the bitmask, or null if the user has no wanted categories
+     */
+    private static long[] encodeCategories(UserPreferencesDTO userPreferences, JobFeatureStore jobFeatures) {
+        if (userPreferences == null || userPreferences.wantedCategories() == null) {
+            return null;
+        }
+
+        long[] codes = new long[0];
+        for (String category : userPreferences.wantedCategories()) {
+            short code = jobFeatures.categoryCodeOf(category);
+            if (code == JobFeatureStore.MISSING_CODE) {
+                continue;
+            }
+
+            int index = code >>> 6;
+            if (index >= codes.length) {
+                codes = Arrays.copyOf(codes, index + 1);
+            }
+            codes[index] |= 1L << code;
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,55 @@
+package com.internship.recommendation_service.config;
+
+import com.internship.recommendation_service.service.client.Downstream;
+import com.internship.recommendation_service.service.client.toggle.DownstreamSwitches;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the access rules of {@code security.paths} against the application configuration, so the
+ * test resources, which do not configure any path, are extended with the main configuration.
+ */
+@SpringBootTest(properties = {
+        "spring.config.additional-location=file:src/main/resources/",
+        "eureka.client.enabled=false",
+        "BASE_API_KEY=test",
+        "USER_API_KEY=test",
+        "JOB_API_KEY=test",
+        "REVIEW_API_KEY=test",
+        "REPORT_API_KEY=test",
+        "RESERVATION_API_KEY=test"
+})
+@AutoConfigureMockMvc
+@DisplayName("SecurityConfig Tests")
+class SecurityConfigTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DownstreamSwitches downstreamSwitches;
+
+    @Test
+    @DisplayName("Should forbid users to flip downstream switches")
+    void shouldForbidUsersToFlipDownstreamSwitches() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/actuator/downstreams/review-service")
+                        .with(user("user").roles("USER"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\": false}"))
+                .andExpect(status().isForbidden());
+
+        assertThat(downstreamSwitches.isEnabled(Downstream.REVIEW_SERVICE)).isTrue();
+    }
+}
@@ -0,0 +1,165 @@
+package com.internship.recommendation_service.service.catalog;
+
+import com.internship.recommendation_service.config.property.JobCatalogConfig;
+import com.internship.recommendation_service.dto.external.JobDTO;
+import com.internship.recommendation_service.service.client.JobServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobCatalog Tests")
+class JobCatalogTest {
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private JobServiceClient mockJobServiceClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private JobCatalog jobCatalog;
+
+    private JobDTO job1, job2, updatedJob2, job3;
+
+    @BeforeEach
+    void setUp() {
+        JobCatalogConfig config = new JobCatalogConfig();
+        config.setEnabled(true);
+        config.setRefreshInterval(Duration.ofSeconds(30));
+        config.setFullReloadInterval(Duration.ofMinutes(15));
+
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(START);
+        jobCatalog = new JobCatalog(mockJobServiceClient, config, meterRegistry, clock);
+
+        job1 = new JobDTO(101L, 11L, "Job 1", "Desc 1", LocalDate.now(), 3, 25, "CAT1", "ACCEPTED", 40.1, -70.1);
+        job2 = new JobDTO(102L, 12L, "Job 2", "Desc 2", LocalDate.now(), 5, 35, "CAT2", "ACCEPTED", 40.2, -70.2);
+        updatedJob2 = new JobDTO(102L, 12L, "Job 2", "Desc 2", LocalDate.now(), 5, 35, "CAT2", "PENDING", 40.2, -70.2);
+        job3 = new JobDTO(103L, 13L, "Job 3", "Desc 3", LocalDate.now(), 1, 20, "CAT1", "ACCEPTED", 40.3, -70.3);
+    }
+
+    @Test
+    @DisplayName("Should read jobs from the job service until the first snapshot is loaded")
+    void shouldFallBackToJobServiceBeforeFirstSync() {
+        // Arrange
+        when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.just(job1));
+
+        // Act & Assert
+        StepVerifier.create(jobCatalog.getJobFeatures())
+                .assertNext(jobFeatures -> assertThat(jobIds(jobFeatures)).containsExactly(job1.id()))
+                .verifyComplete();
+        assertThat(meterRegistry.get("recommendation.job.catalog.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply jobs modified since the previous sync on top of the snapshot")
+    void shouldApplyDeltaOnTopOfSnapshot() {
+        // Arrange
+        when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.just(job1, job2));
+        when(mockJobServiceClient.getJobsModifiedSince(START)).thenReturn(Flux.just(updatedJob2, job3));
+
+        // Act
+        StepVerifier.create(jobCatalog.refresh()).verifyComplete();
+        clock.advance(Duration.ofSeconds(30));
+        StepVerifier.create(jobCatalog.refresh()).verifyComplete();
+
+        // Assert
+        StepVerifier.create(jobCatalog.getJobFeatures())
+                .assertNext(jobFeatures -> {
+                    assertThat(jobIds(jobFeatures)).containsExactly(job1.id(), job2.id(), job3.id());
+                    assertThat(jobFeatures.status(1)).isEqualTo(updatedJob2.status());
+                })
+                .verifyComplete();
+        verify(mockJobServiceClient, times(1)).getAllJobs();
+        assertThat(meterRegistry.get("recommendation.job.catalog.size").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("recommendation.job.catalog.refresh").tag("type", "delta").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload the whole catalog once the full reload interval has elapsed")
+    void shouldReloadWholeCatalogPeriodically() {
+        // Arrange
+        when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.just(job1, job2), Flux.just(job3));
+
+        // Act
+        StepVerifier.create(jobCatalog.refresh()).verifyComplete();
+        clock.advance(Duration.ofMinutes(15));
+        StepVerifier.create(jobCatalog.refresh()).verifyComplete();
+
+        // Assert
+        StepVerifier.create(jobCatalog.getJobFeatures())
+                .assertNext(jobFeatures -> assertThat(jobIds(jobFeatures)).containsExactly(job3.id()))
+                .verifyComplete();
+        verify(mockJobServiceClient, never()).getJobsModifiedSince(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the current snapshot when a sync fails")
+    void shouldKeepSnapshotWhenSyncFails() {
+        // Arrange
+        when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.just(job1));
+        when(mockJobServiceClient.getJobsModifiedSince(START)).thenReturn(Flux.error(new IllegalStateException("down")));
+
+        // Act
+        StepVerifier.create(jobCatalog.refresh()).verifyComplete();
+        clock.advance(Duration.ofSeconds(30));
+        StepVerifier.create(jobCatalog.refresh()).verifyComplete();
+
+        // Assert
+        StepVerifier.create(jobCatalog.getJobFeatures())
+                .assertNext(jobFeatures -> assertThat(jobIds(jobFeatures)).containsExactly(job1.id()))
+                .verifyComplete();
+        assertThat(meterRegistry.get("recommendation.job.catalog.staleness").gauge().value()).isEqualTo(30.0);
+    }
+
+    private static List<Long> jobIds(JobFeatureStore jobFeatures) {
+        return IntStream.range(0, jobFeatures.size())
+                .mapToObj(jobFeatures::id)
+                .toList();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.internship.recommendation_service.service.catalog;
+
+import com.internship.recommendation_service.dto.external.JobDTO;
+import com.internship.recommendation_service.util.GeoLocationCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the latency of radius queries on the spatial index with a full scan of the catalog.
+ * Excluded from the regular test run; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("JobSpatialIndex Benchmark")
+class JobSpatialIndexBenchmark {
+    private static final int WARMUP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 1_000;
+    private static final double RADIUS_KM = 50.0;
+
+    @ParameterizedTest(name = "{0} jobs")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    @DisplayName("Radius query latency against catalog size")
+    void measureQueryLatency(int catalogSize) {
+        Random random = new Random(catalogSize);
+        List<JobDTO> jobs = new ArrayList<>(catalogSize);
+        for (long id = 0; id < catalogSize; id++) {
+            // Jobs are spread over a region the size of a large country
+            jobs.add(new JobDTO(id, id % 10_000, "Job", "Desc", LocalDate.now(), 1, 20, "CAT1", "ACCEPTED",
+                    35.0 + random.nextDouble() * 15, -10.0 + random.nextDouble() * 30));
+        }
+
+        long buildStart = System.nanoTime();
+        JobFeatureStore jobFeatures = JobFeatureStore.of(jobs);
+        long buildNanos = System.nanoTime() - buildStart;
+
+        double[][] queries = new double[WARMUP_QUERIES + MEASURED_QUERIES][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new double[]{35.0 + random.nextDouble() * 15, -10.0 + random.nextDouble() * 30};
+        }
+
+        int mismatches = 0;
+        long indexNanos = 0;
+        long scanNanos = 0;
+        for (int i = 0; i < queries.length; i++) {
+            long start = System.nanoTime();
+            int[] indexedRows = jobFeatures.spatialIndex().rowsWithin(jobFeatures, queries[i][0], queries[i][1], RADIUS_KM);
+            long indexed = System.nanoTime();
+            int[] scannedRows = fullScan(jobFeatures, queries[i][0], queries[i][1]);
+            long scanned = System.nanoTime();
+
+            // Both return the rows in ascending order, so every query must return the same rows
+            if (!Arrays.equals(indexedRows, scannedRows)) {
+                mismatches++;
+            }
+            if (i >= WARMUP_QUERIES) {
+                indexNanos += indexed - start;
+                scanNanos += scanned - indexed;
+            }
+        }
+
+        System.out.printf("%,d jobs: build %.1f ms, index query %.1f us, full scan %.1f us, mismatches %d%n",
+                catalogSize,
+                buildNanos / 1e6,
+                indexNanos / 1e3 / MEASURED_QUERIES,
+                scanNanos / 1e3 / MEASURED_QUERIES,
+                mismatches);
+        assertThat(mismatches).as("queries whose index rows differ from the full scan").isZero();
+    }
+
+    private static int[] fullScan(JobFeatureStore jobFeatures, double lat, double lon) {
+        int[] rows = new int[jobFeatures.size()];
+        int count = 0;
+        for (int row = 0; row < jobFeatures.size(); row++) {
+            if (GeoLocationCalculator.calculateDistance(lat, lon, jobFeatures.latitude(row), jobFeatures.longitude(row)) <= RADIUS_KM) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+}
@@ -0,0 +1,94 @@
+package com.internship.recommendation_service.service.catalog;
+
+import com.internship.recommendation_service.dto.external.JobDTO;
+import com.internship.recommendation_service.util.GeoLocationCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobSpatialIndex Tests")
+class JobSpatialIndexTest {
+    private List<JobDTO> jobs;
+    private JobFeatureStore jobFeatures;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        jobs = new ArrayList<>();
+        for (long id = 0; id < 20_000; id++) {
+            // A third of the jobs is clustered, a few have no coordinates
+            boolean clustered = id % 3 == 0;
+            Double lat = clustered ? 40.0 + random.nextDouble() * 2 : random.nextDouble() * 180 - 90;
+            Double lon = clustered ? -71.0 + random.nextDouble() * 2 : random.nextDouble() * 360 - 180;
+            jobs.add(job(id, id % 500 == 0 ? null : lat, lon));
+        }
+        jobFeatures = JobFeatureStore.of(jobs);
+    }
+
+    private static JobDTO job(long id, Double lat, Double lon) {
+        return new JobDTO(id, id % 100, "Job " + id, "Desc", LocalDate.now(), 1, 20, "CAT1", "ACCEPTED", lat, lon);
+    }
+
+    private static int[] bruteForce(JobFeatureStore jobFeatures, double lat, double lon, double radiusKm) {
+        return IntStream.range(0, jobFeatures.size())
+                .filter(row -> !Double.isNaN(jobFeatures.latitude(row)))
+                .filter(row -> GeoLocationCalculator.calculateDistance(lat, lon,
+                        jobFeatures.latitude(row), jobFeatures.longitude(row)) <= radiusKm)
+                .toArray();
+    }
+
+    @Test
+    @DisplayName("Should return exactly the jobs within the radius")
+    void shouldReturnJobsWithinRadius() {
+        double[][] queries = {{40.5, -70.5, 50}, {40.5, -70.5, 400}, {89.9, 0, 150}, {-89.6, 10, 300}, {0, 0, 0}};
+
+        for (double[] query : queries) {
+            assertThat(jobFeatures.spatialIndex().rowsWithin(jobFeatures, query[0], query[1], query[2]))
+                    .as("Jobs within %skm of (%s, %s)", query[2], query[0], query[1])
+                    .containsExactly(bruteForce(jobFeatures, query[0], query[1], query[2]));
+        }
+    }
+
+    @Test
+    @DisplayName("Should find jobs across the antimeridian")
+    void shouldFindJobsAcrossAntimeridian() {
+        // Arrange
+        JobFeatureStore store = JobFeatureStore.of(List.of(job(1, 10.0, 179.9), job(2, 10.0, -179.9), job(3, 10.0, 170.0)));
+
+        // Act & Assert
+        assertThat(store.spatialIndex().rowsWithin(store, 10.0, -179.95, 50)).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("Should match a full rebuild after incremental changes")
+    void shouldMatchFullRebuildAfterChanges() {
+        // Arrange: Move existing jobs into the cluster, remove coordinates of one and append new ones
+        List<JobDTO> changedJobs = new ArrayList<>();
+        for (long id = 1; id < 20_000; id += 200) {
+            changedJobs.add(job(id, 40.5, -70.5));
+        }
+        changedJobs.add(job(3, null, null));
+        changedJobs.add(job(50_000, 40.6, -70.4));
+
+        List<JobDTO> allJobs = new ArrayList<>(jobs);
+        allJobs.addAll(changedJobs);
+
+        // Act
+        JobFeatureStore updated = jobFeatures.withChanges(changedJobs);
+        JobFeatureStore rebuilt = JobFeatureStore.of(allJobs);
+
+        // Assert
+        assertThat(updated.spatialIndex().rowsWithin(updated, 40.5, -70.5, 100))
+                .containsExactly(rebuilt.spatialIndex().rowsWithin(rebuilt, 40.5, -70.5, 100))
+                .contains(updated.size() - 1);
+        assertThat(updated.spatialIndex().cellCount()).isEqualTo(rebuilt.spatialIndex().cellCount());
+    }
+}
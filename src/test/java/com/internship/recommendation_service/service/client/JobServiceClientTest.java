@@ -0,0 +1,83 @@
+package com.internship.recommendation_service.service.client;
+
+import com.internship.recommendation_service.config.property.service.JobServiceConfig;
+import com.internship.recommendation_service.config.property.service.ServiceUrlsConfig;
+import com.internship.recommendation_service.dto.external.JobDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobServiceClient Tests")
+class JobServiceClientTest {
+    private static final String BASE_URL = "http://job-service:8082/v1/jobs";
+
+    @Mock
+    private ServiceClient mockServiceClient;
+
+    @Mock
+    private ServiceUrlsConfig mockServiceUrlsConfig;
+
+    @Mock
+    private JobServiceConfig mockJobServiceConfig;
+
+    @InjectMocks
+    private JobServiceClient jobServiceClient;
+
+    private JobDTO job1, job2, job3;
+
+    @BeforeEach
+    void setUp() {
+        job1 = new JobDTO(101L, 11L, "Job 1", "Desc 1", LocalDate.now(), 3, 25, "CAT1", "ACCEPTED", 40.1, -70.1);
+        job2 = new JobDTO(102L, 12L, "Job 2", "Desc 2", LocalDate.now(), 5, 35, "CAT2", "ACCEPTED", 40.2, -70.2);
+        job3 = new JobDTO(103L, 13L, "Job 3", "Desc 3", LocalDate.now(), 1, 20, "CAT1", "ACCEPTED", 40.3, -70.3);
+
+        when(mockServiceUrlsConfig.getJobService()).thenReturn("http://job-service:8082");
+        when(mockJobServiceConfig.getBaseUrl()).thenReturn("/v1/jobs");
+        lenient().when(mockJobServiceConfig.getPageSize()).thenReturn(2);
+        lenient().when(mockJobServiceConfig.getPrefetchPages()).thenReturn(2);
+    }
+
+    @Test
+    @DisplayName("Should walk pages in order until a page is not full")
+    void shouldWalkPagesUntilShortPage() {
+        // Arrange
+        when(mockJobServiceConfig.isPagingEnabled()).thenReturn(true);
+        lenient().when(mockServiceClient.getFluxList(eq(Downstream.JOB_SERVICE), anyString(), eq(JobDTO.class), any())).thenReturn(Flux.empty());
+        when(mockServiceClient.getFluxList(eq(Downstream.JOB_SERVICE), eq(BASE_URL + "?page=0&size=2"), eq(JobDTO.class), any()))
+                .thenReturn(Flux.just(job1, job2));
+        when(mockServiceClient.getFluxList(eq(Downstream.JOB_SERVICE), eq(BASE_URL + "?page=1&size=2"), eq(JobDTO.class), any()))
+                .thenReturn(Flux.just(job3));
+
+        // Act & Assert
+        StepVerifier.create(jobServiceClient.getAllJobs())
+                .expectNext(job1, job2, job3)
+                .verifyComplete();
+        verify(mockServiceClient, never()).getFluxList(eq(Downstream.JOB_SERVICE), eq(BASE_URL + "?page=3&size=2"), eq(JobDTO.class), any());
+    }
+
+    @Test
+    @DisplayName("Should request every job at once when paging is disabled")
+    void shouldRequestAllJobsWhenPagingDisabled() {
+        // Arrange
+        when(mockJobServiceConfig.isPagingEnabled()).thenReturn(false);
+        when(mockServiceClient.getFluxList(eq(Downstream.JOB_SERVICE), eq(BASE_URL + "?page=0&size=" + Integer.MAX_VALUE), eq(JobDTO.class), any()))
+                .thenReturn(Flux.just(job1, job2, job3));
+
+        // Act & Assert
+        StepVerifier.create(jobServiceClient.getAllJobs())
+                .expectNext(job1, job2, job3)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,219 @@
+package com.internship.recommendation_service.service.client;
+
+import com.internship.recommendation_service.config.property.service.SingleFlightConfig;
+import com.internship.recommendation_service.exception.DownstreamDisabledException;
+import com.internship.recommendation_service.service.client.circuit.CircuitBreakerRegistry;
+import com.internship.recommendation_service.service.client.hedge.RequestHedger;
+import com.internship.recommendation_service.service.client.limit.ConcurrencyLimiterRegistry;
+import com.internship.recommendation_service.service.client.toggle.DownstreamSwitches;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ServiceClient Tests")
+class ServiceClientTest {
+    private static final Downstream DOWNSTREAM = Downstream.REVIEW_SERVICE;
+    private static final String URL = "http://review-service:8084/v1/review/rating/USER/1";
+    private static final String API_KEY = "key";
+
+    @Mock
+    private DownstreamWebClients mockWebClients;
+
+    @Mock
+    private CircuitBreakerRegistry mockCircuitBreakers;
+
+    @Mock
+    private ConcurrencyLimiterRegistry mockConcurrencyLimiters;
+
+    @Mock
+    private RequestHedger mockRequestHedger;
+
+    @Mock
+    private DownstreamSwitches mockDownstreamSwitches;
+
+    private final List<Sinks.One<ClientResponse>> exchanges = new CopyOnWriteArrayList<>();
+    private SingleFlightConfig singleFlightConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceClient serviceClient;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Every exchange stays in flight until the test responds to it
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    Sinks.One<ClientResponse> response = Sinks.one();
+                    exchanges.add(response);
+                    return response.asMono();
+                })
+                .build();
+
+        lenient().when(mockWebClients.get(DOWNSTREAM)).thenReturn(webClient);
+        lenient().when(mockDownstreamSwitches.isEnabled(DOWNSTREAM)).thenReturn(true);
+        lenient().when(mockCircuitBreakers.protect(eq(DOWNSTREAM), any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(mockCircuitBreakers.protect(eq(DOWNSTREAM), any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(mockConcurrencyLimiters.limit(eq(DOWNSTREAM), any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(mockConcurrencyLimiters.limit(eq(DOWNSTREAM), any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(mockRequestHedger.hedge(eq(DOWNSTREAM), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<?>>) invocation.getArgument(1)).get());
+        lenient().when(mockRequestHedger.hedgeMany(eq(DOWNSTREAM), any()))
+                .thenAnswer(invocation -> ((Supplier<Flux<?>>) invocation.getArgument(1)).get());
+
+        singleFlightConfig = new SingleFlightConfig();
+        singleFlightConfig.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        serviceClient = new ServiceClient(mockWebClients,
+                mockCircuitBreakers,
+                mockConcurrencyLimiters,
+                mockRequestHedger,
+                mockDownstreamSwitches,
+                singleFlightConfig,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should share one exchange between concurrent identical calls")
+    void shouldShareOneExchangeBetweenConcurrentCalls() {
+        // Arrange
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // Act
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(results::add);
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(results::add);
+        respond(0, HttpStatus.OK, "4.5");
+
+        // Assert
+        assertThat(exchanges).hasSize(1);
+        assertThat(results).containsExactly("4.5", "4.5");
+        assertThat(meterRegistry.counter("recommendation.client.single.flight.shared").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should replay every element of a shared Flux exchange to joined callers")
+    void shouldShareOneFluxExchangeBetweenConcurrentCalls() {
+        // Arrange
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+
+        // Act
+        serviceClient.getFluxList(DOWNSTREAM, URL, String.class, API_KEY).subscribe(first::add);
+        serviceClient.getFluxList(DOWNSTREAM, URL, String.class, API_KEY).subscribe(second::add);
+        respond(0, HttpStatus.OK, "a\nb");
+
+        // Assert
+        assertThat(exchanges).hasSize(1);
+        assertThat(first).containsExactly("a", "b");
+        assertThat(second).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("Should not share an exchange between calls with different URLs")
+    void shouldNotShareBetweenDifferentUrls() {
+        // Act
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe();
+        serviceClient.getMonoObject(DOWNSTREAM, URL + "0", String.class, API_KEY).subscribe();
+
+        // Assert
+        assertThat(exchanges).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should release the entry once the exchange terminates")
+    void shouldReleaseEntryAfterTermination() {
+        // Arrange
+        List<String> results = new CopyOnWriteArrayList<>();
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(results::add);
+        respond(0, HttpStatus.OK, "4.5");
+
+        // Act: a call after the first one completed starts a new exchange
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(results::add);
+        respond(1, HttpStatus.OK, "3.0");
+
+        // Assert
+        assertThat(exchanges).hasSize(2);
+        assertThat(results).containsExactly("4.5", "3.0");
+        assertThat(meterRegistry.counter("recommendation.client.single.flight.shared").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver an error to every joined caller and release the entry")
+    void shouldDeliverErrorToEveryJoinedCaller() {
+        // Arrange
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        // Act
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(value -> {}, errors::add);
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(value -> {}, errors::add);
+        respond(0, HttpStatus.INTERNAL_SERVER_ERROR, "");
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(value -> {}, errors::add);
+
+        // Assert: the failed exchange is not reused by the later call
+        assertThat(errors).hasSize(2).allMatch(WebClientResponseException.class::isInstance);
+        assertThat(exchanges).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should send every call when single-flight is disabled")
+    void shouldSendEveryCallWhenDisabled() {
+        // Arrange
+        singleFlightConfig.setEnabled(false);
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // Act
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(results::add);
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(results::add);
+        respond(0, HttpStatus.OK, "4.5");
+        respond(1, HttpStatus.OK, "3.0");
+
+        // Assert
+        assertThat(exchanges).hasSize(2);
+        assertThat(results).containsExactly("4.5", "3.0");
+        assertThat(meterRegistry.counter("recommendation.client.single.flight.shared").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail without sending a request while the downstream service is switched off")
+    void shouldFailWhileDownstreamSwitchedOff() {
+        // Arrange
+        when(mockDownstreamSwitches.isEnabled(DOWNSTREAM)).thenReturn(false);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        // Act
+        serviceClient.getMonoObject(DOWNSTREAM, URL, String.class, API_KEY).subscribe(value -> {}, errors::add);
+
+        // Assert
+        assertThat(errors).singleElement().isInstanceOf(DownstreamDisabledException.class);
+        assertThat(exchanges).isEmpty();
+    }
+
+    private void respond(int exchange, HttpStatus status, String body) {
+        exchanges.get(exchange).tryEmitValue(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                .body(body)
+                .build());
+    }
+}
@@ -0,0 +1,106 @@
+package com.internship.recommendation_service.service.client.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchLoader Tests")
+class BatchLoaderTest {
+    private static final Duration WINDOW = Duration.ofMillis(10);
+
+    private VirtualTimeScheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<Long>> dispatchedBatches;
+    private Function<List<Long>, Mono<Map<Long, String>>> batchFunction;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.create();
+        meterRegistry = new SimpleMeterRegistry();
+        dispatchedBatches = new CopyOnWriteArrayList<>();
+        batchFunction = ids -> {
+            dispatchedBatches.add(ids);
+            return Mono.just(ids.stream()
+                    .filter(id -> id > 0)
+                    .collect(Collectors.toMap(Function.identity(), id -> "value-" + id)));
+        };
+    }
+
+    private BatchLoader<String> createLoader(boolean enabled, int maxBatchSize) {
+        return new BatchLoader<>("test", batchFunction, enabled, WINDOW, maxBatchSize, scheduler, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should dispatch concurrent lookups as one deduplicated batch when the window elapses")
+    void shouldDispatchConcurrentLookupsAsOneBatch() {
+        // Arrange
+        BatchLoader<String> loader = createLoader(true, 100);
+
+        // Act
+        StepVerifier.withVirtualTime(() -> Mono.zip(loader.load(1L), loader.load(2L), loader.load(1L)), () -> scheduler, 1)
+                .expectSubscription()
+                .then(() -> assertThat(dispatchedBatches).isEmpty())
+                .thenAwait(WINDOW)
+                .assertNext(values -> {
+                    assertThat(values.getT1()).isEqualTo("value-1");
+                    assertThat(values.getT2()).isEqualTo("value-2");
+                    assertThat(values.getT3()).isEqualTo("value-1");
+                })
+                .verifyComplete();
+
+        // Assert
+        assertThat(dispatchedBatches).containsExactly(List.of(1L, 2L));
+        assertThat(meterRegistry.get("recommendation.batch.loader.deduplicated").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("recommendation.batch.loader.batch.fill").summary().mean()).isEqualTo(0.02);
+    }
+
+    @Test
+    @DisplayName("Should dispatch immediately when the maximum batch size is reached")
+    void shouldDispatchWhenMaxBatchSizeReached() {
+        // Arrange
+        BatchLoader<String> loader = createLoader(true, 2);
+
+        // Act & Assert
+        StepVerifier.create(loader.loadMany(List.of(1L, 2L)))
+                .assertNext(values -> assertThat(values).containsOnlyKeys(1L, 2L))
+                .verifyComplete();
+        assertThat(dispatchedBatches).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should complete empty for IDs missing from the batch result")
+    void shouldCompleteEmptyForMissingIds() {
+        // Arrange
+        BatchLoader<String> loader = createLoader(true, 1);
+
+        // Act & Assert
+        StepVerifier.create(loader.load(-1L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should call the batch function directly when batching is disabled")
+    void shouldCallBatchFunctionDirectlyWhenDisabled() {
+        // Arrange
+        BatchLoader<String> loader = createLoader(false, 2);
+
+        // Act & Assert
+        StepVerifier.create(loader.loadMany(List.of(1L, 2L, 3L)))
+                .assertNext(values -> assertThat(values).containsOnlyKeys(1L, 2L, 3L))
+                .verifyComplete();
+        assertThat(dispatchedBatches).hasSize(2);
+    }
+}
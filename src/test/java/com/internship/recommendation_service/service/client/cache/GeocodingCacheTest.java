@@ -0,0 +1,149 @@
+package com.internship.recommendation_service.service.client.cache;
+
+import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GeocodingCache Tests")
+class GeocodingCacheTest {
+    private static final String QUERY = "Main+Street+Belgrade+11000+Serbia";
+    private static final String KEY = "recommendation:geocoding:main+street+belgrade+11000+serbia";
+    private static final GeoCoordinatesDTO COORDINATES = new GeoCoordinatesDTO(44.8, 20.4);
+
+    @Mock
+    private ReactiveStringRedisTemplate mockRedisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> mockValueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private GeocodingCache geocodingCache;
+
+    @BeforeEach
+    void setUp() {
+        GeolocationServiceConfig config = new GeolocationServiceConfig();
+        config.setCacheEnabled(true);
+        config.setCacheLocalMaxSize(100);
+        config.setCacheLocalTtl(Duration.ofHours(1));
+        config.setCacheTtl(Duration.ofDays(30));
+        config.setCacheNegativeTtl(Duration.ofMinutes(10));
+        config.setCacheRedisTimeout(Duration.ofMillis(50));
+
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        geocodingCache = new GeocodingCache(mockRedisTemplate, config, meterRegistry, clock);
+
+        lenient().when(mockRedisTemplate.opsForValue()).thenReturn(mockValueOperations);
+        lenient().when(mockValueOperations.set(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+    }
+
+    @Test
+    @DisplayName("Should serve stored coordinates from memory without reading Redis")
+    void shouldServeStoredCoordinatesFromMemory() {
+        // Act
+        geocodingCache.put(QUERY, COORDINATES);
+
+        // Assert
+        StepVerifier.create(geocodingCache.get(QUERY.toUpperCase()))
+                .expectNext(Optional.of(COORDINATES))
+                .verifyComplete();
+        verify(mockValueOperations).set(KEY, "44.8,20.4", Duration.ofDays(30));
+        verify(mockValueOperations, never()).get(anyString());
+        assertThat(meterRegistry.get("recommendation.geocoding.cache").tag("result", "local").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should read Redis once the in-memory entry has expired")
+    void shouldFallBackToRedisAfterLocalExpiry() {
+        // Arrange
+        when(mockValueOperations.get(KEY)).thenReturn(Mono.just("44.8,20.4"));
+        geocodingCache.put(QUERY, COORDINATES);
+        clock.advance(Duration.ofHours(2));
+
+        // Act & Assert
+        StepVerifier.create(geocodingCache.get(QUERY))
+                .expectNext(Optional.of(COORDINATES))
+                .verifyComplete();
+        StepVerifier.create(geocodingCache.get(QUERY))
+                .expectNext(Optional.of(COORDINATES))
+                .verifyComplete();
+        verify(mockValueOperations, times(1)).get(KEY);
+        assertThat(meterRegistry.get("recommendation.geocoding.cache").tag("result", "redis").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should cache failed lookups and default coordinates with the negative TTL")
+    void shouldCacheNegativeResultsBriefly() {
+        // Act
+        geocodingCache.putFailure(QUERY);
+        geocodingCache.put("Unknown+Place", GeoCoordinatesDTO.DEFAULT_VALUE);
+
+        // Assert
+        verify(mockValueOperations).set(KEY, "-", Duration.ofMinutes(10));
+        verify(mockValueOperations).set("recommendation:geocoding:unknown+place", "99.0,99.0", Duration.ofMinutes(10));
+        StepVerifier.create(geocodingCache.get(QUERY))
+                .expectNext(Optional.empty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should treat unavailable Redis as a miss")
+    void shouldTreatRedisErrorAsMiss() {
+        // Arrange
+        when(mockValueOperations.get(KEY)).thenReturn(Mono.error(new IllegalStateException("Redis down")));
+
+        // Act & Assert
+        StepVerifier.create(geocodingCache.get(QUERY)).verifyComplete();
+        assertThat(meterRegistry.get("recommendation.geocoding.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.internship.recommendation_service.service.client.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.internship.recommendation_service.dto.external.ReviewStatsDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveCache Tests")
+class ReactiveCacheTest {
+    private static final String ENDPOINT = "review-service.user-rating";
+
+    @Mock
+    private ReactiveStringRedisTemplate mockRedisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> mockValueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveCache<ReviewStatsDTO> cache;
+    private List<Collection<Long>> loadedBatches;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = createCache(true);
+        loadedBatches = new ArrayList<>();
+
+        lenient().when(mockRedisTemplate.opsForValue()).thenReturn(mockValueOperations);
+        lenient().when(mockValueOperations.set(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+    }
+
+    private ReactiveCache<ReviewStatsDTO> createCache(boolean enabled) {
+        return createCache(enabled, Clock.systemUTC());
+    }
+
+    private ReactiveCache<ReviewStatsDTO> createCache(boolean enabled, Clock clock) {
+        return new ReactiveCache<>(ENDPOINT,
+                ReviewStatsDTO.class,
+                enabled,
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                100,
+                Duration.ofMillis(50),
+                mockRedisTemplate,
+                new ObjectMapper(),
+                clock,
+                meterRegistry);
+    }
+
+    private Mono<Map<Long, ReviewStatsDTO>> load(Collection<Long> ids) {
+        loadedBatches.add(List.copyOf(ids));
+        Map<Long, ReviewStatsDTO> values = new HashMap<>();
+        ids.forEach(id -> values.put(id, new ReviewStatsDTO(id, "USER", 4.5, 10)));
+        return Mono.just(values);
+    }
+
+    @Test
+    @DisplayName("Should load only the IDs found in neither tier")
+    void shouldLoadOnlyUncachedIds() {
+        // Arrange
+        when(mockValueOperations.multiGet(anyList())).thenReturn(Mono.just(Arrays.asList(
+                "{\"id\":2,\"reviewType\":\"USER\",\"rating\":3.0,\"reviewCount\":4}",
+                null)));
+
+        // Act & Assert
+        StepVerifier.create(cache.getAll(List.of(2L, 3L), this::load))
+                .assertNext(values -> {
+                    assertThat(values.get(2L).averageRating()).isEqualTo(3.0);
+                    assertThat(values.get(3L).averageRating()).isEqualTo(4.5);
+                })
+                .verifyComplete();
+        assertThat(loadedBatches).containsExactly(List.of(3L));
+        verify(mockValueOperations).set(eq("recommendation:client:" + ENDPOINT + ":3"), anyString(), eq(Duration.ofMinutes(5)));
+        assertThat(meterRegistry.get("recommendation.client.cache.lookups")
+                .tag("endpoint", ENDPOINT).tag("result", "redis").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("recommendation.client.cache.load").tag("endpoint", ENDPOINT).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve loaded values from memory afterwards")
+    void shouldServeLoadedValuesFromMemory() {
+        // Arrange
+        when(mockValueOperations.multiGet(anyList())).thenReturn(Mono.just(Arrays.asList(null, null)));
+        StepVerifier.create(cache.getAll(List.of(1L, 2L), this::load)).expectNextCount(1).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(cache.get(1L, id -> Mono.error(new IllegalStateException("Should not load"))))
+                .assertNext(value -> assertThat(value.reviewedId()).isEqualTo(1L))
+                .verifyComplete();
+        assertThat(loadedBatches).hasSize(1);
+        verify(mockValueOperations, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep values read from Redis in memory for the local TTL only")
+    void shouldKeepRedisHitsInMemoryForLocalTtl() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        cache = createCache(true, clock);
+        when(mockValueOperations.multiGet(anyList()))
+                .thenReturn(Mono.just(Arrays.asList("{\"id\":2,\"reviewType\":\"USER\",\"rating\":3.0,\"reviewCount\":4}")));
+        StepVerifier.create(cache.getAll(List.of(2L), this::load)).expectNextCount(1).verifyComplete();
+
+        // Act: within the local TTL the value is served from memory, after it Redis is read again
+        clock.advance(Duration.ofSeconds(29));
+        StepVerifier.create(cache.getAll(List.of(2L), this::load)).expectNextCount(1).verifyComplete();
+        clock.advance(Duration.ofSeconds(2));
+        StepVerifier.create(cache.getAll(List.of(2L), this::load)).expectNextCount(1).verifyComplete();
+
+        // Assert
+        verify(mockValueOperations, times(2)).multiGet(anyList());
+        assertThat(loadedBatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not cache IDs the loader left out")
+    void shouldNotCacheIdsLeftOutByLoader() {
+        // Arrange: the loader leaves out IDs whose load failed
+        when(mockValueOperations.multiGet(anyList())).thenReturn(Mono.just(Arrays.asList((String) null)));
+
+        // Act
+        StepVerifier.create(cache.getAll(List.of(1L), ids -> Mono.just(Map.of())))
+                .assertNext(values -> assertThat(values).isEmpty())
+                .verifyComplete();
+        StepVerifier.create(cache.getAll(List.of(1L), this::load)).expectNextCount(1).verifyComplete();
+
+        // Assert: the second lookup loads the ID again
+        assertThat(loadedBatches).containsExactly(List.of(1L));
+        verify(mockValueOperations, times(1)).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should load every ID when Redis is unavailable")
+    void shouldLoadWhenRedisIsUnavailable() {
+        // Arrange
+        when(mockValueOperations.multiGet(anyList())).thenReturn(Mono.error(new IllegalStateException("Redis down")));
+
+        // Act & Assert
+        StepVerifier.create(cache.getAll(List.of(1L, 2L), this::load))
+                .assertNext(values -> assertThat(values).containsOnlyKeys(1L, 2L))
+                .verifyComplete();
+        assertThat(meterRegistry.get("recommendation.client.cache.lookups")
+                .tag("endpoint", ENDPOINT).tag("result", "miss").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should pass lookups straight to the loader when disabled")
+    void shouldBypassWhenDisabled() {
+        // Arrange
+        cache = createCache(false);
+
+        // Act & Assert
+        StepVerifier.create(cache.getAll(List.of(1L), this::load)).expectNextCount(1).verifyComplete();
+        verifyNoInteractions(mockRedisTemplate);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
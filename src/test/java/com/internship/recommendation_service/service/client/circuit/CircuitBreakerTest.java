@@ -0,0 +1,201 @@
+package com.internship.recommendation_service.service.client.circuit;
+
+import com.internship.recommendation_service.config.property.service.CircuitBreakerConfig;
+import com.internship.recommendation_service.exception.CircuitOpenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig();
+        config.setEnabled(true);
+        config.setSlidingWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50.0);
+        config.setSlowCallRateThreshold(100.0);
+        config.setSlowCallDuration(Duration.ofSeconds(1));
+        config.setOpenDuration(Duration.ofSeconds(10));
+        config.setHalfOpenCalls(2);
+
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker("review-service", config, clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should open when the failure rate reaches the threshold and fail fast without subscribing")
+    void shouldOpenOnFailureRate() {
+        // Arrange
+        succeed(2);
+        fail(2);
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        // Act & Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(circuitBreaker.protect(Mono.fromSupplier(subscriptions::incrementAndGet)))
+                .expectError(CircuitOpenException.class)
+                .verify();
+        assertThat(subscriptions).hasValue(0);
+        assertThat(meterRegistry.counter("recommendation.client.circuit.breaker.rejected", "downstream", "review-service").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should stay closed until the minimum number of calls is recorded")
+    void shouldStayClosedBelowMinimumCalls() {
+        // Act
+        fail(3);
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should open when the slow call rate reaches the threshold")
+    void shouldOpenOnSlowCallRate() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.fromSupplier(() -> {
+                        clock.advance(Duration.ofSeconds(2));
+                        return "slow";
+                    })))
+                    .expectNext("slow")
+                    .verifyComplete();
+        }
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should not count client errors as failures")
+    void shouldNotCountClientErrors() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.error(
+                            WebClientResponseException.create(404, "Not Found", null, null, null))))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should close after the trial calls succeed once the open duration has elapsed")
+    void shouldCloseAfterSuccessfulTrials() {
+        // Arrange
+        fail(4);
+        clock.advance(Duration.ofSeconds(10));
+
+        // Act
+        succeed(1);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        succeed(1);
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should open again when a trial call fails")
+    void shouldReopenOnFailedTrial() {
+        // Arrange
+        fail(4);
+        clock.advance(Duration.ofSeconds(10));
+
+        // Act
+        fail(1);
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should only let the configured number of trial calls through while half-open")
+    void shouldLimitTrialCalls() {
+        // Arrange
+        fail(4);
+        clock.advance(Duration.ofSeconds(10));
+        Disposable firstTrial = circuitBreaker.protect(Mono.never()).subscribe();
+        Disposable secondTrial = circuitBreaker.protect(Mono.never()).subscribe();
+
+        // Act & Assert
+        StepVerifier.create(circuitBreaker.protect(Flux.just(1)))
+                .expectError(CircuitOpenException.class)
+                .verify();
+
+        // A cancelled trial returns its permit
+        firstTrial.dispose();
+        StepVerifier.create(circuitBreaker.protect(Flux.just(1)))
+                .expectNext(1)
+                .verifyComplete();
+        secondTrial.dispose();
+    }
+
+    private void succeed(int calls) {
+        for (int i = 0; i < calls; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.just("ok")))
+                    .expectNext("ok")
+                    .verifyComplete();
+        }
+    }
+
+    private void fail(int calls) {
+        for (int i = 0; i < calls; i++) {
+            StepVerifier.create(circuitBreaker.protect(Mono.error(new IllegalStateException("Service is down"))))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.internship.recommendation_service.service.client.gazetteer;
+
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("PostalCodeIndex Tests")
+class PostalCodeIndexTest {
+    @TempDir
+    private Path directory;
+
+    private PostalCodeIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path source = directory.resolve("postal-codes.txt");
+        Files.write(source, List.of(
+                "RS\t11000\tBeograd\tCentral Serbia\t\t\t\t\t\t44.8176\t20.4633\t4",
+                "RS\t21000\tNovi Sad\tVojvodina\t\t\t\t\t\t45.2517\t19.8369\t4",
+                "RS\t21000\tPetrovaradin\tVojvodina\t\t\t\t\t\t45.2467\t19.8797\t4",
+                "GB\tSW1A 1AA\tLondon\tEngland\t\t\t\t\t\t51.501\t-0.1416\t6",
+                "DE\t80331\tM\u00fcnchen\tBayern\t\t\t\t\t\t48.1372\t11.5755\t4",
+                "malformed line",
+                "DE\t10115\tBerlin\tBerlin\t\t\t\t\t\tnot-a-number\t13.3872\t4"));
+
+        Path indexFile = directory.resolve("index/postal-codes.idx");
+        assertThat(PostalCodeIndex.compile(source, indexFile)).isEqualTo(9);
+        index = PostalCodeIndex.open(indexFile);
+    }
+
+    @Test
+    @DisplayName("Should find postal codes regardless of case and spacing")
+    void shouldFindPostalCodes() {
+        assertThat(index.findByPostalCode("rs", "11000"))
+                .hasValueSatisfying(coordinates -> {
+                    assertThat(coordinates.latitude()).isCloseTo(44.8176, within(1e-4));
+                    assertThat(coordinates.longitude()).isCloseTo(20.4633, within(1e-4));
+                });
+        assertThat(index.findByPostalCode("GB", "sw1a1aa")).isPresent();
+        assertThat(index.findByPostalCode("RS", "99999")).isEmpty();
+        assertThat(index.findByPostalCode("XX", "11000")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find places regardless of case and diacritics")
+    void shouldFindPlaces() {
+        assertThat(index.findByPlace("DE", "munchen")).isPresent();
+        assertThat(index.findByPlace("RS", "NOVI-SAD")).isPresent();
+        assertThat(index.findByPlace("DE", "Berlin")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should average the coordinates of entries sharing a key")
+    void shouldAverageSharedKeys() {
+        GeoCoordinatesDTO coordinates = index.findByPostalCode("RS", "21000").orElseThrow();
+
+        assertThat(coordinates.latitude()).isCloseTo(45.2492, within(1e-4));
+        assertThat(coordinates.longitude()).isCloseTo(19.8583, within(1e-4));
+    }
+
+    @Test
+    @DisplayName("Should not find place names shared by distant places")
+    void shouldNotFindAmbiguousPlaces() throws IOException {
+        // Arrange: Two distant towns named Springfield, and two localities of Boston close together
+        Path source = directory.resolve("ambiguous.txt");
+        Files.write(source, List.of(
+                "US\t62701\tSpringfield\tIllinois\t\t\t\t\t\t39.8017\t-89.6436\t4",
+                "US\t01101\tSpringfield\tMassachusetts\t\t\t\t\t\t42.1015\t-72.5898\t4",
+                "US\t02108\tBoston\tMassachusetts\t\t\t\t\t\t42.3576\t-71.0684\t4",
+                "US\t02110\tBoston\tMassachusetts\t\t\t\t\t\t42.3571\t-71.0514\t4"));
+        Path indexFile = directory.resolve("ambiguous.idx");
+        PostalCodeIndex.compile(source, indexFile);
+
+        // Act
+        PostalCodeIndex ambiguousIndex = PostalCodeIndex.open(indexFile);
+
+        // Assert
+        assertThat(ambiguousIndex.findByPlace("US", "Springfield")).isEmpty();
+        assertThat(ambiguousIndex.findByPostalCode("US", "62701")).isPresent();
+        assertThat(ambiguousIndex.findByPlace("US", "Boston"))
+                .hasValueSatisfying(coordinates -> assertThat(coordinates.longitude()).isCloseTo(-71.0599, within(1e-4)));
+    }
+
+    @Test
+    @DisplayName("Should tell indexes of the current format from missing or invalid files")
+    void shouldCheckIndexVersion() throws IOException {
+        assertThat(PostalCodeIndex.isCurrentVersion(directory.resolve("index/postal-codes.idx"))).isTrue();
+        assertThat(PostalCodeIndex.isCurrentVersion(directory.resolve("missing.idx"))).isFalse();
+        assertThat(PostalCodeIndex.isCurrentVersion(Files.writeString(directory.resolve("invalid.idx"), "not an index"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not an index")
+    void shouldRejectInvalidFiles() throws IOException {
+        Path invalid = Files.writeString(directory.resolve("invalid.idx"), "not an index");
+
+        assertThatThrownBy(() -> PostalCodeIndex.open(invalid)).isInstanceOf(IOException.class);
+    }
+}
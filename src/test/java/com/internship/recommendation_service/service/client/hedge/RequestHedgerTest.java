@@ -0,0 +1,225 @@
+package com.internship.recommendation_service.service.client.hedge;
+
+import com.internship.recommendation_service.config.property.service.HedgingConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestHedger Tests")
+class RequestHedgerTest {
+    private static final Duration USUAL_LATENCY = Duration.ofMillis(100);
+    private static final Duration SLOW_LATENCY = Duration.ofSeconds(1);
+    private static final Duration HEDGE_LATENCY = Duration.ofMillis(20);
+
+    private HedgingConfig config;
+    private VirtualTimeScheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger requestHedger;
+
+    @BeforeEach
+    void setUp() {
+        config = new HedgingConfig();
+        config.setEnabled(true);
+        config.setDownstreams(EnumSet.of(Downstream.REVIEW_SERVICE));
+        config.setPercentile(0.5);
+        config.setMinDelay(Duration.ofMillis(10));
+        config.setMaxHedgeRate(1.0);
+        config.setMaxBurst(10);
+        config.setWindowSize(10);
+        config.setMinSamples(5);
+
+        scheduler = VirtualTimeScheduler.create();
+        meterRegistry = new SimpleMeterRegistry();
+        requestHedger = new RequestHedger(config, meterRegistry, scheduler);
+    }
+
+    @Test
+    @DisplayName("Should send a second attempt after the latency percentile and return the first answer")
+    void shouldHedgeSlowCall() {
+        // Arrange
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(requestHedger.hedge(Downstream.REVIEW_SERVICE, slowThenFast(attempts)))
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(USUAL_LATENCY.plus(HEDGE_LATENCY)))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(counter("fired")).isEqualTo(1.0);
+        assertThat(counter("won")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not hedge a call that answers within the latency percentile")
+    void shouldNotHedgeFastCall() {
+        // Arrange
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(requestHedger.hedge(Downstream.REVIEW_SERVICE, () -> {
+                    attempts.incrementAndGet();
+                    return Mono.delay(HEDGE_LATENCY, scheduler).thenReturn("primary");
+                }))
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(SLOW_LATENCY))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(1);
+        assertThat(counter("fired")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not hedge before enough latencies are recorded")
+    void shouldNotHedgeWithoutEnoughSamples() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(requestHedger.hedge(Downstream.REVIEW_SERVICE, slowThenFast(attempts)))
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(SLOW_LATENCY))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not hedge calls to services that are not configured for hedging")
+    void shouldNotHedgeUnconfiguredService() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(requestHedger.hedge(Downstream.USER_SERVICE, slowThenFast(attempts)))
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(SLOW_LATENCY))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should skip the hedge when the hedge budget is spent")
+    void shouldSkipHedgeWithoutBudget() {
+        // Arrange
+        config.setMaxHedgeRate(0.0);
+        requestHedger = new RequestHedger(config, meterRegistry, scheduler);
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(requestHedger.hedge(Downstream.REVIEW_SERVICE, slowThenFast(attempts)))
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(SLOW_LATENCY))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(1);
+        assertThat(counter("skipped")).isEqualTo(1.0);
+        assertThat(counter("fired")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore a failed hedge and wait for the first attempt")
+    void shouldIgnoreFailedHedge() {
+        // Arrange
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(requestHedger.hedge(Downstream.REVIEW_SERVICE, () -> attempts.incrementAndGet() == 1
+                        ? Mono.delay(SLOW_LATENCY, scheduler).thenReturn("primary")
+                        : Mono.error(new IllegalStateException("Instance is down"))))
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(SLOW_LATENCY))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(counter("fired")).isEqualTo(1.0);
+        assertThat(counter("won")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hedge Flux calls and replay the elements of the first attempt to answer")
+    void shouldHedgeSlowFluxCall() {
+        // Arrange
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(requestHedger.hedgeMany(Downstream.REVIEW_SERVICE, () -> attempts.incrementAndGet() == 1
+                        ? Mono.delay(SLOW_LATENCY, scheduler).thenMany(Flux.just("primary"))
+                        : Mono.delay(HEDGE_LATENCY, scheduler).thenMany(Flux.just("hedge-1", "hedge-2"))))
+                .expectSubscription()
+                .then(() -> scheduler.advanceTimeBy(USUAL_LATENCY.plus(HEDGE_LATENCY)))
+                .expectNext("hedge-1", "hedge-2")
+                .verifyComplete();
+
+        assertThat(counter("won")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record the latency of a first attempt cut short by a hedge and of the hedge")
+    void shouldRecordLatenciesOfHedgedCalls() {
+        // Arrange
+        config.setPercentile(0.9);
+        config.setWindowSize(100);
+        requestHedger = new RequestHedger(config, meterRegistry, scheduler);
+        warmUp();
+
+        // Act: every hedged call records its cancelled first attempt and its hedge
+        for (int i = 0; i < LatencyWindow.RECOMPUTE_INTERVAL / 2; i++) {
+            StepVerifier.create(requestHedger.hedge(Downstream.REVIEW_SERVICE, slowThenFast(new AtomicInteger())))
+                    .expectSubscription()
+                    .then(() -> scheduler.advanceTimeBy(USUAL_LATENCY.plus(HEDGE_LATENCY)))
+                    .expectNext("hedge")
+                    .verifyComplete();
+        }
+
+        // Assert: the first attempts waited for the hedge delay plus the hedge latency
+        assertThat(meterRegistry.get("recommendation.client.hedge.delay").tag("downstream", "review-service").gauge().value())
+                .isEqualTo(USUAL_LATENCY.plus(HEDGE_LATENCY).toNanos() / 1e9);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < config.getMinSamples(); i++) {
+            StepVerifier.create(requestHedger.hedge(Downstream.REVIEW_SERVICE,
+                            () -> Mono.delay(USUAL_LATENCY, scheduler).thenReturn("warm")))
+                    .expectSubscription()
+                    .then(() -> scheduler.advanceTimeBy(USUAL_LATENCY))
+                    .expectNext("warm")
+                    .verifyComplete();
+        }
+    }
+
+    private Supplier<Mono<String>> slowThenFast(AtomicInteger attempts) {
+        return () -> attempts.incrementAndGet() == 1
+                ? Mono.delay(SLOW_LATENCY, scheduler).thenReturn("primary")
+                : Mono.delay(HEDGE_LATENCY, scheduler).thenReturn("hedge");
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter("recommendation.client.hedge." + name, "downstream", "review-service").count();
+    }
+}
@@ -0,0 +1,230 @@
+package com.internship.recommendation_service.service.client.limit;
+
+import com.internship.recommendation_service.config.property.service.ConcurrencyLimitConfig;
+import com.internship.recommendation_service.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+    private ConcurrencyLimitConfig config;
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new ConcurrencyLimitConfig();
+        config.setEnabled(true);
+        config.setInitialLimit(2);
+        config.setMinLimit(1);
+        config.setMaxLimit(20);
+        config.setBackoffRatio(0.5);
+        config.setLatencyTolerance(2.0);
+        config.setMaxQueueSize(1);
+        config.setMaxQueueWait(Duration.ofSeconds(5));
+
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should queue calls above the limit and run them once a slot is free")
+    void shouldQueueCallsAboveLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = createLimiter();
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger queuedSubscriptions = new AtomicInteger();
+        Disposable firstCall = limiter.limit(first.asMono()).subscribe();
+        Disposable secondCall = limiter.limit(Mono.never()).subscribe();
+
+        // Act
+        Mono<String> queuedCall = limiter.limit(Mono.fromSupplier(() -> {
+            queuedSubscriptions.incrementAndGet();
+            return "queued";
+        }));
+
+        // Assert
+        StepVerifier.create(queuedCall)
+                .then(() -> {
+                    assertThat(queuedSubscriptions).hasValue(0);
+                    assertThat(limiter.getQueued()).isEqualTo(1);
+                    first.tryEmitValue("first");
+                })
+                .expectNext("queued")
+                .verifyComplete();
+
+        assertThat(limiter.getQueued()).isZero();
+        firstCall.dispose();
+        secondCall.dispose();
+    }
+
+    @Test
+    @DisplayName("Should reject calls without subscribing when the queue is full")
+    void shouldRejectWhenQueueIsFull() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = createLimiter();
+        Disposable firstCall = limiter.limit(Mono.never()).subscribe();
+        Disposable secondCall = limiter.limit(Mono.never()).subscribe();
+        Disposable queuedCall = limiter.limit(Mono.never()).subscribe();
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(limiter.limit(Mono.fromSupplier(subscriptions::incrementAndGet)))
+                .expectError(ConcurrencyLimitExceededException.class)
+                .verify();
+
+        assertThat(subscriptions).hasValue(0);
+        assertThat(meterRegistry.counter("recommendation.client.concurrency.rejected", "downstream", "review-service").count())
+                .isEqualTo(1.0);
+        firstCall.dispose();
+        secondCall.dispose();
+        queuedCall.dispose();
+    }
+
+    @Test
+    @DisplayName("Should reject queued calls that wait longer than the maximum queue wait")
+    void shouldRejectAfterMaxQueueWait() {
+        // Arrange
+        config.setMaxQueueWait(Duration.ofMillis(50));
+        AdaptiveConcurrencyLimiter limiter = createLimiter();
+        Disposable firstCall = limiter.limit(Mono.never()).subscribe();
+        Disposable secondCall = limiter.limit(Mono.never()).subscribe();
+
+        // Act & Assert
+        StepVerifier.create(limiter.limit(Mono.just("queued")))
+                .expectError(ConcurrencyLimitExceededException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(limiter.getQueued()).isZero();
+        firstCall.dispose();
+        secondCall.dispose();
+    }
+
+    @Test
+    @DisplayName("Should return the slot of a cancelled call")
+    void shouldReleaseCancelledCalls() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = createLimiter();
+        Disposable firstCall = limiter.limit(Mono.never()).subscribe();
+        Disposable secondCall = limiter.limit(Mono.never()).subscribe();
+
+        // Act
+        firstCall.dispose();
+
+        // Assert
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        StepVerifier.create(limiter.limit(Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+        secondCall.dispose();
+    }
+
+    @Test
+    @DisplayName("Should raise the limit additively while the slots are in use and calls are fast")
+    void shouldIncreaseLimitOnSuccess() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = createLimiter();
+
+        // Act: every call raises the limit by 1 / limit
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(limiter.limit(Mono.just("ok")))
+                    .expectNext("ok")
+                    .verifyComplete();
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should lower the limit multiplicatively when a call fails or is slow")
+    void shouldDecreaseLimitOnOverload() {
+        // Arrange
+        config.setInitialLimit(16);
+        AdaptiveConcurrencyLimiter limiter = createLimiter();
+
+        // Act
+        StepVerifier.create(limiter.limit(Mono.error(new IllegalStateException("Service is down"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        call(limiter, Duration.ofMillis(100));
+        call(limiter, Duration.ofSeconds(1));
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not lower the limit on client errors")
+    void shouldIgnoreClientErrors() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = createLimiter();
+
+        // Act
+        StepVerifier.create(limiter.limit(Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null))))
+                .expectError(WebClientResponseException.class)
+                .verify();
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter() {
+        return new AdaptiveConcurrencyLimiter("review-service", config, clock, meterRegistry);
+    }
+
+    private void call(AdaptiveConcurrencyLimiter limiter, Duration latency) {
+        StepVerifier.create(limiter.limit(Mono.fromSupplier(() -> {
+                    clock.advance(latency);
+                    return "ok";
+                })))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.internship.recommendation_service.service.client.throttle;
+
+import com.internship.recommendation_service.config.property.service.GeolocationServiceConfig;
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GeocodingRequestQueue Tests")
+class GeocodingRequestQueueTest {
+    private static final Optional<GeoCoordinatesDTO> COORDINATES = Optional.of(new GeoCoordinatesDTO(44.8, 20.4));
+
+    @Mock
+    private GeocodingRateLimiter mockRateLimiter;
+
+    private GeolocationServiceConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private GeocodingRequestQueue queue;
+    private Sinks.Empty<Void> token;
+    private AtomicInteger lookupCount;
+
+    @BeforeEach
+    void setUp() {
+        config = new GeolocationServiceConfig();
+        config.setRateLimitEnabled(true);
+        config.setQueueMaxSize(1);
+        config.setQueueMaxWait(Duration.ofSeconds(5));
+
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new GeocodingRequestQueue(mockRateLimiter, config, meterRegistry, Clock.systemUTC(), Schedulers.immediate());
+        token = Sinks.empty();
+        lookupCount = new AtomicInteger();
+    }
+
+    private Mono<Optional<GeoCoordinatesDTO>> lookup() {
+        lookupCount.incrementAndGet();
+        return Mono.just(COORDINATES);
+    }
+
+    @Test
+    @DisplayName("Should share one lookup between identical queued queries")
+    void shouldDeduplicateIdenticalQueries() {
+        // Arrange
+        when(mockRateLimiter.acquire()).thenReturn(token.asMono());
+        Mono<Optional<GeoCoordinatesDTO>> first = queue.submit("query", this::lookup).cache();
+        Mono<Optional<GeoCoordinatesDTO>> second = queue.submit("query", this::lookup).cache();
+        first.subscribe();
+        second.subscribe();
+
+        // Act
+        token.tryEmitEmpty();
+
+        // Assert
+        StepVerifier.create(first).expectNext(COORDINATES).verifyComplete();
+        StepVerifier.create(second).expectNext(COORDINATES).verifyComplete();
+        assertThat(lookupCount).hasValue(1);
+        assertThat(meterRegistry.get("recommendation.geocoding.queue.deduplicated").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should complete empty when the queue is full")
+    void shouldCompleteEmptyWhenQueueIsFull() {
+        // Arrange: The first lookup waits for a token, the second one fills the queue
+        when(mockRateLimiter.acquire()).thenReturn(token.asMono());
+        queue.submit("first", this::lookup).subscribe();
+        queue.submit("second", this::lookup).subscribe();
+
+        // Act & Assert
+        StepVerifier.create(queue.submit("third", this::lookup)).verifyComplete();
+        assertThat(meterRegistry.get("recommendation.geocoding.queue.depth").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("recommendation.geocoding.queue.dropped").tag("reason", "full").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should complete empty when no token is available within the maximum wait")
+    void shouldCompleteEmptyAfterMaxWait() {
+        // Arrange
+        config.setQueueMaxWait(Duration.ofMillis(50));
+        when(mockRateLimiter.acquire()).thenReturn(Mono.never());
+
+        // Act & Assert
+        StepVerifier.create(queue.submit("query", this::lookup)).verifyComplete();
+        assertThat(lookupCount).hasValue(0);
+        assertThat(meterRegistry.get("recommendation.geocoding.queue.dropped").tag("reason", "expired").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should call the geolocation service directly when rate limiting is disabled")
+    void shouldBypassQueueWhenRateLimitingIsDisabled() {
+        // Arrange
+        config.setRateLimitEnabled(false);
+
+        // Act & Assert
+        StepVerifier.create(queue.submit("query", this::lookup)).expectNext(COORDINATES).verifyComplete();
+        assertThat(lookupCount).hasValue(1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.internship.recommendation_service.service.client.toggle;
+
+import com.internship.recommendation_service.config.property.service.DownstreamSwitchConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DownstreamSwitches Tests")
+class DownstreamSwitchesTest {
+    private SimpleMeterRegistry meterRegistry;
+    private DownstreamSwitches downstreamSwitches;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: review-service is switched off by configuration, the other services have no flag
+        DownstreamSwitchConfig config = new DownstreamSwitchConfig();
+        DownstreamSwitchConfig.Switch reviewServiceSwitch = new DownstreamSwitchConfig.Switch();
+        reviewServiceSwitch.setEnabled(false);
+        config.getFeign().put("review-service", reviewServiceSwitch);
+
+        meterRegistry = new SimpleMeterRegistry();
+        downstreamSwitches = new DownstreamSwitches(config, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should start from the configured flags and enable services without one")
+    void shouldStartFromConfiguredFlags() {
+        // Assert
+        assertThat(downstreamSwitches.isEnabled(Downstream.REVIEW_SERVICE)).isFalse();
+        assertThat(downstreamSwitches.isEnabled(Downstream.GEOLOCATION_SERVICE)).isTrue();
+        assertThat(meterRegistry.get("recommendation.client.downstream.enabled")
+                .tag("downstream", "review-service")
+                .gauge()
+                .value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should flip a switch through the actuator endpoint")
+    void shouldFlipSwitchThroughEndpoint() {
+        // Arrange
+        DownstreamSwitchesEndpoint endpoint = new DownstreamSwitchesEndpoint(downstreamSwitches);
+
+        // Act
+        endpoint.toggle("review-service", true);
+        endpoint.toggle("report-service", false);
+
+        // Assert
+        assertThat(endpoint.state("review-service")).isTrue();
+        assertThat(endpoint.states())
+                .containsEntry("report-service", false)
+                .containsEntry("user-service", true);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown services")
+    void shouldRejectUnknownServices() {
+        // Arrange
+        DownstreamSwitchesEndpoint endpoint = new DownstreamSwitchesEndpoint(downstreamSwitches);
+
+        // Act & Assert
+        assertThat(endpoint.state("unknown-service")).isNull();
+        assertThatThrownBy(() -> endpoint.toggle("unknown-service", false))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.internship.recommendation_service.service.feature;
+
+import com.internship.recommendation_service.config.property.RecommendationWeightsConfig;
+import com.internship.recommendation_service.config.property.service.DownstreamSwitchConfig;
+import com.internship.recommendation_service.service.client.Downstream;
+import com.internship.recommendation_service.service.client.toggle.DownstreamSwitches;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FetchPlanner Tests")
+class FetchPlannerTest {
+    private RecommendationWeightsConfig weights;
+    private DownstreamSwitches downstreamSwitches;
+    private FetchPlanner fetchPlanner;
+
+    @BeforeEach
+    void setUp() {
+        weights = new RecommendationWeightsConfig();
+        weights.setDistance(25.0);
+        weights.setExperienceMatch(10.0);
+        weights.setCategoryMatch(15.0);
+        weights.setFavorite(10.0);
+        weights.setWorkerRating(15.0);
+        weights.setJobRating(20.0);
+        weights.setUserReportsHigh(-5.5);
+        weights.setJobReportsHigh(-7.5);
+        weights.setJobReservationsCount(0.25);
+        downstreamSwitches = new DownstreamSwitches(new DownstreamSwitchConfig(), new SimpleMeterRegistry());
+        fetchPlanner = new FetchPlanner(weights, downstreamSwitches, List.of(CoreScoreFeature.values()));
+    }
+
+    @Test
+    @DisplayName("Should require all data when all weights are set")
+    void shouldRequireAllDataWithAllWeights() {
+        // Act
+        FetchPlan plan = fetchPlanner.plan();
+
+        // Assert
+        assertThat(plan.requiredData()).containsExactlyInAnyOrder(ScoreData.values());
+    }
+
+    @Test
+    @DisplayName("Should leave out data whose features have zero weights")
+    void shouldLeaveOutDataOfZeroWeightFeatures() {
+        // Arrange
+        weights.setJobReservationsCount(0.0);
+        weights.setFavorite(0.0);
+
+        // Act
+        FetchPlan plan = fetchPlanner.plan();
+
+        // Assert
+        assertThat(plan.requires(ScoreData.JOB_RESERVATION_COUNTS)).isFalse();
+        assertThat(plan.requires(ScoreData.FAVORITE_WORKERS)).isFalse();
+        assertThat(plan.requires(ScoreData.WORKER_REVIEW_STATS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave out the user coordinates and preferences once no feature scores them")
+    void shouldLeaveOutUserDataOfZeroWeightFeatures() {
+        // Arrange
+        weights.setDistance(0.0);
+        weights.setExperienceMatch(0.0);
+
+        // Act
+        FetchPlan plan = fetchPlanner.plan();
+
+        // Assert: Categories are still matched against the preferences
+        assertThat(plan.requires(ScoreData.USER_COORDINATES)).isFalse();
+        assertThat(plan.requires(ScoreData.USER_PREFERENCES)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should require report stats while any of their weights is set")
+    void shouldRequireReportStatsWhileAnyWeightIsSet() {
+        // Arrange: Worker reports are scaled by the job report weights
+        weights.setJobReportsHigh(0.0);
+        weights.setJobReportsLow(-2.0);
+        weights.setUserReportsHigh(0.0);
+
+        // Act
+        FetchPlan plan = fetchPlanner.plan();
+
+        // Assert
+        assertThat(plan.requires(ScoreData.WORKER_REPORT_STATS)).isTrue();
+        assertThat(plan.requires(ScoreData.JOB_REPORT_STATS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require the data of additional features")
+    void shouldRequireDataOfAdditionalFeatures() {
+        // Arrange
+        weights.setDistance(0.0);
+        weights.setJobReservationsCount(0.0);
+        ScoreFeature additionalFeature = new ScoreFeature() {
+            @Override
+            public boolean isEnabled(RecommendationWeightsConfig weights) {
+                return true;
+            }
+
+            @Override
+            public Set<ScoreData> dependencies() {
+                return Set.of(ScoreData.JOB_RESERVATION_COUNTS);
+            }
+        };
+        fetchPlanner = new FetchPlanner(weights, downstreamSwitches, List.of(CoreScoreFeature.DISTANCE, additionalFeature));
+
+        // Act
+        FetchPlan plan = fetchPlanner.plan();
+
+        // Assert
+        assertThat(plan.requiredData()).containsExactly(ScoreData.JOB_RESERVATION_COUNTS);
+    }
+
+    @Test
+    @DisplayName("Should leave out data of downstream services that are switched off")
+    void shouldLeaveOutDataOfDisabledDownstreams() {
+        // Arrange
+        downstreamSwitches.setEnabled(Downstream.REPORT_SERVICE, false);
+
+        // Act
+        FetchPlan plan = fetchPlanner.plan();
+
+        // Assert
+        assertThat(plan.requires(ScoreData.WORKER_REPORT_STATS)).isFalse();
+        assertThat(plan.requires(ScoreData.JOB_REPORT_STATS)).isFalse();
+        assertThat(plan.requires(ScoreData.WORKER_REVIEW_STATS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave out data while any of its downstream services is switched off")
+    void shouldLeaveOutDataOfPartlyDisabledDownstreams() {
+        // Arrange
+        downstreamSwitches.setEnabled(Downstream.GEOLOCATION_SERVICE, false);
+
+        // Act
+        FetchPlan plan = fetchPlanner.plan();
+
+        // Assert
+        assertThat(plan.requires(ScoreData.USER_COORDINATES)).isFalse();
+        assertThat(plan.requires(ScoreData.USER_PREFERENCES)).isTrue();
+    }
+}
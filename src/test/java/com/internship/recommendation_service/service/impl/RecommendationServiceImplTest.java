@@ -1,15 +1,29 @@
 package com.internship.recommendation_service.service.impl;
 
+import com.internship.recommendation_service.config.property.RecommendationDefaultsConfig;
+import com.internship.recommendation_service.config.property.RecommendationPipelineConfig;
 import com.internship.recommendation_service.dto.external.*;
 import com.internship.recommendation_service.dto.response.JobScoreResponse;
+import com.internship.recommendation_service.exception.DownstreamDisabledException;
 import com.internship.recommendation_service.exception.ServiceUnavailableException;
+import com.internship.recommendation_service.service.catalog.JobCatalog;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
 import com.internship.recommendation_service.service.client.*;
+import com.internship.recommendation_service.service.feature.FetchPlan;
+import com.internship.recommendation_service.service.feature.FetchPlanner;
+import com.internship.recommendation_service.service.feature.ScoreData;
+import com.internship.recommendation_service.service.stats.JobStats;
+import com.internship.recommendation_service.service.stats.JobStatsStore;
 import com.internship.recommendation_service.util.RecommendationEngine;
+import com.internship.recommendation_service.util.RecommendationMetrics;
+import com.internship.recommendation_service.util.RequestDeadline;
+import com.internship.recommendation_service.util.UserScoringContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,9 +34,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,7 +52,7 @@ import static org.mockito.Mockito.*;
 @DisplayName("RecommendationServiceImpl Tests")
 class RecommendationServiceImplTest {
     @Mock
-    private JobServiceClient mockJobServiceClient;
+    private JobCatalog mockJobCatalog;
 
     @Mock
     private UserServiceClient mockUserServiceClient;
@@ -52,6 +72,21 @@ class RecommendationServiceImplTest {
     @Mock
     private ReservationServiceClient mockReservationServiceClient;
 
+    @Mock
+    private JobStatsStore mockJobStatsStore;
+
+    @Mock
+    private RecommendationPipelineConfig mockPipelineConfig;
+
+    @Mock
+    private RecommendationMetrics mockRecommendationMetrics;
+
+    @Mock
+    private RecommendationDefaultsConfig mockDefaultsConfig;
+
+    @Mock
+    private FetchPlanner mockFetchPlanner;
+
     @InjectMocks
     private RecommendationServiceImpl recommendationService;
 
@@ -64,6 +99,16 @@ class RecommendationServiceImplTest {
     private ReviewStatsDTO worker2Reviews;
     private ReviewStatsDTO worker3Reviews;
 
+    // Stats returned by the bulk client calls, keyed by worker or job ID
+    private final Map<Long, ReviewStatsDTO> workerReviewsById = new HashMap<>();
+    private final Map<Long, ReviewStatsDTO> jobReviewsById = new HashMap<>();
+    private final Map<Long, ReportStatsDTO> workerReportsById = new HashMap<>();
+    private final Map<Long, ReportStatsDTO> jobReportsById = new HashMap<>();
+
+    // Scores returned by the engine keyed by job ID, and the IDs of the jobs it scored
+    private final Map<Long, JobScoreResponse> scoresByJobId = new HashMap<>();
+    private final List<Long> scoredJobIds = new CopyOnWriteArrayList<>();
+
     private Authentication authentication = mock(Authentication.class);
     private SecurityContext securityContext = mock(SecurityContext.class);
 
@@ -119,32 +164,67 @@ class RecommendationServiceImplTest {
         // Geolocation Service
         lenient().when(mockGeoLocationServiceClient.getCoordinates(any(UserDTO.class))).thenReturn(Mono.just(testUserCoords));
 
-        // Job Service
-        lenient().when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.just(job1, job2, job3, inactiveJob, blockedWorkerJob));
+        // Job Catalog
+        lenient().when(mockJobCatalog.getJobFeatures()).thenReturn(featuresOf(job1, job2, job3, inactiveJob, blockedWorkerJob));
 
         // Review Service (Defaults for active jobs)
-        lenient().when(mockReviewServiceClient.getUserRating(job1.userId())).thenReturn(Mono.just(worker1Reviews));
-        lenient().when(mockReviewServiceClient.getUserRating(job2.userId())).thenReturn(Mono.just(worker2Reviews));
-        lenient().when(mockReviewServiceClient.getUserRating(job3.userId())).thenReturn(Mono.just(worker3Reviews));
-        lenient().when(mockReviewServiceClient.getJobRating(job1.id())).thenReturn(Mono.just(job1Reviews));
-        lenient().when(mockReviewServiceClient.getJobRating(job2.id())).thenReturn(Mono.just(job2Reviews));
-        lenient().when(mockReviewServiceClient.getJobRating(job3.id())).thenReturn(Mono.just(job3Reviews));
+        workerReviewsById.put(job1.userId(), worker1Reviews);
+        workerReviewsById.put(job2.userId(), worker2Reviews);
+        workerReviewsById.put(job3.userId(), worker3Reviews);
+        jobReviewsById.put(job1.id(), job1Reviews);
+        jobReviewsById.put(job2.id(), job2Reviews);
+        jobReviewsById.put(job3.id(), job3Reviews);
+        lenient().when(mockReviewServiceClient.getUserRatings(anyCollection()))
+                .thenAnswer(invocation -> Mono.just(new HashMap<>(workerReviewsById)));
+        lenient().when(mockReviewServiceClient.getJobRatings(anyCollection()))
+                .thenAnswer(invocation -> Mono.just(new HashMap<>(jobReviewsById)));
 
         // Report Service (Defaults for active jobs)
-        lenient().when(mockReportServiceClient.getUserReportStats(job1.userId())).thenReturn(Mono.just(worker1Reports));
-        lenient().when(mockReportServiceClient.getUserReportStats(job2.userId())).thenReturn(Mono.just(worker2Reports));
-        lenient().when(mockReportServiceClient.getUserReportStats(job3.userId())).thenReturn(Mono.just(worker3Reports));
-        lenient().when(mockReportServiceClient.getJobReportStats(job1.id())).thenReturn(Mono.just(job1Reports));
-        lenient().when(mockReportServiceClient.getJobReportStats(job2.id())).thenReturn(Mono.just(job2Reports));
-        lenient().when(mockReportServiceClient.getJobReportStats(job3.id())).thenReturn(Mono.just(job3Reports));
-
-        // Recommendation Engine (Defaults for active jobs)
-        lenient().when(mockRecommendationEngine.calculateJobScore(eq(job1.userId()), any(), any(), any(), any(), any(), any(), eq(job1), any(), any())).thenReturn(score1);
-        lenient().when(mockRecommendationEngine.calculateJobScore(eq(job2.userId()), any(), any(), any(), any(), any(), any(), eq(job2), any(), any())).thenReturn(score2);
-        lenient().when(mockRecommendationEngine.calculateJobScore(eq(job3.userId()), any(), any(), any(), any(), any(), any(), eq(job3), any(), any())).thenReturn(score3);
+        workerReportsById.put(job1.userId(), worker1Reports);
+        workerReportsById.put(job2.userId(), worker2Reports);
+        workerReportsById.put(job3.userId(), worker3Reports);
+        jobReportsById.put(job1.id(), job1Reports);
+        jobReportsById.put(job2.id(), job2Reports);
+        jobReportsById.put(job3.id(), job3Reports);
+        lenient().when(mockReportServiceClient.getUsersReportStats(anyCollection()))
+                .thenAnswer(invocation -> Mono.just(new HashMap<>(workerReportsById)));
+        lenient().when(mockReportServiceClient.getJobsReportStats(anyCollection()))
+                .thenAnswer(invocation -> Mono.just(new HashMap<>(jobReportsById)));
+
+        // Recommendation Engine (Defaults for active jobs), answered by the job ID of the scored row
+        scoresByJobId.put(job1.id(), score1);
+        scoresByJobId.put(job2.id(), score2);
+        scoresByJobId.put(job3.id(), score3);
+        lenient().when(mockRecommendationEngine.calculateJobScore(anyLong(), any(UserScoringContext.class), any(), any(), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong()))
+                .thenAnswer(invocation -> {
+                    JobFeatureStore jobFeatures = invocation.getArgument(6);
+                    long jobId = jobFeatures.id(invocation.<Integer>getArgument(7));
+                    scoredJobIds.add(jobId);
+                    return scoresByJobId.get(jobId);
+                });
+
+        // Report stats are needed by every job, and no job can be dropped before its reports are fetched
+        lenient().when(mockRecommendationEngine.calculatePositiveScore(anyLong(), any(UserScoringContext.class), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong()))
+                .thenReturn(100.0);
+        lenient().when(mockRecommendationEngine.areReportsApplied(anyDouble())).thenReturn(true);
+        lenient().when(mockRecommendationEngine.calculateScoreUpperBound(anyDouble(), any(JobFeatureStore.class), anyInt(), anyLong()))
+                .thenReturn(Double.POSITIVE_INFINITY);
 
         // Reservation Service
-        lenient().when(mockReservationServiceClient.getJobCount(anyLong())).thenReturn(Mono.just(0L));
+        lenient().when(mockReservationServiceClient.getJobCounts(anyCollection())).thenReturn(Mono.just(Map.of()));
+
+        // Precomputed job stats (none by default, so all stats are fetched live)
+        lenient().when(mockJobStatsStore.getAll(any(JobFeatureStore.class), any(int[].class))).thenReturn(Mono.just(Map.of()));
+
+        // Fetch plan (all data by default)
+        lenient().when(mockFetchPlanner.plan()).thenReturn(new FetchPlan(EnumSet.allOf(ScoreData.class)));
+
+        // Pipeline configuration
+        lenient().when(mockPipelineConfig.getBatchSize()).thenReturn(2);
+        lenient().when(mockPipelineConfig.getBatchConcurrency()).thenReturn(4);
+
+        // Request deadline of requests without one in their context
+        lenient().when(mockDefaultsConfig.getTimeout()).thenReturn(Duration.ofSeconds(5));
 
         // Security Context
         when(securityContext.getAuthentication()).thenReturn(authentication);
@@ -152,6 +232,10 @@ class RecommendationServiceImplTest {
         SecurityContextHolder.setContext(securityContext);
     }
 
+    private static Mono<JobFeatureStore> featuresOf(JobDTO... jobs) {
+        return Mono.just(JobFeatureStore.of(List.of(jobs)));
+    }
+
     @Nested
     @DisplayName("Happy Path Scenarios")
     class HappyPathTests {
@@ -168,18 +252,14 @@ class RecommendationServiceImplTest {
                     .verifyComplete();  // Limit is 2
 
             // Verify engine was called for the 3 active, non-blocked jobs
-            verify(mockRecommendationEngine).calculateJobScore(eq(job1.userId()), any(), any(), any(), any(), any(), any(), eq(job1), any(), any());
-            verify(mockRecommendationEngine).calculateJobScore(eq(job2.userId()), any(), any(), any(), any(), any(), any(), eq(job2), any(), any());
-            verify(mockRecommendationEngine).calculateJobScore(eq(job3.userId()), any(), any(), any(), any(), any(), any(), eq(job3), any(), any());
+            assertThat(scoredJobIds).containsExactlyInAnyOrder(job1.id(), job2.id(), job3.id());
         }
 
         @Test
         @DisplayName("Should return fewer recommendations than limit if fewer jobs qualify")
         void shouldReturnFewerThanLimitIfFewerJobsQualify() {
             // Arrange: Only job1 and job2 are active and non-blocked
-            when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.just(job1, job2, inactiveJob)); // Only 2 active jobs
-            when(mockRecommendationEngine.calculateJobScore(eq(job1.userId()), any(), any(), any(), any(), any(), any(), eq(job1), any(), any())).thenReturn(score1);
-            when(mockRecommendationEngine.calculateJobScore(eq(job2.userId()), any(), any(), any(), any(), any(), any(), eq(job2), any(), any())).thenReturn(score2);
+            when(mockJobCatalog.getJobFeatures()).thenReturn(featuresOf(job1, job2, inactiveJob)); // Only 2 active jobs
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(5);
@@ -195,7 +275,7 @@ class RecommendationServiceImplTest {
         @DisplayName("Should return empty flux when no jobs are available")
         void shouldReturnEmptyWhenNoJobsAvailable() {
             // Arrange: Job service returns no jobs
-            when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.empty());
+            when(mockJobCatalog.getJobFeatures()).thenReturn(featuresOf());
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(5);
@@ -210,7 +290,7 @@ class RecommendationServiceImplTest {
         @DisplayName("Should return empty flux when all jobs are filtered out")
         void shouldReturnEmptyWhenAllJobsFiltered() {
             // Arrange: All jobs are inactive or blocked
-            when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.just(inactiveJob, blockedWorkerJob));
+            when(mockJobCatalog.getJobFeatures()).thenReturn(featuresOf(inactiveJob, blockedWorkerJob));
             when(mockUserServiceClient.getBlockedUserIds(TEST_USER_ID)).thenReturn(Mono.just(List.of(blockedWorkerJob.userId())));
 
             // Act
@@ -222,7 +302,430 @@ class RecommendationServiceImplTest {
                     .verifyComplete();
 
             // Verify engine is never called
-            verify(mockRecommendationEngine, never()).calculateJobScore(anyLong(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+            assertThat(scoredJobIds).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Request-Scoped Memoization Scenarios")
+    class RequestScopedMemoizationTests {
+        @Test
+        @DisplayName("Should fetch worker stats once per request when a worker owns jobs in different batches")
+        void shouldFetchWorkerStatsOncePerRequest() {
+            // Arrange: job4 belongs to the worker of job1 and lands in the second batch
+            JobDTO job4 = new JobDTO(106L, job1.userId(), "Job 4", "Desc 6", LocalDate.now(), 2, 15, "CAT1", "ACCEPTED", 40.6, -70.6);
+            JobScoreResponse score4 = JobScoreResponse.builder().jobId(job4.id()).workerId(job4.userId()).score(10.0).build();
+            when(mockJobCatalog.getJobFeatures()).thenReturn(featuresOf(job1, job2, job3, job4));
+            scoresByJobId.put(job4.id(), score4);
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3, score4)
+                    .verifyComplete();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<Long>> workerIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(mockReviewServiceClient, atLeastOnce()).getUserRatings(workerIdsCaptor.capture());
+            long job1WorkerLookups = workerIdsCaptor.getAllValues().stream()
+                    .flatMap(Collection::stream)
+                    .filter(job1.userId()::equals)
+                    .count();
+            assertThat(job1WorkerLookups).isOne();
+
+            // One saved rating lookup and one saved report lookup
+            verify(mockRecommendationMetrics, timeout(1000)).recordSavedWorkerLookups(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Precomputed Job Stats Scenarios")
+    class PrecomputedJobStatsTests {
+        @Test
+        @DisplayName("Should score jobs from precomputed stats and fetch only the missing ones live")
+        void shouldFetchOnlyJobsWithoutPrecomputedStats() {
+            // Arrange: job1 and job3 are precomputed, job2 is not
+            when(mockJobStatsStore.getAll(any(JobFeatureStore.class), any(int[].class))).thenAnswer(invocation -> {
+                JobFeatureStore jobFeatures = invocation.getArgument(0);
+                Map<Long, JobStats> precomputed = new HashMap<>();
+                for (int row : invocation.<int[]>getArgument(1)) {
+                    long jobId = jobFeatures.id(row);
+                    long workerId = jobFeatures.workerId(row);
+                    if (jobId != job2.id()) {
+                        precomputed.put(jobId, new JobStats(
+                                workerReviewsById.get(workerId),
+                                jobReviewsById.get(jobId),
+                                workerReportsById.get(workerId),
+                                jobReportsById.get(jobId),
+                                3L));
+                    }
+                }
+                return Mono.just(precomputed);
+            });
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+
+            assertThat(scoredJobIds).containsExactlyInAnyOrder(job1.id(), job2.id(), job3.id());
+            verify(mockReviewServiceClient).getJobRatings(List.of(job2.id()));
+            verify(mockReservationServiceClient).getJobCounts(List.of(job2.id()));
+            verify(mockRecommendationEngine).calculateJobScore(eq(job1.userId()), any(UserScoringContext.class), any(), any(), any(), any(),
+                    any(JobFeatureStore.class), anyInt(), eq(3L));
+        }
+
+        @Test
+        @DisplayName("Should not call downstream stats services when all stats are precomputed")
+        void shouldNotFetchStatsWhenAllPrecomputed() {
+            // Arrange
+            when(mockJobStatsStore.getAll(any(JobFeatureStore.class), any(int[].class))).thenAnswer(invocation -> {
+                JobFeatureStore jobFeatures = invocation.getArgument(0);
+                Map<Long, JobStats> precomputed = new HashMap<>();
+                for (int row : invocation.<int[]>getArgument(1)) {
+                    long jobId = jobFeatures.id(row);
+                    long workerId = jobFeatures.workerId(row);
+                    precomputed.put(jobId, new JobStats(
+                            workerReviewsById.get(workerId),
+                            jobReviewsById.get(jobId),
+                            workerReportsById.get(workerId),
+                            jobReportsById.get(jobId),
+                            0L));
+                }
+                return Mono.just(precomputed);
+            });
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+
+            verifyNoInteractions(mockReviewServiceClient, mockReportServiceClient, mockReservationServiceClient);
+        }
+
+        @Test
+        @DisplayName("Should score precomputed stats left out of the fetch plan with their defaults")
+        void shouldReplacePrecomputedStatsLeftOutOfFetchPlan() {
+            // Arrange: Reservations and report stats are disabled, e.g. by zero weights or a switched off service
+            when(mockFetchPlanner.plan()).thenReturn(new FetchPlan(EnumSet.complementOf(EnumSet.of(
+                    ScoreData.JOB_RESERVATION_COUNTS, ScoreData.WORKER_REPORT_STATS, ScoreData.JOB_REPORT_STATS))));
+            when(mockJobStatsStore.getAll(any(JobFeatureStore.class), any(int[].class))).thenAnswer(invocation -> {
+                JobFeatureStore jobFeatures = invocation.getArgument(0);
+                Map<Long, JobStats> precomputed = new HashMap<>();
+                for (int row : invocation.<int[]>getArgument(1)) {
+                    long jobId = jobFeatures.id(row);
+                    long workerId = jobFeatures.workerId(row);
+                    precomputed.put(jobId, new JobStats(
+                            workerReviewsById.get(workerId),
+                            jobReviewsById.get(jobId),
+                            workerReportsById.get(workerId),
+                            jobReportsById.get(jobId),
+                            3L));
+                }
+                return Mono.just(precomputed);
+            });
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+
+            verify(mockRecommendationEngine).calculateJobScore(eq(job1.userId()), any(UserScoringContext.class),
+                    eq(workerReviewsById.get(job1.userId())), eq(jobReviewsById.get(job1.id())),
+                    eq(ReportStatsDTO.defaultValue(job1.userId(), "USER")), eq(ReportStatsDTO.defaultValue(job1.id(), "JOB")),
+                    any(JobFeatureStore.class), anyInt(), eq(0L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Deadline Scenarios")
+    class RequestDeadlineTests {
+        private static final Duration SHORT_TIMEOUT = Duration.ofMillis(100);
+
+        @Test
+        @DisplayName("Should score jobs with default stats and mark them partial when a stats stage misses the deadline")
+        void shouldScoreWithDefaultStatsWhenStatsMissDeadline() {
+            // Arrange
+            when(mockReviewServiceClient.getJobRatings(anyCollection())).thenReturn(Mono.never());
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT)
+                    .contextWrite(RequestDeadline.withTimeout(SHORT_TIMEOUT));
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2.asPartial(), score1.asPartial(), score3.asPartial())
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+
+            verify(mockRecommendationEngine).calculateJobScore(eq(job1.userId()), any(UserScoringContext.class), any(),
+                    eq(ReviewStatsDTO.defaultValue(job1.id(), "JOB")), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong());
+            verify(mockRecommendationMetrics, timeout(1000)).recordPartialJobs(3L);
+        }
+
+        @Test
+        @DisplayName("Should mark all jobs partial when user data misses the deadline")
+        void shouldMarkAllJobsPartialWhenUserDataMissesDeadline() {
+            // Arrange
+            when(mockUserServiceClient.getFavoriteUserIds(TEST_USER_ID)).thenReturn(Mono.never());
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT)
+                    .contextWrite(RequestDeadline.withTimeout(SHORT_TIMEOUT));
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2.asPartial(), score1.asPartial(), score3.asPartial())
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("Should not mark jobs partial when all data arrives before the deadline")
+        void shouldNotMarkJobsPartialWithinDeadline() {
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT)
+                    .contextWrite(RequestDeadline.withTimeout(Duration.ofSeconds(5)));
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+
+            verify(mockRecommendationMetrics, timeout(1000)).recordPartialJobs(0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Upper Bound Pruning Scenarios")
+    class UpperBoundPruningTests {
+        private final Map<Long, Double> upperBoundsByJobId = new HashMap<>();
+
+        @BeforeEach
+        void setUpPruning() {
+            when(mockPipelineConfig.isUpperBoundPruningEnabled()).thenReturn(true);
+            lenient().when(mockPipelineConfig.getBatchSize()).thenReturn(1);
+            lenient().when(mockPipelineConfig.getBatchConcurrency()).thenReturn(1);
+            lenient().when(mockRecommendationEngine.calculateScoreUpperBound(anyLong(), any(UserScoringContext.class), any(JobFeatureStore.class), anyInt(), anyLong()))
+                    .thenAnswer(invocation -> {
+                        JobFeatureStore jobFeatures = invocation.getArgument(2);
+                        return upperBoundsByJobId.get(jobFeatures.id(invocation.<Integer>getArgument(3)));
+                    });
+        }
+
+        @Test
+        @DisplayName("Should not fetch stats of jobs whose upper bound cannot reach the top scores")
+        void shouldSkipStatsOfJobsBelowTopScores() {
+            // Arrange: Once job 2 scores 95.0, neither job 1 nor job 3 can reach the single top score
+            upperBoundsByJobId.put(job1.id(), 90.0);
+            upperBoundsByJobId.put(job2.id(), 100.0);
+            upperBoundsByJobId.put(job3.id(), 80.0);
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(1);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2)
+                    .verifyComplete();
+
+            assertThat(scoredJobIds).containsExactly(job2.id());
+            verify(mockReviewServiceClient).getJobRatings(List.of(job2.id()));
+            verify(mockRecommendationMetrics).recordPrunedJobs(2L);
+        }
+
+        @Test
+        @DisplayName("Should score ranked jobs with the reservation counts fetched to rank them")
+        void shouldReuseReservationCountsOfRankedJobs() {
+            // Arrange
+            upperBoundsByJobId.put(job1.id(), 90.0);
+            upperBoundsByJobId.put(job2.id(), 100.0);
+            upperBoundsByJobId.put(job3.id(), 80.0);
+            when(mockReservationServiceClient.getJobCounts(anyCollection()))
+                    .thenAnswer(invocation -> Mono.just(Map.of(job2.id(), 7L)));
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(1);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2)
+                    .verifyComplete();
+
+            verify(mockReservationServiceClient).getJobCounts(argThat(jobIds -> jobIds.contains(job2.id())));
+            verify(mockRecommendationEngine).calculateJobScore(eq(job2.userId()), any(UserScoringContext.class),
+                    any(), any(), any(), any(), any(JobFeatureStore.class), anyInt(), eq(7L));
+        }
+
+        @Test
+        @DisplayName("Should return the same top scores as without pruning")
+        void shouldReturnSameTopScoresAsWithoutPruning() {
+            // Arrange: Job 1 ranks below job 3 by its upper bound but above it by its score
+            upperBoundsByJobId.put(job1.id(), 90.0);
+            upperBoundsByJobId.put(job2.id(), 100.0);
+            upperBoundsByJobId.put(job3.id(), 95.0);
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(2);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1)
+                    .verifyComplete();
+
+            assertThat(scoredJobIds).containsExactlyInAnyOrder(job1.id(), job2.id(), job3.id());
+            verify(mockRecommendationMetrics).recordPrunedJobs(0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Report Stats Scenarios")
+    class LazyReportStatsTests {
+        @Test
+        @DisplayName("Should not fetch report stats of jobs whose score they cannot change")
+        void shouldSkipReportStatsWhenReportsNotApplied() {
+            // Arrange
+            when(mockRecommendationEngine.areReportsApplied(anyDouble())).thenReturn(false);
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+
+            verify(mockReportServiceClient, never()).getUsersReportStats(anyCollection());
+            verify(mockReportServiceClient, never()).getJobsReportStats(anyCollection());
+            verify(mockRecommendationMetrics, times(2)).recordSkippedReportLookups(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should drop jobs whose upper bound cannot reach the top scores without fetching their report stats")
+        void shouldDropJobsBelowTopScoresWithoutReportStats() {
+            // Arrange: Once jobs 1 and 2 are scored, job 3 cannot beat 95.0 even without reports
+            when(mockPipelineConfig.getBatchSize()).thenReturn(1);
+            when(mockPipelineConfig.getBatchConcurrency()).thenReturn(1);
+            Map<Long, Double> upperBoundsByJobId = Map.of(job1.id(), 90.0, job2.id(), 100.0, job3.id(), 80.0);
+            when(mockRecommendationEngine.calculateScoreUpperBound(anyDouble(), any(JobFeatureStore.class), anyInt(), anyLong()))
+                    .thenAnswer(invocation -> {
+                        JobFeatureStore jobFeatures = invocation.getArgument(1);
+                        return upperBoundsByJobId.get(jobFeatures.id(invocation.<Integer>getArgument(2)));
+                    });
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(1);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2)
+                    .verifyComplete();
+
+            assertThat(scoredJobIds).containsExactly(job1.id(), job2.id());
+            verify(mockReportServiceClient, never()).getJobsReportStats(List.of(job3.id()));
+            verify(mockRecommendationMetrics).recordSkippedReportLookups(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fetch Plan Scenarios")
+    class FetchPlanTests {
+        @Test
+        @DisplayName("Should not fetch data that the fetch plan leaves out")
+        void shouldSkipDataLeftOutOfFetchPlan() {
+            // Arrange
+            when(mockFetchPlanner.plan()).thenReturn(new FetchPlan(EnumSet.of(
+                    ScoreData.WORKER_REVIEW_STATS, ScoreData.JOB_REVIEW_STATS, ScoreData.JOB_REPORT_STATS)));
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+
+            verify(mockUserServiceClient, never()).getFavoriteUserIds(anyLong());
+            verify(mockReservationServiceClient, never()).getJobCounts(anyCollection());
+            verify(mockReportServiceClient, never()).getUsersReportStats(anyCollection());
+            verify(mockReportServiceClient, times(2)).getJobsReportStats(anyCollection());
+            verify(mockRecommendationEngine).calculateJobScore(eq(job1.userId()),
+                    argThat(userContext -> !userContext.isFavorite(job1.userId())), any(), any(),
+                    eq(ReportStatsDTO.defaultValue(job1.userId(), "USER")), any(), any(JobFeatureStore.class), anyInt(), eq(0L));
+        }
+
+        @Test
+        @DisplayName("Should not fetch user coordinates and preferences while no enabled feature depends on them")
+        void shouldSkipUserDataLeftOutOfFetchPlan() {
+            // Arrange
+            when(mockFetchPlanner.plan()).thenReturn(new FetchPlan(EnumSet.complementOf(EnumSet.of(
+                    ScoreData.USER_COORDINATES, ScoreData.USER_PREFERENCES))));
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+
+            verify(mockUserServiceClient, never()).getUserDetails(anyLong());
+            verify(mockUserServiceClient, never()).getUserPreferences(anyLong());
+            verify(mockGeoLocationServiceClient, never()).getCoordinates(any());
+            verify(mockRecommendationEngine).calculateJobScore(eq(job1.userId()),
+                    argThat(userContext -> !userContext.isDistanceScored()),
+                    any(), any(), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("Radius Prefilter Scenarios")
+    class RadiusPrefilterTests {
+        @Test
+        @DisplayName("Should only score jobs within the preferred distance when the radius prefilter is enabled")
+        void shouldOnlyScoreJobsWithinPreferredDistance() {
+            // Arrange: The far away job is about 555km from the user, beyond the preferred 50km
+            JobDTO farAwayJob = new JobDTO(107L, 17L, "Far Job", "Desc 7", LocalDate.now(), 3, 25, "CAT1", "ACCEPTED", 45.0, -70.0);
+            scoresByJobId.put(farAwayJob.id(),
+                    JobScoreResponse.builder().jobId(farAwayJob.id()).workerId(farAwayJob.userId()).score(99.0).build());
+            when(mockJobCatalog.getJobFeatures()).thenReturn(featuresOf(job1, job2, job3, farAwayJob));
+            when(mockPipelineConfig.isRadiusPrefilterEnabled()).thenReturn(true);
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+            assertThat(scoredJobIds).doesNotContain(farAwayJob.id());
+        }
+
+        @Test
+        @DisplayName("Should score all jobs when the user coordinates are unknown")
+        void shouldScoreAllJobsWhenCoordinatesUnknown() {
+            // Arrange
+            when(mockGeoLocationServiceClient.getCoordinates(any(UserDTO.class))).thenReturn(Mono.just(GeoCoordinatesDTO.DEFAULT_VALUE));
+            when(mockPipelineConfig.isRadiusPrefilterEnabled()).thenReturn(true);
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
         }
     }
 
@@ -241,8 +744,7 @@ class RecommendationServiceImplTest {
                     .verifyComplete();
 
             // Verify engine not called for inactive job
-            verify(mockRecommendationEngine, never())
-                    .calculateJobScore(eq(inactiveJob.userId()), any(), any(), any(), any(), any(), any(), eq(inactiveJob), any(), any());
+            assertThat(scoredJobIds).doesNotContain(inactiveJob.id());
         }
 
         @Test
@@ -257,8 +759,7 @@ class RecommendationServiceImplTest {
                     .verifyComplete();
 
             // Verify engine not called for blocked worker job
-            verify(mockRecommendationEngine, never())
-                    .calculateJobScore(eq(blockedWorkerJob.userId()), any(), any(), any(), any(), any(), any(), eq(blockedWorkerJob), any(), any());
+            assertThat(scoredJobIds).doesNotContain(blockedWorkerJob.id());
         }
     }
 
@@ -267,10 +768,10 @@ class RecommendationServiceImplTest {
     class ClientErrorHandlingTests {
 
         @Test
-        @DisplayName("Should propagate error when JobServiceClient fails")
+        @DisplayName("Should propagate error when the job catalog fails")
         void shouldPropagateErrorWhenJobServiceFails() {
             // Arrange
-            when(mockJobServiceClient.getAllJobs()).thenReturn(Flux.error(new ServiceUnavailableException("Jobs service down")));
+            when(mockJobCatalog.getJobFeatures()).thenReturn(Mono.error(new ServiceUnavailableException("Jobs service down")));
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
@@ -297,11 +798,31 @@ class RecommendationServiceImplTest {
             StepVerifier.create(recommendations)
                     .expectError(ServiceUnavailableException.class)
                     .verify();
-            verify(mockJobServiceClient).getAllJobs(); // It attempts to get jobs
+            verify(mockJobCatalog).getJobFeatures(); // It attempts to get jobs
             verify(mockUserServiceClient).getUserDetails(TEST_USER_ID); // It attempts user details
 
             // Engine should not be called if setup fails
-            verify(mockRecommendationEngine, never()).calculateJobScore(anyLong(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+            assertThat(scoredJobIds).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should score with default coordinates when user-service is switched off")
+        void shouldUseDefaultCoordinatesWhenUserServiceDisabled() {
+            // Arrange
+            when(mockUserServiceClient.getUserDetails(TEST_USER_ID))
+                    .thenReturn(Mono.error(new DownstreamDisabledException("Calls to user-service are disabled")));
+
+            // Act
+            Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
+
+            // Assert
+            StepVerifier.create(recommendations)
+                    .expectNext(score2, score1, score3)
+                    .verifyComplete();
+            verify(mockGeoLocationServiceClient, never()).getCoordinates(any());
+            verify(mockRecommendationEngine).calculateJobScore(eq(job1.userId()),
+                    argThat(userContext -> !userContext.isDistanceScored()), any(), any(), any(), any(),
+                    any(JobFeatureStore.class), anyInt(), anyLong());
         }
 
         @Test
@@ -312,10 +833,6 @@ class RecommendationServiceImplTest {
             when(mockUserServiceClient.getUserPreferences(TEST_USER_ID))
                     .thenReturn(Mono.just(defaultPrefsFromClient));
 
-            // Mock RecommendationEngine to expect the default prefs provided by the client's onErrorResume
-            when(mockRecommendationEngine.calculateJobScore(anyLong(), any(), any(UserPreferencesDTO.class), any(), any(), any(), any(), any(), any(), any()))
-                    .thenReturn(score1, score2, score3); // Return scores normally
-
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
 
@@ -324,8 +841,8 @@ class RecommendationServiceImplTest {
                     .expectNextCount(3) // Expecting job2, job1, job3
                     .verifyComplete();
 
-            // Verify engine was called with default UserPreferencesDTO
-            verify(mockRecommendationEngine, times(3)).calculateJobScore(anyLong(), any(), isA(UserPreferencesDTO.class), any(), any(), any(), any(), any(), any(), any());
+            // Verify engine was called with the default preferences compiled
+            verify(mockRecommendationEngine, times(3)).calculateJobScore(anyLong(), argThat(UserScoringContext::isExperienceScored), any(), any(), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong());
         }
 
         @Test
@@ -333,12 +850,7 @@ class RecommendationServiceImplTest {
         void shouldUseDefaultReviewStatsOnError() {
             // Arrange: getUserRating fails for worker1, client returns default
             ReviewStatsDTO defaultWorker1Reviews = ReviewStatsDTO.defaultValue(job1.userId(), "USER");
-            when(mockReviewServiceClient.getUserRating(job1.userId()))
-                    .thenReturn(Mono.just(defaultWorker1Reviews));
-
-            // Mock engine to expect the default review stats for job1
-            when(mockRecommendationEngine.calculateJobScore(eq(job1.userId()), any(), any(), eq(defaultWorker1Reviews), any(), any(), any(), eq(job1), any(), any()))
-                    .thenReturn(score1); // Still return score1 for simplicity, actual score might differ
+            workerReviewsById.put(job1.userId(), defaultWorker1Reviews);
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
@@ -350,11 +862,11 @@ class RecommendationServiceImplTest {
 
             // Verify engine was called for job1 with the default ReviewStatsDTO
             verify(mockRecommendationEngine)
-                    .calculateJobScore(eq(job1.userId()), any(), any(), eq(defaultWorker1Reviews), any(), any(), any(), eq(job1), any(), any());
+                    .calculateJobScore(eq(job1.userId()), any(UserScoringContext.class), eq(defaultWorker1Reviews), any(), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong());
             verify(mockRecommendationEngine)
-                    .calculateJobScore(eq(job2.userId()), any(), any(), eq(worker2Reviews), any(), any(), any(), eq(job2), any(), any());
+                    .calculateJobScore(eq(job2.userId()), any(UserScoringContext.class), eq(worker2Reviews), any(), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong());
             verify(mockRecommendationEngine)
-                    .calculateJobScore(eq(job3.userId()), any(), any(), eq(worker3Reviews), any(), any(), any(), eq(job3), any(), any());
+                    .calculateJobScore(eq(job3.userId()), any(UserScoringContext.class), eq(worker3Reviews), any(), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong());
         }
 
         @Test
@@ -362,13 +874,7 @@ class RecommendationServiceImplTest {
         void shouldUseDefaultReportStatsOnError() {
             // Arrange: getUserReportStats fails for worker1, client returns default
             ReportStatsDTO defaultWorker1Reports = ReportStatsDTO.defaultValue(job1.userId(), "USER");
-            when(mockReportServiceClient.getUserReportStats(job1.userId()))
-                    .thenReturn(Mono.just(defaultWorker1Reports));
-
-            // Mock engine to expect the default report stats for job1
-            when(mockRecommendationEngine
-                    .calculateJobScore(eq(job1.userId()), any(), any(), any(), any(), eq(defaultWorker1Reports), any(), eq(job1), any(), any()))
-                    .thenReturn(score1);
+            workerReportsById.put(job1.userId(), defaultWorker1Reports);
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
@@ -380,7 +886,7 @@ class RecommendationServiceImplTest {
 
             // Verify engine was called for job1 with the default ReportStatsDTO
             verify(mockRecommendationEngine)
-                    .calculateJobScore(eq(job1.userId()), any(), any(), any(), any(), eq(defaultWorker1Reports), any(), eq(job1), any(), any());
+                    .calculateJobScore(eq(job1.userId()), any(UserScoringContext.class), any(), any(), eq(defaultWorker1Reports), any(), any(JobFeatureStore.class), anyInt(), anyLong());
         }
 
         @Test
@@ -390,11 +896,6 @@ class RecommendationServiceImplTest {
             when(mockGeoLocationServiceClient.getCoordinates(any(UserDTO.class)))
                     .thenReturn(Mono.just(GeoCoordinatesDTO.DEFAULT_VALUE));
 
-            // Mock engine to be called with default coordinates
-            when(mockRecommendationEngine
-                    .calculateJobScore(anyLong(), eq(GeoCoordinatesDTO.DEFAULT_VALUE), any(), any(), any(), any(), any(), any(), any(), any()))
-                    .thenReturn(score1, score2, score3); // Return scores even with null coords
-
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
 
@@ -403,9 +904,9 @@ class RecommendationServiceImplTest {
                     .expectNextCount(3) // job2, job1, job3
                     .verifyComplete();
 
-            // Verify engine was called with null GeoCoordinatesDTO
+            // Verify engine was called without the distance to the default coordinates
             verify(mockRecommendationEngine, times(3))
-                    .calculateJobScore(anyLong(), eq(GeoCoordinatesDTO.DEFAULT_VALUE), any(), any(), any(), any(), any(), any(), any(), any());
+                    .calculateJobScore(anyLong(), argThat(userContext -> !userContext.isDistanceScored()), any(), any(), any(), any(), any(JobFeatureStore.class), anyInt(), anyLong());
         }
     }
 
@@ -418,7 +919,7 @@ class RecommendationServiceImplTest {
         void shouldThrowExceptionOnInvalidWorkerReviewType() {
             // Arrange: Return a worker review DTO with type "JOB" instead of "USER"
             ReviewStatsDTO invalidWorkerReview = new ReviewStatsDTO(job1.userId(), "JOB", 4.5, 10); // Wrong type
-            when(mockReviewServiceClient.getUserRating(job1.userId())).thenReturn(Mono.just(invalidWorkerReview));
+            workerReviewsById.put(job1.userId(), invalidWorkerReview);
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
@@ -436,7 +937,7 @@ class RecommendationServiceImplTest {
         void shouldThrowExceptionOnInvalidJobReviewType() {
             // Arrange: Return a job review DTO with type "USER" instead of "JOB"
             ReviewStatsDTO invalidJobReview = new ReviewStatsDTO(job1.id(), "USER", 4.2, 8);
-            when(mockReviewServiceClient.getJobRating(job1.id())).thenReturn(Mono.just(invalidJobReview));
+            jobReviewsById.put(job1.id(), invalidJobReview);
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
@@ -453,7 +954,7 @@ class RecommendationServiceImplTest {
         void shouldThrowExceptionOnInvalidWorkerReportType() {
             // Arrange: Return a worker report DTO with type "JOB" instead of "USER"
             ReportStatsDTO invalidWorkerReport = new ReportStatsDTO(job1.userId(), "JOB", 0L, 0L, 0L);
-            when(mockReportServiceClient.getUserReportStats(job1.userId())).thenReturn(Mono.just(invalidWorkerReport));
+            workerReportsById.put(job1.userId(), invalidWorkerReport);
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
@@ -470,7 +971,7 @@ class RecommendationServiceImplTest {
         void shouldThrowExceptionOnInvalidJobReportType() {
             // Arrange: Return a job report DTO with type "USER" instead of "JOB"
             ReportStatsDTO invalidJobReport = new ReportStatsDTO(job1.id(), "USER", 0L, 0L, 0L);
-            when(mockReportServiceClient.getJobReportStats(job1.id())).thenReturn(Mono.just(invalidJobReport));
+            jobReportsById.put(job1.id(), invalidJobReport);
 
             // Act
             Flux<JobScoreResponse> recommendations = recommendationService.getJobRecommendations(DEFAULT_LIMIT);
@@ -0,0 +1,253 @@
+package com.internship.recommendation_service.service.stats;
+
+import com.internship.recommendation_service.config.property.JobStatsConfig;
+import com.internship.recommendation_service.dto.external.JobDTO;
+import com.internship.recommendation_service.dto.external.ReportStatsDTO;
+import com.internship.recommendation_service.dto.external.ReviewStatsDTO;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobStatsStore Tests")
+class JobStatsStoreTest {
+    private static final Instant NOW = Instant.ofEpochMilli(1_700_000_000_000L);
+    private static final String FRESH = Long.toString(NOW.minus(Duration.ofMinutes(5)).toEpochMilli());
+    private static final String STALE = Long.toString(NOW.minus(Duration.ofMinutes(20)).toEpochMilli());
+
+    @Mock
+    private ReactiveStringRedisTemplate mockRedisTemplate;
+
+    @Mock
+    private ReactiveHashOperations<String, String, String> mockHashOperations;
+
+    @Mock
+    private ReactiveValueOperations<String, String> mockValueOperations;
+
+    private JobStatsConfig jobStatsConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private JobStatsStore store;
+    private JobFeatureStore jobFeatures;
+
+    @BeforeEach
+    void setUp() {
+        jobStatsConfig = new JobStatsConfig();
+        jobStatsConfig.setEnabled(true);
+        jobStatsConfig.setTtl(Duration.ofMinutes(30));
+        jobStatsConfig.setMaxAge(Duration.ofMinutes(15));
+        jobStatsConfig.setRedisTimeout(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+        store = new JobStatsStore(mockRedisTemplate, jobStatsConfig, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+        jobFeatures = JobFeatureStore.of(List.of(
+                new JobDTO(101L, 11L, "Job 1", "Desc 1", LocalDate.now(), 3, 25, "CAT1", "ACCEPTED", 40.1, -70.1),
+                new JobDTO(102L, 12L, "Job 2", "Desc 2", LocalDate.now(), 5, 35, "CAT2", "ACCEPTED", 40.2, -70.2)));
+
+        lenient().when(mockRedisTemplate.<String, String>opsForHash()).thenReturn(mockHashOperations);
+        lenient().when(mockRedisTemplate.opsForValue()).thenReturn(mockValueOperations);
+    }
+
+    @Test
+    @DisplayName("Should return the decoded stats of jobs whose features are all present")
+    void shouldReturnCompleteStats() {
+        // Arrange
+        when(mockHashOperations.multiGet(eq("recommendation:job-stats:101"), anyCollection()))
+                .thenReturn(Mono.just(withRefreshTimes(List.of("4.5,10", "4.2,8", "1,0,2", "0,0,0", "7"), FRESH)));
+        when(mockHashOperations.multiGet(eq("recommendation:job-stats:102"), anyCollection()))
+                .thenReturn(Mono.just(withRefreshTimes(Arrays.asList("4.8,20", null, "0,0,0", "0,0,0", "1"), FRESH)));
+
+        // Act & Assert
+        StepVerifier.create(store.getAll(jobFeatures, new int[]{0, 1}))
+                .assertNext(stats -> {
+                    assertThat(stats).containsOnlyKeys(101L);
+                    assertThat(stats.get(101L)).isEqualTo(new JobStats(
+                            new ReviewStatsDTO(11L, "USER", 4.5, 10),
+                            new ReviewStatsDTO(101L, "JOB", 4.2, 8),
+                            new ReportStatsDTO(11L, "USER", 1L, 0L, 2L),
+                            ReportStatsDTO.defaultValue(101L, "JOB"),
+                            7L));
+                })
+                .verifyComplete();
+
+        assertThat(meterRegistry.counter("recommendation.job.stats.lookups", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("recommendation.job.stats.lookups", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should round-trip the null rating of entities without reviews")
+    void shouldRoundTripNullRating() {
+        // Arrange
+        ReviewStatsDTO unreviewedWorker = new ReviewStatsDTO(11L, "USER", null, 0);
+        ReviewStatsDTO unreviewedJob = new ReviewStatsDTO(101L, "JOB", null, 0);
+        when(mockHashOperations.multiGet(anyString(), anyCollection()))
+                .thenReturn(Mono.just(withRefreshTimes(List.of(JobStatsStore.encode(unreviewedWorker),
+                        JobStatsStore.encode(unreviewedJob), "0,0,0", "0,0,0", "0"), FRESH)));
+
+        // Act & Assert
+        StepVerifier.create(store.getAll(jobFeatures, new int[]{0}))
+                .assertNext(stats -> assertThat(stats.get(101L)).isEqualTo(new JobStats(
+                        unreviewedWorker,
+                        unreviewedJob,
+                        ReportStatsDTO.defaultValue(11L, "USER"),
+                        ReportStatsDTO.defaultValue(101L, "JOB"),
+                        0L)))
+                .verifyComplete();
+
+        assertThat(JobStatsStore.encode(unreviewedWorker)).isEqualTo(",0");
+    }
+
+    @Test
+    @DisplayName("Should skip jobs with malformed stats")
+    void shouldSkipMalformedStats() {
+        // Arrange
+        when(mockHashOperations.multiGet(anyString(), anyCollection()))
+                .thenReturn(Mono.just(withRefreshTimes(List.of("4.5", "4.2,8", "1,0,2", "0,0,0", "7"), FRESH)));
+
+        // Act & Assert
+        StepVerifier.create(store.getAll(jobFeatures, new int[]{0}))
+                .expectNext(Map.of())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should skip jobs with a feature older than the maximum age")
+    void shouldSkipStatsWithStaleFeature() {
+        // Arrange
+        List<String> values = withRefreshTimes(List.of("4.5,10", "4.2,8", "1,0,2", "0,0,0", "7"), FRESH);
+        values.set(values.size() - 1, STALE);
+        when(mockHashOperations.multiGet(anyString(), anyCollection())).thenReturn(Mono.just(values));
+
+        // Act & Assert
+        StepVerifier.create(store.getAll(jobFeatures, new int[]{0}))
+                .expectNext(Map.of())
+                .verifyComplete();
+
+        assertThat(meterRegistry.counter("recommendation.job.stats.lookups", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should return no stats when Redis fails")
+    void shouldReturnNoStatsWhenRedisFails() {
+        // Arrange
+        when(mockHashOperations.multiGet(anyString(), anyCollection()))
+                .thenReturn(Mono.error(new IllegalStateException("Redis is down")));
+
+        // Act & Assert
+        StepVerifier.create(store.getAll(jobFeatures, new int[]{0, 1}))
+                .expectNext(Map.of())
+                .verifyComplete();
+
+        assertThat(meterRegistry.counter("recommendation.job.stats.lookups", "result", "miss").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should not access Redis when disabled")
+    void shouldNotAccessRedisWhenDisabled() {
+        // Arrange
+        jobStatsConfig.setEnabled(false);
+
+        // Act & Assert
+        StepVerifier.create(store.getAll(jobFeatures, new int[]{0, 1}))
+                .expectNext(Map.of())
+                .verifyComplete();
+
+        verifyNoInteractions(mockRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should write the value and refresh time of a feature and extend the expiry")
+    void shouldWriteFeatureWithRefreshTime() {
+        // Arrange
+        when(mockHashOperations.putAll(anyString(), anyMap())).thenReturn(Mono.just(true));
+        when(mockRedisTemplate.expire(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+        Instant refreshedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+
+        // Act
+        StepVerifier.create(store.put(JobStatsFeature.RESERVATIONS, Map.of(101L, "7"), refreshedAt))
+                .verifyComplete();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mockHashOperations).putAll(eq("recommendation:job-stats:101"), fieldsCaptor.capture());
+        assertThat(fieldsCaptor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "reservations", "7",
+                "reservationsRefreshedAt", "1700000000000"));
+        verify(mockRedisTemplate).expire("recommendation:job-stats:101", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Should take the refresh lease when no replica holds it")
+    void shouldTakeFreeRefreshLease() {
+        // Arrange
+        when(mockValueOperations.setIfAbsent(anyString(), eq("replica-1"), any(Duration.class))).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(store.acquireRefreshLease("replica-1", Duration.ofMinutes(5)))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should renew the refresh lease held by the same replica")
+    void shouldRenewOwnRefreshLease() {
+        // Arrange
+        when(mockValueOperations.setIfAbsent(anyString(), eq("replica-1"), any(Duration.class))).thenReturn(Mono.just(false));
+        when(mockValueOperations.get(anyString())).thenReturn(Mono.just("replica-1"));
+        when(mockValueOperations.set(anyString(), eq("replica-1"), any(Duration.class))).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(store.acquireRefreshLease("replica-1", Duration.ofMinutes(5)))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(mockValueOperations).set("recommendation:job-stats-refresh-lease", "replica-1", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should not take the refresh lease held by another replica")
+    void shouldNotTakeRefreshLeaseOfOtherReplica() {
+        // Arrange
+        when(mockValueOperations.setIfAbsent(anyString(), eq("replica-1"), any(Duration.class))).thenReturn(Mono.just(false));
+        when(mockValueOperations.get(anyString())).thenReturn(Mono.just("replica-2"));
+
+        // Act & Assert
+        StepVerifier.create(store.acquireRefreshLease("replica-1", Duration.ofMinutes(5)))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(mockValueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    private static List<String> withRefreshTimes(List<String> values, String refreshedAt) {
+        List<String> fields = new ArrayList<>(values);
+        values.forEach(value -> fields.add(refreshedAt));
+        return fields;
+    }
+}
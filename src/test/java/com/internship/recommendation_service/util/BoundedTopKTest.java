@@ -0,0 +1,71 @@
+package com.internship.recommendation_service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedTopK Tests")
+class BoundedTopKTest {
+    @Test
+    @DisplayName("Should retain only the greatest elements in descending order")
+    void shouldRetainGreatestElementsInDescendingOrder() {
+        // Arrange
+        BoundedTopK<Integer> topK = new BoundedTopK<>(3, Comparator.naturalOrder());
+
+        // Act
+        List.of(5, 1, 9, 3, 7, 2, 8).forEach(topK::offer);
+
+        // Assert
+        assertThat(topK.toDescendingList()).containsExactly(9, 8, 7);
+        assertThat(topK.isFull()).isTrue();
+        assertThat(topK.peekSmallest()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should return all elements when fewer than capacity are offered")
+    void shouldReturnAllElementsWhenFewerThanCapacity() {
+        // Arrange
+        BoundedTopK<Integer> topK = new BoundedTopK<>(10, Comparator.naturalOrder());
+
+        // Act
+        List.of(4, 6, 2).forEach(topK::offer);
+
+        // Assert
+        assertThat(topK.toDescendingList()).containsExactly(6, 4, 2);
+        assertThat(topK.isFull()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should retain nothing when capacity is zero")
+    void shouldRetainNothingWhenCapacityIsZero() {
+        // Arrange
+        BoundedTopK<Integer> topK = new BoundedTopK<>(0, Comparator.naturalOrder());
+
+        // Act
+        topK.offer(1);
+
+        // Assert
+        assertThat(topK.toDescendingList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match a full sort on random input")
+    void shouldMatchFullSortOnRandomInput() {
+        // Arrange
+        List<Integer> values = new Random(42).ints(10_000, -1_000, 1_000).boxed().toList();
+        BoundedTopK<Integer> topK = new BoundedTopK<>(15, Comparator.naturalOrder());
+
+        // Act
+        values.forEach(topK::offer);
+
+        // Assert
+        List<Integer> expected = values.stream().sorted(Comparator.reverseOrder()).limit(15).toList();
+        assertThat(topK.toDescendingList()).isEqualTo(expected);
+        assertThat(topK.size()).isEqualTo(15);
+    }
+}
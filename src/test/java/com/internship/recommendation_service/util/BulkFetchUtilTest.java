@@ -0,0 +1,256 @@
+package com.internship.recommendation_service.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkFetchUtil Tests")
+class BulkFetchUtilTest {
+    @Nested
+    @DisplayName("fetchInChunks Method")
+    class FetchInChunksTests {
+        @Test
+        @DisplayName("Should split distinct IDs into chunks and merge the results")
+        void shouldSplitIdsIntoChunksAndMergeResults() {
+            // Arrange
+            List<List<Long>> requestedChunks = new ArrayList<>();
+
+            // Act
+            Mono<Map<Long, String>> result = BulkFetchUtil.fetchInChunks(List.of(1L, 2L, 2L, 3L, 4L, 5L), 2, chunk -> {
+                synchronized (requestedChunks) {
+                    requestedChunks.add(chunk);
+                }
+                return BulkFetchUtil.fetchEach(chunk, id -> Mono.just("value-" + id));
+            });
+
+            // Assert
+            StepVerifier.create(result)
+                    .assertNext(values -> assertThat(values)
+                            .hasSize(5)
+                            .containsEntry(1L, "value-1")
+                            .containsEntry(5L, "value-5"))
+                    .verifyComplete();
+            assertThat(requestedChunks).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Should return an empty map without fetching when no IDs are given")
+        void shouldReturnEmptyMapWhenNoIds() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act
+            Mono<Map<Long, String>> result = BulkFetchUtil.fetchInChunks(List.of(), 10, chunk -> {
+                calls.incrementAndGet();
+                return Mono.just(Map.of());
+            });
+
+            // Assert
+            StepVerifier.create(result)
+                    .assertNext(values -> assertThat(values).isEmpty())
+                    .verifyComplete();
+            assertThat(calls).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("resolveChunk Method")
+    class ResolveChunkTests {
+        @Test
+        @DisplayName("Should fill IDs missing from the bulk response with default values")
+        void shouldFillMissingIdsWithDefaults() {
+            // Act
+            Mono<Map<Long, String>> result = BulkFetchUtil.resolveChunk(List.of(1L, 2L),
+                    "http://service/v1/bulk/1",
+                    Flux.just(Map.entry(1L, "found")),
+                    id -> Mono.just("single"),
+                    id -> "default");
+
+            // Assert
+            StepVerifier.create(result)
+                    .assertNext(values -> assertThat(values)
+                            .containsEntry(1L, "found")
+                            .containsEntry(2L, "default"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should fall back to single calls when the bulk endpoint is missing")
+        void shouldFallBackToSingleCallsWhenBulkEndpointMissing() {
+            // Arrange
+            WebClientResponseException notFound = WebClientResponseException.create(404, "Not Found", null, null, null);
+
+            // Act
+            Mono<Map<Long, String>> result = BulkFetchUtil.resolveChunk(List.of(1L, 2L),
+                    "http://service/v1/bulk/2",
+                    Flux.error(notFound),
+                    id -> Mono.just("single-" + id),
+                    id -> "default");
+
+            // Assert
+            StepVerifier.create(result)
+                    .assertNext(values -> assertThat(values)
+                            .containsEntry(1L, "single-1")
+                            .containsEntry(2L, "single-2"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should resolve to no values when the bulk request fails, so defaults are not cached")
+        void shouldResolveToNoValuesWhenBulkRequestFails() {
+            // Arrange
+            WebClientResponseException serverError = WebClientResponseException.create(500, "Server Error", null, null, null);
+
+            // Act
+            Mono<Map<Long, String>> result = BulkFetchUtil.resolveChunk(List.of(1L, 2L),
+                    "http://service/v1/bulk/3",
+                    Flux.error(serverError),
+                    id -> Mono.just("single-" + id),
+                    id -> "default");
+
+            // Assert
+            StepVerifier.create(result)
+                    .assertNext(values -> assertThat(values).isEmpty())
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("requireChunk Method")
+    class RequireChunkTests {
+        @Test
+        @DisplayName("Should fill IDs missing from the bulk response with default values")
+        void shouldFillMissingIdsWithDefaults() {
+            // Act
+            Mono<Map<Long, String>> result = BulkFetchUtil.requireChunk(List.of(1L, 2L),
+                    "http://service/v1/bulk/4",
+                    Flux.just(Map.entry(1L, "found")),
+                    id -> Mono.just("single"),
+                    id -> "default");
+
+            // Assert
+            StepVerifier.create(result)
+                    .assertNext(values -> assertThat(values)
+                            .containsEntry(1L, "found")
+                            .containsEntry(2L, "default"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should fail when the bulk request fails")
+        void shouldFailWhenBulkRequestFails() {
+            // Arrange
+            WebClientResponseException serverError = WebClientResponseException.create(500, "Server Error", null, null, null);
+
+            // Act
+            Mono<Map<Long, String>> result = BulkFetchUtil.requireChunk(List.of(1L, 2L),
+                    "http://service/v1/bulk/5",
+                    Flux.error(serverError),
+                    id -> Mono.just("single-" + id),
+                    id -> "default");
+
+            // Assert
+            StepVerifier.create(result)
+                    .expectErrorMatches(error -> error == serverError)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should skip a missing bulk endpoint until it is checked again, logging it once")
+        void shouldSkipMissingBulkEndpointUntilRecheck() {
+            // Arrange
+            String bulkEndpoint = "http://service/v1/bulk/missing";
+            WebClientResponseException notFound = WebClientResponseException.create(404, "Not Found", null, null, null);
+            AtomicInteger bulkCalls = new AtomicInteger();
+            Flux<Map.Entry<Long, String>> bulkResponse = Flux.defer(() -> {
+                bulkCalls.incrementAndGet();
+                return Flux.error(notFound);
+            });
+            AtomicLong nanoTime = new AtomicLong();
+            ListAppender<ILoggingEvent> logs = new ListAppender<>();
+            Logger logger = (Logger) LoggerFactory.getLogger(LogUtil.class);
+            logs.start();
+            logger.addAppender(logs);
+
+            try {
+                // Act & Assert: The first chunk finds the endpoint missing, the next ones skip it
+                for (int chunk = 0; chunk < 3; chunk++) {
+                    StepVerifier.create(BulkFetchUtil.requireChunk(List.of(1L, 2L),
+                                    bulkEndpoint,
+                                    bulkResponse,
+                                    id -> Mono.just("single-" + id),
+                                    id -> "default",
+                                    nanoTime::get))
+                            .assertNext(values -> assertThat(values)
+                                    .containsEntry(1L, "single-1")
+                                    .containsEntry(2L, "single-2"))
+                            .verifyComplete();
+                    nanoTime.addAndGet(Duration.ofMinutes(1).toNanos());
+                }
+                assertThat(bulkCalls).hasValue(1);
+
+                // Act & Assert: The endpoint is tried again once the recheck interval has passed
+                nanoTime.set(Duration.ofMinutes(10).toNanos());
+                StepVerifier.create(BulkFetchUtil.requireChunk(List.of(1L, 2L),
+                                bulkEndpoint,
+                                bulkResponse,
+                                id -> Mono.just("single-" + id),
+                                id -> "default",
+                                nanoTime::get))
+                        .expectNextCount(1)
+                        .verifyComplete();
+                assertThat(bulkCalls).hasValue(2);
+            } finally {
+                logger.detachAppender(logs);
+            }
+
+            assertThat(logs.list)
+                    .filteredOn(event -> event.getLevel() == Level.WARN
+                                         && event.getFormattedMessage().contains(bulkEndpoint))
+                    .hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Should keep calling a bulk endpoint that failed for another reason")
+        void shouldKeepCallingBulkEndpointAfterOtherErrors() {
+            // Arrange
+            String bulkEndpoint = "http://service/v1/bulk/failing";
+            WebClientResponseException serverError = WebClientResponseException.create(500, "Server Error", null, null, null);
+            AtomicInteger bulkCalls = new AtomicInteger();
+            Flux<Map.Entry<Long, String>> bulkResponse = Flux.defer(() -> {
+                bulkCalls.incrementAndGet();
+                return Flux.error(serverError);
+            });
+
+            // Act & Assert
+            for (int chunk = 0; chunk < 2; chunk++) {
+                StepVerifier.create(BulkFetchUtil.requireChunk(List.of(1L, 2L),
+                                bulkEndpoint,
+                                bulkResponse,
+                                id -> Mono.just("single-" + id),
+                                id -> "default"))
+                        .expectError(WebClientResponseException.class)
+                        .verify();
+            }
+            assertThat(bulkCalls).hasValue(2);
+        }
+    }
+}
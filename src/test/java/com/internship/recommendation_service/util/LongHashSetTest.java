@@ -0,0 +1,62 @@
+package com.internship.recommendation_service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LongHashSet Tests")
+class LongHashSetTest {
+    @Test
+    @DisplayName("Should contain exactly the given values, including zero and negative values")
+    void shouldContainGivenValues() {
+        // Act
+        LongHashSet set = LongHashSet.of(Arrays.asList(0L, -7L, 42L, Long.MAX_VALUE, 42L, null));
+
+        // Assert
+        assertThat(set.size()).isEqualTo(4);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-7L)).isTrue();
+        assertThat(set.contains(42L)).isTrue();
+        assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(set.contains(7L)).isFalse();
+        assertThat(set.contains(Long.MIN_VALUE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should be empty for a null or empty collection")
+    void shouldBeEmptyWithoutValues() {
+        // Act & Assert
+        assertThat(LongHashSet.of(null).isEmpty()).isTrue();
+        assertThat(LongHashSet.of(List.of()).contains(0L)).isFalse();
+        assertThat(LongHashSet.of(List.of()).contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should agree with a HashSet for random values")
+    void shouldAgreeWithHashSet() {
+        // Arrange
+        Random random = new Random(42);
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add((long) random.nextInt(5_000));
+        }
+        Set<Long> expected = new HashSet<>(values);
+
+        // Act
+        LongHashSet set = LongHashSet.of(values);
+
+        // Assert
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value = -10; value < 5_010; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.internship.recommendation_service.config.property.RecommendationDefau
 import com.internship.recommendation_service.config.property.RecommendationWeightsConfig;
 import com.internship.recommendation_service.dto.external.*;
 import com.internship.recommendation_service.dto.response.JobScoreResponse;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,7 +20,6 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,9 +31,6 @@ class RecommendationEngineTest {
     @Mock
     private RecommendationDefaultsConfig mockDefaults;
 
-    @Mock
-    private GeoLocationCalculator mockGeoLocationCalculator;
-
     @InjectMocks
     private RecommendationEngine recommendationEngine;
 
@@ -41,6 +38,10 @@ class RecommendationEngineTest {
     private static final Long DEFAULT_WORKER_ID = 1L;
     private static final Long DEFAULT_JOB_ID = 100L;
     private static final double SCORE_PRECISION = 0.01;
+    private static final double USER_LATITUDE = 40.7128;
+    private static final double USER_LONGITUDE = -74.0060;
+    private static final double JOB_LATITUDE = latitudeAt(10.0); // Default 10km distance
+    private static final double JOB_LONGITUDE = USER_LONGITUDE;
 
     // Default Test Data
     private GeoCoordinatesDTO defaultUserCoords;
@@ -91,10 +92,6 @@ class RecommendationEngineTest {
         lenient().when(mockDefaults.getMaxDistance()).thenReturn(100.0);
         lenient().when(mockDefaults.getMinExperience()).thenReturn(1);
 
-        // Default GeoLocation Calculation
-        lenient().when(mockGeoLocationCalculator.calculateDistance(any(GeoCoordinatesDTO.class), any(GeoCoordinatesDTO.class)))
-                .thenReturn(10.0); // Default 10km distance
-
         // Default Input DTOs
         defaultJobDetails = new JobDTO(DEFAULT_JOB_ID,
                 DEFAULT_WORKER_ID,
@@ -105,9 +102,9 @@ class RecommendationEngineTest {
                 30,
                 "Plumbing",
                 "ACTIVE",
-                40.7580,
-                -73.9855);
-        defaultUserCoords = new GeoCoordinatesDTO(40.7128, -74.0060);
+                JOB_LATITUDE,
+                JOB_LONGITUDE);
+        defaultUserCoords = new GeoCoordinatesDTO(USER_LATITUDE, USER_LONGITUDE);
         defaultUserPrefs = new UserPreferencesDTO(99L, 25.0, 2, List.of("Plumbing", "Electrical"));
         defaultWorkerReviews = new ReviewStatsDTO(DEFAULT_WORKER_ID, "USER", 4.0, 20);
         defaultJobReviews = new ReviewStatsDTO(DEFAULT_JOB_ID, "JOB", 3.5, 10);
@@ -116,6 +113,41 @@ class RecommendationEngineTest {
         defaultFavorites = Collections.emptyList();
     }
 
+    // Helper placing a job at the given distance north of the user
+    private static double latitudeAt(double distanceKm) {
+        return USER_LATITUDE + Math.toDegrees(distanceKm / GeoLocationCalculator.EARTH_RADIUS_KM);
+    }
+
+    // Helpers scoring a single job against the user data compiled for it
+    private UserScoringContext compileContext(GeoCoordinatesDTO userCoords,
+                                              UserPreferencesDTO userPrefs,
+                                              List<Long> favorites,
+                                              JobFeatureStore jobFeatures) {
+        return UserScoringContext.compile(userCoords, userPrefs, favorites, List.of(), jobFeatures, mockDefaults);
+    }
+
+    private JobScoreResponse scoreJob(Long workerId,
+                                      GeoCoordinatesDTO userCoords,
+                                      UserPreferencesDTO userPrefs,
+                                      ReviewStatsDTO workerReviews,
+                                      ReviewStatsDTO jobReviews,
+                                      ReportStatsDTO workerReports,
+                                      ReportStatsDTO jobReports,
+                                      JobDTO jobDetails,
+                                      List<Long> favorites,
+                                      long jobReservationCount) {
+        JobFeatureStore jobFeatures = JobFeatureStore.of(List.of(jobDetails));
+        return scoreJob(workerId,
+                compileContext(userCoords, userPrefs, favorites, jobFeatures),
+                workerReviews,
+                jobReviews,
+                workerReports,
+                jobReports,
+                jobFeatures,
+                0,
+                jobReservationCount);
+    }
+
     // Helper for Assertions
     private void assertResponse(JobScoreResponse response, double expectedScore) {
         assertThat(response).isNotNull();
@@ -130,17 +162,27 @@ class RecommendationEngineTest {
         @Test
         @DisplayName("Should return 0.0 distance score when actual distance exceeds preferred")
         void shouldReturnZeroDistanceScoreWhenDistanceExceedsPreferred() {
-            when(mockGeoLocationCalculator.calculateDistance(any(), any())).thenReturn(30.0); // 30km > 25km preferred
+            JobDTO distantJob = new JobDTO(DEFAULT_JOB_ID,
+                    DEFAULT_WORKER_ID,
+                    "Fix leaky faucet",
+                    "...",
+                    LocalDate.now(),
+                    3,
+                    30,
+                    "Plumbing",
+                    "ACTIVE",
+                    latitudeAt(30.0), // 30km > 25km preferred
+                    JOB_LONGITUDE);
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
                     defaultJobReviews,
                     defaultWorkerReports,
                     defaultJobReports,
-                    defaultJobDetails,
+                    distantJob,
                     defaultFavorites,
                     0L);
             assertResponse(response, expectedScore);
@@ -157,9 +199,7 @@ class RecommendationEngineTest {
             double specificDistanceScore = 5.0 * (1 - 10.0 / 100.0); // 4.5
             double expectedScore = defaultFinalScore - baseDistanceScore + specificDistanceScore; // 49.0 - 3.0 + 4.5 = 50.5
 
-            when(mockGeoLocationCalculator.calculateDistance(any(), any())).thenReturn(10.0); // 10km < 100km
-
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     prefsNoDistance,
                     defaultWorkerReviews,
@@ -178,7 +218,7 @@ class RecommendationEngineTest {
             GeoCoordinatesDTO invalidCoords = new GeoCoordinatesDTO(95.0, -74.0);
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     invalidCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -189,7 +229,6 @@ class RecommendationEngineTest {
                     defaultFavorites, 0L);
 
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -198,7 +237,7 @@ class RecommendationEngineTest {
             // Expected: Distance = 0, Experience = 0, Category = 0
             double expectedScore = defaultFinalScore - baseDistanceScore - baseExperienceScore - baseCategoryScore; // 23.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     null,
                     defaultWorkerReviews,
@@ -216,7 +255,7 @@ class RecommendationEngineTest {
         void shouldReturnZeroDistanceScoreWhenUserCoordinatesAreNull() {
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     null,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -227,7 +266,6 @@ class RecommendationEngineTest {
                     defaultFavorites, 0L);
 
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -243,11 +281,11 @@ class RecommendationEngineTest {
                     "Plumbing",
                     "ACTIVE",
                     null,
-                    -73.9855);
+                    JOB_LONGITUDE);
 
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -258,7 +296,6 @@ class RecommendationEngineTest {
                     defaultFavorites, 0L);
 
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -273,11 +310,11 @@ class RecommendationEngineTest {
                     30,
                     "Plumbing",
                     "ACTIVE",
-                    40.7580,
+                    JOB_LATITUDE,
                     null);
 
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -288,7 +325,6 @@ class RecommendationEngineTest {
                     defaultFavorites, 0L);
 
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -296,7 +332,7 @@ class RecommendationEngineTest {
         void shouldReturnZeroDistanceScoreWhenUserLatIsNull() {
             GeoCoordinatesDTO coordsNullLat = new GeoCoordinatesDTO(null, -74.0);
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     coordsNullLat,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -308,7 +344,6 @@ class RecommendationEngineTest {
 
             assertResponse(response, expectedScore);
 
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -316,7 +351,7 @@ class RecommendationEngineTest {
         void shouldReturnZeroDistanceScoreWhenUserLatIsBelowMinus90() {
             GeoCoordinatesDTO coordsLowLat = new GeoCoordinatesDTO(-91.0, -74.0);
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     coordsLowLat,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -326,7 +361,6 @@ class RecommendationEngineTest {
                     defaultJobDetails,
                     defaultFavorites, 0L);
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -334,7 +368,7 @@ class RecommendationEngineTest {
         void shouldReturnZeroDistanceScoreWhenUserLonIsNull() {
             GeoCoordinatesDTO coordsNullLon = new GeoCoordinatesDTO(40.0, null);
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     coordsNullLon,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -344,7 +378,6 @@ class RecommendationEngineTest {
                     defaultJobDetails,
                     defaultFavorites, 0L);
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -352,7 +385,7 @@ class RecommendationEngineTest {
         void shouldReturnZeroDistanceScoreWhenUserLonIsBelowMinus180() {
             GeoCoordinatesDTO coordsLowLon = new GeoCoordinatesDTO(40.0, -181.0);
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     coordsLowLon,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -362,7 +395,6 @@ class RecommendationEngineTest {
                     defaultJobDetails,
                     defaultFavorites, 0L);
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
 
         @Test
@@ -370,7 +402,7 @@ class RecommendationEngineTest {
         void shouldReturnZeroDistanceScoreWhenUserLonIsAbove180() {
             GeoCoordinatesDTO coordsHighLon = new GeoCoordinatesDTO(40.0, 181.0);
             double expectedScore = defaultFinalScore - baseDistanceScore; // 49.0 - 3.0 = 46.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     coordsHighLon,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -380,7 +412,6 @@ class RecommendationEngineTest {
                     defaultJobDetails,
                     defaultFavorites, 0L);
             assertResponse(response, expectedScore);
-            verify(mockGeoLocationCalculator, never()).calculateDistance(any(), any());
         }
     }
 
@@ -397,7 +428,7 @@ class RecommendationEngineTest {
                     List.of("Plumbing"));
             double expectedScore = defaultFinalScore - baseExperienceScore; // 49.0 - 8.0 = 41.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     prefsHighExp,
                     defaultWorkerReviews,
@@ -422,12 +453,12 @@ class RecommendationEngineTest {
                     30,
                     "Plumbing",
                     "ACTIVE",
-                    40.7580,
-                    -73.9855);
+                    JOB_LATITUDE,
+                    JOB_LONGITUDE);
 
             double expectedScore = defaultFinalScore - baseExperienceScore; // 49.0 - 8.0 = 41.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -447,7 +478,7 @@ class RecommendationEngineTest {
             UserPreferencesDTO prefsNullExp = new UserPreferencesDTO(99L, 25.0, null, List.of("Plumbing"));
             UserPreferencesDTO prefsNegExp = new UserPreferencesDTO(99L, 25.0, -1, List.of("Plumbing"));
 
-            JobScoreResponse responseNull = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse responseNull = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     prefsNullExp,
                     defaultWorkerReviews,
@@ -456,7 +487,7 @@ class RecommendationEngineTest {
                     defaultJobReports,
                     defaultJobDetails,
                     defaultFavorites, 0L);
-            JobScoreResponse responseNeg = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse responseNeg = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     prefsNegExp,
                     defaultWorkerReviews,
@@ -481,7 +512,7 @@ class RecommendationEngineTest {
             double specificFavoriteScore = 10.0; // From mockWeights
             double expectedScore = defaultFinalScore - baseFavoriteScore + specificFavoriteScore; // 49.0 - 0.0 + 10.0 = 59.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -500,7 +531,7 @@ class RecommendationEngineTest {
             List<Long> favoritesList = List.of(2L, 3L);
 
             // Favorite score remains 0.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -515,7 +546,7 @@ class RecommendationEngineTest {
         @Test
         @DisplayName("Should return zero favorite score when list is null")
         void shouldReturnZeroFavoriteScoreWhenListIsNull() {
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -536,7 +567,7 @@ class RecommendationEngineTest {
         @DisplayName("Should calculate zero worker rating score when stats are missing")
         void shouldCalculateZeroWorkerRatingScoreWhenStatsMissing() {
             double expectedScore = defaultFinalScore - baseWorkerRatingScore; // 49.0 - 12.0 = 37.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     null,
@@ -553,7 +584,7 @@ class RecommendationEngineTest {
         void shouldCalculateZeroWorkerRatingScoreWhenAverageRatingIsNull() {
             ReviewStatsDTO workerReviewsNullRating = new ReviewStatsDTO(DEFAULT_WORKER_ID, "USER", null, 20);
             double expectedScore = defaultFinalScore - baseWorkerRatingScore; // 49.0 - 12.0 = 37.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     workerReviewsNullRating,
@@ -574,7 +605,7 @@ class RecommendationEngineTest {
         @DisplayName("Should calculate zero job rating score when stats are missing")
         void shouldCalculateZeroJobRatingScoreWhenStatsMissing() {
             double expectedScore = defaultFinalScore - baseJobRatingScore; // 49.0 - 14.0 = 35.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -591,7 +622,7 @@ class RecommendationEngineTest {
         void shouldCalculateZeroJobRatingScoreWhenAverageRatingIsNull() {
             ReviewStatsDTO jobReviewsNullRating = new ReviewStatsDTO(DEFAULT_JOB_ID, "JOB", null, 10);
             double expectedScore = defaultFinalScore - baseJobRatingScore; // 49.0 - 14.0 = 35.0
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -619,12 +650,12 @@ class RecommendationEngineTest {
                     30,
                     "Gardening",
                     "ACTIVE"
-                    , 40.7580,
-                    -73.9855);
+                    , JOB_LATITUDE,
+                    JOB_LONGITUDE);
 
             double expectedScore = defaultFinalScore - baseCategoryScore; // 49.0 - 15.0 = 34.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -647,7 +678,7 @@ class RecommendationEngineTest {
 
             double expectedScore = defaultFinalScore - baseCategoryScore; // 49.0 - 15.0 = 34.0
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     prefsNullCategories,
                     defaultWorkerReviews,
@@ -667,7 +698,7 @@ class RecommendationEngineTest {
         @Test
         @DisplayName("Should apply hourly rate penalty when initial score is positive")
         void shouldApplyHourlyRatePenaltyWhenConditionsMet() {
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -691,10 +722,10 @@ class RecommendationEngineTest {
                     null,
                     "Plumbing",
                     "ACTIVE",
-                    40.7580,
-                    -73.9855);
+                    JOB_LATITUDE,
+                    JOB_LONGITUDE);
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -726,7 +757,7 @@ class RecommendationEngineTest {
             double expectedScore = defaultFinalScore - baseWorkerReportsPenalty + expectedWorkerPenalty; // 49.0 - 0.0 + (-7.0) = 42.0
 
             // Act
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -743,7 +774,7 @@ class RecommendationEngineTest {
         @Test
         @DisplayName("Should return zero worker reports score when stats are missing")
         void shouldReturnZeroWorkerReportsScoreWhenStatsMissing() {
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -765,7 +796,7 @@ class RecommendationEngineTest {
                     1L,
                     1L);
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -797,7 +828,7 @@ class RecommendationEngineTest {
             double expectedScore = defaultFinalScore - baseJobReportsPenalty + expectedJobPenalty; // 49.0 - 0.0 + (-5.5) = 43.5
 
             // Act
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -814,7 +845,7 @@ class RecommendationEngineTest {
         @Test
         @DisplayName("Should return zero job reports score when stats are missing")
         void shouldReturnZeroJobReportsScoreWhenStatsMissing() {
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -832,7 +863,7 @@ class RecommendationEngineTest {
         void shouldReturnZeroJobReportsScoreWhenTypeIsNotJob() {
             ReportStatsDTO jobReportsWrongType = new ReportStatsDTO(DEFAULT_JOB_ID, "USER", 1L, 1L, 1L);
 
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -852,7 +883,7 @@ class RecommendationEngineTest {
         @Test
         @DisplayName("Should calculate positive score with default favorable conditions (Overall Integration)")
         void shouldCalculatePositiveScoreWithDefaults() {
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -863,7 +894,6 @@ class RecommendationEngineTest {
                     defaultFavorites, 0L);
 
             assertResponse(response, defaultFinalScore);
-            verify(mockGeoLocationCalculator).calculateDistance(eq(defaultUserCoords), any(GeoCoordinatesDTO.class));
         }
 
         @Test
@@ -881,7 +911,7 @@ class RecommendationEngineTest {
             double expectedScore = 36.5;
 
             // Act
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -918,7 +948,7 @@ class RecommendationEngineTest {
                     1L);
 
             // Act
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     defaultWorkerReviews,
@@ -956,7 +986,7 @@ class RecommendationEngineTest {
             double expectedScore = 49.30;
 
             // Act
-            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+            JobScoreResponse response = scoreJob(DEFAULT_WORKER_ID,
                     defaultUserCoords,
                     defaultUserPrefs,
                     preciseWorkerReviews,
@@ -970,4 +1000,170 @@ class RecommendationEngineTest {
             assertThat(response.score()).isEqualTo(expectedScore);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Feature Store Scoring Tests")
+    class FeatureStoreScoringTests {
+        @Test
+        @DisplayName("Should score a feature store row against the compiled user data")
+        void shouldScoreFeatureStoreRow() {
+            // Arrange
+            JobFeatureStore jobFeatures = JobFeatureStore.of(List.of(defaultJobDetails));
+            UserScoringContext userContext = compileContext(defaultUserCoords, defaultUserPrefs, defaultFavorites, jobFeatures);
+
+            // Act
+            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID,
+                    userContext,
+                    defaultWorkerReviews,
+                    defaultJobReviews,
+                    defaultWorkerReports,
+                    defaultJobReports,
+                    jobFeatures,
+                    0,
+                    0L);
+
+            // Assert
+            assertResponse(response, defaultFinalScore);
+        }
+
+        @Test
+        @DisplayName("Should score missing feature store values like missing job fields")
+        void shouldScoreMissingFeatureStoreValuesLikeMissingJobFields() {
+            // Arrange: No coordinates, experience or hourly rate, and an unwanted category
+            JobDTO incompleteJob = new JobDTO(DEFAULT_JOB_ID, DEFAULT_WORKER_ID, "Fix leaky faucet", "...",
+                    LocalDate.now(), null, null, "Carpentry", "ACTIVE", null, null);
+            JobFeatureStore jobFeatures = JobFeatureStore.of(List.of(incompleteJob));
+            UserScoringContext userContext = compileContext(defaultUserCoords, defaultUserPrefs, defaultFavorites, jobFeatures);
+
+            // Act
+            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID, userContext,
+                    defaultWorkerReviews, defaultJobReviews, defaultWorkerReports, defaultJobReports, jobFeatures, 0, 0L);
+
+            // Assert: Only worker and job ratings contribute
+            assertResponse(response, baseWorkerRatingScore + baseJobRatingScore);
+        }
+    }
+
+    @Nested
+    @DisplayName("Score Upper Bound Tests")
+    class ScoreUpperBoundTests {
+        @Test
+        @DisplayName("Should bound the score with the best possible ratings and no reports")
+        void shouldBoundScoreWithBestRatings() {
+            // Arrange
+            when(mockWeights.getJobReservationsCount()).thenReturn(0.25);
+            JobFeatureStore jobFeatures = JobFeatureStore.of(List.of(defaultJobDetails));
+            UserScoringContext userContext = compileContext(defaultUserCoords, defaultUserPrefs, defaultFavorites, jobFeatures);
+            ReviewStatsDTO bestWorkerReviews = new ReviewStatsDTO(DEFAULT_WORKER_ID, "USER", 5.0, 20);
+            ReviewStatsDTO bestJobReviews = new ReviewStatsDTO(DEFAULT_JOB_ID, "JOB", 5.0, 10);
+
+            // Act
+            double upperBound = recommendationEngine.calculateScoreUpperBound(DEFAULT_WORKER_ID,
+                    userContext, jobFeatures, 0, 2L);
+            JobScoreResponse bestResponse = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID, userContext,
+                    bestWorkerReviews, bestJobReviews, defaultWorkerReports, defaultJobReports, jobFeatures, 0, 2L);
+            JobScoreResponse defaultResponse = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID, userContext,
+                    defaultWorkerReviews, defaultJobReviews, defaultWorkerReports, defaultJobReports, jobFeatures, 0, 2L);
+
+            // Assert: 3 + 8 + 15 + 15 + 20 + 0.5 - 3 = 58.5
+            assertThat(upperBound).isCloseTo(58.5, within(SCORE_PRECISION));
+            assertThat(bestResponse.score()).isCloseTo(upperBound, within(SCORE_PRECISION));
+            assertThat(defaultResponse.score()).isLessThan(upperBound);
+        }
+
+        @Test
+        @DisplayName("Should not bound the score when a report weight is positive")
+        void shouldNotBoundScoreWithPositiveReportWeight() {
+            // Arrange
+            when(mockWeights.getJobReportsHigh()).thenReturn(1.0);
+            JobFeatureStore jobFeatures = JobFeatureStore.of(List.of(defaultJobDetails));
+            UserScoringContext userContext = compileContext(defaultUserCoords, defaultUserPrefs, defaultFavorites, jobFeatures);
+
+            // Act
+            double upperBound = recommendationEngine.calculateScoreUpperBound(DEFAULT_WORKER_ID,
+                    userContext, jobFeatures, 0, 0L);
+
+            // Assert
+            assertThat(upperBound).isInfinite();
+        }
+    }
+
+    @Nested
+    @DisplayName("Positive Score Tests")
+    class PositiveScoreTests {
+        @Test
+        @DisplayName("Should calculate the score before penalties and apply reports to it")
+        void shouldCalculateScoreBeforePenalties() {
+            // Arrange
+            JobFeatureStore jobFeatures = JobFeatureStore.of(List.of(defaultJobDetails));
+            UserScoringContext userContext = compileContext(defaultUserCoords, defaultUserPrefs, defaultFavorites, jobFeatures);
+
+            // Act
+            double positiveScore = recommendationEngine.calculatePositiveScore(DEFAULT_WORKER_ID, userContext,
+                    defaultWorkerReviews, defaultJobReviews, jobFeatures, 0, 0L);
+            JobScoreResponse response = recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID, userContext,
+                    defaultWorkerReviews, defaultJobReviews, defaultWorkerReports, defaultJobReports, jobFeatures, 0, 0L);
+
+            // Assert: 3 + 8 + 15 + 12 + 14 = 52, and the score adds the hourly rate penalty of -3
+            assertThat(positiveScore).isCloseTo(52.0, within(SCORE_PRECISION));
+            assertThat(response.score()).isCloseTo(positiveScore - 3.0, within(SCORE_PRECISION));
+            assertThat(recommendationEngine.areReportsApplied(positiveScore)).isTrue();
+            assertThat(recommendationEngine.calculateScoreUpperBound(positiveScore, jobFeatures, 0, DEFAULT_WORKER_ID))
+                    .isCloseTo(response.score(), within(SCORE_PRECISION));
+        }
+
+        @Test
+        @DisplayName("Should not apply reports to non-positive scores")
+        void shouldNotApplyReportsToNonPositiveScores() {
+            // Act & Assert
+            assertThat(recommendationEngine.areReportsApplied(0.0)).isFalse();
+            assertThat(recommendationEngine.areReportsApplied(-5.0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not apply reports when all report weights are zero")
+        void shouldNotApplyReportsWithoutReportWeights() {
+            // Arrange
+            when(mockWeights.getUserReportsLow()).thenReturn(0.0);
+            when(mockWeights.getUserReportsMedium()).thenReturn(0.0);
+            when(mockWeights.getUserReportsHigh()).thenReturn(0.0);
+            when(mockWeights.getJobReportsLow()).thenReturn(0.0);
+            when(mockWeights.getJobReportsMedium()).thenReturn(0.0);
+            when(mockWeights.getJobReportsHigh()).thenReturn(0.0);
+
+            // Act & Assert
+            assertThat(recommendationEngine.areReportsApplied(52.0)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("User Scoring Context Tests")
+    class UserScoringContextTests {
+        @Test
+        @DisplayName("Should score every row against one compiled context like each job on its own")
+        void shouldScoreRowsAgainstSharedContextLikeSingleJobs() {
+            // Arrange: A favorite worker with an unwanted category, and a job of another worker
+            JobDTO favoriteJob = new JobDTO(DEFAULT_JOB_ID + 1, DEFAULT_WORKER_ID + 1, "Mow the lawn", "...",
+                    LocalDate.now(), 1, 20, "Gardening", "ACTIVE", 40.7, -74.0);
+            List<JobDTO> jobs = List.of(defaultJobDetails, favoriteJob);
+            JobFeatureStore jobFeatures = JobFeatureStore.of(jobs);
+            List<Long> favorites = List.of(DEFAULT_WORKER_ID + 1);
+
+            // Act
+            UserScoringContext userContext = compileContext(defaultUserCoords, defaultUserPrefs, favorites, jobFeatures);
+
+            // Assert
+            for (int row = 0; row < jobFeatures.size(); row++) {
+                long workerId = jobFeatures.workerId(row);
+                JobScoreResponse fromContext = recommendationEngine.calculateJobScore(workerId, userContext,
+                        defaultWorkerReviews, defaultJobReviews, defaultWorkerReports, defaultJobReports, jobFeatures, row, 0L);
+                JobScoreResponse fromJob = scoreJob(workerId, defaultUserCoords, defaultUserPrefs, defaultWorkerReviews,
+                        defaultJobReviews, defaultWorkerReports, defaultJobReports, jobs.get(row), favorites, 0L);
+
+                assertThat(fromContext).isEqualTo(fromJob);
+            }
+            assertResponse(recommendationEngine.calculateJobScore(DEFAULT_WORKER_ID, userContext, defaultWorkerReviews,
+                    defaultJobReviews, defaultWorkerReports, defaultJobReports, jobFeatures, 0, 0L), defaultFinalScore);
+        }
+    }
+}
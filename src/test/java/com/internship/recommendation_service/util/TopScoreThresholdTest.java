@@ -0,0 +1,56 @@
+package com.internship.recommendation_service.util;
+
+import com.internship.recommendation_service.dto.response.JobScoreResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TopScoreThreshold Tests")
+class TopScoreThresholdTest {
+    @Test
+    @DisplayName("Should stay at negative infinity until the limit of scores is offered")
+    void shouldStayAtNegativeInfinityUntilFull() {
+        // Arrange
+        TopScoreThreshold threshold = new TopScoreThreshold(2);
+
+        // Act
+        threshold.offer(scoreOf(1L, 50.0));
+
+        // Assert
+        assertThat(threshold.get()).isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    @DisplayName("Should return the lowest of the top scores")
+    void shouldReturnLowestTopScore() {
+        // Arrange
+        TopScoreThreshold threshold = new TopScoreThreshold(2);
+
+        // Act
+        threshold.offer(scoreOf(1L, 50.0));
+        threshold.offer(scoreOf(2L, 80.0));
+        threshold.offer(scoreOf(3L, 60.0));
+        threshold.offer(scoreOf(4L, 10.0));
+
+        // Assert
+        assertThat(threshold.get()).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("Should return positive infinity when no scores are requested")
+    void shouldReturnPositiveInfinityWithoutLimit() {
+        // Arrange
+        TopScoreThreshold threshold = new TopScoreThreshold(0);
+
+        // Act
+        threshold.offer(scoreOf(1L, 50.0));
+
+        // Assert
+        assertThat(threshold.get()).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    private static JobScoreResponse scoreOf(Long jobId, double score) {
+        return JobScoreResponse.builder().jobId(jobId).workerId(jobId + 10).score(score).build();
+    }
+}
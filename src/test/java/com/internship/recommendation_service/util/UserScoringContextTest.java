@@ -0,0 +1,138 @@
+package com.internship.recommendation_service.util;
+
+import com.internship.recommendation_service.config.property.RecommendationDefaultsConfig;
+import com.internship.recommendation_service.dto.external.GeoCoordinatesDTO;
+import com.internship.recommendation_service.dto.external.JobDTO;
+import com.internship.recommendation_service.dto.external.UserPreferencesDTO;
+import com.internship.recommendation_service.service.catalog.JobFeatureStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserScoringContext Tests")
+class UserScoringContextTest {
+    private static final GeoCoordinatesDTO USER_COORDINATES = new GeoCoordinatesDTO(40.0, -70.0);
+
+    private RecommendationDefaultsConfig defaults;
+    private JobFeatureStore jobFeatures;
+
+    @BeforeEach
+    void setUp() {
+        defaults = new RecommendationDefaultsConfig();
+        defaults.setMaxDistance(100.0);
+        defaults.setMinExperience(1);
+
+        jobFeatures = JobFeatureStore.of(List.of(jobOf(1L, "Plumbing"), jobOf(2L, "Electrical"), jobOf(3L, "Gardening")));
+    }
+
+    @Test
+    @DisplayName("Should resolve unset preferences to the defaults")
+    void shouldResolveUnsetPreferencesToDefaults() {
+        // Arrange
+        UserPreferencesDTO preferences = new UserPreferencesDTO(99L, null, 0, null);
+
+        // Act
+        UserScoringContext context = UserScoringContext.compile(USER_COORDINATES, preferences, null, null, jobFeatures, defaults);
+
+        // Assert
+        assertThat(context.isDistanceScored()).isTrue();
+        assertThat(context.latitude()).isEqualTo(40.0);
+        assertThat(context.longitude()).isEqualTo(-70.0);
+        assertThat(context.preferredDistance()).isEqualTo(100.0);
+        assertThat(context.isExperienceScored()).isTrue();
+        assertThat(context.preferredExperience()).isEqualTo(1);
+        assertThat(context.isCategoryScored()).isFalse();
+        assertThat(context.isFavorite(1L)).isFalse();
+        assertThat(context.isBlocked(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not score distance or experience without preferences or valid coordinates")
+    void shouldNotScoreWithoutPreferencesOrValidCoordinates() {
+        // Act
+        UserScoringContext withoutPreferences = UserScoringContext.compile(USER_COORDINATES, null, null, null, jobFeatures, defaults);
+        UserScoringContext withDefaultCoordinates = UserScoringContext.compile(GeoCoordinatesDTO.DEFAULT_VALUE,
+                new UserPreferencesDTO(99L, 25.0, 2, List.of()), null, null, jobFeatures, defaults);
+
+        // Assert
+        assertThat(withoutPreferences.isDistanceScored()).isFalse();
+        assertThat(withoutPreferences.isExperienceScored()).isFalse();
+        assertThat(withoutPreferences.isCategoryScored()).isFalse();
+        assertThat(withDefaultCoordinates.isDistanceScored()).isFalse();
+        assertThat(withDefaultCoordinates.isExperienceScored()).isTrue();
+        assertThat(withDefaultCoordinates.preferredDistance()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("Should match the category codes of the wanted categories only")
+    void shouldMatchWantedCategoryCodes() {
+        // Arrange: "Carpentry" is not a category of any stored job
+        UserPreferencesDTO preferences = new UserPreferencesDTO(99L, 25.0, 2, List.of("Gardening", "Plumbing", "Carpentry"));
+
+        // Act
+        UserScoringContext context = UserScoringContext.compile(USER_COORDINATES, preferences, null, null, jobFeatures, defaults);
+
+        // Assert
+        assertThat(context.isCategoryScored()).isTrue();
+        assertThat(context.isWantedCategory(jobFeatures.categoryCodeOf("Plumbing"))).isTrue();
+        assertThat(context.isWantedCategory(jobFeatures.categoryCodeOf("Gardening"))).isTrue();
+        assertThat(context.isWantedCategory(jobFeatures.categoryCodeOf("Electrical"))).isFalse();
+        assertThat(context.isWantedCategory(JobFeatureStore.MISSING_CODE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match category codes beyond the first word of the bitmask")
+    void shouldMatchCategoryCodesBeyondFirstWord() {
+        // Arrange
+        List<JobDTO> jobs = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            jobs.add(jobOf(id, "Category " + id));
+        }
+        JobFeatureStore manyCategories = JobFeatureStore.of(jobs);
+        UserPreferencesDTO preferences = new UserPreferencesDTO(99L, 25.0, 2, List.of("Category 90"));
+
+        // Act
+        UserScoringContext context = UserScoringContext.compile(USER_COORDINATES, preferences, null, null, manyCategories, defaults);
+
+        // Assert
+        assertThat(context.isWantedCategory(manyCategories.categoryCodeOf("Category 90"))).isTrue();
+        assertThat(context.isWantedCategory(manyCategories.categoryCodeOf("Category 26"))).isFalse();
+        assertThat(context.isWantedCategory(manyCategories.categoryCodeOf("Category 100"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should look up favorite and blocked workers")
+    void shouldLookUpFavoriteAndBlockedWorkers() {
+        // Act
+        UserScoringContext context = UserScoringContext.compile(USER_COORDINATES, null,
+                List.of(11L, 12L), List.of(15L), jobFeatures, defaults);
+
+        // Assert
+        assertThat(context.isFavorite(11L)).isTrue();
+        assertThat(context.isFavorite(15L)).isFalse();
+        assertThat(context.isBlocked(15L)).isTrue();
+        assertThat(context.isBlocked(11L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should carry whether the per-job detail is logged")
+    void shouldCarryJobDetailLogging() {
+        // Act
+        UserScoringContext logged = UserScoringContext.compile(USER_COORDINATES, null, null, null, jobFeatures, defaults, true);
+        UserScoringContext notLogged = UserScoringContext.compile(USER_COORDINATES, null, null, null, jobFeatures, defaults, false);
+
+        // Assert
+        assertThat(logged.isJobDetailLogged()).isTrue();
+        assertThat(notLogged.isJobDetailLogged()).isFalse();
+    }
+
+    private static JobDTO jobOf(Long id, String category) {
+        return new JobDTO(id, id + 10, "Job " + id, "...", LocalDate.now(), 3, 30, category, "ACCEPTED", 40.1, -70.1);
+    }
+}